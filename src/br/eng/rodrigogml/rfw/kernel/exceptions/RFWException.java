@@ -82,6 +82,21 @@ public abstract class RFWException extends Exception {
     this.params = params;
   }
 
+  /**
+   * Cria uma nova Exception, permitindo desabilitar o registro da pilha de execução.<br>
+   * Exceptions sem a pilha de execução são muito mais baratas de criar e são indicadas quando são geradas em grande quantidade como parte do fluxo normal, como as falhas de validação, onde a pilha não traz nenhuma informação útil.
+   *
+   * @param exceptionCode Código da Exception para identificação. Este código é utilizado também para resovler no arquivo de bundle. Alternativamente pode ser passada a mensagem de erro diretamente, pois quando não encontrado no bundle o valor passado aqui é utilizado.
+   * @param params Parâmetros que serão substituídos na mensagem do Bundle com o padrão ${0}, ${1} ...
+   * @param ex Exception causadora anteriore. Sempre que houver uma exception anterior ela deve ser passada aqui para que o dev tenha a pilha completa do problema.
+   * @param writableStackTrace Indica se a pilha de execução deve ser registrada. Quando false, as exceções suprimidas também não são registradas.
+   */
+  protected RFWException(String exceptionCode, String[] params, Throwable ex, boolean writableStackTrace) {
+    super(ex == null ? null : ex.toString(), ex, writableStackTrace, writableStackTrace);
+    this.exceptionCode = exceptionCode;
+    this.params = params;
+  }
+
   /**
    * # código de identificação do erro, ou mensagem de erro (não recomendado).
    *
@@ -166,6 +166,23 @@ public class RFWValidationException extends RFWException {
     this.fieldPath = fieldPath;
   }
 
+  /**
+   * Cria uma nova Exception, permitindo desabilitar o registro da pilha de execução. Indicado para as falhas de validação geradas em grande quantidade, como na validação de lotes, onde a criação da pilha de execução de cada falha é a parte mais cara da validação.
+   *
+   * @param exceptionCode Código da Exception para identificação. Este código é utilizado também para resovler no arquivo de bundle. Alternativamente pode ser passada a mensagem de erro diretamente, pois quando não encontrado no bundle o valor passado aqui é utilizado.
+   * @param params Parâmetros que serão substituídos na mensagem do Bundle com o padrão ${0}, ${1} ...
+   * @param fieldPath caminho para o field do VO que falhou na validação.
+   * @param className Nome da Classe descendente do {@link RFWVO} que falhou na validação.
+   * @param fieldName Nome dos campos que falharam na validação.
+   * @param writableStackTrace Indica se a pilha de execução deve ser registrada.
+   */
+  public RFWValidationException(String exceptionCode, String[] params, String fieldPath, String className, String[] fieldName, boolean writableStackTrace) {
+    super(exceptionCode, params, null, writableStackTrace);
+    this.className = className;
+    this.fieldName = fieldName;
+    this.fieldPath = fieldPath;
+  }
+
   public String getFieldPath() {
     return fieldPath;
   }
@@ -28,6 +28,19 @@ public class RFWValidationGroupException extends RFWValidationException {
     }
   }
 
+  /**
+   * Cria o grupo com as falhas de validação recebidas, permitindo desabilitar o registro da pilha de execução do próprio grupo.
+   *
+   * @param validationlist Falhas de validação.
+   * @param writableStackTrace Indica se a pilha de execução deve ser registrada.
+   */
+  public RFWValidationGroupException(ArrayList<RFWValidationException> validationlist, boolean writableStackTrace) {
+    super(null, null, null, null, null, writableStackTrace);
+    if (validationlist != null) for (RFWValidationException ex : validationlist) {
+      addValidationException(ex);
+    }
+  }
+
   public RFWValidationGroupException(RFWValidationException ex) {
     super(ex.getExceptionCode());
     addValidationException(ex);
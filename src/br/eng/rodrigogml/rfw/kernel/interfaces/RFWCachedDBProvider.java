@@ -0,0 +1,428 @@
+package br.eng.rodrigogml.rfw.kernel.interfaces;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWCriticalException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWMO;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWOrderBy;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWQueryKey;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWVO;
+
+/**
+ * Description: Decorator de {@link RFWDBProvider} que mantém em cache os objetos consultados pelo ID e a existência dos IDs, evitando consultar repetidamente os mesmos objetos associados (como o mesmo produto ou o mesmo cliente) durante uma sequência de validações.<br>
+ * São mantidos em cache os resultados do {@link #findByID(Class, Long, String[])}, {@link #findByIDs(Class, Collection, String[])} e {@link #existsIDs(Class, Collection)}, inclusive os IDs não encontrados.<br>
+ * Opcionalmente (veja {@link #RFWCachedDBProvider(RFWDBProvider, int, long, boolean)}) também são mantidos em cache os resultados do {@link #findIDs(Class, RFWMO, RFWOrderBy, Integer, Integer)} e {@link #findList(Class, RFWMO, RFWOrderBy, String[], Integer, Integer)}, identificados pelo
+ * {@link RFWQueryKey} da consulta. As consultas cujo MO não pode ser representado em um {@link RFWQueryKey} e as demais consultas são repassadas diretamente ao DBProvider decorado.<br>
+ * O cache é separado por classe de entidade, cada uma limitada a uma quantidade máxima de objetos e descartando os menos utilizados recentemente (LRU). Opcionalmente os objetos expiram após um tempo de vida (TTL).<br>
+ * <br>
+ * <b>Atenção:</b> os objetos retornados pelo cache são as mesmas instâncias para todas as chamadas e não devem ser alterados. Este objeto é thread-safe desde que o DBProvider decorado também seja.
+ *
+ * @author Rodrigo GML
+ * @since 1.0.0 (17 de out. de 2026)
+ */
+public class RFWCachedDBProvider implements RFWDBProvider {
+
+  /**
+   * Define por quanto tempo o cache é mantido quando utilizado pelo RFWValidator.
+   */
+  public static enum Scope {
+    /**
+     * Um novo cache é criado para cada chamada de validação (validatePersist / validatePersistAll) e descartado ao final. Não há risco de utilizar dados desatualizados de outras transações.
+     */
+    VALIDATION,
+    /**
+     * O mesmo cache é compartilhado por todas as validações, sendo descartado apenas conforme o limite de objetos, o tempo de vida ou pelos métodos de invalidação.
+     */
+    SHARED
+  }
+
+  /**
+   * Objeto de cache com o momento em que expira.
+   */
+  private static final class CacheEntry {
+    final Object value;
+    final long expiresAt;
+
+    CacheEntry(Object value, long expiresAt) {
+      this.value = value;
+      this.expiresAt = expiresAt;
+    }
+  }
+
+  /**
+   * Mapa LRU de uma classe de entidade, limitado a quantidade máxima de objetos.
+   */
+  private final class ClassCache<K> extends LinkedHashMap<K, CacheEntry> {
+    private static final long serialVersionUID = 4460932163574612930L;
+
+    ClassCache() {
+      super(16, 0.75f, true);
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<K, CacheEntry> eldest) {
+      return size() > RFWCachedDBProvider.this.maxEntriesPerClass;
+    }
+  }
+
+  /**
+   * Consulta dos IDs repassada ao DBProvider decorado quando o resultado não está em cache.
+   */
+  private static interface IDsQuery {
+    List<Long> find() throws RFWException;
+  }
+
+  /**
+   * Marcador dos objetos consultados e não encontrados.
+   */
+  private static final Object NOTFOUND = new Object();
+
+  /**
+   * DBProvider decorado.
+   */
+  private final RFWDBProvider provider;
+
+  /**
+   * Quantidade máxima de objetos mantidos em cache para cada classe de entidade.
+   */
+  private final int maxEntriesPerClass;
+
+  /**
+   * Tempo de vida dos objetos no cache, em milissegundos. Valores menores ou iguais a zero indicam que os objetos não expiram.
+   */
+  private final long ttlMillis;
+
+  /**
+   * Objetos recuperados pelo ID, indexados pela classe e pelo ID + atributos solicitados.
+   */
+  private final ConcurrentHashMap<Class<?>, ClassCache<String>> objectCache = new ConcurrentHashMap<>();
+
+  /**
+   * Existência dos IDs, indexados pela classe e pelo ID.
+   */
+  private final ConcurrentHashMap<Class<?>, ClassCache<Long>> existsCache = new ConcurrentHashMap<>();
+
+  /**
+   * Indica se os resultados do findIDs e do findList são mantidos em cache.
+   */
+  private final boolean cacheQueries;
+
+  /**
+   * Resultados do findIDs, indexados pela classe e pela chave da consulta.
+   */
+  private final ConcurrentHashMap<Class<?>, ClassCache<RFWQueryKey>> idsQueryCache = new ConcurrentHashMap<>();
+
+  /**
+   * Resultados do findList, indexados pela classe e pela chave da consulta.
+   */
+  private final ConcurrentHashMap<Class<?>, ClassCache<RFWQueryKey>> listQueryCache = new ConcurrentHashMap<>();
+
+  private final AtomicLong hitCount = new AtomicLong();
+
+  private final AtomicLong missCount = new AtomicLong();
+
+  /**
+   * Cria o cache sobre o DBProvider informado.
+   *
+   * @param provider DBProvider decorado, utilizado para as consultas que não estão em cache.
+   * @param maxEntriesPerClass Quantidade máxima de objetos mantidos em cache para cada classe de entidade.
+   * @param ttlMillis Tempo de vida dos objetos no cache, em milissegundos. Valores menores ou iguais a zero indicam que os objetos não expiram.
+   * @throws RFWException Lançado caso os parâmetros sejam inválidos.
+   */
+  public RFWCachedDBProvider(RFWDBProvider provider, int maxEntriesPerClass, long ttlMillis) throws RFWException {
+    this(provider, maxEntriesPerClass, ttlMillis, false);
+  }
+
+  /**
+   * Cria o cache sobre o DBProvider informado.
+   *
+   * @param provider DBProvider decorado, utilizado para as consultas que não estão em cache.
+   * @param maxEntriesPerClass Quantidade máxima de objetos mantidos em cache para cada classe de entidade. O limite é aplicado separadamente para os objetos, as verificações de existência e os resultados de cada tipo de consulta.
+   * @param ttlMillis Tempo de vida dos objetos no cache, em milissegundos. Valores menores ou iguais a zero indicam que os objetos não expiram.
+   * @param cacheQueries Indica se os resultados do findIDs e do findList também devem ser mantidos em cache. Como os resultados dependem de todos os objetos da classe, qualquer alteração nos objetos da classe deve ser informada pelos métodos de invalidação.
+   * @throws RFWException Lançado caso os parâmetros sejam inválidos.
+   */
+  public RFWCachedDBProvider(RFWDBProvider provider, int maxEntriesPerClass, long ttlMillis, boolean cacheQueries) throws RFWException {
+    if (provider == null) throw new RFWCriticalException("O DBProvider decorado não pode ser nulo!");
+    if (maxEntriesPerClass <= 0) throw new RFWCriticalException("A quantidade máxima de objetos em cache deve ser maior que zero!");
+    this.provider = provider;
+    this.maxEntriesPerClass = maxEntriesPerClass;
+    this.ttlMillis = ttlMillis;
+    this.cacheQueries = cacheQueries;
+  }
+
+  @Override
+  public <VO extends RFWVO> List<Long> findIDs(Class<VO> voClass, RFWMO mo, RFWOrderBy orderBy) throws RFWException {
+    final RFWQueryKey key = this.cacheQueries ? RFWQueryKey.create(voClass, mo, orderBy, null, null, null) : null;
+    if (key == null) return this.provider.findIDs(voClass, mo, orderBy);
+    return findIDs(key, () -> this.provider.findIDs(voClass, mo, orderBy));
+  }
+
+  @Override
+  public <VO extends RFWVO> List<Long> findIDs(Class<VO> voClass, RFWMO mo, RFWOrderBy orderBy, Integer offset, Integer limit) throws RFWException {
+    final RFWQueryKey key = this.cacheQueries ? RFWQueryKey.create(voClass, mo, orderBy, null, offset, limit) : null;
+    if (key == null) return this.provider.findIDs(voClass, mo, orderBy, offset, limit);
+    return findIDs(key, () -> this.provider.findIDs(voClass, mo, orderBy, offset, limit));
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public <VO extends RFWVO> List<VO> findList(Class<VO> voClass, RFWMO mo, RFWOrderBy orderBy, String[] attributes, Integer offset, Integer limit) throws RFWException {
+    final RFWQueryKey key = this.cacheQueries ? RFWQueryKey.create(voClass, mo, orderBy, attributes, offset, limit) : null;
+    if (key == null) return this.provider.findList(voClass, mo, orderBy, attributes, offset, limit);
+    final Object cached = get(this.listQueryCache, voClass, key);
+    if (cached != null) {
+      this.hitCount.incrementAndGet();
+      return new ArrayList<>((List<VO>) cached);
+    }
+    this.missCount.incrementAndGet();
+    final List<VO> list = this.provider.findList(voClass, mo, orderBy, attributes, offset, limit);
+    // Guarda uma cópia para que alterações feitas na lista retornada não afetem o cache
+    if (list != null) put(this.listQueryCache, voClass, key, new ArrayList<>(list));
+    return list;
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<Long> findIDs(RFWQueryKey key, IDsQuery query) throws RFWException {
+    final Object cached = get(this.idsQueryCache, key.getVoClass(), key);
+    if (cached != null) {
+      this.hitCount.incrementAndGet();
+      return new ArrayList<>((List<Long>) cached);
+    }
+    this.missCount.incrementAndGet();
+    final List<Long> ids = query.find();
+    // Guarda uma cópia para que alterações feitas na lista retornada não afetem o cache
+    if (ids != null) put(this.idsQueryCache, key.getVoClass(), key, new ArrayList<>(ids));
+    return ids;
+  }
+
+  @Override
+  public <VO extends RFWVO> RFWVO findUniqueMatch(Class<? extends RFWVO> voClass, RFWMO mo, String[] attributes) throws RFWException {
+    return this.provider.findUniqueMatch(voClass, mo, attributes);
+  }
+
+  @Override
+  public <VO extends RFWVO> long count(Class<VO> voClass, RFWMO mo) throws RFWException {
+    return this.provider.count(voClass, mo);
+  }
+
+  @Override
+  public <VO extends RFWVO> RFWDBCursor<VO> findListCursor(Class<VO> voClass, RFWMO mo, RFWOrderBy orderBy, String[] attributes, int pageSize) throws RFWException {
+    return this.provider.findListCursor(voClass, mo, orderBy, attributes, pageSize);
+  }
+
+  @Override
+  public <VO extends RFWVO> RFWVO findByID(Class<? extends RFWVO> voClass, Long id, String[] attributes) throws RFWException {
+    final String key = createKey(id, attributes);
+    final Object cached = get(this.objectCache, voClass, key);
+    if (cached != null) {
+      this.hitCount.incrementAndGet();
+      return cached == NOTFOUND ? null : (RFWVO) cached;
+    }
+    this.missCount.incrementAndGet();
+    final RFWVO vo = this.provider.findByID(voClass, id, attributes);
+    put(this.objectCache, voClass, key, vo == null ? NOTFOUND : vo);
+    put(this.existsCache, voClass, id, vo != null);
+    return vo;
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public <VO extends RFWVO> Map<Long, VO> findByIDs(Class<VO> voClass, Collection<Long> ids, String[] attributes) throws RFWException {
+    final LinkedHashMap<Long, VO> result = new LinkedHashMap<>();
+    final ArrayList<Long> missing = new ArrayList<>();
+    for (Long id : ids) {
+      if (id == null || result.containsKey(id)) continue;
+      final Object cached = get(this.objectCache, voClass, createKey(id, attributes));
+      if (cached != null) {
+        this.hitCount.incrementAndGet();
+        result.put(id, cached == NOTFOUND ? null : (VO) cached);
+      } else {
+        this.missCount.incrementAndGet();
+        result.put(id, null); // Mantém a ordem dos IDs recebidos
+        missing.add(id);
+      }
+    }
+    if (missing.size() > 0) {
+      final Map<Long, VO> found = this.provider.findByIDs(voClass, missing, attributes);
+      for (Long id : missing) {
+        final VO vo = found.get(id);
+        put(this.objectCache, voClass, createKey(id, attributes), vo == null ? NOTFOUND : vo);
+        put(this.existsCache, voClass, id, vo != null);
+        result.put(id, vo);
+      }
+    }
+    result.values().removeIf(vo -> vo == null);
+    return result;
+  }
+
+  @Override
+  public <VO extends RFWVO> Set<Long> existsIDs(Class<VO> voClass, Collection<Long> ids) throws RFWException {
+    final HashSet<Long> result = new HashSet<>();
+    final ArrayList<Long> missing = new ArrayList<>();
+    final HashSet<Long> checked = new HashSet<>();
+    for (Long id : ids) {
+      if (id == null || !checked.add(id)) continue;
+      final Object cached = get(this.existsCache, voClass, id);
+      if (cached != null) {
+        this.hitCount.incrementAndGet();
+        if ((Boolean) cached) result.add(id);
+      } else {
+        this.missCount.incrementAndGet();
+        missing.add(id);
+      }
+    }
+    if (missing.size() > 0) {
+      final Set<Long> found = this.provider.existsIDs(voClass, missing);
+      for (Long id : missing) {
+        final boolean exists = found.contains(id);
+        put(this.existsCache, voClass, id, exists);
+        if (exists) result.add(id);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Descarta todos os objetos em cache.
+   */
+  public void clear() {
+    this.objectCache.clear();
+    this.existsCache.clear();
+    invalidateQueries();
+  }
+
+  /**
+   * Descarta os objetos em cache de uma classe de entidade, incluindo os resultados das consultas da classe. Deve ser chamado quando os objetos da classe forem alterados no banco de dados enquanto o cache estiver em uso.
+   *
+   * @param voClass Classe da entidade.
+   */
+  public void invalidate(Class<? extends RFWVO> voClass) {
+    this.objectCache.remove(voClass);
+    this.existsCache.remove(voClass);
+    invalidateQueries(voClass);
+  }
+
+  /**
+   * Descarta apenas os resultados das consultas (findIDs e findList) de uma classe de entidade, mantendo os objetos recuperados pelo ID. Deve ser chamado quando novos objetos da classe forem incluídos no banco de dados, já que não alteram os objetos existentes mas podem alterar o
+   * resultado das consultas.<br>
+   * As consultas são identificadas pela classe da entidade consultada. Caso as condições ou a ordenação utilizem atributos de objetos associados (como "customer.name"), as alterações nos objetos associados também devem invalidar as consultas da classe consultada.
+   *
+   * @param voClass Classe da entidade.
+   */
+  public void invalidateQueries(Class<? extends RFWVO> voClass) {
+    this.idsQueryCache.remove(voClass);
+    this.listQueryCache.remove(voClass);
+  }
+
+  /**
+   * Descarta os resultados das consultas (findIDs e findList) de todas as classes, mantendo os objetos recuperados pelo ID.
+   */
+  public void invalidateQueries() {
+    this.idsQueryCache.clear();
+    this.listQueryCache.clear();
+  }
+
+  /**
+   * Descarta um objeto em cache, junto com os resultados das consultas da sua classe (qualquer consulta pode ter o seu resultado alterado). Deve ser chamado quando o objeto for alterado ou excluído do banco de dados enquanto o cache estiver em uso.
+   *
+   * @param voClass Classe da entidade.
+   * @param id ID do objeto.
+   */
+  public void invalidate(Class<? extends RFWVO> voClass, Long id) {
+    final ClassCache<String> objects = this.objectCache.get(voClass);
+    if (objects != null) {
+      final String prefix = id + ":";
+      synchronized (objects) {
+        objects.keySet().removeIf(key -> key.startsWith(prefix));
+      }
+    }
+    final ClassCache<Long> exists = this.existsCache.get(voClass);
+    if (exists != null) {
+      synchronized (exists) {
+        exists.remove(id);
+      }
+    }
+    invalidateQueries(voClass);
+  }
+
+  /**
+   * Retorna a quantidade de consultas atendidas pelo cache. Nas consultas de vários IDs, cada ID é contado separadamente.
+   */
+  public long getHitCount() {
+    return this.hitCount.get();
+  }
+
+  /**
+   * Retorna a quantidade de consultas que não estavam em cache e foram repassadas ao DBProvider decorado. Nas consultas de vários IDs, cada ID é contado separadamente.
+   */
+  public long getMissCount() {
+    return this.missCount.get();
+  }
+
+  /**
+   * Retorna o DBProvider decorado.
+   */
+  public RFWDBProvider getProvider() {
+    return this.provider;
+  }
+
+  /**
+   * Cria a chave do objeto no cache a partir do ID e dos atributos solicitados, independente da ordem em que os atributos foram passados.
+   */
+  private static String createKey(Long id, String[] attributes) {
+    if (attributes == null || attributes.length == 0) return id + ":";
+    final String[] sorted = attributes.clone();
+    Arrays.sort(sorted);
+    return id + ":" + String.join(",", sorted);
+  }
+
+  private <K> Object get(ConcurrentHashMap<Class<?>, ClassCache<K>> cache, Class<?> voClass, K key) {
+    final ClassCache<K> map = cache.get(voClass);
+    if (map == null) return null;
+    synchronized (map) {
+      final CacheEntry entry = map.get(key);
+      if (entry == null) return null;
+      if (entry.expiresAt < System.currentTimeMillis()) {
+        map.remove(key);
+        return null;
+      }
+      return entry.value;
+    }
+  }
+
+  private <K> void put(ConcurrentHashMap<Class<?>, ClassCache<K>> cache, Class<?> voClass, K key, Object value) {
+    final ClassCache<K> map = cache.computeIfAbsent(voClass, c -> new ClassCache<>());
+    synchronized (map) {
+      map.put(key, new CacheEntry(value, this.ttlMillis > 0 ? System.currentTimeMillis() + this.ttlMillis : Long.MAX_VALUE));
+    }
+  }
+
+  /**
+   * Retorna a quantidade de objetos atualmente em cache (somando os objetos, as verificações de existência e os resultados das consultas), incluindo os que já expiraram e ainda não foram descartados.
+   */
+  public int size() {
+    return size(this.objectCache) + size(this.existsCache) + size(this.idsQueryCache) + size(this.listQueryCache);
+  }
+
+  private static <K> int size(ConcurrentHashMap<Class<?>, ClassCache<K>> cache) {
+    int size = 0;
+    for (Entry<Class<?>, ClassCache<K>> entry : cache.entrySet()) {
+      synchronized (entry.getValue()) {
+        size += entry.getValue().size();
+      }
+    }
+    return size;
+  }
+}
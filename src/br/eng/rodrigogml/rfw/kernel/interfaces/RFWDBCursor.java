@@ -0,0 +1,31 @@
+package br.eng.rodrigogml.rfw.kernel.interfaces;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWVO;
+
+/**
+ * Description: Cursor para percorrer o resultado de uma consulta do {@link RFWDBProvider} sem carregar todos os objetos em memória.<br>
+ * Os objetos são recuperados conforme o cursor avança, em páginas definidas pela implementação.
+ *
+ * @author Rodrigo GML
+ * @since 1.0.0 (17 de out. de 2026)
+ */
+public interface RFWDBCursor<VO extends RFWVO> {
+
+  /**
+   * Verifica se ainda há objetos a serem lidos. Pode consultar a próxima página de objetos no banco de dados.
+   *
+   * @return true caso exista mais algum objeto.
+   * @throws RFWException Lançado em caso de falha ao consultar a próxima página.
+   */
+  boolean hasNext() throws RFWException;
+
+  /**
+   * Retorna o próximo objeto do resultado.
+   *
+   * @return Próximo objeto.
+   * @throws RFWException Lançado em caso de falha ao consultar a próxima página ou caso não existam mais objetos.
+   */
+  VO next() throws RFWException;
+
+}
@@ -0,0 +1,72 @@
+package br.eng.rodrigogml.rfw.kernel.interfaces;
+
+import java.util.List;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWCriticalException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWMO;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWOrderBy;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWVO;
+
+/**
+ * Description: Implementação padrão do {@link RFWDBCursor}, que recupera as páginas de objetos pelo {@link RFWDBProvider#findList(Class, RFWMO, RFWOrderBy, String[], Integer, Integer)} utilizando o offset e o limit.
+ *
+ * @author Rodrigo GML
+ * @since 1.0.0 (17 de out. de 2026)
+ */
+final class RFWDBPagedCursor<VO extends RFWVO> implements RFWDBCursor<VO> {
+
+  private final RFWDBProvider provider;
+  private final Class<VO> voClass;
+  private final RFWMO mo;
+  private final RFWOrderBy orderBy;
+  private final String[] attributes;
+  private final int pageSize;
+
+  /**
+   * Página de objetos atual.
+   */
+  private List<VO> page = null;
+
+  /**
+   * Posição do próximo objeto na página atual.
+   */
+  private int index = 0;
+
+  /**
+   * Offset da próxima página a ser consultada.
+   */
+  private int offset = 0;
+
+  /**
+   * Indica que a última página consultada veio incompleta, ou seja, não há mais páginas.
+   */
+  private boolean lastPage = false;
+
+  RFWDBPagedCursor(RFWDBProvider provider, Class<VO> voClass, RFWMO mo, RFWOrderBy orderBy, String[] attributes, int pageSize) throws RFWException {
+    if (pageSize <= 0) throw new RFWCriticalException("O tamanho da página do cursor deve ser maior que zero!");
+    this.provider = provider;
+    this.voClass = voClass;
+    this.mo = mo;
+    this.orderBy = orderBy;
+    this.attributes = attributes;
+    this.pageSize = pageSize;
+  }
+
+  @Override
+  public boolean hasNext() throws RFWException {
+    if (this.page != null && this.index < this.page.size()) return true;
+    if (this.lastPage) return false;
+    this.page = this.provider.findList(this.voClass, this.mo, this.orderBy, this.attributes, this.offset, this.pageSize);
+    this.index = 0;
+    this.offset += this.pageSize;
+    if (this.page == null || this.page.size() < this.pageSize) this.lastPage = true;
+    return this.page != null && this.page.size() > 0;
+  }
+
+  @Override
+  public VO next() throws RFWException {
+    if (!hasNext()) throw new RFWCriticalException("Não há mais objetos no cursor!");
+    return this.page.get(this.index++);
+  }
+}
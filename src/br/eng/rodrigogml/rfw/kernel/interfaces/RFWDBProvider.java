@@ -1,6 +1,13 @@
 package br.eng.rodrigogml.rfw.kernel.interfaces;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
 import br.eng.rodrigogml.rfw.kernel.vo.RFWMO;
@@ -10,7 +17,8 @@ import br.eng.rodrigogml.rfw.kernel.vo.RFWVO;
 /**
  * Description: Esta interface provê acesso aos dados da aplicação para componentes que precisam.<br>
  * A implementação desta classe deve fornecer os dados conforme solicitados para que os componentes funcionem conforme esperado.<br>
- * Os métodos desta classe são desenvolvidos na mesma assinatura utilizada no módulo RFW ORM para fácil integração.
+ * Os métodos desta classe são desenvolvidos na mesma assinatura utilizada no módulo RFW ORM para fácil integração.<br>
+ * Os métodos de consulta em lote e de contagem têm implementações padrão baseadas nos demais métodos, permitindo que as implementações existentes continuem funcionando. As implementações podem sobrescrevê-los com consultas mais eficientes.
  *
  * @author Rodrigo GML
  * @since 1.0.0 (29 de jul. de 2023)
@@ -18,6 +26,11 @@ import br.eng.rodrigogml.rfw.kernel.vo.RFWVO;
  */
 public interface RFWDBProvider {
 
+  /**
+   * Quantidade máxima de valores em cada condição IN montada pelas implementações padrão dos métodos de consulta em lote. Listas maiores são divididas em várias consultas.
+   */
+  public static final int INCHUNKSIZE = 500;
+
   /**
    * Este método deve ser implementado pela classe da aplicação e retornar os IDs dos objetos conforme os parâmetros passados.
    *
@@ -75,4 +88,88 @@ public interface RFWDBProvider {
    */
   <VO extends RFWVO> RFWVO findUniqueMatch(Class<? extends RFWVO> voClass, RFWMO mo, String[] attributes) throws RFWException;
 
+  /**
+   * Busca vários objetos pelos seus IDs.<br>
+   * A implementação padrão consulta os objetos pelo {@link #findList(Class, RFWMO, RFWOrderBy, String[], Integer, Integer)} com uma condição IN de até {@link #INCHUNKSIZE} IDs por consulta.
+   *
+   * @param voClass Classe da entidade sendo procurada
+   * @param ids IDs dos objetos a serem recuperados. IDs nulos ou repetidos são ignorados.
+   * @param attributes Array com os nomes/caminhos dos atributos que precisam estar presentes nos objetos.
+   * @return Map com os objetos encontrados indexados pelo ID, na ordem dos IDs recebidos. IDs não encontrados não estarão presentes no Map.
+   * @throws RFWException
+   */
+  default <VO extends RFWVO> Map<Long, VO> findByIDs(Class<VO> voClass, Collection<Long> ids, String[] attributes) throws RFWException {
+    // Remove os IDs nulos e repetidos, mantendo a ordem recebida
+    final LinkedHashSet<Long> idSet = new LinkedHashSet<>(ids);
+    idSet.remove(null);
+    final ArrayList<Long> idList = new ArrayList<>(idSet);
+    final LinkedHashMap<Long, VO> found = new LinkedHashMap<>();
+    for (Long id : idList) {
+      found.put(id, null); // Mantém a ordem dos IDs recebidos
+    }
+    for (int i = 0; i < idList.size(); i += INCHUNKSIZE) {
+      final RFWMO mo = new RFWMO();
+      mo.in("id", new ArrayList<>(idList.subList(i, Math.min(idList.size(), i + INCHUNKSIZE))));
+      final List<VO> list = findList(voClass, mo, null, attributes, null, null);
+      if (list != null) for (VO vo : list) {
+        found.put(vo.getId(), vo);
+      }
+    }
+    found.values().removeIf(vo -> vo == null);
+    return found;
+  }
+
+  /**
+   * Verifica quais dos IDs informados existem no banco de dados.<br>
+   * A implementação padrão consulta os IDs pelo {@link #findIDs(Class, RFWMO, RFWOrderBy)} com uma condição IN de até {@link #INCHUNKSIZE} IDs por consulta.
+   *
+   * @param voClass Classe da entidade sendo procurada
+   * @param ids IDs a serem verificados. IDs nulos ou repetidos são ignorados.
+   * @return Conjunto com os IDs que foram encontrados.
+   * @throws RFWException
+   */
+  default <VO extends RFWVO> Set<Long> existsIDs(Class<VO> voClass, Collection<Long> ids) throws RFWException {
+    // Remove os IDs nulos e repetidos, mantendo a ordem recebida
+    final LinkedHashSet<Long> idSet = new LinkedHashSet<>(ids);
+    idSet.remove(null);
+    final ArrayList<Long> idList = new ArrayList<>(idSet);
+    final HashSet<Long> found = new HashSet<>();
+    for (int i = 0; i < idList.size(); i += INCHUNKSIZE) {
+      final RFWMO mo = new RFWMO();
+      mo.in("id", new ArrayList<>(idList.subList(i, Math.min(idList.size(), i + INCHUNKSIZE))));
+      final List<Long> list = findIDs(voClass, mo, null);
+      if (list != null) found.addAll(list);
+    }
+    return found;
+  }
+
+  /**
+   * Conta a quantidade de objetos que atendem ao filtro.<br>
+   * A implementação padrão conta os IDs retornados pelo {@link #findIDs(Class, RFWMO, RFWOrderBy)}. As implementações devem sobrescrever este método com uma consulta de contagem sempre que possível.
+   *
+   * @param voClass Classe da entidade.
+   * @param mo Filtro dos objetos.
+   * @return Quantidade de objetos encontrados.
+   * @throws RFWException
+   */
+  default <VO extends RFWVO> long count(Class<VO> voClass, RFWMO mo) throws RFWException {
+    final List<Long> list = findIDs(voClass, mo, null);
+    return list == null ? 0 : list.size();
+  }
+
+  /**
+   * Cria um cursor para percorrer os objetos conforme os parâmetros passados sem carregar todo o resultado em memória.<br>
+   * A implementação padrão recupera os objetos em páginas pelo {@link #findList(Class, RFWMO, RFWOrderBy, String[], Integer, Integer)}, utilizando o offset e o limit. Para que a paginação seja consistente, a ordenação deve ser informada e os dados não devem ser alterados durante a leitura.
+   *
+   * @param voClass Class do Objeto a ser retornado.
+   * @param mo Filtro dos objetos.
+   * @param orderBy Definição da coluna para ordenar os objetos.
+   * @param attributes Array com os nomes/caminhos dos atributos que precisam estar presentes nos objetos.
+   * @param pageSize Quantidade de objetos recuperados em cada consulta.
+   * @return Cursor para percorrer os objetos.
+   * @throws RFWException
+   */
+  default <VO extends RFWVO> RFWDBCursor<VO> findListCursor(Class<VO> voClass, RFWMO mo, RFWOrderBy orderBy, String[] attributes, int pageSize) throws RFWException {
+    return new RFWDBPagedCursor<>(this, voClass, mo, orderBy, attributes, pageSize);
+  }
 }
@@ -1,16 +1,21 @@
 package br.eng.rodrigogml.rfw.kernel.preprocess;
 
 import java.lang.annotation.Annotation;
-import java.lang.reflect.Field;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 import br.eng.rodrigogml.rfw.kernel.RFW;
 import br.eng.rodrigogml.rfw.kernel.exceptions.RFWCriticalException;
@@ -19,9 +24,13 @@ import br.eng.rodrigogml.rfw.kernel.exceptions.RFWValidationException;
 import br.eng.rodrigogml.rfw.kernel.rfwmeta.RFWMetaRelationshipField;
 import br.eng.rodrigogml.rfw.kernel.rfwmeta.RFWMetaRelationshipField.RelationshipTypes;
 import br.eng.rodrigogml.rfw.kernel.rfwmeta.RFWMetaStringField;
-import br.eng.rodrigogml.rfw.kernel.utils.RUReflex;
+import br.eng.rodrigogml.rfw.kernel.utils.RURegex;
 import br.eng.rodrigogml.rfw.kernel.utils.RUString;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWAttributePath;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWField;
 import br.eng.rodrigogml.rfw.kernel.vo.RFWVO;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWVOFieldMeta;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWVOMeta;
 
 /**
  * Description: Classe com métodos de pré processamento de variáveis para facilitar o processamento dos objetos.<br>
@@ -63,101 +72,200 @@ public final class PreProcess {
     DATE_TONOW,
   }
 
+  /**
+   * Atributo do VO que precisa ser visitado pelo {@link PreProcess#processVO(RFWVO)}: tem algum {@link PreProcessOption} diferente de {@link PreProcessOption#NONE} ou é um relacionamento cujos objetos também devem ser processados.
+   */
+  static final class PreProcessField {
+    final RFWVOFieldMeta field;
+
+    /**
+     * Pré-processamentos do atributo, já sem os {@link PreProcessOption#NONE}. Vazio caso o atributo esteja no plano apenas pelo relacionamento.
+     */
+    final PreProcessOption[] options;
+
+    /**
+     * Indica se os objetos do atributo devem ser processados recursivamente (relacionamentos de COMPOSITION ou MANY_TO_MANY).
+     */
+    final boolean composition;
+
+    /**
+     * Tamanho máximo definido na {@link RFWMetaStringField} para o {@link PreProcessOption#STRING_TRUNCATE}. -1 caso a RFWMeta Annotation do atributo não seja uma {@link RFWMetaStringField}.
+     */
+    final int maxLength;
+
+    /**
+     * Indica se os pré-processamentos do atributo são todos de String e podem ser aplicados juntos em uma única passada pelo {@link RUString#normalize(String, boolean, boolean, boolean, int)}.<br>
+     * A limpeza de espaços e a caixa alta podem ser aplicadas em qualquer ordem, mas o {@link PreProcessOption#STRING_TRUNCATE} só pode ser combinado quando for o último, já que cortar o texto antes da limpeza dos espaços tem outro resultado.
+     */
+    final boolean fusedString;
+
+    /**
+     * Indica se o atributo tem o {@link PreProcessOption#STRING_SPACESCLEAN_TO_NULL}, usado quando {@link #fusedString} é true.
+     */
+    final boolean spacesClean;
+
+    /**
+     * Indica se o atributo tem o {@link PreProcessOption#STRING_UPPERCASE}, usado quando {@link #fusedString} é true.
+     */
+    final boolean upperCase;
+
+    /**
+     * Indica se o atributo tem o {@link PreProcessOption#STRING_TRUNCATE}, usado quando {@link #fusedString} é true.
+     */
+    final boolean truncate;
+
+    PreProcessField(RFWVOFieldMeta field, PreProcessOption[] options, boolean composition) {
+      this.field = field;
+      this.options = options;
+      this.composition = composition;
+      this.maxLength = field.getMetaAnnotation() instanceof RFWMetaStringField ? ((RFWMetaStringField) field.getMetaAnnotation()).maxLength() : -1;
+
+      boolean fused = options.length > 0;
+      boolean clean = false;
+      boolean upper = false;
+      boolean trunc = false;
+      for (PreProcessOption option : options) {
+        if (option == PreProcessOption.STRING_SPACESCLEAN_TO_NULL && !trunc) {
+          clean = true;
+        } else if (option == PreProcessOption.STRING_UPPERCASE && !trunc) {
+          upper = true;
+        } else if (option == PreProcessOption.STRING_TRUNCATE) {
+          trunc = true;
+        } else {
+          fused = false;
+        }
+      }
+      // Com o tamanho máximo zero, o texto vazio não permite mais saber se a limpeza resultou em nulo. Caso raro que deixamos no processamento individual.
+      if (trunc && this.maxLength <= 0) fused = false;
+      this.fusedString = fused;
+      this.spacesClean = clean;
+      this.upperCase = upper;
+      this.truncate = trunc;
+    }
+  }
+
+  /**
+   * Cache dos planos de pré-processamento, com os atributos de cada classe que precisam ser visitados pelo {@link #processVO(RFWVO)}.
+   */
+  private static final ConcurrentHashMap<Class<?>, PreProcessField[]> planCache = new ConcurrentHashMap<>();
+
   /**
    * Construtor privado para classe estática.
    */
   private PreProcess() {
   }
 
+  /**
+   * Descarta os planos de pré-processamento em cache, veja {@link RFWVOMeta#clearCache()}.
+   */
+  public static void clearCache() {
+    planCache.clear();
+  }
+
+  /**
+   * Recupera o plano de pré-processamento da classe: os atributos declarados na classe que têm algum pré-processamento ou são relacionamentos de COMPOSITION ou MANY_TO_MANY, na ordem de declaração. Os demais atributos nem chegam a ser lidos pelo {@link #processVO(RFWVO)}.
+   */
+  static PreProcessField[] getPlan(Class<? extends RFWVO> voClass) throws RFWException {
+    PreProcessField[] plan = planCache.get(voClass);
+    if (plan == null) {
+      final ArrayList<PreProcessField> list = new ArrayList<>();
+      for (RFWVOFieldMeta field : RFWVOMeta.getInstance(voClass).getDeclaredFields()) {
+        PreProcessOption[] options = new PreProcessOption[0];
+        if (field.getPreProcess() != null) {
+          options = Arrays.stream(field.getPreProcess()).filter(option -> option != PreProcessOption.NONE).toArray(PreProcessOption[]::new);
+        }
+        final RFWMetaRelationshipField relAnn = field.getAnnotation(RFWMetaRelationshipField.class);
+        final boolean composition = relAnn != null && (relAnn.relationship() == RelationshipTypes.COMPOSITION || relAnn.relationship() == RelationshipTypes.MANY_TO_MANY);
+        if (options.length > 0 || composition) list.add(new PreProcessField(field, options, composition));
+      }
+      plan = list.toArray(new PreProcessField[list.size()]);
+      final PreProcessField[] previous = planCache.putIfAbsent(voClass, plan);
+      if (previous != null) plan = previous;
+    }
+    return plan;
+  }
+
   /**
    * Processa o VO completamente e recursivamente procurando pelas RFWMetaAnnotations com definição de atributo 'preProcess()' cujo tipo seja {@link PreProcessOption}.<br>
-   * Todo o processamento é feito diretamente no objeto recebido. Por isso não é retorno deste método.
+   * Todo o processamento é feito diretamente no objeto recebido. Por isso não é retorno deste método.<br>
+   * Os atributos visitados são definidos pelo plano da classe (veja {@link #clearCache()}), e o valor só é escrito de volta no objeto quando o pré-processamento o alterou.
    *
    * @param vo VO a ser preprocessado para a validação.
    * @throws RFWException Este método não deve retornar exceptions pois não faz nenhum tipo de validação, apenas prepara a informação se ela existir. No entando devido as operações de reflexão, as exceptions podem ser lançadas.
    */
   public static <VO extends RFWVO> void processVO(VO vo) throws RFWException {
+    processVO(vo, null, Integer.MAX_VALUE, null);
+  }
+
+  /**
+   * Processa o VO da mesma forma que o {@link #processVO(RFWVO)}, mas as coleções e hashs de composição com muitos itens (como as linhas de um documento) têm seus objetos processados em paralelo.<br>
+   * Os itens das coleções de composição são objetos independentes, e cada objeto é processado por uma única thread. Caso a mesma instância apareça mais de uma vez na coleção, ela é processada apenas uma vez.<br>
+   * Apenas as coleções encontradas fora do processamento paralelo são divididas: as coleções dentro dos itens já processados em paralelo são processadas na mesma thread, evitando que as tarefas fiquem esperando outras tarefas do mesmo executor.<br>
+   * Caso algum item falhe, é lançado o erro do primeiro item da coleção que falhou, identificando o caminho do item (como "lines[1532]").
+   *
+   * @param vo VO a ser preprocessado para a validação.
+   * @param parallelThreshold Quantidade mínima de itens da coleção para que seus objetos sejam processados em paralelo.
+   * @param executor Executor utilizado para processar os itens em paralelo. Se nulo, utiliza o {@link ForkJoinPool#commonPool()}.
+   * @throws RFWException Lançado em caso de falha no processamento de algum dos objetos.
+   */
+  public static <VO extends RFWVO> void processVO(VO vo, int parallelThreshold, Executor executor) throws RFWException {
+    if (parallelThreshold < 1) throw new RFWCriticalException("A quantidade mínima de itens para o processamento paralelo deve ser maior que zero!");
+    if (executor == null) executor = ForkJoinPool.commonPool();
+    processVO(vo, RFWAttributePath.ROOT, parallelThreshold, executor);
+  }
+
+  /**
+   * Processa o VO e seus objetos de composição.
+   *
+   * @param vo VO a ser preprocessado.
+   * @param path Caminho do objeto desde o objeto raiz, usado para identificar os itens que falharem no processamento paralelo. Nulo quando não estamos no modo paralelo.
+   * @param parallelThreshold Quantidade mínima de itens da coleção para que seus objetos sejam processados em paralelo.
+   * @param executor Executor utilizado para processar os itens em paralelo. Nulo para processar tudo na thread atual.
+   */
+  private static void processVO(RFWVO vo, RFWAttributePath path, int parallelThreshold, Executor executor) throws RFWException {
     if (vo != null) {
-      // Iteramos todos os atributos do VO em busca das RFWMetaAnnotations
-      final Field[] fields = vo.getClass().getDeclaredFields();
-      for (Field field : fields) {
+      // Iteramos apenas os atributos do plano da classe
+      for (PreProcessField step : getPlan(vo.getClass())) {
+        final RFWVOFieldMeta field = step.field;
         Object value = null;
         try {
-          value = RUReflex.getPropertyValue(vo, field.getName());
+          value = field.getValue(vo);
         } catch (Exception e) {
           // Esta exception pode ocorrer quando a propriedade não tem o método de GET! por isso só ignoramos
         }
 
-        final PreProcessOption[] ppList = RUReflex.getRFWMetaAnnotationPreProcess(vo.getClass(), field.getName());
-        if (ppList != null) {
-          final Class<?> clazz = RUReflex.getPropertyTypeByObjectAndType(vo, field.getName());
-          for (int i = 0; i < ppList.length; i++) {
-            PreProcessOption preProcess = ppList[i];
-            if (preProcess != PreProcessOption.NONE) {
-              switch (preProcess) {
-                case NONE:
-                  // nada a fazer. Nem chega a entrar aqui pq o IF já filtra, só deixamos aqui para completar o switch. É importante que o NONE esteja no IF pq assim já evitamos que o SET seja feito quando não há alteração, deixando o código mais rápido.
-                  break;
-                case STRING_SPACESCLEAN_TO_NULL:
-                  if (!String.class.isAssignableFrom(clazz)) throw new RFWCriticalException("O preProcess '${0}' não é válido para o tipo do atributo '${1}' da classe '${2}'", new String[] { preProcess.toString(), field.getName(), vo.getClass().getCanonicalName() });
-                  value = processStringToNull((String) value);
-                  break;
-                case STRING_TRUNCATE:
-                  if (!String.class.isAssignableFrom(clazz)) throw new RFWCriticalException("O preProcess '${0}' não é válido para o tipo do atributo '${1}' da classe '${2}'", new String[] { preProcess.toString(), field.getName(), vo.getClass().getCanonicalName() });
-                  if (value != null) {
-                    Annotation ann = RUReflex.getRFWMetaAnnotation(field);
-                    int maxLength = 0;
-                    if (ann instanceof RFWMetaStringField) {
-                      maxLength = ((RFWMetaStringField) ann).maxLength();
-                    } else {
-                      throw new RFWCriticalException("O preProcess '${0}' não é tem suporte para a annotation '${3}' do atributo '${1}' da classe '${2}'", new String[] { preProcess.toString(), field.getName(), vo.getClass().getCanonicalName(), ann.getClass().getCanonicalName() });
-                    }
-                    value = RUString.truncate((String) value, maxLength);
-                  }
-                  break;
-                case STRING_UPPERCASE:
-                  if (!String.class.isAssignableFrom(clazz)) throw new RFWCriticalException("O preProcess '${0}' não é válido para o tipo do atributo '${1}' da classe '${2}'", new String[] { preProcess.toString(), field.getName(), vo.getClass().getCanonicalName() });
-                  if (value != null) {
-                    value = ((String) value).toUpperCase();
-                  }
-                  break;
-                case DATE_TONOW:
-                  if (LocalDate.class.isAssignableFrom(clazz)) {
-                    value = RFW.getDate();
-                  } else if (LocalTime.class.isAssignableFrom(clazz)) {
-                    value = RFW.getTime();
-                  } else if (LocalDateTime.class.isAssignableFrom(clazz)) {
-                    value = RFW.getDateTime();
-                  } else if (Date.class.isAssignableFrom(clazz)) {
-                    // value = new Date();
-                    throw new RFWCriticalException("Por definição o framework não permite mais utilizar o objeto 'java.util.Date'. Verifique seu código e substituia por LocalDate, LocalTime ou LocalDateTime!");
-                  } else {
-                    throw new RFWCriticalException("O preProcess '${0}' não é válido para o tipo do atributo '${1}' da classe '${2}'", new String[] { preProcess.toString(), field.getName(), vo.getClass().getCanonicalName() });
-                  }
-                  break;
-              }
-              try {
-                RUReflex.setPropertyValue(vo, field.getName(), value, false);
-              } catch (Exception e) {
-                // Esta exception pode ocorrer quando não temos o método de SET, só ignoramos poide pode ser alguma propriedade só de leitura
-              }
+        if (step.options.length > 0) {
+          final Object original = value;
+          if (step.fusedString) {
+            value = processString(vo, step, value);
+          } else {
+            for (PreProcessOption preProcess : step.options) {
+              value = processValue(vo, step, preProcess, value);
+            }
+          }
+          // Só escrevemos o valor quando ele foi de fato alterado
+          if (!Objects.equals(original, value)) {
+            try {
+              field.setValue(vo, value);
+            } catch (Exception e) {
+              // Esta exception pode ocorrer quando não temos o método de SET, só ignoramos poide pode ser alguma propriedade só de leitura
             }
           }
         }
 
-        if (value != null) {
-          // Verifica se temos a annotation de relationship, e se for um relacionamento de composição (em que o objeto é manipulado junto) temos de processar suas informações também
-          final RFWMetaRelationshipField relAnn = field.getAnnotation(RFWMetaRelationshipField.class);
-          if (relAnn != null && (relAnn.relationship() == RelationshipTypes.COMPOSITION || relAnn.relationship() == RelationshipTypes.MANY_TO_MANY)) {
-            if (RFWVO.class.isAssignableFrom(value.getClass())) {
-              PreProcess.processVO((RFWVO) value);
-            } else if (Collection.class.isAssignableFrom(value.getClass())) {
-              for (Object obj : (Collection<?>) value) {
-                if (obj instanceof RFWVO) PreProcess.processVO((RFWVO) obj);
-              }
-            } else if (Map.class.isAssignableFrom(value.getClass())) {
-              for (Object obj : ((Map<?, ?>) value).values()) {
-                if (obj instanceof RFWVO) PreProcess.processVO((RFWVO) obj);
+        if (value != null && step.composition) {
+          // Relacionamento de composição (em que o objeto é manipulado junto), temos de processar suas informações também
+          if (value instanceof RFWVO) {
+            processVO((RFWVO) value, path == null ? null : path.child(field.getName()), parallelThreshold, executor);
+          } else if (value instanceof Collection || value instanceof Map) {
+            final Collection<?> items = value instanceof Collection ? (Collection<?>) value : ((Map<?, ?>) value).values();
+            if (executor != null && items.size() >= parallelThreshold) {
+              processParallel(items.toArray(), path, field.getName(), parallelThreshold, executor);
+            } else {
+              int count = 0;
+              for (Object obj : items) {
+                if (obj instanceof RFWVO) processVO((RFWVO) obj, path == null ? null : path.child(field.getName(), count), parallelThreshold, executor);
+                count++;
               }
             }
           }
@@ -166,6 +274,125 @@ public final class PreProcess {
     }
   }
 
+  /**
+   * Processa em paralelo os objetos de uma coleção de composição. Os itens são divididos em alguns blocos por thread disponível, e cada bloco é processado sequencialmente por uma tarefa do executor.
+   *
+   * @param items Itens da coleção.
+   * @param path Caminho do objeto que contém a coleção, usado na mensagem de erro.
+   * @param fieldName Nome do atributo da coleção.
+   * @param parallelThreshold Quantidade mínima de itens da coleção para que seus objetos sejam processados em paralelo.
+   * @param executor Executor utilizado para processar os itens.
+   * @throws RFWException Lançado com o erro do primeiro item que falhou, identificando o caminho do item.
+   */
+  private static void processParallel(Object[] items, RFWAttributePath path, String fieldName, int parallelThreshold, Executor executor) throws RFWException {
+    // A mesma instância não pode ser processada por duas threads ao mesmo tempo, por isso descartamos as repetições
+    final IdentityHashMap<Object, Boolean> distinct = new IdentityHashMap<>(items.length);
+    for (int i = 0; i < items.length; i++) {
+      if (!(items[i] instanceof RFWVO) || distinct.put(items[i], Boolean.TRUE) != null) items[i] = null;
+    }
+
+    final Throwable[] failures = new Throwable[items.length];
+    final int parallelism = executor instanceof ForkJoinPool ? ((ForkJoinPool) executor).getParallelism() : Runtime.getRuntime().availableProcessors();
+    final int chunks = Math.min(items.length, Math.max(1, parallelism) * 4);
+    final CompletableFuture<?>[] futures = new CompletableFuture<?>[chunks];
+    try {
+      for (int chunk = 0; chunk < chunks; chunk++) {
+        final int start = (int) ((long) items.length * chunk / chunks);
+        final int end = (int) ((long) items.length * (chunk + 1) / chunks);
+        futures[chunk] = CompletableFuture.runAsync(() -> {
+          for (int i = start; i < end; i++) {
+            try {
+              // Dentro da tarefa os objetos são processados na própria thread
+              if (items[i] != null) processVO((RFWVO) items[i], null, parallelThreshold, null);
+            } catch (Throwable e) {
+              failures[i] = e;
+            }
+          }
+        }, executor);
+      }
+      CompletableFuture.allOf(futures).join();
+    } catch (RuntimeException e) {
+      throw new RFWCriticalException("Falha ao executar o pré-processamento em paralelo do atributo '${0}'!", new String[] { path.child(fieldName).toString() }, e);
+    }
+    for (int i = 0; i < failures.length; i++) {
+      if (failures[i] instanceof RFWException) throw (RFWException) failures[i];
+      if (failures[i] != null) throw new RFWCriticalException("Falha ao pré-processar o objeto '${0}'.", new String[] { path.child(fieldName, i).toString() }, failures[i]);
+    }
+  }
+
+  /**
+   * Aplica todos os pré-processamentos de String do atributo em uma única passada pelo texto. Usado quando {@link PreProcessField#fusedString} é true.
+   *
+   * @param vo VO sendo processado, utilizado nas mensagens de erro.
+   * @param step Atributo do plano sendo processado.
+   * @param value Valor atual do atributo.
+   * @return Valor processado.
+   * @throws RFWException Lançado caso o atributo não seja do tipo String.
+   */
+  private static Object processString(RFWVO vo, PreProcessField step, Object value) throws RFWException {
+    final Class<?> clazz = value != null ? value.getClass() : step.field.getType();
+    if (!String.class.isAssignableFrom(clazz)) throw new RFWCriticalException("O preProcess '${0}' não é válido para o tipo do atributo '${1}' da classe '${2}'", new String[] { step.options[0].toString(), step.field.getName(), vo.getClass().getCanonicalName() });
+    if (value == null) return null;
+    final String result = RUString.normalize((String) value, step.spacesClean, true, step.upperCase, step.truncate ? step.maxLength : -1);
+    if (step.spacesClean && result.length() == 0) return null;
+    return result;
+  }
+
+  /**
+   * Aplica um pré-processamento no valor de um atributo.
+   *
+   * @param vo VO sendo processado, utilizado nas mensagens de erro.
+   * @param step Atributo do plano sendo processado.
+   * @param preProcess Pré-processamento a ser aplicado.
+   * @param value Valor atual do atributo.
+   * @return Valor processado.
+   * @throws RFWException Lançado caso o pré-processamento não seja válido para o tipo do atributo.
+   */
+  private static Object processValue(RFWVO vo, PreProcessField step, PreProcessOption preProcess, Object value) throws RFWException {
+    final RFWVOFieldMeta field = step.field;
+    final Class<?> clazz = value != null ? value.getClass() : field.getType();
+    switch (preProcess) {
+      case NONE:
+        // nada a fazer. Nem chega a entrar aqui pq o plano já filtra, só deixamos aqui para completar o switch.
+        break;
+      case STRING_SPACESCLEAN_TO_NULL:
+        if (!String.class.isAssignableFrom(clazz)) throw new RFWCriticalException("O preProcess '${0}' não é válido para o tipo do atributo '${1}' da classe '${2}'", new String[] { preProcess.toString(), field.getName(), vo.getClass().getCanonicalName() });
+        value = processStringToNull((String) value);
+        break;
+      case STRING_TRUNCATE:
+        if (!String.class.isAssignableFrom(clazz)) throw new RFWCriticalException("O preProcess '${0}' não é válido para o tipo do atributo '${1}' da classe '${2}'", new String[] { preProcess.toString(), field.getName(), vo.getClass().getCanonicalName() });
+        if (value != null) {
+          if (step.maxLength < 0) {
+            Annotation ann = field.getMetaAnnotation();
+            throw new RFWCriticalException("O preProcess '${0}' não é tem suporte para a annotation '${3}' do atributo '${1}' da classe '${2}'", new String[] { preProcess.toString(), field.getName(), vo.getClass().getCanonicalName(), ann.getClass().getCanonicalName() });
+          }
+          value = RUString.truncate((String) value, step.maxLength);
+        }
+        break;
+      case STRING_UPPERCASE:
+        if (!String.class.isAssignableFrom(clazz)) throw new RFWCriticalException("O preProcess '${0}' não é válido para o tipo do atributo '${1}' da classe '${2}'", new String[] { preProcess.toString(), field.getName(), vo.getClass().getCanonicalName() });
+        if (value != null) {
+          value = RUString.normalize((String) value, false, false, true, -1);
+        }
+        break;
+      case DATE_TONOW:
+        if (LocalDate.class.isAssignableFrom(clazz)) {
+          value = RFW.getDate();
+        } else if (LocalTime.class.isAssignableFrom(clazz)) {
+          value = RFW.getTime();
+        } else if (LocalDateTime.class.isAssignableFrom(clazz)) {
+          value = RFW.getDateTime();
+        } else if (Date.class.isAssignableFrom(clazz)) {
+          // value = new Date();
+          throw new RFWCriticalException("Por definição o framework não permite mais utilizar o objeto 'java.util.Date'. Verifique seu código e substituia por LocalDate, LocalTime ou LocalDateTime!");
+        } else {
+          throw new RFWCriticalException("O preProcess '${0}' não é válido para o tipo do atributo '${1}' da classe '${2}'", new String[] { preProcess.toString(), field.getName(), vo.getClass().getCanonicalName() });
+        }
+        break;
+    }
+    return value;
+  }
+
   /**
    * Processa a string passada, removendo espaços (do começo, do final e espaços duplos entre as palavras) e convertendo para null quando a string for vazia.
    *
@@ -174,10 +401,7 @@ public final class PreProcess {
    */
   public static String processStringToNull(String value) {
     if (value != null) {
-      value = RUString.replaceFakeSpacesByUniqueSpace(value);
-      value = RUString.replaceTabsByUniqueSpace(value);
-      value = RUString.replaceDoubleSpaces(value);
-      value = value.trim();
+      value = RUString.normalize(value, true, true, false, -1);
       if (value.length() == 0) {
         value = null;
       }
@@ -195,7 +419,7 @@ public final class PreProcess {
     if (value == null) {
       value = "";
     } else {
-      value = RUString.replaceDoubleSpaces(value).trim();
+      value = RUString.normalize(value, true, false, false, -1);
     }
     return value;
   }
@@ -943,6 +1167,51 @@ public final class PreProcess {
     return Arrays.stream(values).filter(Objects::nonNull).reduce((short) 0, (a, b) -> (short) (a + b));
   }
 
+  /**
+   * Agrega os atributos de uma lista de VOs em uma única passada, calculando a quantidade, a soma, a média, o mínimo e o máximo de cada atributo. Veja {@link RFWAggregation}.
+   *
+   * @param vos Lista de VOs a serem agregados. Itens nulos são ignorados.
+   * @param attributes Caminhos dos atributos agregados, no padrão do {@link br.eng.rodrigogml.rfw.kernel.utils.RUReflex#getPropertyValue(Object, String)}. Cada atributo é uma coluna do resultado.
+   * @return Resultado da agregação.
+   * @throws RFWException Lançado caso não seja possível ler algum atributo ou os valores não possam ser agregados.
+   */
+  public static RFWAggregation aggregate(Collection<? extends RFWVO> vos, String... attributes) throws RFWException {
+    if (attributes == null) throw new RFWCriticalException("Nenhuma coluna definida para a agregação.");
+    final RFWField[] fields = new RFWField[attributes.length];
+    for (int i = 0; i < attributes.length; i++) {
+      fields[i] = RFWField.field(attributes[i]);
+    }
+    return RFWAggregation.aggregate(vos, Integer.MAX_VALUE, null, fields);
+  }
+
+  /**
+   * Agrega uma lista de VOs em uma única passada, calculando a quantidade, a soma, a média, o mínimo e o máximo de cada coluna. Veja {@link RFWAggregation}.<br>
+   * As colunas aceitam atributos ({@link RFWField#field(String)}), as funções {@link RFWField#sum(String)}, {@link RFWField#minimum(String)}, {@link RFWField#maximum(String)} e {@link RFWField#count(String)} (que definem o valor de
+   * {@link RFWAggregation#getValue(int)}), e as expressões {@link RFWField#multiply(RFWField, RFWField)}, {@link RFWField#divide(RFWField, RFWField)}, {@link RFWField#subtract(RFWField, RFWField)}, {@link RFWField#coalesce(RFWField...)} e constantes.
+   *
+   * @param vos Lista de VOs a serem agregados. Itens nulos são ignorados.
+   * @param fields Colunas da agregação.
+   * @return Resultado da agregação.
+   * @throws RFWException Lançado caso alguma função não seja suportada, não seja possível ler algum atributo ou os valores não possam ser agregados.
+   */
+  public static RFWAggregation aggregate(Collection<? extends RFWVO> vos, RFWField... fields) throws RFWException {
+    return RFWAggregation.aggregate(vos, Integer.MAX_VALUE, null, fields);
+  }
+
+  /**
+   * Agrega uma lista de VOs da mesma forma que o {@link #aggregate(Collection, RFWField...)}, dividindo as listas grandes em blocos agregados em paralelo pelo executor. Os resultados parciais são juntados na ordem dos blocos.
+   *
+   * @param vos Lista de VOs a serem agregados. Itens nulos são ignorados.
+   * @param parallelThreshold Quantidade mínima de itens da lista para que a agregação seja feita em paralelo. Listas menores são agregadas na própria thread.
+   * @param executor Executor utilizado para agregar os blocos. Se nulo, é utilizado o {@link ForkJoinPool#commonPool()}.
+   * @param fields Colunas da agregação.
+   * @return Resultado da agregação.
+   * @throws RFWException Lançado caso alguma função não seja suportada, não seja possível ler algum atributo ou os valores não possam ser agregados.
+   */
+  public static RFWAggregation aggregate(Collection<? extends RFWVO> vos, int parallelThreshold, Executor executor, RFWField... fields) throws RFWException {
+    return RFWAggregation.aggregate(vos, parallelThreshold, executor, fields);
+  }
+
   /**
    * Valida se a coleção não é nula nem vazia. Caso a validação falhe uma {@link RFWCriticalException} é lançada.
    *
@@ -1121,11 +1390,13 @@ public final class PreProcess {
    */
   public static void requiredNonNullMatch(String value, String regExp, String msg) throws RFWException {
     requiredNonNull(value, msg);
+    final boolean matches;
     try {
-      value.matches(regExp);
+      matches = RURegex.matches(value, regExp);
     } catch (Exception e) {
       throw new RFWValidationException(msg, new String[] { value, regExp }, e);
     }
+    if (!matches) throw new RFWValidationException(msg, new String[] { value, regExp });
   }
 
   /**
@@ -1154,11 +1425,13 @@ public final class PreProcess {
   public static void requiredMatch(String value, String regExp, String msg) throws RFWException {
     if (value == null) return;
     requiredNonNull(value, msg);
+    final boolean matches;
     try {
-      value.matches(regExp);
+      matches = RURegex.matches(value, regExp);
     } catch (Exception e) {
       throw new RFWValidationException(msg, new String[] { value, regExp }, e);
     }
+    if (!matches) throw new RFWValidationException(msg, new String[] { value, regExp });
   }
 
   /**
@@ -0,0 +1,601 @@
+package br.eng.rodrigogml.rfw.kernel.preprocess;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWCriticalException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWCompiledPath;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWField;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWField.FieldFunction;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWVO;
+
+/**
+ * Description: Resultado da agregação em memória de uma lista de VOs, criado pelos métodos {@link PreProcess#aggregate(Collection, RFWField...)}.<br>
+ * Cada coluna é definida por um {@link RFWField} e calcula, em uma única passada pela lista, a quantidade de valores, a soma, a média, o mínimo e o máximo, com a mesma semântica dos métodos {@link PreProcess#sum(BigDecimal...)}, {@link PreProcess#avg(BigDecimal...)},
+ * {@link PreProcess#min(BigDecimal...)} e {@link PreProcess#max(BigDecimal...)}: os valores nulos são ignorados.<br>
+ * Os valores são acumulados de acordo com o seu tipo, sem criar objetos por linha:
+ * <ul>
+ * <li>Long, Integer, Short e Byte em acumuladores long, com os resultados em Long;</li>
+ * <li>Double e Float em acumuladores double, com os resultados em Double;</li>
+ * <li>BigDecimal (e os demais {@link Number}) em BigDecimal, com os resultados em BigDecimal. A média mantém a escala da soma, como no {@link PreProcess#avg(BigDecimal...)};</li>
+ * <li>Os demais objetos {@link Comparable} (como datas e Strings) apenas na quantidade, no mínimo e no máximo.</li>
+ * </ul>
+ * Caso a mesma coluna receba valores de tipos numéricos diferentes, o acumulador é promovido para o tipo mais abrangente (long, double e BigDecimal, nesta ordem).
+ *
+ * @author Rodrigo GML
+ * @since 1.0.0 (17 de out. de 2026)
+ */
+public final class RFWAggregation {
+
+  /**
+   * Tipo do acumulador de uma coluna, na ordem de promoção.
+   */
+  private static enum Kind {
+    EMPTY, LONG, DOUBLE, DECIMAL, COMPARABLE
+  }
+
+  /**
+   * Resultado de uma coluna da agregação.
+   */
+  public static final class Column {
+
+    /**
+     * Definição da coluna.
+     */
+    private final RFWField field;
+
+    private Kind kind = Kind.EMPTY;
+    private long count;
+    private long longSum;
+    private long longMin;
+    private long longMax;
+    private double doubleSum;
+    private double doubleMin;
+    private double doubleMax;
+    private BigDecimal decimalSum;
+    private BigDecimal decimalMin;
+    private BigDecimal decimalMax;
+    private Comparable<Object> objectMin;
+    private Comparable<Object> objectMax;
+
+    private Column(RFWField field) {
+      this.field = field;
+    }
+
+    /**
+     * Acumula um valor na coluna. Valores nulos são ignorados.
+     */
+    @SuppressWarnings("unchecked")
+    private void add(Object value) throws RFWException {
+      if (value == null) return;
+      final Kind valueKind = kindOf(value);
+      if (valueKind != this.kind) promote(valueKind);
+      this.count++;
+      switch (this.kind) {
+        case LONG: {
+          final long v = ((Number) value).longValue();
+          if (this.count == 1 || v < this.longMin) this.longMin = v;
+          if (this.count == 1 || v > this.longMax) this.longMax = v;
+          try {
+            this.longSum = Math.addExact(this.longSum, v);
+          } catch (ArithmeticException e) {
+            // A soma não cabe em um long, a coluna passa a acumular em BigDecimal
+            promote(Kind.DECIMAL);
+            this.decimalSum = this.decimalSum.add(BigDecimal.valueOf(v));
+          }
+          break;
+        }
+        case DOUBLE: {
+          final double v = ((Number) value).doubleValue();
+          this.doubleSum += v;
+          if (this.count == 1 || v < this.doubleMin) this.doubleMin = v;
+          if (this.count == 1 || v > this.doubleMax) this.doubleMax = v;
+          break;
+        }
+        case DECIMAL: {
+          final BigDecimal v = toDecimal((Number) value);
+          this.decimalSum = this.count == 1 ? v : this.decimalSum.add(v);
+          if (this.count == 1 || v.compareTo(this.decimalMin) < 0) this.decimalMin = v;
+          if (this.count == 1 || v.compareTo(this.decimalMax) > 0) this.decimalMax = v;
+          break;
+        }
+        default: {
+          final Comparable<Object> v = (Comparable<Object>) value;
+          if (this.count == 1 || v.compareTo(this.objectMin) < 0) this.objectMin = v;
+          if (this.count == 1 || v.compareTo(this.objectMax) > 0) this.objectMax = v;
+          break;
+        }
+      }
+    }
+
+    /**
+     * Junta o resultado parcial de outra coluna (calculado sobre outra parte da lista) nesta coluna.
+     */
+    private void merge(Column other) throws RFWException {
+      if (other.count == 0) return;
+      if (this.count == 0) {
+        copy(other);
+        return;
+      }
+      if (other.kind != this.kind) {
+        promote(other.kind);
+        other.promote(this.kind);
+      }
+      this.count += other.count;
+      switch (this.kind) {
+        case LONG:
+          this.longMin = Math.min(this.longMin, other.longMin);
+          this.longMax = Math.max(this.longMax, other.longMax);
+          try {
+            this.longSum = Math.addExact(this.longSum, other.longSum);
+          } catch (ArithmeticException e) {
+            // A soma não cabe em um long, a coluna passa a acumular em BigDecimal
+            promote(Kind.DECIMAL);
+            this.decimalSum = this.decimalSum.add(BigDecimal.valueOf(other.longSum));
+          }
+          break;
+        case DOUBLE:
+          this.doubleSum += other.doubleSum;
+          this.doubleMin = Math.min(this.doubleMin, other.doubleMin);
+          this.doubleMax = Math.max(this.doubleMax, other.doubleMax);
+          break;
+        case DECIMAL:
+          this.decimalSum = this.decimalSum.add(other.decimalSum);
+          if (other.decimalMin.compareTo(this.decimalMin) < 0) this.decimalMin = other.decimalMin;
+          if (other.decimalMax.compareTo(this.decimalMax) > 0) this.decimalMax = other.decimalMax;
+          break;
+        default:
+          if (other.objectMin.compareTo(this.objectMin) < 0) this.objectMin = other.objectMin;
+          if (other.objectMax.compareTo(this.objectMax) > 0) this.objectMax = other.objectMax;
+          break;
+      }
+    }
+
+    private void copy(Column other) {
+      this.kind = other.kind;
+      this.count = other.count;
+      this.longSum = other.longSum;
+      this.longMin = other.longMin;
+      this.longMax = other.longMax;
+      this.doubleSum = other.doubleSum;
+      this.doubleMin = other.doubleMin;
+      this.doubleMax = other.doubleMax;
+      this.decimalSum = other.decimalSum;
+      this.decimalMin = other.decimalMin;
+      this.decimalMax = other.decimalMax;
+      this.objectMin = other.objectMin;
+      this.objectMax = other.objectMax;
+    }
+
+    /**
+     * Promove o acumulador da coluna para comportar os valores do tipo passado, convertendo os valores já acumulados.
+     */
+    private void promote(Kind target) throws RFWException {
+      if (target == Kind.EMPTY || target == this.kind) return;
+      if (this.kind == Kind.EMPTY) {
+        this.kind = target;
+        return;
+      }
+      if (this.kind == Kind.COMPARABLE || target == Kind.COMPARABLE) {
+        throw new RFWCriticalException("A coluna '${0}' da agregação recebeu valores numéricos e não numéricos.", new String[] { describe(this.field) });
+      }
+      if (target.ordinal() < this.kind.ordinal()) return;
+      if (this.kind == Kind.LONG && target == Kind.DOUBLE) {
+        this.doubleSum = this.longSum;
+        this.doubleMin = this.longMin;
+        this.doubleMax = this.longMax;
+      } else if (this.kind == Kind.LONG) {
+        this.decimalSum = BigDecimal.valueOf(this.longSum);
+        this.decimalMin = BigDecimal.valueOf(this.longMin);
+        this.decimalMax = BigDecimal.valueOf(this.longMax);
+      } else {
+        this.decimalSum = BigDecimal.valueOf(this.doubleSum);
+        this.decimalMin = BigDecimal.valueOf(this.doubleMin);
+        this.decimalMax = BigDecimal.valueOf(this.doubleMax);
+      }
+      this.kind = target;
+    }
+
+    /**
+     * Retorna a definição da coluna.
+     */
+    public RFWField getField() {
+      return this.field;
+    }
+
+    /**
+     * Retorna a quantidade de valores não nulos acumulados na coluna.
+     */
+    public long getCount() {
+      return this.count;
+    }
+
+    /**
+     * Retorna a soma dos valores não nulos.
+     *
+     * @return Soma dos valores (Long, Double ou BigDecimal, de acordo com o tipo dos valores), ou null caso a coluna não tenha valores ou não seja numérica.
+     */
+    public Number getSum() {
+      switch (this.kind) {
+        case LONG:
+          return this.longSum;
+        case DOUBLE:
+          return this.doubleSum;
+        case DECIMAL:
+          return this.decimalSum;
+        default:
+          return null;
+      }
+    }
+
+    /**
+     * Retorna a média dos valores não nulos. Para os valores inteiros a divisão é inteira, e para os valores BigDecimal a média mantém a escala da soma (arredondamento HALF_UP), como nos métodos avg do {@link PreProcess}.
+     *
+     * @return Média dos valores, ou null caso a coluna não tenha valores ou não seja numérica.
+     */
+    public Number getAvg() {
+      switch (this.kind) {
+        case LONG:
+          return this.longSum / this.count;
+        case DOUBLE:
+          return this.doubleSum / this.count;
+        case DECIMAL:
+          return this.decimalSum.divide(BigDecimal.valueOf(this.count), RoundingMode.HALF_UP);
+        default:
+          return null;
+      }
+    }
+
+    /**
+     * Retorna o menor valor não nulo da coluna, ou null caso a coluna não tenha valores.
+     */
+    public Object getMin() {
+      switch (this.kind) {
+        case LONG:
+          return this.longMin;
+        case DOUBLE:
+          return this.doubleMin;
+        case DECIMAL:
+          return this.decimalMin;
+        default:
+          return this.objectMin;
+      }
+    }
+
+    /**
+     * Retorna o maior valor não nulo da coluna, ou null caso a coluna não tenha valores.
+     */
+    public Object getMax() {
+      switch (this.kind) {
+        case LONG:
+          return this.longMax;
+        case DOUBLE:
+          return this.doubleMax;
+        case DECIMAL:
+          return this.decimalMax;
+        default:
+          return this.objectMax;
+      }
+    }
+
+    /**
+     * Retorna o valor da coluna de acordo com a função do {@link RFWField} que a definiu: {@link FieldFunction#SUM} retorna a soma, {@link FieldFunction#MINIMUM} o mínimo, {@link FieldFunction#MAXIMUM} o máximo e {@link FieldFunction#COUNT} a quantidade. Para os
+     * demais (campos e expressões aritméticas) retorna a soma, que é o total usado nos relatórios.
+     */
+    public Object getValue() {
+      switch (this.field.getFunction()) {
+        case MINIMUM:
+          return getMin();
+        case MAXIMUM:
+          return getMax();
+        case COUNT:
+          return this.count;
+        default:
+          return getSum();
+      }
+    }
+
+    @Override
+    public String toString() {
+      return describe(this.field) + ": count=" + this.count + ", sum=" + getSum() + ", min=" + getMin() + ", max=" + getMax();
+    }
+  }
+
+  /**
+   * Expressão de um {@link RFWField} compilada para ser avaliada sobre cada VO da lista.<br>
+   * Os objetos não são thread safe (guardam o último caminho compilado utilizado), por isso cada tarefa da agregação em paralelo compila as suas.
+   */
+  private static abstract class Expression {
+    abstract Object evaluate(RFWVO vo) throws RFWException;
+  }
+
+  /**
+   * Lê o valor de um atributo do VO através do {@link RFWCompiledPath}, mantendo o caminho compilado da última classe para não consultar o cache a cada linha.
+   */
+  private static final class AttributeExpression extends Expression {
+    private final String path;
+    private Class<?> lastClass;
+    private RFWCompiledPath lastCompiled;
+
+    AttributeExpression(String path) {
+      this.path = path;
+    }
+
+    @Override
+    Object evaluate(RFWVO vo) throws RFWException {
+      if (vo.getClass() != this.lastClass) {
+        this.lastCompiled = RFWCompiledPath.compile(vo.getClass(), this.path);
+        this.lastClass = vo.getClass();
+      }
+      return this.lastCompiled.getValue(vo);
+    }
+  }
+
+  /**
+   * Valor constante, usado nas constantes do {@link RFWField} e no COUNT(*) (que conta todas as linhas).
+   */
+  private static final class ConstantExpression extends Expression {
+    private final Object value;
+
+    ConstantExpression(Object value) {
+      this.value = value;
+    }
+
+    @Override
+    Object evaluate(RFWVO vo) {
+      return this.value;
+    }
+  }
+
+  /**
+   * Funções do {@link RFWField} que combinam os valores dos parâmetros (aritméticas e COALESCE).
+   */
+  private static final class FunctionExpression extends Expression {
+    private final FieldFunction function;
+    private final Expression[] params;
+
+    FunctionExpression(FieldFunction function, Expression[] params) {
+      this.function = function;
+      this.params = params;
+    }
+
+    @Override
+    Object evaluate(RFWVO vo) throws RFWException {
+      if (this.function == FieldFunction.COALESCE) {
+        for (Expression param : this.params) {
+          final Object value = param.evaluate(vo);
+          if (value != null) return value;
+        }
+        return null;
+      }
+      final Object a = this.params[0].evaluate(vo);
+      if (a == null) return null;
+      final Object b = this.params[1].evaluate(vo);
+      if (b == null) return null;
+      if (!(a instanceof Number) || !(b instanceof Number)) throw new RFWCriticalException("A função '${0}' da agregação só aceita valores numéricos.", new String[] { this.function.name() });
+      final BigDecimal da = toDecimal((Number) a);
+      final BigDecimal db = toDecimal((Number) b);
+      switch (this.function) {
+        case MULTIPLY:
+          return da.multiply(db);
+        case SUBTRACT:
+          return da.subtract(db);
+        default:
+          if (db.signum() == 0) return null;
+          return da.divide(db, MathContext.DECIMAL128);
+      }
+    }
+  }
+
+  /**
+   * Quantidade de VOs (não nulos) agregados.
+   */
+  private final long rowCount;
+
+  /**
+   * Colunas da agregação, na ordem em que foram definidas.
+   */
+  private final List<Column> columns;
+
+  private RFWAggregation(long rowCount, List<Column> columns) {
+    this.rowCount = rowCount;
+    this.columns = Collections.unmodifiableList(columns);
+  }
+
+  /**
+   * Retorna a quantidade de VOs agregados. Itens nulos da lista não são contados.
+   */
+  public long getRowCount() {
+    return this.rowCount;
+  }
+
+  /**
+   * Retorna as colunas da agregação, na ordem em que foram definidas.
+   */
+  public List<Column> getColumns() {
+    return this.columns;
+  }
+
+  /**
+   * Retorna a coluna na posição passada, na ordem em que foram definidas.
+   */
+  public Column getColumn(int index) {
+    return this.columns.get(index);
+  }
+
+  /**
+   * Retorna o valor da coluna na posição passada, de acordo com a função que a definiu. Veja {@link Column#getValue()}.
+   */
+  public Object getValue(int index) {
+    return this.columns.get(index).getValue();
+  }
+
+  /**
+   * Agrega os VOs da lista. Veja {@link PreProcess#aggregate(Collection, int, Executor, RFWField...)}.
+   */
+  static RFWAggregation aggregate(Collection<? extends RFWVO> vos, int parallelThreshold, Executor executor, RFWField... fields) throws RFWException {
+    if (fields == null || fields.length == 0) throw new RFWCriticalException("Nenhuma coluna definida para a agregação.");
+    if (parallelThreshold < 1) throw new RFWCriticalException("O limite mínimo para o processamento em paralelo deve ser maior que zero.");
+    // Compila as expressões antes de percorrer a lista, validando as funções mesmo quando a lista está vazia
+    final Expression[] expressions = compileAll(fields);
+
+    final Column[] result = newColumns(fields);
+    long rowCount = 0;
+    if (vos != null && !vos.isEmpty()) {
+      final Object[] items = vos.toArray();
+      if (items.length >= parallelThreshold) {
+        rowCount = aggregateParallel(items, fields, result, executor == null ? ForkJoinPool.commonPool() : executor);
+      } else {
+        rowCount = aggregateRange(items, 0, items.length, expressions, result);
+      }
+    }
+    return new RFWAggregation(rowCount, Arrays.asList(result));
+  }
+
+  /**
+   * Divide a lista em alguns blocos por thread disponível, agrega cada bloco em uma tarefa do executor e junta os resultados parciais na ordem dos blocos.
+   */
+  private static long aggregateParallel(Object[] items, RFWField[] fields, Column[] result, Executor executor) throws RFWException {
+    final int parallelism = executor instanceof ForkJoinPool ? ((ForkJoinPool) executor).getParallelism() : Runtime.getRuntime().availableProcessors();
+    final int chunks = Math.min(items.length, Math.max(1, parallelism) * 4);
+    final Column[][] partials = new Column[chunks][];
+    final long[] rowCounts = new long[chunks];
+    final Throwable[] failures = new Throwable[chunks];
+    final CompletableFuture<?>[] futures = new CompletableFuture<?>[chunks];
+    try {
+      for (int chunk = 0; chunk < chunks; chunk++) {
+        final int index = chunk;
+        final int start = (int) ((long) items.length * chunk / chunks);
+        final int end = (int) ((long) items.length * (chunk + 1) / chunks);
+        futures[chunk] = CompletableFuture.runAsync(() -> {
+          try {
+            partials[index] = newColumns(fields);
+            rowCounts[index] = aggregateRange(items, start, end, compileAll(fields), partials[index]);
+          } catch (Throwable e) {
+            failures[index] = e;
+          }
+        }, executor);
+      }
+      CompletableFuture.allOf(futures).join();
+    } catch (RuntimeException e) {
+      throw new RFWCriticalException("Falha ao executar a agregação em paralelo.", e);
+    }
+    long rowCount = 0;
+    for (int chunk = 0; chunk < chunks; chunk++) {
+      if (failures[chunk] instanceof RFWException) throw (RFWException) failures[chunk];
+      if (failures[chunk] != null) throw new RFWCriticalException("Falha ao executar a agregação em paralelo.", failures[chunk]);
+      rowCount += rowCounts[chunk];
+      for (int i = 0; i < result.length; i++) {
+        result[i].merge(partials[chunk][i]);
+      }
+    }
+    return rowCount;
+  }
+
+  /**
+   * Agrega sequencialmente os itens do intervalo [start, end) da lista, em uma única passada por todas as colunas.
+   *
+   * @return Quantidade de VOs agregados.
+   */
+  private static long aggregateRange(Object[] items, int start, int end, Expression[] expressions, Column[] columns) throws RFWException {
+    long rowCount = 0;
+    for (int i = start; i < end; i++) {
+      final RFWVO vo = (RFWVO) items[i];
+      if (vo == null) continue;
+      rowCount++;
+      for (int c = 0; c < columns.length; c++) {
+        columns[c].add(expressions[c].evaluate(vo));
+      }
+    }
+    return rowCount;
+  }
+
+  private static Column[] newColumns(RFWField[] fields) {
+    final Column[] columns = new Column[fields.length];
+    for (int i = 0; i < fields.length; i++) {
+      columns[i] = new Column(fields[i]);
+    }
+    return columns;
+  }
+
+  private static Expression[] compileAll(RFWField[] fields) throws RFWException {
+    final Expression[] expressions = new Expression[fields.length];
+    for (int i = 0; i < fields.length; i++) {
+      if (fields[i] == null) throw new RFWCriticalException("A coluna ${0} da agregação está nula.", new String[] { "" + i });
+      expressions[i] = compile(fields[i]);
+    }
+    return expressions;
+  }
+
+  /**
+   * Compila a expressão do {@link RFWField}. As funções de agregação (SUM, MINIMUM, MAXIMUM e COUNT) definem apenas como o valor da coluna é lido pelo {@link Column#getValue()}, o valor acumulado é o do seu atributo ou parâmetro.
+   */
+  private static Expression compile(RFWField field) throws RFWException {
+    switch (field.getFunction()) {
+      case FIELD:
+        return new AttributeExpression(field.getField());
+      case SUM:
+      case MINIMUM:
+      case MAXIMUM:
+      case COUNT:
+        if (field.getField() != null) return new AttributeExpression(field.getField());
+        if (field.getFunction() == FieldFunction.COUNT && field.getAttributes().isEmpty()) return new ConstantExpression(Boolean.TRUE);
+        return compile(field.getFunctionParam().getFirst());
+      case CONSTANTE_NUMBER:
+      case CONSTANTE_STRING:
+        return new ConstantExpression(field.getConstantValue());
+      case CONSTANT_NULL:
+        return new ConstantExpression(null);
+      case MULTIPLY:
+      case SUBTRACT:
+      case DIVIDE:
+      case COALESCE: {
+        final LinkedList<RFWField> params = field.getFunctionParam();
+        final Expression[] compiled = new Expression[params.size()];
+        int i = 0;
+        for (RFWField param : params) {
+          compiled[i++] = compile(param);
+        }
+        return new FunctionExpression(field.getFunction(), compiled);
+      }
+      default:
+        throw new RFWCriticalException("A função '${0}' não é suportada na agregação em memória.", new String[] { field.getFunction().name() });
+    }
+  }
+
+  /**
+   * Identifica o tipo de acumulador necessário para o valor.
+   */
+  private static Kind kindOf(Object value) throws RFWException {
+    if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) return Kind.LONG;
+    if (value instanceof Double || value instanceof Float) return Kind.DOUBLE;
+    if (value instanceof Number) return Kind.DECIMAL;
+    if (value instanceof Comparable) return Kind.COMPARABLE;
+    throw new RFWCriticalException("O valor do tipo '${0}' não pode ser agregado.", new String[] { value.getClass().getCanonicalName() });
+  }
+
+  /**
+   * Descreve a coluna nas mensagens de erro, como "SUM(a.b)".
+   */
+  private static String describe(RFWField field) {
+    return field.getFunction() + "(" + String.join(", ", field.getAttributes()) + ")";
+  }
+
+  private static BigDecimal toDecimal(Number value) {
+    if (value instanceof BigDecimal) return (BigDecimal) value;
+    if (value instanceof BigInteger) return new BigDecimal((BigInteger) value);
+    if (value instanceof Double || value instanceof Float) return BigDecimal.valueOf(value.doubleValue());
+    return BigDecimal.valueOf(value.longValue());
+  }
+}
@@ -0,0 +1,399 @@
+package br.eng.rodrigogml.rfw.kernel.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.JavaFileObject;
+
+import br.eng.rodrigogml.rfw.kernel.vo.RFWAttributePath;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWVO;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWVOAccessor;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWVOMeta;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWVO_;
+
+/**
+ * Description: Annotation Processor opcional que gera, em tempo de compilação, as classes de acesso ({@link RFWVOAccessor}) e os Meta Objects ({@link RFWVO_}) de todos os {@link RFWVO} do projeto.<br>
+ * <br>
+ * Para cada classe de primeiro nível que estenda {@link RFWVO} são geradas:
+ * <li><b>&lt;VO&gt;{@value RFWVOAccessor#SUFFIX}</b>: implementação do {@link RFWVOAccessor}, com a tabela de atributos (nome, tipo, caption e required da RFWMeta) e os métodos get/set por ordinal chamando diretamente os métodos do VO. Quando presente, o {@link RFWVOMeta} passa a utilizá-la no lugar da reflexão.
+ * <li><b>&lt;VO&gt;_</b>: Meta Object com um método para cada atributo retornando seu caminho. Atributos do tipo {@link RFWVO} (ou coleções de {@link RFWVO}) retornam o Meta Object do tipo, permitindo a navegação. Não é gerado se já existir uma classe com este nome no projeto.
+ * <br>
+ * O processador não é registrado automaticamente (não há arquivo META-INF/services), para que não seja executado em todo projeto que dependa do kernel. Para utilizá-lo basta declará-lo no compilador, ex: <code>javac -processor br.eng.rodrigogml.rfw.kernel.processor.RFWVOProcessor</code> ou na configuração
+ * &lt;annotationProcessors&gt; do maven-compiler-plugin.<br>
+ * <br>
+ * Opções aceitas (-A):
+ * <li><b>rfw.generateAccessors</b>: true/false, padrão true.
+ * <li><b>rfw.generateMetaObjects</b>: true/false, padrão true.
+ *
+ * @author Rodrigo GML
+ * @since 1.0.0 (17 de out. de 2026)
+ */
+public class RFWVOProcessor extends AbstractProcessor {
+
+  /**
+   * Opção para habilitar/desabilitar a geração das classes de acesso.
+   */
+  public static final String OPTION_GENERATEACCESSORS = "rfw.generateAccessors";
+
+  /**
+   * Opção para habilitar/desabilitar a geração dos Meta Objects.
+   */
+  public static final String OPTION_GENERATEMETAOBJECTS = "rfw.generateMetaObjects";
+
+  /**
+   * Prefixo do nome das RFWMeta Annotations.
+   */
+  private static final String RFWMETAPREFIX = "br.eng.rodrigogml.rfw.kernel.rfwmeta.RFWMeta";
+
+  /**
+   * Classes já processadas, para não gerar os arquivos duas vezes em rounds diferentes.
+   */
+  private final Set<String> processed = new HashSet<>();
+
+  /**
+   * Meta Objects gerados por este processador. Apenas eles têm com certeza o construtor com {@link RFWAttributePath}, os Meta Objects escritos manualmente são navegados pelo construtor com String.
+   */
+  private final Set<String> generatedMetaObjects = new HashSet<>();
+
+  /**
+   * Definição de um atributo encontrado no VO.
+   */
+  private static class FieldInfo {
+    String name;
+    String getter;
+    String setter;
+    String type;
+    String typeLiteral;
+    String caption;
+    Boolean required;
+    TypeElement voType;
+  }
+
+  @Override
+  public Set<String> getSupportedAnnotationTypes() {
+    return Collections.singleton("*");
+  }
+
+  @Override
+  public Set<String> getSupportedOptions() {
+    final Set<String> options = new HashSet<>();
+    options.add(OPTION_GENERATEACCESSORS);
+    options.add(OPTION_GENERATEMETAOBJECTS);
+    return options;
+  }
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    final TypeElement rfwvo = processingEnv.getElementUtils().getTypeElement(RFWVO.class.getCanonicalName());
+    if (rfwvo == null) return false;
+
+    final boolean generateAccessors = !"false".equalsIgnoreCase(processingEnv.getOptions().get(OPTION_GENERATEACCESSORS));
+    final boolean generateMetaObjects = !"false".equalsIgnoreCase(processingEnv.getOptions().get(OPTION_GENERATEMETAOBJECTS));
+
+    final List<TypeElement> voTypes = new ArrayList<>();
+    for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+      if (type.getKind() != ElementKind.CLASS || type.getNestingKind() != NestingKind.TOP_LEVEL) continue;
+      if (type.getQualifiedName().contentEquals(rfwvo.getQualifiedName())) continue;
+      if (!processingEnv.getTypeUtils().isSubtype(processingEnv.getTypeUtils().erasure(type.asType()), processingEnv.getTypeUtils().erasure(rfwvo.asType()))) continue;
+      if (!processed.add(type.getQualifiedName().toString())) continue;
+      voTypes.add(type);
+    }
+
+    if (generateMetaObjects) {
+      for (TypeElement type : voTypes) {
+        final String metaName = type.getQualifiedName().toString() + "_";
+        if (processingEnv.getElementUtils().getTypeElement(metaName) == null) generatedMetaObjects.add(metaName);
+      }
+    }
+
+    for (TypeElement type : voTypes) {
+      try {
+        final List<FieldInfo> fields = collectFields(type, rfwvo);
+        if (generateAccessors) writeAccessor(type, fields);
+        if (generateMetaObjects) writeMetaObject(type, fields);
+      } catch (IOException e) {
+        processingEnv.getMessager().printMessage(Kind.ERROR, "Falha ao gerar as classes do RFWVOProcessor: " + e.getMessage(), type);
+      }
+    }
+    // Não "reivindicamos" nenhuma annotation, deixando-as livres para outros processadores
+    return false;
+  }
+
+  /**
+   * Coleta os atributos da classe e das classes pai (até o {@link RFWVO}, exclusive) que tenham um método get público.
+   */
+  private List<FieldInfo> collectFields(TypeElement type, TypeElement rfwvo) {
+    final LinkedHashMap<String, FieldInfo> fields = new LinkedHashMap<>();
+    final List<? extends Element> members = processingEnv.getElementUtils().getAllMembers(type);
+
+    TypeElement current = type;
+    while (current != null && !current.getQualifiedName().contentEquals(rfwvo.getQualifiedName())) {
+      for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+        if (field.getModifiers().contains(Modifier.STATIC)) continue;
+        final String name = field.getSimpleName().toString();
+        if (fields.containsKey(name)) continue; // Atributo já declarado em uma subclasse
+
+        final String capName = name.substring(0, 1).toUpperCase() + name.substring(1);
+        final ExecutableElement getter = findMethod(members, new String[] { "get" + capName, "is" + capName, "are" + capName }, null);
+        if (getter == null) continue;
+        final ExecutableElement setter = findMethod(members, new String[] { "set" + capName }, getter.getReturnType());
+
+        final FieldInfo info = new FieldInfo();
+        info.name = name;
+        info.getter = getter.getSimpleName().toString();
+        info.setter = setter != null ? setter.getSimpleName().toString() : null;
+        final TypeMirror erasure = processingEnv.getTypeUtils().erasure(getter.getReturnType());
+        info.type = erasure.getKind().isPrimitive() ? processingEnv.getTypeUtils().boxedClass((PrimitiveType) erasure).getQualifiedName().toString() : erasure.toString();
+        info.typeLiteral = erasure.toString() + ".class";
+        info.voType = findVOType(field.asType(), rfwvo);
+        readRFWMeta(field, info);
+        fields.put(name, info);
+      }
+      final TypeMirror superclass = current.getSuperclass();
+      current = superclass.getKind() == TypeKind.DECLARED ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+    }
+    return new ArrayList<>(fields.values());
+  }
+
+  /**
+   * Procura um método público, não estático, com um dos nomes passados. Se parameterType for null procura um método sem parâmetros, caso contrário um método com um único parâmetro do tipo passado.
+   */
+  private ExecutableElement findMethod(List<? extends Element> members, String[] names, TypeMirror parameterType) {
+    for (String name : names) {
+      for (ExecutableElement method : ElementFilter.methodsIn(members)) {
+        if (!method.getSimpleName().contentEquals(name) || !method.getModifiers().contains(Modifier.PUBLIC) || method.getModifiers().contains(Modifier.STATIC)) continue;
+        if (parameterType == null) {
+          if (method.getParameters().isEmpty() && method.getReturnType().getKind() != TypeKind.VOID) return method;
+        } else if (method.getParameters().size() == 1 && processingEnv.getTypeUtils().isSameType(processingEnv.getTypeUtils().erasure(method.getParameters().get(0).asType()), processingEnv.getTypeUtils().erasure(parameterType))) {
+          return method;
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Verifica se o tipo é um {@link RFWVO} ou uma coleção/hash de {@link RFWVO}, retornando a classe do VO para a navegação no Meta Object.
+   */
+  private TypeElement findVOType(TypeMirror type, TypeElement rfwvo) {
+    if (type.getKind() != TypeKind.DECLARED) return null;
+    final DeclaredType declared = (DeclaredType) type;
+    final TypeElement element = (TypeElement) declared.asElement();
+    if (processingEnv.getTypeUtils().isSubtype(processingEnv.getTypeUtils().erasure(type), processingEnv.getTypeUtils().erasure(rfwvo.asType()))) {
+      return element.getQualifiedName().contentEquals(rfwvo.getQualifiedName()) || element.getNestingKind() != NestingKind.TOP_LEVEL ? null : element;
+    }
+    // Em Listas o VO é o único generics, nas hashs o segundo (valor)
+    final List<? extends TypeMirror> args = declared.getTypeArguments();
+    if (!args.isEmpty()) return findVOType(args.get(args.size() - 1), rfwvo);
+    return null;
+  }
+
+  /**
+   * Lê os valores de caption e required da primeira RFWMeta Annotation do atributo.
+   */
+  private void readRFWMeta(VariableElement field, FieldInfo info) {
+    for (AnnotationMirror ann : field.getAnnotationMirrors()) {
+      final String annName = ((TypeElement) ann.getAnnotationType().asElement()).getQualifiedName().toString();
+      if (annName.startsWith(RFWMETAPREFIX)) {
+        for (Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : processingEnv.getElementUtils().getElementValuesWithDefaults(ann).entrySet()) {
+          final String attr = entry.getKey().getSimpleName().toString();
+          final Object value = entry.getValue().getValue();
+          if ("caption".equals(attr) && value instanceof String) {
+            info.caption = (String) value;
+          } else if ("required".equals(attr) && value instanceof Boolean) {
+            info.required = (Boolean) value;
+          }
+        }
+        break;
+      }
+    }
+  }
+
+  /**
+   * Escreve a classe de acesso {@link RFWVOAccessor}.
+   */
+  private void writeAccessor(TypeElement type, List<FieldInfo> fields) throws IOException {
+    final String pack = getPackageName(type);
+    final String voName = type.getSimpleName().toString();
+    final String className = voName + RFWVOAccessor.SUFFIX;
+    final String accessorName = RFWVOAccessor.class.getCanonicalName();
+
+    final StringBuilder buff = new StringBuilder(4096);
+    if (!pack.isEmpty()) buff.append("package ").append(pack).append(";\n\n");
+    buff.append("/**\n * Classe gerada automaticamente pelo ").append(RFWVOProcessor.class.getCanonicalName()).append(". Nao altere!\n */\n");
+    buff.append("@SuppressWarnings({ \"unchecked\", \"rawtypes\" })\n");
+    buff.append("public final class ").append(className).append(" implements ").append(accessorName).append("<").append(voName).append("> {\n\n");
+
+    buff.append("  private static final String[] FIELDNAMES = { ");
+    for (int i = 0; i < fields.size(); i++) {
+      if (i > 0) buff.append(", ");
+      buff.append(quote(fields.get(i).name));
+    }
+    buff.append(" };\n\n");
+
+    buff.append("  private static final Class<?>[] FIELDTYPES = { ");
+    for (int i = 0; i < fields.size(); i++) {
+      if (i > 0) buff.append(", ");
+      buff.append(fields.get(i).typeLiteral);
+    }
+    buff.append(" };\n\n");
+
+    buff.append("  private static final String[] FIELDCAPTIONS = { ");
+    for (int i = 0; i < fields.size(); i++) {
+      if (i > 0) buff.append(", ");
+      buff.append(fields.get(i).caption == null ? "null" : quote(fields.get(i).caption));
+    }
+    buff.append(" };\n\n");
+
+    buff.append("  private static final Boolean[] FIELDREQUIRED = { ");
+    for (int i = 0; i < fields.size(); i++) {
+      if (i > 0) buff.append(", ");
+      buff.append(fields.get(i).required == null ? "null" : "Boolean." + (fields.get(i).required ? "TRUE" : "FALSE"));
+    }
+    buff.append(" };\n\n");
+
+    buff.append("  @Override\n  public Class<").append(voName).append("> getVOClass() {\n    return ").append(voName).append(".class;\n  }\n\n");
+    buff.append("  @Override\n  public String[] getFieldNames() {\n    return FIELDNAMES.clone();\n  }\n\n");
+    buff.append("  @Override\n  public Class<?>[] getFieldTypes() {\n    return FIELDTYPES.clone();\n  }\n\n");
+    buff.append("  @Override\n  public String[] getFieldCaptions() {\n    return FIELDCAPTIONS.clone();\n  }\n\n");
+    buff.append("  @Override\n  public Boolean[] getFieldRequired() {\n    return FIELDREQUIRED.clone();\n  }\n\n");
+
+    buff.append("  @Override\n  public int getFieldIndex(String fieldName) {\n    switch (fieldName) {\n");
+    for (int i = 0; i < fields.size(); i++) {
+      buff.append("      case ").append(quote(fields.get(i).name)).append(":\n        return ").append(i).append(";\n");
+    }
+    buff.append("      default:\n        return -1;\n    }\n  }\n\n");
+
+    buff.append("  @Override\n  public Object get(").append(voName).append(" vo, int ordinal) {\n    switch (ordinal) {\n");
+    for (int i = 0; i < fields.size(); i++) {
+      buff.append("      case ").append(i).append(":\n        return vo.").append(fields.get(i).getter).append("();\n");
+    }
+    buff.append("      default:\n        throw new IndexOutOfBoundsException(\"Ordinal invalido: \" + ordinal);\n    }\n  }\n\n");
+
+    buff.append("  @Override\n  public void set(").append(voName).append(" vo, int ordinal, Object value) {\n    switch (ordinal) {\n");
+    for (int i = 0; i < fields.size(); i++) {
+      final FieldInfo info = fields.get(i);
+      // Atributos sem método set não são atendidos, o RFWVOFieldMeta utiliza a reflexão e reporta a falha
+      if (info.setter == null) continue;
+      buff.append("      case ").append(i).append(":\n        vo.").append(info.setter).append("((").append(info.type).append(") value);\n        break;\n");
+    }
+    buff.append("      default:\n        throw new IndexOutOfBoundsException(\"Ordinal invalido: \" + ordinal);\n    }\n  }\n}\n");
+
+    write(type, (pack.isEmpty() ? "" : pack + ".") + className, buff);
+  }
+
+  /**
+   * Escreve o Meta Object {@link RFWVO_}, caso ainda não exista uma classe com o mesmo nome.
+   */
+  private void writeMetaObject(TypeElement type, List<FieldInfo> fields) throws IOException {
+    final String pack = getPackageName(type);
+    final String className = type.getSimpleName().toString() + "_";
+    final String qualifiedName = (pack.isEmpty() ? "" : pack + ".") + className;
+    if (processingEnv.getElementUtils().getTypeElement(qualifiedName) != null) return;
+
+    final StringBuilder buff = new StringBuilder(2048);
+    if (!pack.isEmpty()) buff.append("package ").append(pack).append(";\n\n");
+    buff.append("/**\n * Meta Object gerado automaticamente pelo ").append(RFWVOProcessor.class.getCanonicalName()).append(". Nao altere!\n */\n");
+    buff.append("public class ").append(className).append(" extends ").append(RFWVO_.class.getCanonicalName()).append(" {\n\n");
+    buff.append("  private static final long serialVersionUID = 1L;\n\n");
+    buff.append("  public static final ").append(className).append(" _this = new ").append(className).append("();\n\n");
+    buff.append("  public ").append(className).append("() {\n    super();\n  }\n\n");
+    buff.append("  public ").append(className).append("(String basepath) {\n    super(basepath);\n  }\n\n");
+    buff.append("  public ").append(className).append("(").append(RFWAttributePath.class.getCanonicalName()).append(" basepath) {\n    super(basepath);\n  }\n");
+
+    for (FieldInfo info : fields) {
+      // "id", "path" e "attributePath" já são definidos no RFWVO_
+      if ("id".equals(info.name) || "path".equals(info.name) || "attributePath".equals(info.name)) continue;
+      buff.append("\n");
+      // Só navegamos para o Meta Object do VO associado se ele já existir ou estiver sendo gerado, caso contrário o atributo é tratado como um caminho simples
+      if (info.voType != null && (processed.contains(info.voType.getQualifiedName().toString()) || processingEnv.getElementUtils().getTypeElement(info.voType.getQualifiedName().toString() + "_") != null)) {
+        final String metaName = info.voType.getQualifiedName().toString() + "_";
+        // Entre os Meta Objects gerados a navegação passa o RFWAttributePath, e a String só é montada quando o caminho de um atributo é solicitado
+        final String pathMethod = generatedMetaObjects.contains(metaName) ? "attributePath(" : "getAttributePath(";
+        buff.append("  public ").append(metaName).append(" ").append(info.name).append("() {\n    return new ").append(metaName).append("(").append(pathMethod).append(quote(info.name)).append("));\n  }\n");
+      } else {
+        buff.append("  public String ").append(info.name).append("() {\n    return getAttributePath(").append(quote(info.name)).append(");\n  }\n");
+      }
+    }
+    buff.append("}\n");
+
+    write(type, qualifiedName, buff);
+  }
+
+  private void write(TypeElement origin, String qualifiedName, StringBuilder content) throws IOException {
+    final JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, origin);
+    try (Writer writer = file.openWriter()) {
+      writer.write(content.toString());
+    }
+  }
+
+  private String getPackageName(TypeElement type) {
+    final PackageElement pack = processingEnv.getElementUtils().getPackageOf(type);
+    return pack.isUnnamed() ? "" : pack.getQualifiedName().toString();
+  }
+
+  /**
+   * Cria o literal Java de uma String, escapando os caracteres especiais.
+   */
+  private static String quote(String value) {
+    final StringBuilder buff = new StringBuilder(value.length() + 2).append('"');
+    for (int i = 0; i < value.length(); i++) {
+      final char c = value.charAt(i);
+      switch (c) {
+        case '"':
+          buff.append("\\\"");
+          break;
+        case '\\':
+          buff.append("\\\\");
+          break;
+        case '\n':
+          buff.append("\\n");
+          break;
+        case '\r':
+          buff.append("\\r");
+          break;
+        case '\t':
+          buff.append("\\t");
+          break;
+        default:
+          if (c < 0x20 || c > 0x7E) {
+            buff.append(String.format("\\u%04x", (int) c));
+          } else {
+            buff.append(c);
+          }
+      }
+    }
+    return buff.append('"').toString();
+  }
+}
@@ -5,7 +5,9 @@ import java.io.ByteArrayOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -17,24 +19,117 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import br.eng.rodrigogml.rfw.kernel.exceptions.RFWCriticalException;
 import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
 import br.eng.rodrigogml.rfw.kernel.logger.RFWLogger;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWCloneContext;
 import br.eng.rodrigogml.rfw.kernel.vo.RFWRecursiveClonable;
 
 /**
  * Description: Classe utilitária que ajuda a implementação da interface {@link RFWRecursiveClonable}.<br>
+ * A análise de cada classe (pares de métodos get/set e o tipo de valor de cada atributo) é feita uma única vez e mantida em cache como um "plano de clone".
  *
  * @author Rodrigo Leitão
  * @since 7.1.0 (18/02/2016)
  */
 public class RURecursiveClone {
 
-  @SuppressWarnings({ "unchecked", "rawtypes" })
+  /**
+   * Classificação do valor de um atributo, definida pelo tipo de retorno do método get.
+   */
+  private static enum ValueKind {
+    /**
+     * Objetos imutáveis (e tipos primitivos), que são apenas copiados para o novo objeto.
+     */
+    IMMUTABLE,
+    /**
+     * Array de tipo primitivo, que é duplicado com o método clone() do array.
+     */
+    PRIMITIVEARRAY,
+    /**
+     * Objeto que implementa {@link RFWRecursiveClonable}.
+     */
+    CLONABLE,
+    /**
+     * Tipo que não pode ser definido pela declaração do método (List, Map, Object, interfaces, etc.). A classificação é feita no objeto recebido.
+     */
+    DYNAMIC
+  }
+
+  /**
+   * Par de métodos get/set de um atributo.
+   */
+  private static final class CloneProperty {
+    /**
+     * Nome do atributo, utilizado para montar o caminho no {@link RFWCloneContext}.
+     */
+    final String name;
+    final MethodHandle getter;
+    final MethodHandle setter;
+    final ValueKind kind;
+
+    CloneProperty(String name, Method getter, Method setter) throws IllegalAccessException {
+      this.name = name;
+      this.getter = toHandle(getter).asType(MethodType.methodType(Object.class, Object.class));
+      this.setter = toHandle(setter).asType(MethodType.methodType(void.class, Object.class, Object.class));
+      this.kind = classify(getter.getReturnType());
+    }
+  }
+
+  /**
+   * Planos de clone já montados, indexados pela classe.
+   */
+  private static final ConcurrentHashMap<Class<?>, CloneProperty[]> planCache = new ConcurrentHashMap<>();
+
+  /**
+   * Clona apenas parte do grafo de objetos.<br>
+   * Atributos simples são sempre copiados. Atributos que apontam para outros objetos clonáveis, List ou Map, só são clonados se fizerem parte do filtro, caso contrário mantém o valor que o novo objeto recebeu ao ser criado.
+   *
+   * @param obj Objeto a ser clonado.
+   * @param attributes Caminhos dos atributos a serem clonados, no mesmo formato utilizado no findByID do RFWDAO (ex: "itemList.product"). Null para não filtrar pelos atributos.
+   * @param maxDepth Profundidade máxima dos objetos a serem clonados, sendo o objeto raiz a profundidade 0. Valores negativos indicam que não há limite.
+   * @return Objeto clonado.
+   * @throws RFWException Lançado caso ocorra alguma falha ao clonar os objetos.
+   */
+  @SuppressWarnings("unchecked")
+  public static <T extends RFWRecursiveClonable> T cloneRecursive(T obj, String[] attributes, int maxDepth) throws RFWException {
+    return (T) obj.cloneRecursive(new RFWCloneContext(attributes, maxDepth));
+  }
+
+  /**
+   * Clona o objeto recursivamente.<br>
+   * A hash compara os objetos pelo equals/hashCode, e como o hashCode do RFWVO é baseado no ID, grafos grandes de objetos ainda não persistidos têm a busca degradada. Nestes casos é recomendado utilizar o {@link #cloneRecursive(RFWRecursiveClonable, RFWCloneContext)}.
+   *
+   * @param obj Objeto a ser clonado.
+   * @param clonedObjects Hash com os objetos já clonados, utilizada para manter as referências cíclicas e objetos compartilhados no grafo.
+   * @return Objeto clonado.
+   * @throws RFWException Lançado caso ocorra alguma falha ao clonar os objetos.
+   */
   public static RFWRecursiveClonable cloneRecursive(RFWRecursiveClonable obj, HashMap<RFWRecursiveClonable, RFWRecursiveClonable> clonedObjects) throws RFWException {
+    return cloneRecursive(obj, clonedObjects, null);
+  }
+
+  /**
+   * Clona o objeto recursivamente mantendo os objetos já clonados pela referência, e clonando apenas a parte do grafo aceita pelo contexto.
+   *
+   * @param obj Objeto a ser clonado.
+   * @param context Contexto do clone em andamento.
+   * @return Objeto clonado.
+   * @throws RFWException Lançado caso ocorra alguma falha ao clonar os objetos.
+   */
+  public static RFWRecursiveClonable cloneRecursive(RFWRecursiveClonable obj, RFWCloneContext context) throws RFWException {
+    return cloneRecursive(obj, null, context);
+  }
+
+  /**
+   * Implementação do clone recursivo. Apenas um entre clonedObjects e context é informado, e define qual método cloneRecursive é chamado nos objetos filhos.
+   */
+  private static RFWRecursiveClonable cloneRecursive(RFWRecursiveClonable obj, HashMap<RFWRecursiveClonable, RFWRecursiveClonable> clonedObjects, RFWCloneContext context) throws RFWException {
     // Veririca se já estamos na hash, se estiver retornamos esse objeto
-    RFWRecursiveClonable cloned = clonedObjects.get(obj);
+    RFWRecursiveClonable cloned = context != null ? context.get(obj) : clonedObjects.get(obj);
     if (cloned != null) {
       return cloned;
     }
@@ -51,136 +146,245 @@ public class RURecursiveClone {
     } catch (CloneNotSupportedException e1) {
       throw new RFWCriticalException(e1);
     }
-    clonedObjects.put(obj, clonedvo);
-    // Recupera a lista de métodos desse objeto
-    Method[] methods = obj.getClass().getMethods();
-    // Itera essa lista atrás de métodos do tipo "get" ou "is"
-    for (int i = 0; i < methods.length; i++) {
-      String methodname = methods[i].getName();
-      if (methodname.startsWith("get") || methodname.startsWith("is")) {
-        Method methodget = methods[i];
-        Class<?> returntype = methodget.getReturnType();
-        Method methodset = null;
+    if (context != null) {
+      context.put(obj, clonedvo);
+    } else {
+      clonedObjects.put(obj, clonedvo);
+    }
+
+    for (CloneProperty property : getClonePlan(obj.getClass())) {
+      final Object gettedvalue;
+      try {
+        gettedvalue = property.getter.invokeExact((Object) obj);
+      } catch (Error e) {
+        throw e;
+      } catch (Throwable e) {
+        RFWLogger.logException(e);
+        continue;
+      }
+      // Verifica se o retorno do método get não é nulo
+      if (gettedvalue != null) {
+        switch (property.kind) {
+          case IMMUTABLE:
+            // Objetos imutáveis não precisam ser clonados, já que eles não sofrem alteração basta apontar o novo vo para o mesmo objeto.
+            invokeSet(property, clonedvo, gettedvalue);
+            break;
+          case PRIMITIVEARRAY:
+            invokeSet(property, clonedvo, clonePrimitiveArray(gettedvalue));
+            break;
+          case CLONABLE:
+          case DYNAMIC:
+            cloneValue(property, clonedvo, gettedvalue, clonedObjects, context);
+            break;
+        }
+      }
+    }
+    return clonedvo;
+  }
+
+  /**
+   * Clona os valores cuja classificação depende do objeto recebido ou que precisam de clone recursivo.
+   */
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  private static void cloneValue(CloneProperty property, RFWRecursiveClonable clonedvo, Object gettedvalue, HashMap<RFWRecursiveClonable, RFWRecursiveClonable> clonedObjects, RFWCloneContext context) throws RFWException {
+    final boolean deep = gettedvalue instanceof RFWRecursiveClonable || gettedvalue instanceof List || gettedvalue instanceof Map;
+    // Atributos que levam a outras partes do grafo só são clonados se aceitos pelo filtro do contexto
+    if (deep && context != null && !context.accept(property.name)) {
+      // Mesmo fora do filtro, se o objeto já foi clonado em outra parte do grafo mantemos a referência para o clone
+      if (gettedvalue instanceof RFWRecursiveClonable) {
+        final RFWRecursiveClonable cloned = context.get((RFWRecursiveClonable) gettedvalue);
+        if (cloned != null) invokeSet(property, clonedvo, cloned);
+      }
+      return;
+    }
+    final String previousPath = deep && context != null ? context.enter(property.name) : null;
+    try {
+      // Verifica se o tipo de objeto é um dos que desejamos fazer o "deep clone"
+      if (gettedvalue instanceof RFWRecursiveClonable) {
+        RFWRecursiveClonable clonedvalue = cloneChild((RFWRecursiveClonable) gettedvalue, clonedObjects, context);
+        invokeSet(property, clonedvo, clonedvalue);
+      } else if (gettedvalue instanceof List) {
+        List clonedvalue = null;
+        if (gettedvalue instanceof ArrayList) {
+          clonedvalue = (List) ((ArrayList) gettedvalue).clone();
+        } else if (gettedvalue instanceof LinkedList) {
+          clonedvalue = (List) ((LinkedList) gettedvalue).clone();
+        } else {
+          throw new RFWCriticalException("O RURecursiveClone não suporta a List do tipo '${0}'.", new String[] { gettedvalue.getClass().getCanonicalName() });
+        }
+        clonedvalue.clear();
+        for (Object object : (List) gettedvalue) {
+          if (object instanceof RFWRecursiveClonable) {
+            clonedvalue.add(cloneChild((RFWRecursiveClonable) object, clonedObjects, context));
+          } else {
+            clonedvalue.add(object);
+          }
+        }
+        invokeSet(property, clonedvo, clonedvalue);
+      } else if (gettedvalue instanceof Map) {
+        if (gettedvalue instanceof HashMap) {
+          Map clonedvalue = (Map) ((HashMap) gettedvalue).clone();
+          clonedvalue.clear();
+
+          // Clonamos não só o valor, mas também a chave, em alguns casos a chave da Hash pode ser um próprio RFWVO como referência
+          for (Map.Entry entry : (Set<Map.Entry>) ((HashMap) gettedvalue).entrySet()) {
+            Object key = entry.getKey();
+            Object mapValue = entry.getValue();
+
+            if (key instanceof RFWRecursiveClonable) {
+              key = cloneChild((RFWRecursiveClonable) key, clonedObjects, context);
+            }
+
+            if (mapValue instanceof RFWRecursiveClonable) {
+              clonedvalue.put(key, cloneChild((RFWRecursiveClonable) mapValue, clonedObjects, context));
+            } else {
+              clonedvalue.put(key, mapValue);
+            }
+          }
+
+          invokeSet(property, clonedvo, clonedvalue);
+        } else {
+          throw new RFWCriticalException("O RURecursiveClone não suporta a Map do tipo '${0}'.", new String[] { gettedvalue.getClass().getCanonicalName() });
+        }
+      } else if (isImmutable(gettedvalue.getClass())) {
+        // Objetos imutáveis não precisam ser clonados, já que eles não sofrem alteração basta apontar o novo vo para o mesmo objeto.
+        invokeSet(property, clonedvo, gettedvalue);
+      } else if (gettedvalue.getClass().isArray() && gettedvalue.getClass().getComponentType().isPrimitive()) {
+        invokeSet(property, clonedvo, clonePrimitiveArray(gettedvalue));
+      } else if (gettedvalue instanceof Serializable) {
+        Object clonedValue;
         try {
-          int x = (methodname.startsWith("is") ? 2 : 3);
-          methodset = obj.getClass().getMethod("set" + methodname.substring(x, methodname.length()), returntype);
-        } catch (SecurityException e) {
-        } catch (NoSuchMethodException e) {
+          // Como um último recurso para garantir uma duplicação do objeto utilizamos o Serializable, serializando o objeto e desserializando, enganamos o java sobre manter a mesma referência de memória do objeto.
+          // O problema com este método é que se algum objeto dentro do serializable não for "serializável" ele vai explodir. Neste caso vamos lançar um erro círitico, para que o desenvolvedor melhore o objeto ou esta implementação do RecursiveClone
+          final ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+          final ObjectOutputStream oo = new ObjectOutputStream(byteStream);
+          oo.writeObject(gettedvalue);
+          oo.flush();
+          oo.close();
+
+          ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(byteStream.toByteArray()));
+          clonedValue = input.readObject();
+          input.close();
+        } catch (Exception e) {
+          throw new RFWCriticalException("RFW_ERR_200450", new String[] { gettedvalue.getClass().toString() }, e);
         }
-        // Verifica a existência do Método SET
-        if (methodset != null) {
-          // Verifica se o retorno do método get não é nulo
+        invokeSet(property, clonedvo, clonedValue);
+
+        // Vou logar como um erro a utilização do Serializable para chamar a atenção dos objetos que estão usando essa definição. Assim podemos melhorar a implementação desse método com o tempo
+        RFWLogger.logError("Utilizado Serializable Clone para o objeto: " + gettedvalue.getClass().toString());
+      }
+    } finally {
+      if (deep && context != null) context.leave(previousPath);
+    }
+  }
+
+  /**
+   * Clona o objeto filho pelo seu próprio método cloneRecursive, repassando o contexto ou a hash de objetos clonados recebida.
+   */
+  private static RFWRecursiveClonable cloneChild(RFWRecursiveClonable obj, HashMap<RFWRecursiveClonable, RFWRecursiveClonable> clonedObjects, RFWCloneContext context) throws RFWException {
+    return context != null ? obj.cloneRecursive(context) : obj.cloneRecursive(clonedObjects);
+  }
+
+  /**
+   * Se é um array de tipos primitivos apenas clonamos o array para que o array não seja o mesmo, mas os "objetos" dentro são imutáveis, logo não precisamos clona-los.
+   */
+  private static Object clonePrimitiveArray(Object gettedvalue) throws RFWCriticalException {
+    // Tenho um if para cada tipo porque não encontrei um jeito de clona-los ou copia-los sem fazer o cast
+    if (gettedvalue instanceof byte[])
+      return ((byte[]) gettedvalue).clone();
+    else if (gettedvalue instanceof boolean[])
+      return ((boolean[]) gettedvalue).clone();
+    else if (gettedvalue instanceof int[])
+      return ((int[]) gettedvalue).clone();
+    else if (gettedvalue instanceof float[])
+      return ((float[]) gettedvalue).clone();
+    else if (gettedvalue instanceof long[])
+      return ((long[]) gettedvalue).clone();
+    else if (gettedvalue instanceof double[])
+      return ((double[]) gettedvalue).clone();
+    else if (gettedvalue instanceof char[])
+      return ((char[]) gettedvalue).clone();
+    else if (gettedvalue instanceof short[]) return ((short[]) gettedvalue).clone();
+    throw new RFWCriticalException("RFW_ERR_200452", new String[] { gettedvalue.getClass().toString(), gettedvalue.getClass().getComponentType().toString() });
+  }
+
+  /**
+   * Chama o método set do atributo. Falhas na chamada do método são apenas registradas no log, sem interromper o clone dos demais atributos.
+   */
+  private static void invokeSet(CloneProperty property, Object clonedvo, Object value) {
+    try {
+      property.setter.invokeExact(clonedvo, value);
+    } catch (Error e) {
+      throw e;
+    } catch (Throwable e) {
+      RFWLogger.logException(e);
+    }
+  }
+
+  /**
+   * Recupera o plano de clone da classe: os pares de métodos get/set (ou is/set) públicos encontrados na classe. Na primeira chamada para cada classe a análise é feita e armazenada em cache.
+   */
+  private static CloneProperty[] getClonePlan(Class<?> clazz) {
+    CloneProperty[] plan = planCache.get(clazz);
+    if (plan == null) {
+      final ArrayList<CloneProperty> list = new ArrayList<>();
+      // Itera a lista de métodos atrás de métodos do tipo "get" ou "is"
+      for (Method methodget : clazz.getMethods()) {
+        String methodname = methodget.getName();
+        if ((methodname.startsWith("get") || methodname.startsWith("is")) && methodget.getParameterCount() == 0) {
+          int x = (methodname.startsWith("is") ? 2 : 3);
+          String name = methodname.substring(x);
+          Method methodset = null;
           try {
-            Object gettedvalue = methodget.invoke(obj);
-            if (gettedvalue != null) {
-              // Verifica se o tipo de objeto é um dos que desejamos fazer o "deep clone"
-              if (gettedvalue instanceof RFWRecursiveClonable) {
-                RFWRecursiveClonable clonedvalue = ((RFWRecursiveClonable) gettedvalue).cloneRecursive(clonedObjects);
-                methodset.invoke(clonedvo, clonedvalue);
-              } else if (List.class.isAssignableFrom(gettedvalue.getClass())) {
-                List clonedvalue = null;
-                if (gettedvalue instanceof ArrayList) {
-                  clonedvalue = (List) ((ArrayList) gettedvalue).clone();
-                } else if (gettedvalue instanceof LinkedList) {
-                  clonedvalue = (List) ((LinkedList) gettedvalue).clone();
-                } else {
-                  throw new RFWCriticalException("O RURecursiveClone não suporta a List do tipo '${0}'.", new String[] { gettedvalue.getClass().getCanonicalName() });
-                }
-                clonedvalue.clear();
-                for (Object object : (List) gettedvalue) {
-                  if (object instanceof RFWRecursiveClonable) {
-                    clonedvalue.add(((RFWRecursiveClonable) object).cloneRecursive(clonedObjects));
-                  } else {
-                    clonedvalue.add(object);
-                  }
-                }
-                methodset.invoke(clonedvo, clonedvalue);
-              } else if (Map.class.isAssignableFrom(gettedvalue.getClass())) {
-                Map clonedvalue = null;
-                if (gettedvalue instanceof HashMap) {
-                  clonedvalue = (Map) ((HashMap) gettedvalue).clone();
-                  clonedvalue.clear();
-
-                  // Clonamos não só o valor, mas também a chave, em alguns casos a chave da Hash pode ser um próprio RFWVO como referência
-                  for (Object key : ((HashMap) gettedvalue).keySet()) {
-                    Object mapValue = ((HashMap) gettedvalue).get(key); // Recupera antes de clonar a chave ou não encontramos nada.
-
-                    if (key instanceof RFWRecursiveClonable) {
-                      key = ((RFWRecursiveClonable) key).cloneRecursive(clonedObjects);
-                    }
-
-                    if (mapValue instanceof RFWRecursiveClonable) {
-                      clonedvalue.put(key, ((RFWRecursiveClonable) mapValue).cloneRecursive(clonedObjects));
-                    } else {
-                      clonedvalue.put(key, mapValue);
-                    }
-                  }
-
-                  methodset.invoke(clonedvo, clonedvalue);
-                } else {
-                  throw new RFWCriticalException("O RURecursiveClone não suporta a Map do tipo '${0}'.", new String[] { gettedvalue.getClass().getCanonicalName() });
-                }
-              } else if (gettedvalue instanceof String || gettedvalue instanceof Long || gettedvalue instanceof Integer || gettedvalue instanceof BigDecimal || gettedvalue instanceof LocalDate || gettedvalue instanceof LocalDateTime || gettedvalue instanceof LocalTime || gettedvalue instanceof Byte || gettedvalue instanceof Character || gettedvalue instanceof Boolean || gettedvalue instanceof Double || gettedvalue instanceof Float || gettedvalue instanceof Date || gettedvalue instanceof Enum<?>) {
-                // Objetos imutáveis não precisam ser clonados, já que eles não sofrem alteração basta apontar o novo vo para o mesmo objeto.
-                methodset.invoke(clonedvo, gettedvalue);
-              } else if (gettedvalue.getClass().isArray() && gettedvalue.getClass().getComponentType().isPrimitive()) {
-                // Se éum array de tipos primitivos apenas clonamos o array para que o array não seja o mesmo, mas os "objetos" dentro são imutáveis, logo não precisamos clona-los
-                Object clonedvalue = null;
-                // Tenho um if para cada tipo porque não encontrei um jeito de clona-los ou copia-los sem fazer o cast
-                if (gettedvalue instanceof byte[])
-                  clonedvalue = ((byte[]) gettedvalue).clone();
-                else if (gettedvalue instanceof boolean[])
-                  clonedvalue = ((boolean[]) gettedvalue).clone();
-                else if (gettedvalue instanceof int[])
-                  clonedvalue = ((int[]) gettedvalue).clone();
-                else if (gettedvalue instanceof float[])
-                  clonedvalue = ((float[]) gettedvalue).clone();
-                else if (gettedvalue instanceof long[])
-                  clonedvalue = ((long[]) gettedvalue).clone();
-                else if (gettedvalue instanceof double[])
-                  clonedvalue = ((double[]) gettedvalue).clone();
-                else if (gettedvalue instanceof char[])
-                  clonedvalue = ((char[]) gettedvalue).clone();
-                else if (gettedvalue instanceof short[]) clonedvalue = ((short[]) gettedvalue).clone();
-
-                if (clonedvalue != null) {
-                  methodset.invoke(clonedvo, clonedvalue);
-                } else {
-                  throw new RFWCriticalException("RFW_ERR_200452", new String[] { gettedvalue.getClass().toString(), gettedvalue.getClass().getComponentType().toString() });
-                }
-              } else if (gettedvalue instanceof Serializable) {
-                try {
-                  // Como um último recurso para garantir uma duplicação do objeto utilizamos o Serializable, serializando o objeto e desserializando, enganamos o java sobre manter a mesma referência de memória do objeto.
-                  // O problema com este método é que se algum objeto dentro do serializable não for "serializável" ele vai explodir. Neste caso vamos lançar um erro círitico, para que o desenvolvedor melhore o objeto ou esta implementação do RecursiveClone
-                  final ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
-                  final ObjectOutputStream oo = new ObjectOutputStream(byteStream);
-                  oo.writeObject(gettedvalue);
-                  oo.flush();
-                  oo.close();
-
-                  ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(byteStream.toByteArray()));
-                  Object clonedValue = input.readObject();
-                  input.close();
-
-                  methodset.invoke(clonedvo, clonedValue);
-
-                  // Vou logar como um erro a utilização do Serializable para chamar a atenção dos objetos que estão usando essa definição. Assim podemos melhorar a implementação desse método com o tempo
-                  RFWLogger.logError("Utilizado Serializable Clone para o objeto: " + gettedvalue.getClass().toString());
-                } catch (Exception e) {
-                  throw new RFWCriticalException("RFW_ERR_200450", new String[] { gettedvalue.getClass().toString() }, e);
-                }
-              }
+            methodset = clazz.getMethod("set" + name, methodget.getReturnType());
+          } catch (SecurityException e) {
+          } catch (NoSuchMethodException e) {
+          }
+          // Verifica a existência do Método SET
+          if (methodset != null) {
+            try {
+              if (name.length() > 0) name = Character.toLowerCase(name.charAt(0)) + name.substring(1);
+              list.add(new CloneProperty(name, methodget, methodset));
+            } catch (IllegalAccessException e) {
+              RFWLogger.logException(e);
             }
-          } catch (IllegalArgumentException e) {
-            RFWLogger.logException(e);
-          } catch (IllegalAccessException e) {
-            RFWLogger.logException(e);
-          } catch (InvocationTargetException e) {
-            RFWLogger.logException(e);
           }
         }
       }
+      plan = list.toArray(new CloneProperty[list.size()]);
+      final CloneProperty[] previous = planCache.putIfAbsent(clazz, plan);
+      if (previous != null) plan = previous;
+    }
+    return plan;
+  }
+
+  /**
+   * Descarta os planos de clone em cache, veja {@link br.eng.rodrigogml.rfw.kernel.vo.RFWVOMeta#clearCache()}.
+   */
+  public static void clearCache() {
+    planCache.clear();
+  }
+
+  private static ValueKind classify(Class<?> type) {
+    if (type.isPrimitive() || isImmutable(type)) return ValueKind.IMMUTABLE;
+    if (type.isArray() && type.getComponentType().isPrimitive()) return ValueKind.PRIMITIVEARRAY;
+    if (RFWRecursiveClonable.class.isAssignableFrom(type)) return ValueKind.CLONABLE;
+    return ValueKind.DYNAMIC;
+  }
+
+  private static boolean isImmutable(Class<?> type) {
+    return type == String.class || type == Long.class || type == Integer.class || type == Short.class || BigDecimal.class.isAssignableFrom(type) || type == LocalDate.class || type == LocalDateTime.class || type == LocalTime.class || type == Byte.class || type == Character.class || type == Boolean.class || type == Double.class || type == Float.class || Date.class.isAssignableFrom(type) || Enum.class.isAssignableFrom(type);
+  }
+
+  /**
+   * Converte o método em {@link MethodHandle}. Métodos públicos declarados em classes não públicas são acessados pela definição da classe/interface pública mais próxima, como faz o {@link Method#invoke(Object, Object...)}.
+   */
+  private static MethodHandle toHandle(Method method) throws IllegalAccessException {
+    try {
+      return MethodHandles.publicLookup().unreflect(method);
+    } catch (IllegalAccessException e) {
+      method.setAccessible(true);
+      return MethodHandles.lookup().unreflect(method);
     }
-    return clonedvo;
   }
 }
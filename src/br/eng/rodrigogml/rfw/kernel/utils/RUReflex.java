@@ -4,7 +4,6 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.annotation.Annotation;
-import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
@@ -19,7 +18,6 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
 import java.util.Enumeration;
-import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -39,10 +37,16 @@ import br.eng.rodrigogml.rfw.kernel.preprocess.PreProcess.PreProcessOption;
 import br.eng.rodrigogml.rfw.kernel.rfwmeta.RFWMetaCollectionField;
 import br.eng.rodrigogml.rfw.kernel.rfwmeta.RFWMetaEncrypt;
 import br.eng.rodrigogml.rfw.kernel.rfwmeta.RFWMetaRelationshipField;
-import br.eng.rodrigogml.rfw.kernel.rfwmeta.RFWMetaStringField;
+import br.eng.rodrigogml.rfw.kernel.rfwmeta.RFWMetaRelationshipField.RelationshipTypes;
 import br.eng.rodrigogml.rfw.kernel.vo.GVO;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWAttributePath;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWCompiledPath;
 import br.eng.rodrigogml.rfw.kernel.vo.RFWMO;
 import br.eng.rodrigogml.rfw.kernel.vo.RFWVO;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWVOChange;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWVODiff;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWVOFieldMeta;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWVOMeta;
 
 /**
  * Description: Classe com utilitários para tratar objetos apartir de reflexão.<br>
@@ -170,71 +174,19 @@ public class RUReflex {
    *
    */
   public static Object getPropertyValue(Object bean, String propertyname) throws RFWException {
-    try {
-      Object returned = null;
-      int index = propertyname.indexOf(".");
-      if (index > -1) {
-        String firstproperty = propertyname.substring(0, index);
-        Object tmpobj = getPropertyValue(bean, firstproperty);
-        if (tmpobj != null) returned = getPropertyValue(tmpobj, propertyname.substring(index + 1, propertyname.length()));
-      } else {
-        // Verifica se temos índice/chave, se tivermos mas é a última propriedade tornamos o objeto dentro da lista/hash
-        int indexkey = propertyname.indexOf("[");
-        String key;
-        if (indexkey > -1) {
-          key = propertyname.substring(indexkey + 1, propertyname.length() - 1);
-          propertyname = propertyname.substring(0, indexkey);
-          Object tmpobj = getPropertyValue(bean, propertyname); // Recupera a Hash/Lista deste atributo
-          if (tmpobj != null) {
-            if (tmpobj instanceof List<?>) {
-              List<?> list = (List<?>) tmpobj;
-              // Se é uma lista validamos que o index seja numérico
-              if (key == null || !key.matches("[0-9]*")) {
-                throw new RFWCriticalException("RFW_ERR_200395", new String[] { propertyname });
-              }
-              int listindex = Integer.parseInt(key);
-              if (listindex >= list.size()) {
-                throw new RFWCriticalException("RFW_ERR_200396", new String[] { key, propertyname });
-              }
-              tmpobj = list.get(listindex);
-            } else if (tmpobj instanceof Map<?, ?>) {
-              // Extrai o tipo de classe da chave
-              int classIndex = key.indexOf('{');
-              String clazz = null;
-              if (classIndex > -1) {
-                clazz = key.substring(classIndex + 1, key.length() - 1);
-                key = key.substring(0, classIndex);
-              }
-              // Com a classe verificamos se é algum tipo conhecido
-              Object hashKey = null;
-              if ("String".equals(clazz)) {
-                hashKey = key;
-              } else if ("Long".equals(clazz)) {
-                hashKey = Long.parseLong(key);
-              }
-              if (key == null) {
-                throw new RFWCriticalException("RFW_ERR_200397", new String[] { propertyname, key });
-              }
-              tmpobj = ((Map<?, ?>) tmpobj).get(hashKey);
-            }
-            returned = tmpobj;
-          }
-        } else {
-          try {
-            returned = bean.getClass().getMethod("get" + propertyname.substring(0, 1).toUpperCase() + propertyname.substring(1, propertyname.length()), (Class[]) null).invoke(bean, (Object[]) null);
-          } catch (NoSuchMethodException e) {
-            try {
-              returned = bean.getClass().getMethod("is" + propertyname.substring(0, 1).toUpperCase() + propertyname.substring(1, propertyname.length()), (Class[]) null).invoke(bean, (Object[]) null);
-            } catch (NoSuchMethodException e2) {
-              returned = bean.getClass().getMethod("are" + propertyname.substring(0, 1).toUpperCase() + propertyname.substring(1, propertyname.length()), (Class[]) null).invoke(bean, (Object[]) null);
-            }
-          }
-        }
-      }
-      return returned;
-    } catch (Exception e) {
-      throw new RFWCriticalException("RFW_000032", new String[] { propertyname, bean.getClass().getCanonicalName() }, e);
-    }
+    return compilePath(bean.getClass(), propertyname).getValue(bean);
+  }
+
+  /**
+   * Compila um caminho de propriedade (no mesmo padrão aceito pelo {@link #getPropertyValue(Object, String)}) para a classe passada.<br>
+   * O caminho é interpretado uma única vez e os métodos get/set de cada passo ficam em cache, evitando todo o trabalho de reflexão nas chamadas seguintes. O resultado é mantido em cache por classe e caminho.
+   *
+   * @param beanClass Classe do objeto raiz do caminho.
+   * @param propertyPath Caminho da propriedade, ex: "a.b[3].c" ou "a.hash[key{String}].c".
+   * @return Caminho compilado, que pode ser utilizado para ler e escrever a propriedade em qualquer objeto da classe.
+   */
+  public static RFWCompiledPath compilePath(Class<?> beanClass, String propertyPath) {
+    return RFWCompiledPath.compile(beanClass, propertyPath);
   }
 
   /**
@@ -245,73 +197,11 @@ public class RUReflex {
    * @param propertyname String nome da propriedade que deseja-se definir o valor
    * @param instantiatenullobjs tenta instanciar objetos que sejam nulos no caminho para definir a propriedade. Para que esta função funcione, os objetos devem ter um construtor sem argumentos.
    */
-  @SuppressWarnings({ "unchecked", "rawtypes" })
   public static void setPropertyValue(Object bean, String propertyname, Object value, boolean instantiatenullobjs) throws RFWException {
-    try {
-      if (bean == null) {
-        throw new NullPointerException("O objeto bean recebido não pode ser nulo!");
-      }
-      int index = propertyname.indexOf(".");
-      if (index > -1) {
-        String firstproperty = propertyname.substring(0, index);
-        Object tmpobj = getPropertyValue(bean, firstproperty);
-
-        // Verifica se a propriedade tem colchetes com a chave/index de coleções e os separa
-        int indexkey = firstproperty.indexOf("[");
-        // Verifica se o tmpobj é nulo, e se devemos tentar criar o novo objeto
-        if (tmpobj == null) {
-          if (!instantiatenullobjs) {
-            throw new NullPointerException("Foi encontrado um objeto nulo ao tentar reflexão para definir o valor de uma propriedade!");
-          } else {
-            // Se temos índices ou chaves nem tentamos criar, não temos como criar uma hash ou lista adequadamente
-            if (indexkey > -1) throw new RFWCriticalException("RFW_ERR_200398", new String[] { propertyname });
-            Class<?> tmpclass = getPropertyTypeByType(bean.getClass(), firstproperty); // Basta procurar pelo type de retorno, pois já sabemos que o objeto é nulo!
-            Constructor<?> constructor = tmpclass.getConstructor();
-            if (constructor == null) {
-              throw new NullPointerException("Não foi possível encontrar um construtor sem argumentos para o objeto: " + tmpclass.toString());
-            }
-            tmpobj = constructor.newInstance();
-            setPropertyValue(bean, firstproperty, tmpobj, instantiatenullobjs);
-          }
-        }
-        setPropertyValue(tmpobj, propertyname.substring(index + 1, propertyname.length()), value, instantiatenullobjs);
-      } else {
-        String key = null;
-        // Verifica se a propriedade tem colchetes com a chave/index de coleções e os separa
-        int indexkey = propertyname.indexOf("[");
-        if (indexkey > -1) {
-          key = propertyname.substring(indexkey + 1, propertyname.length() - 1);
-          propertyname = propertyname.substring(0, indexkey);
-
-          Object tmpobj = getPropertyValue(bean, propertyname);
-          if (tmpobj instanceof List<?>) {
-            List list = (List) tmpobj;
-            list.add(value);
-          } else if (tmpobj instanceof Map<?, ?>) {
-            int classIndex = key.indexOf('{');
-            String clazz = null;
-            if (classIndex > -1) {
-              clazz = key.substring(classIndex + 1, key.length() - 1);
-              key = key.substring(0, classIndex);
-            }
-            Object hashKey = null;
-            if ("String".equals(clazz)) {
-              hashKey = key;
-            }
-            if (key == null) {
-              throw new RFWCriticalException("RFW_ERR_200397", new String[] { propertyname, key });
-            }
-
-            ((Map) tmpobj).put(hashKey, value);
-          }
-        } else {
-          Class<?> propertytype = getPropertyTypeByType(bean.getClass(), propertyname); // Procuramos pelo tipo para definir
-          bean.getClass().getMethod("set" + propertyname.substring(0, 1).toUpperCase() + propertyname.substring(1, propertyname.length()), propertytype).invoke(bean, value);
-        }
-      }
-    } catch (Exception e) {
-      throw new RFWCriticalException("RFW_ERR_000066", e);
+    if (bean == null) {
+      throw new RFWCriticalException("RFW_ERR_000066", new NullPointerException("O objeto bean recebido não pode ser nulo!"));
     }
+    compilePath(bean.getClass(), propertyname).setValue(bean, value, instantiatenullobjs);
   }
 
   /**
@@ -645,11 +535,21 @@ public class RUReflex {
    * @return uma annotation RFWMeta ou NULL caso nenhuma seja encontrada.
    * @throws RFWException
    */
-  @SuppressWarnings("unchecked")
   public static Annotation getRFWMetaAnnotation(Class<? extends RFWVO> voClass, String attribute) throws RFWException {
-    Annotation ann = null;
-    Field field = null;
+    final RFWVOFieldMeta fieldMeta = getRFWVOFieldMeta(voClass, attribute);
+    return fieldMeta != null ? fieldMeta.getMetaAnnotation() : null;
+  }
 
+  /**
+   * Recupera os metadados em cache ({@link RFWVOMeta}) de um atributo, navegando por Neasted Properties caso necessário.
+   *
+   * @param voClass Classe a ser analizada
+   * @param attribute Nome do atributo, podendo conter Neasted Properties
+   * @return Metadados do atributo ou null caso o atributo seja o "id".
+   * @throws RFWException Lançado caso o atributo não seja encontrado na classe.
+   */
+  @SuppressWarnings("unchecked")
+  private static RFWVOFieldMeta getRFWVOFieldMeta(Class<? extends RFWVO> voClass, String attribute) throws RFWException {
     // Se houver neasted properties, recuperamos a classe do penúltimo atributo, para que dele possamos recuperar o Field
     if (attribute.indexOf(".") > -1) {
       final int lindex = attribute.lastIndexOf(".");
@@ -660,22 +560,12 @@ public class RUReflex {
     }
 
     // Continuamos normalmente agora que pegamos a classe correta para obter o atributo
-    try {
-      if (!"id".equals(attribute)) field = getDeclaredFieldRecursively(voClass, getCleanPath(attribute));
-    } catch (Exception e) {
-      throw new RFWCriticalException("Falha ao encontrar uma RFWMeta annotation no atributo '${0}' da classe '${1}'", new String[] { attribute, voClass.getCanonicalName() }, e);
-    }
-    if (field != null) {
-      final Annotation[] anns = field.getDeclaredAnnotations();
-      for (Annotation annotation : anns) {
-        final String basepackage = RFWMetaStringField.class.getPackage().getName();
-        if (annotation.annotationType().getCanonicalName().startsWith(basepackage + ".RFWMeta")) {
-          ann = annotation;
-          break;
-        }
-      }
+    RFWVOFieldMeta fieldMeta = null;
+    if (!"id".equals(attribute)) {
+      fieldMeta = RFWVOMeta.getInstance(voClass).getField(getCleanPath(attribute));
+      if (fieldMeta == null) throw new RFWCriticalException("Falha ao encontrar uma RFWMeta annotation no atributo '${0}' da classe '${1}'", new String[] { attribute, voClass.getCanonicalName() }, new RFWCriticalException("RFW_000020", new String[] { attribute, voClass.getCanonicalName() }));
     }
-    return ann;
+    return fieldMeta;
   }
 
   /**
@@ -686,21 +576,13 @@ public class RUReflex {
    * @return Objeto representando a definição do 'field' no objeto passado ou classe pai mais imediata que contenha a definição.
    * @throws RFWException Lançado caso o field não seja encontrado na hierarquia ('RFW_000020')
    */
-  @SuppressWarnings("unchecked")
   public static Field getDeclaredFieldRecursively(Class<? extends RFWVO> voClass, String attribute) throws RFWException {
     PreProcess.requiredNonNull(voClass);
     PreProcess.requiredNonNull(attribute);
 
-    Field field = null;
-    while (voClass != null && field == null) {
-      try {
-        field = voClass.getDeclaredField(attribute);
-      } catch (NoSuchFieldException e) {
-        voClass = (Class<? extends RFWVO>) voClass.getSuperclass();
-      }
-    }
-    if (field == null) throw new RFWCriticalException("RFW_000020", new String[] { attribute, voClass.getCanonicalName() });
-    return field;
+    final RFWVOFieldMeta fieldMeta = RFWVOMeta.getInstance(voClass).getField(attribute);
+    if (fieldMeta == null) throw new RFWCriticalException("RFW_000020", new String[] { attribute, voClass.getCanonicalName() });
+    return fieldMeta.getField();
   }
 
   /**
@@ -710,16 +592,10 @@ public class RUReflex {
    * @return Array com a declaração de todos os fields encontrados.
    * @throws RFWException Lançado em caso de falha do sistema.
    */
-  @SuppressWarnings("unchecked")
   public static Field[] getDeclaredFieldsRecursively(Class<? extends RFWVO> voClass) throws RFWException {
     PreProcess.requiredNonNull(voClass);
 
-    Field[] fields = new Field[0];
-    while (voClass != null) {
-      fields = RUArray.addValues(fields, voClass.getDeclaredFields());
-      voClass = (Class<? extends RFWVO>) voClass.getSuperclass();
-    }
-    return fields;
+    return RFWVOMeta.getInstance(voClass).getDeclaredFieldsRecursively();
   }
 
   /**
@@ -727,11 +603,34 @@ public class RUReflex {
    * O caminho limpo é o caminho dos atributos mas sem os colchetes de índices ou chaves de hash. Facilitando assim acomparação do atributo sendo tratado.<br>
    * Ex: "itemcodelist[0].itemvo" retorna "itemcodelist.itemvo". Ex: "itemcodehash{key}.itemvo" retorna "itemcodehash.itemvo".
    *
+   * Quando o caminho é montado pelo {@link RFWAttributePath}, prefira o {@link RFWAttributePath#getCleanPath()}, que é mantido em cache.
+   *
    * @param fullpath
    * @return caminho limpo sem as definições de coleções.
    */
   public static String getCleanPath(String fullpath) {
-    return fullpath.replaceAll("\\[[^\\]]*\\]", "").replaceAll("\\{[^\\}]*\\}", "");
+    // Evitamos as expressões regulares: a maioria dos caminhos não tem índices e é retornada sem nenhuma cópia
+    if (fullpath.indexOf('[') < 0 && fullpath.indexOf('{') < 0) return fullpath;
+    return removeDelimited(removeDelimited(fullpath, '[', ']'), '{', '}');
+  }
+
+  /**
+   * Remove os trechos entre os delimitadores (inclusive), considerando como fim do trecho o primeiro delimitador de fechamento encontrado. Delimitadores abertos e não fechados são mantidos.
+   */
+  private static String removeDelimited(String path, char open, char close) {
+    int p = path.indexOf(open);
+    if (p < 0) return path;
+    final StringBuilder buff = new StringBuilder(path.length());
+    int start = 0;
+    while (p >= 0) {
+      final int end = path.indexOf(close, p + 1);
+      if (end < 0) break;
+      buff.append(path, start, p);
+      start = end + 1;
+      p = path.indexOf(open, start);
+    }
+    buff.append(path, start, path.length());
+    return buff.toString();
   }
 
   /**
@@ -831,22 +730,8 @@ public class RUReflex {
    * @throws RFWException
    */
   public static PreProcessOption[] getRFWMetaAnnotationPreProcess(Class<? extends RFWVO> voClass, String attribute) throws RFWException {
-    PreProcessOption[] preProcess = null;
-    Annotation ann = getRFWMetaAnnotation(voClass, attribute);
-    if (ann != null) {
-      try {
-        Method m = ann.getClass().getMethod("preProcess");
-        preProcess = (PreProcessOption[]) m.invoke(ann);
-      } catch (Exception e) {
-        try {
-          Method m = ann.getClass().getMethod("preProcess");
-          preProcess = new PreProcessOption[] { (PreProcessOption) m.invoke(ann) };
-        } catch (Exception e2) {
-          // Qualquer falha ao tentar obter o preProcess não é reportado nem tratado, apenas retornamos null
-        }
-      }
-    }
-    return preProcess;
+    final RFWVOFieldMeta fieldMeta = getRFWVOFieldMeta(voClass, attribute);
+    return fieldMeta != null ? fieldMeta.getPreProcess() : null;
   }
 
   /**
@@ -857,16 +742,8 @@ public class RUReflex {
    * @throws RFWException
    */
   public static Annotation getRFWMetaAnnotation(Field field) throws RFWException {
-    Annotation ann = null;
-    final Annotation[] anns = field.getDeclaredAnnotations();
-    for (Annotation annotation : anns) {
-      final String basepackage = RFWMetaStringField.class.getPackage().getName();
-      if (annotation.annotationType().getCanonicalName().startsWith(basepackage + ".RFWMeta")) {
-        ann = annotation;
-        break;
-      }
-    }
-    return ann;
+    final RFWVOFieldMeta fieldMeta = RFWVOMeta.getInstance(field.getDeclaringClass()).getField(field.getName());
+    return fieldMeta != null ? fieldMeta.getMetaAnnotation() : null;
   }
 
   /**
@@ -879,17 +756,8 @@ public class RUReflex {
    * @throws RFWException
    */
   public static String getRFWMetaAnnotationCaption(Class<? extends RFWVO> voClass, String attribute) throws RFWException {
-    String caption = null;
-    Annotation ann = getRFWMetaAnnotation(voClass, attribute);
-    if (ann != null) {
-      try {
-        Method m = ann.getClass().getMethod("caption");
-        caption = (String) m.invoke(ann);
-      } catch (Exception e) {
-        // Qualquer falha ao tentar obter o caption não é reportado nem tratado, apenas retornamos null
-      }
-    }
-    return caption;
+    final RFWVOFieldMeta fieldMeta = getRFWVOFieldMeta(voClass, attribute);
+    return fieldMeta != null ? fieldMeta.getCaption() : null;
   }
 
   /**
@@ -902,17 +770,8 @@ public class RUReflex {
    * @throws RFWException
    */
   public static Boolean getRFWMetaAnnotationRequired(Class<? extends RFWVO> voClass, String attribute) throws RFWException {
-    Boolean required = null;
-    Annotation ann = getRFWMetaAnnotation(voClass, attribute);
-    if (ann != null) {
-      try {
-        Method m = ann.getClass().getMethod("required");
-        required = (Boolean) m.invoke(ann);
-      } catch (Exception e) {
-        // Qualquer falha ao tentar obter o caption não é reportado nem tratado, apenas retornamos null
-      }
-    }
-    return required;
+    final RFWVOFieldMeta fieldMeta = getRFWVOFieldMeta(voClass, attribute);
+    return fieldMeta != null ? fieldMeta.getRequired() : null;
   }
 
   /**
@@ -1091,6 +950,36 @@ public class RUReflex {
     return getRFWVOUpdateAttributes(clazz, "").toArray(new String[0]);
   }
 
+  /**
+   * Este método funciona como o {@link #getRFWVOUpdateAttributes(Class)}, mas quando o objeto está com o controle de alterações habilitado ({@link RFWVO#startChangeTracking()}) retorna apenas os atributos dos relacionamentos que foram alterados.<br>
+   * Os caminhos dos relacionamentos de composição são sempre mantidos, já que as alterações dentro dos objetos filhos não alteram o atributo do objeto pai.
+   *
+   * @param vo Objeto que será atualizado.
+   * @return Lista com o caminho até a propriedade id dos objetos que precisam ser recupeados. Ex: 'users.companies.id'.
+   * @throws RFWException
+   */
+  public static String[] getRFWVOUpdateAttributes(RFWVO vo) throws RFWException {
+    final String[] attributes = getRFWVOUpdateAttributes(vo.getClass());
+    final List<String> dirtyFields = vo.listDirtyFields();
+    if (dirtyFields == null) return attributes;
+
+    final RFWVOMeta meta = RFWVOMeta.getInstance(vo.getClass());
+    final ArrayList<String> list = new ArrayList<>(attributes.length);
+    for (String attribute : attributes) {
+      int index = attribute.indexOf('.');
+      if (index < 0) index = attribute.indexOf('@');
+      final String fieldName = index < 0 ? attribute : attribute.substring(0, index);
+      if (dirtyFields.contains(fieldName)) {
+        list.add(attribute);
+      } else {
+        final RFWVOFieldMeta field = meta.getField(fieldName);
+        final RFWMetaRelationshipField ann = field == null ? null : field.getAnnotation(RFWMetaRelationshipField.class);
+        if (ann != null && (ann.relationship() == RelationshipTypes.COMPOSITION || ann.relationship() == RelationshipTypes.COMPOSITION_TREE)) list.add(attribute);
+      }
+    }
+    return list.toArray(new String[list.size()]);
+  }
+
   /**
    * Este método recupera a pilha dos métodos que foram sendo chamados até a chamada deste método. Cria o caminho dos métodos chamados como uma pilha de StackTrace
    *
@@ -1582,85 +1471,25 @@ public class RUReflex {
    * @throws RFWException
    */
   public static <T extends Object> List<String> compareRecursively(T obj1, T obj2) throws RFWException {
-    return compareRecursively(obj1, obj2, null, new LinkedList<Object>());
+    final List<RFWVOChange> changes = RFWVODiff.compare(obj1, obj2, false);
+    final ArrayList<String> atts = new ArrayList<>(changes.size());
+    for (RFWVOChange change : changes) {
+      atts.add(change.getPath());
+    }
+    return atts;
   }
 
   /**
-   * Método auxiliar do {@link #compareRecursively(RFWVO, RFWVO)}
+   * Compra dois Objectos (RFWVO) e retorna as diferenças encontradas recursivamente, com o caminho e os valores antigo e novo de cada atributo.<br>
+   * Veja {@link RFWVODiff} para mais detalhes.
    *
-   * @param basepath Caminho dos atributos (recursivo) até chegarem nesta comparação. Passar nulo case sejam os dois objetos raiz.
-   * @param cache Lista com os objetos que já foram comparados, evitando assim loop infinito em caso de link cíclico dos objetos. Para o objeto raiz passar uma lista vazia.tá nada
+   * @param obj1 Objeto 1 (valores antigos) para ser comparado
+   * @param obj2 Objeto 2 (valores novos) para ser comparado
+   * @param matchByID Indica se os itens RFWVO das coleções devem ser associados pelo ID (true) ou pela posição (false).
+   * @return Lista com as diferenças encontradas.
    * @throws RFWException
    */
-  private static <T extends Object> List<String> compareRecursively(T obj1, T obj2, String basepath, List<Object> cache) throws RFWException {
-    LinkedList<String> atts = new LinkedList<String>();
-
-    if (obj1 == null ^ obj2 == null) {
-      atts.add(RUReflex.getAttributePath("", basepath));
-    } else if (obj1 != null && obj2 != null) {
-      if (!cache.contains(obj1)) {
-        cache.add(obj1);
-        if (obj1.getClass().isPrimitive() || String.class.isInstance(obj1) || Long.class.isInstance(obj1) || Integer.class.isInstance(obj1) || Boolean.class.isInstance(obj1) || Double.class.isInstance(obj1) || Float.class.isInstance(obj1) || Enum.class.isInstance(obj1) || Date.class.isInstance(obj1) || LocalDate.class.isInstance(obj1) || LocalDateTime.class.isInstance(obj1) || BigDecimal.class.isInstance(obj1) || Class.class.isInstance(obj1)) {
-          if (!obj1.equals(obj2)) {
-            atts.add(RUReflex.getAttributePath("", basepath));
-          }
-        } else if (Iterable.class.isInstance(obj1)) {
-          Iterator<?> it1 = ((Iterable<?>) obj1).iterator();
-          Iterator<?> it2 = ((Iterable<?>) obj2).iterator();
-          int index = 0;
-          while (true) {
-            if (!it1.hasNext() && !it2.hasNext()) {
-              break;
-            } else if (it1.hasNext() ^ it2.hasNext()) {
-              atts.add(RUReflex.getAttributePath("", basepath));
-              break;
-            } else {
-              Object itObj1 = it1.next();
-              Object itObj2 = it2.next();
-              atts.addAll(compareRecursively(itObj1, itObj2, RUReflex.getAttributePath("", index, basepath), cache));
-            }
-            index++;
-          }
-        } else if (Map.class.isInstance(obj1)) {
-          Map<?, ?> map1 = (Map<?, ?>) obj1;
-          Map<?, ?> map2 = (Map<?, ?>) obj2;
-          if (map1.size() != map2.size()) {
-            atts.add(RUReflex.getAttributePath("", basepath));
-          } else {
-            for (Object key : map1.keySet()) {
-              Object mapObj1 = map1.get(key);
-              Object mapObj2 = map2.get(key);
-              if (mapObj1 == null ^ mapObj2 == null) {
-                atts.add(RUReflex.getAttributePath("", key, key.getClass(), basepath));
-              } else if (mapObj1 != null && mapObj2 != null) {
-                atts.addAll(compareRecursively(mapObj1, mapObj2, RUReflex.getAttributePath("", key, key.getClass(), basepath), cache));
-              }
-            }
-          }
-        } else if (RFWVO.class.isAssignableFrom(obj1.getClass())) {
-          Method[] methods = obj1.getClass().getMethods();
-          for (Method method : methods) {
-            if ((method.getName().startsWith("get") || method.getName().startsWith("is")) && !method.getName().equals("getClass")) {
-              try {
-                Object ret1 = method.invoke(obj1);
-                Object ret2 = method.invoke(obj2);
-                String attribute = null;
-                if (method.getName().startsWith("get")) {
-                  attribute = method.getName().substring(3, 4).toLowerCase() + method.getName().substring(4);
-                } else if (method.getName().startsWith("is")) {
-                  attribute = method.getName().substring(2, 3).toLowerCase() + method.getName().substring(3);
-                }
-                atts.addAll(compareRecursively(ret1, ret2, RUReflex.getAttributePath(attribute, basepath), cache));
-              } catch (Exception e) {
-                throw new RFWCriticalException("Falha ao comparar semelhança dos objetos!", e);
-              }
-            }
-          }
-        } else {
-          throw new RFWCriticalException("Método despreparado para comparar o objeto '" + obj1.getClass().getCanonicalName() + "'.");
-        }
-      }
-    }
-    return atts;
+  public static <T extends Object> List<RFWVOChange> compareRecursively(T obj1, T obj2, boolean matchByID) throws RFWException {
+    return RFWVODiff.compare(obj1, obj2, matchByID);
   }
 }
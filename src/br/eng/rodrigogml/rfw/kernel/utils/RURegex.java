@@ -0,0 +1,102 @@
+package br.eng.rodrigogml.rfw.kernel.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Description: Classe utilitária com métodos de expressões regulares que reaproveitam os {@link Pattern} já compilados.<br>
+ * Os métodos {@link String#matches(String)}, {@link String#replaceAll(String, String)} e {@link String#split(String)} compilam a expressão regular a cada chamada. Os métodos desta classe compilam cada expressão uma única vez e mantém o {@link Pattern} em um cache
+ * compartilhado e thread safe, para as expressões recebidas por parâmetro ou definidas em annotations.<br>
+ * O cache é limitado e descarta as expressões usadas há mais tempo (LRU), de forma que expressões montadas dinamicamente não fazem o cache crescer indefinidamente nem impedem que as expressões mais usadas continuem em cache.<br>
+ * Para as expressões fixas do código prefira manter o {@link Pattern} compilado em uma constante da própria classe.
+ *
+ * @author Rodrigo GML
+ * @since 1.0.0 (17 de out. de 2026)
+ */
+public class RURegex {
+
+  /**
+   * Quantidade máxima de expressões mantidas no cache. Depois de atingido o limite, a inclusão de uma nova expressão descarta a expressão usada há mais tempo.
+   */
+  static final int MAXCACHEDPATTERNS = 1024;
+
+  /**
+   * Cache dos {@link Pattern} já compilados, indexados pela expressão regular, na ordem de acesso. Como a consulta também altera a ordem do LinkedHashMap, todo acesso é feito sincronizado no próprio cache.
+   */
+  private static final LinkedHashMap<String, Pattern> patternCache = new LinkedHashMap<String, Pattern>(16, 0.75f, true) {
+    private static final long serialVersionUID = -4153602883021683385L;
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, Pattern> eldest) {
+      return size() > MAXCACHEDPATTERNS;
+    }
+  };
+
+  /**
+   * Construtor privado para classe utilitária.
+   */
+  private RURegex() {
+  }
+
+  /**
+   * Recupera o {@link Pattern} compilado da expressão regular, do cache ou compilando na primeira vez.
+   *
+   * @param regex Expressão regular.
+   * @return {@link Pattern} compilado.
+   * @throws java.util.regex.PatternSyntaxException Caso a expressão regular não seja válida.
+   */
+  public static Pattern getPattern(String regex) {
+    synchronized (patternCache) {
+      final Pattern pattern = patternCache.get(regex);
+      if (pattern != null) return pattern;
+    }
+    // A compilação é feita fora do lock, para não bloquear as demais threads. Se duas threads compilarem a mesma expressão, mantemos a primeira incluída.
+    final Pattern pattern = Pattern.compile(regex);
+    synchronized (patternCache) {
+      final Pattern previous = patternCache.putIfAbsent(regex, pattern);
+      return previous != null ? previous : pattern;
+    }
+  }
+
+  /**
+   * Verifica se o valor inteiro satisfaz a expressão regular. Mesmo comportamento do {@link String#matches(String)}, mas reaproveitando o {@link Pattern} compilado.
+   *
+   * @param value Valor a ser verificado.
+   * @param regex Expressão regular.
+   * @return true caso o valor satisfaça a expressão regular.
+   */
+  public static boolean matches(CharSequence value, String regex) {
+    return getPattern(regex).matcher(value).matches();
+  }
+
+  /**
+   * Substitui todas as ocorrências da expressão regular no valor. Mesmo comportamento do {@link String#replaceAll(String, String)}, mas reaproveitando o {@link Pattern} compilado.
+   *
+   * @param value Valor original.
+   * @param regex Expressão regular.
+   * @param replacement Texto de substituição, aceitando as referências de grupos ("$1").
+   * @return Valor com as substituições realizadas.
+   */
+  public static String replaceAll(CharSequence value, String regex, String replacement) {
+    return getPattern(regex).matcher(value).replaceAll(replacement);
+  }
+
+  /**
+   * Descarta todos os {@link Pattern} em cache.
+   */
+  public static void clearCache() {
+    synchronized (patternCache) {
+      patternCache.clear();
+    }
+  }
+
+  /**
+   * Quantidade de expressões em cache.
+   */
+  static int getCacheSize() {
+    synchronized (patternCache) {
+      return patternCache.size();
+    }
+  }
+}
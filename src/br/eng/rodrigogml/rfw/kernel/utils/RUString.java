@@ -17,6 +17,7 @@ import java.util.ArrayList;
 import java.util.Base64;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Locale;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -44,6 +45,11 @@ public class RUString {
   private static Object normalizerJDK6form = null; // Salva o form necessário para o normalizer do jdk6
   private static Boolean unknownormalizer = null; // Salva se o método de normalização é desconhecido, null não procurado ainda, true desconhecido (usa modo manual), false conhecido
 
+  /**
+   * Sequências de caracteres que não são dígitos, usado no {@link #removeNonDigits(String)}.
+   */
+  private static final Pattern NONDIGITSPATTERN = Pattern.compile("\\D+");
+
   /**
    * Construtor privado para classe exclusivamente estática.
    */
@@ -127,6 +133,95 @@ public class RUString {
     return buff.toString();
   }
 
+  /**
+   * Normaliza a String em uma única passada pelos caracteres, sem criar as Strings intermediárias das chamadas encadeadas de {@link #replaceFakeSpacesByUniqueSpace(String)}, {@link #replaceTabsByUniqueSpace(String)}, {@link #replaceDoubleSpaces(String)}, {@link String#trim()},
+   * {@link String#toUpperCase()} e {@link #truncate(String, int)}. O resultado é o mesmo de aplicar esses métodos nesta ordem.<br>
+   * Caso nenhuma alteração seja necessária, a própria instância recebida é retornada.
+   *
+   * @param value Texto a ser normalizado.
+   * @param collapseSpaces Indica se os espaços em sequência devem ser substituídos por um único espaço e os espaços (e demais caracteres de controle) do começo e do fim removidos, como no {@link #replaceDoubleSpaces(String)} seguido do {@link String#trim()}.
+   * @param foldFakeSpaces Indica se os TABS e os "Falsos Espaços conhecidos" (como o \u00a0) também devem ser tratados como espaço. Só tem efeito quando collapseSpaces for true.
+   * @param upperCase Indica se o texto deve ser passado para caixa alta, como no {@link String#toUpperCase()}.
+   * @param maxLength Tamanho máximo do texto, aplicado depois das demais operações. Passar -1 para não limitar o tamanho.
+   * @return Texto normalizado, ou null caso value seja null.
+   */
+  public static String normalize(String value, boolean collapseSpaces, boolean foldFakeSpaces, boolean upperCase, int maxLength) {
+    if (value == null) return null;
+    final int length = value.length();
+    int start = 0;
+    int end = length;
+    if (collapseSpaces) {
+      while (start < end && isTrimmable(value.charAt(start), foldFakeSpaces)) start++;
+      while (end > start && isTrimmable(value.charAt(end - 1), foldFakeSpaces)) end--;
+    }
+    // Nos idiomas em que a caixa alta depende de regras específicas (como o "i" do turco) deixamos a conversão para o String.toUpperCase()
+    boolean simpleUpperCase = false;
+    if (upperCase) {
+      final String language = Locale.getDefault().getLanguage();
+      simpleUpperCase = !"tr".equals(language) && !"az".equals(language) && !"lt".equals(language);
+    }
+    boolean complexUpperCase = upperCase && !simpleUpperCase; // Indica se algum caractere precisa da conversão do String.toUpperCase()
+    final int limit = maxLength >= 0 ? maxLength : Integer.MAX_VALUE;
+
+    final char[] buff = new char[Math.min(end - start, limit)];
+    int count = 0;
+    boolean changed = start > 0 || end < length;
+    boolean lastSpace = false;
+    for (int i = start; i < end; i++) {
+      char c = value.charAt(i);
+      if (collapseSpaces && (c == ' ' || (foldFakeSpaces && (c == '\t' || c == '\u00a0')))) {
+        if (lastSpace) {
+          changed = true;
+          continue;
+        }
+        lastSpace = true;
+        if (c != ' ') {
+          c = ' ';
+          changed = true;
+        }
+      } else {
+        lastSpace = false;
+        if (simpleUpperCase) {
+          if (c >= 'a' && c <= 'z') {
+            c -= 32;
+            changed = true;
+          } else if (c >= 0x80) {
+            // Os caracteres Latin-1 têm conversão direta, exceto o "ß" que vira "SS". Os demais ficam para o String.toUpperCase()
+            if (c < 0x100 && c != '\u00df') {
+              final char upper = Character.toUpperCase(c);
+              if (upper != c) {
+                c = upper;
+                changed = true;
+              }
+            } else {
+              complexUpperCase = true;
+            }
+          }
+        }
+      }
+      if (count == limit) {
+        changed = true;
+        break;
+      }
+      buff[count++] = c;
+    }
+    if (!changed && !complexUpperCase) return value;
+
+    String result = changed ? new String(buff, 0, count) : value;
+    if (complexUpperCase) {
+      // O String.toUpperCase() pode aumentar o tamanho do texto, por isso truncamos novamente
+      result = truncate(result.toUpperCase(), limit);
+    }
+    return result;
+  }
+
+  /**
+   * Verifica se o caractere é removido do começo e do fim do texto pelo {@link #normalize(String, boolean, boolean, boolean, int)}.
+   */
+  private static boolean isTrimmable(char c, boolean foldFakeSpaces) {
+    return c <= ' ' || (foldFakeSpaces && c == '\u00a0');
+  }
+
   /**
    * Este método tira todos os espaços em excesso de uma String, deixando apenas 1. Não importa se tiver 2, 3, 4 ou 1000. Ele substituirá todos por 1 único.
    *
@@ -333,7 +428,7 @@ public class RUString {
    */
   public static String removeNonDigits(String value) {
     if (value == null) return null;
-    return value.replaceAll("\\D+", "");
+    return NONDIGITSPATTERN.matcher(value).replaceAll("");
   }
 
   /**
@@ -19,6 +19,7 @@ import java.util.Date;
 import java.util.Locale;
 import java.util.TimeZone;
 import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
 
 import javax.xml.datatype.DatatypeConfigurationException;
 import javax.xml.datatype.DatatypeConstants;
@@ -42,6 +43,46 @@ import br.eng.rodrigogml.rfw.kernel.exceptions.RFWValidationException;
  */
 public class RUTypes {
 
+  /**
+   * Data no formato "yyyy-MM-dd".
+   */
+  private static final Pattern ISODATEPATTERN = Pattern.compile("[1-2][0-9]{3}-[0-1][0-9]-[0-3][0-9]");
+
+  /**
+   * Data e hora no formato "yyyy-MM-dd'T'HH:mm:ssXXX" (timezone com separador, ex: -07:00).
+   */
+  private static final Pattern ISOOFFSETDATETIMEPATTERN = Pattern.compile("[1-2][0-9]{3}-[0-1][0-9]-[0-3][0-9]T[0-2][0-9]:[0-5][0-9]:[0-5][0-9](\\-|\\+)[0-2][0-9]:[0-5][0-9]");
+
+  /**
+   * Data e hora no formato "yyyy-MM-dd'T'HH:mm:ssZ" (timezone sem separador, ex: -0700).
+   */
+  private static final Pattern ISOOFFSETNOCOLONDATETIMEPATTERN = Pattern.compile("[1-2][0-9]{3}-[0-1][0-9]-[0-3][0-9]T[0-2][0-9]:[0-5][0-9]:[0-5][0-9](\\-|\\+)[0-2][0-9][0-5][0-9]");
+
+  /**
+   * Data e hora no formato "yyyy-MM-dd'T'HH:mm:ss.SSS" (de 1 a 9 casas de fração de segundo).
+   */
+  private static final Pattern ISOFRACTIONDATETIMEPATTERN = Pattern.compile("[1-2][0-9]{3}-[0-1][0-9]-[0-3][0-9]T[0-2][0-9]:[0-5][0-9]:[0-5][0-9]\\.[0-9]{1,9}");
+
+  /**
+   * Data e hora no formato "yyyy-MM-dd'T'HH:mm:ss" (sem timezone).
+   */
+  private static final Pattern ISODATETIMEPATTERN = Pattern.compile("[1-2][0-9]{3}-[0-1][0-9]-[0-3][0-9]T[0-2][0-9]:[0-5][0-9]:[0-5][0-9]");
+
+  /**
+   * Data no formato "dd/MM/yyyy".
+   */
+  private static final Pattern BRDATEPATTERN = Pattern.compile("[0-3][0-9]/[0-1][0-9]/[1-2][0-9]{3}");
+
+  /**
+   * Número inteiro: sinal opcional seguido de dígitos.
+   */
+  private static final Pattern INTEGERPATTERN = Pattern.compile("[+-]?[0-9]+");
+
+  /**
+   * Número decimal: sinal opcional, dígitos obrigatórios e parte decimal opcional separada por ponto.
+   */
+  private static final Pattern DECIMALPATTERN = Pattern.compile("[+-]?\\d+(\\.\\d+)?");
+
   /**
    * Classe utilitária exclusivamente estática
    */
@@ -324,19 +365,19 @@ public class RUTypes {
     }
 
     try {
-      if (date.matches("[1-2][0-9]{3}-[0-1][0-9]-[0-3][0-9]")) {
+      if (ISODATEPATTERN.matcher(date).matches()) {
         // yyyy-MM-dd (Apenas Data)
         return LocalDate.parse(date, DateTimeFormatter.ISO_LOCAL_DATE).atStartOfDay();
-      } else if (date.matches("[1-2][0-9]{3}-[0-1][0-9]-[0-3][0-9]T[0-2][0-9]:[0-5][0-9]:[0-5][0-9](\\-|\\+)[0-2][0-9]:[0-5][0-9]")) {
+      } else if (ISOOFFSETDATETIMEPATTERN.matcher(date).matches()) {
         // yyyy-MM-dd'T'HH:mm:ssXXX (Padrão UTC com TimeZone, ex: -07:00)
         return OffsetDateTime.parse(date, DateTimeFormatter.ISO_OFFSET_DATE_TIME).toLocalDateTime();
-      } else if (date.matches("[1-2][0-9]{3}-[0-1][0-9]-[0-3][0-9]T[0-2][0-9]:[0-5][0-9]:[0-5][0-9](\\-|\\+)[0-2][0-9][0-5][0-9]")) {
+      } else if (ISOOFFSETNOCOLONDATETIMEPATTERN.matcher(date).matches()) {
         // yyyy-MM-dd'T'HH:mm:ssZ (Padrão UTC com TimeZone sem separador, ex: -0700)
         return OffsetDateTime.parse(date, DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssZ")).toLocalDateTime();
-      } else if (date.matches("[1-2][0-9]{3}-[0-1][0-9]-[0-3][0-9]T[0-2][0-9]:[0-5][0-9]:[0-5][0-9]")) {
+      } else if (ISODATETIMEPATTERN.matcher(date).matches()) {
         // yyyy-MM-dd'T'HH:mm:ss (UTC Sem TimeZone)
         return LocalDateTime.parse(date, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
-      } else if (date.matches("[0-3][0-9]/[0-1][0-9]/[1-2][0-9]{3}")) {
+      } else if (BRDATEPATTERN.matcher(date).matches()) {
         // dd/MM/yyyy
         return LocalDate.parse(date, DateTimeFormatter.ofPattern("dd/MM/yyyy")).atStartOfDay();
       } else {
@@ -368,19 +409,19 @@ public class RUTypes {
     }
 
     try {
-      if (date.matches("[1-2][0-9]{3}-[0-1][0-9]-[0-3][0-9]")) {
+      if (ISODATEPATTERN.matcher(date).matches()) {
         // yyyy-MM-dd (Apenas Data)
         return LocalDate.parse(date, DateTimeFormatter.ISO_LOCAL_DATE).atStartOfDay(zoneID).toLocalDateTime();
-      } else if (date.matches("[1-2][0-9]{3}-[0-1][0-9]-[0-3][0-9]T[0-2][0-9]:[0-5][0-9]:[0-5][0-9](\\-|\\+)[0-2][0-9]:[0-5][0-9]")) {
+      } else if (ISOOFFSETDATETIMEPATTERN.matcher(date).matches()) {
         // yyyy-MM-dd'T'HH:mm:ssXXX (Padrão UTC com TimeZone, ex: -07:00)
         return OffsetDateTime.parse(date, DateTimeFormatter.ISO_OFFSET_DATE_TIME).atZoneSameInstant(zoneID).toLocalDateTime();
-      } else if (date.matches("[1-2][0-9]{3}-[0-1][0-9]-[0-3][0-9]T[0-2][0-9]:[0-5][0-9]:[0-5][0-9](\\-|\\+)[0-2][0-9][0-5][0-9]")) {
+      } else if (ISOOFFSETNOCOLONDATETIMEPATTERN.matcher(date).matches()) {
         // yyyy-MM-dd'T'HH:mm:ssZ (Padrão UTC com TimeZone sem separador, ex: -0700)
         return OffsetDateTime.parse(date, DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssZ")).atZoneSameInstant(zoneID).toLocalDateTime();
-      } else if (date.matches("[1-2][0-9]{3}-[0-1][0-9]-[0-3][0-9]T[0-2][0-9]:[0-5][0-9]:[0-5][0-9]")) {
+      } else if (ISODATETIMEPATTERN.matcher(date).matches()) {
         // yyyy-MM-dd'T'HH:mm:ss (UTC Sem TimeZone)
         return LocalDateTime.parse(date, DateTimeFormatter.ISO_LOCAL_DATE_TIME).atZone(zoneID).toLocalDateTime();
-      } else if (date.matches("[0-3][0-9]/[0-1][0-9]/[1-2][0-9]{3}")) {
+      } else if (BRDATEPATTERN.matcher(date).matches()) {
         // dd/MM/yyyy
         return LocalDate.parse(date, DateTimeFormatter.ofPattern("dd/MM/yyyy")).atStartOfDay(zoneID).toLocalDateTime();
       } else {
@@ -452,23 +493,23 @@ public class RUTypes {
     }
 
     try {
-      if (date.matches("[1-2][0-9]{3}-[0-1][0-9]-[0-3][0-9]")) {
+      if (ISODATEPATTERN.matcher(date).matches()) {
         // yyyy-MM-dd (Apenas Data)
         LocalDate localDate = LocalDate.parse(date, DateTimeFormatter.ISO_LOCAL_DATE);
         return Date.from(localDate.atStartOfDay(zoneID).toInstant());
-      } else if (date.matches("[1-2][0-9]{3}-[0-1][0-9]-[0-3][0-9]T[0-2][0-9]:[0-5][0-9]:[0-5][0-9](\\-|\\+)[0-2][0-9]:[0-5][0-9]")) {
+      } else if (ISOOFFSETDATETIMEPATTERN.matcher(date).matches()) {
         // yyyy-MM-dd'T'HH:mm:ssXXX (UTC com TimeZone ex: -07:00)
         OffsetDateTime offsetDateTime = OffsetDateTime.parse(date, DateTimeFormatter.ISO_OFFSET_DATE_TIME);
         return Date.from(offsetDateTime.atZoneSameInstant(zoneID).toInstant());
-      } else if (date.matches("[1-2][0-9]{3}-[0-1][0-9]-[0-3][0-9]T[0-2][0-9]:[0-5][0-9]:[0-5][0-9](\\-|\\+)[0-2][0-9][0-5][0-9]")) {
+      } else if (ISOOFFSETNOCOLONDATETIMEPATTERN.matcher(date).matches()) {
         // yyyy-MM-dd'T'HH:mm:ssZ (UTC com TimeZone sem separador ex: -0700)
         OffsetDateTime offsetDateTime = OffsetDateTime.parse(date, DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssZ"));
         return Date.from(offsetDateTime.atZoneSameInstant(zoneID).toInstant());
-      } else if (date.matches("[1-2][0-9]{3}-[0-1][0-9]-[0-3][0-9]T[0-2][0-9]:[0-5][0-9]:[0-5][0-9]")) {
+      } else if (ISODATETIMEPATTERN.matcher(date).matches()) {
         // yyyy-MM-dd'T'HH:mm:ss (Sem TimeZone)
         LocalDateTime localDateTime = LocalDateTime.parse(date, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
         return Date.from(localDateTime.atZone(zoneID).toInstant());
-      } else if (date.matches("[0-3][0-9]/[0-1][0-9]/[1-2][0-9]{3}")) {
+      } else if (BRDATEPATTERN.matcher(date).matches()) {
         // dd/MM/yyyy
         LocalDate localDate = LocalDate.parse(date, DateTimeFormatter.ofPattern("dd/MM/yyyy"));
         return Date.from(localDate.atStartOfDay(zoneID).toInstant());
@@ -554,22 +595,22 @@ public class RUTypes {
     }
 
     try {
-      if (date.matches("[1-2][0-9]{3}-[0-1][0-9]-[0-3][0-9]")) {
+      if (ISODATEPATTERN.matcher(date).matches()) {
         // yyyy-MM-dd
         return LocalDate.parse(date, DateTimeFormatter.ISO_LOCAL_DATE);
-      } else if (date.matches("[1-2][0-9]{3}-[0-1][0-9]-[0-3][0-9]T[0-2][0-9]:[0-5][0-9]:[0-5][0-9](\\-|\\+)[0-2][0-9]:[0-5][0-9]")) {
+      } else if (ISOOFFSETDATETIMEPATTERN.matcher(date).matches()) {
         // yyyy-MM-dd'T'HH:mm:ssXXX
         return OffsetDateTime.parse(date, DateTimeFormatter.ISO_OFFSET_DATE_TIME).atZoneSameInstant(zoneID).toLocalDate();
-      } else if (date.matches("[1-2][0-9]{3}-[0-1][0-9]-[0-3][0-9]T[0-2][0-9]:[0-5][0-9]:[0-5][0-9](\\-|\\+)[0-2][0-9][0-5][0-9]")) {
+      } else if (ISOOFFSETNOCOLONDATETIMEPATTERN.matcher(date).matches()) {
         // yyyy-MM-dd'T'HH:mm:ssZ
         return OffsetDateTime.parse(date, DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssZ")).atZoneSameInstant(zoneID).toLocalDate();
-      } else if (date.matches("[1-2][0-9]{3}-[0-1][0-9]-[0-3][0-9]T[0-2][0-9]:[0-5][0-9]:[0-5][0-9]\\.[0-9]{1,9}")) {
+      } else if (ISOFRACTIONDATETIMEPATTERN.matcher(date).matches()) {
         // yyyy-MM-dd'T'HH:mm:ss.SSS (ou nanos)
         return LocalDateTime.parse(date, DateTimeFormatter.ISO_LOCAL_DATE_TIME).atZone(zoneID).toLocalDate();
-      } else if (date.matches("[1-2][0-9]{3}-[0-1][0-9]-[0-3][0-9]T[0-2][0-9]:[0-5][0-9]:[0-5][0-9]")) {
+      } else if (ISODATETIMEPATTERN.matcher(date).matches()) {
         // yyyy-MM-dd'T'HH:mm:ss
         return LocalDateTime.parse(date, DateTimeFormatter.ISO_LOCAL_DATE_TIME).atZone(zoneID).toLocalDate();
-      } else if (date.matches("[0-3][0-9]/[0-1][0-9]/[1-2][0-9]{3}")) {
+      } else if (BRDATEPATTERN.matcher(date).matches()) {
         // dd/MM/yyyy
         return LocalDate.parse(date, DateTimeFormatter.ofPattern("dd/MM/yyyy"));
       } else {
@@ -812,7 +853,7 @@ public class RUTypes {
     }
 
     // Valida formato aceito: sinal opcional seguido de dígitos
-    if (!trimmed.matches("[+-]?[0-9]+")) {
+    if (!INTEGERPATTERN.matcher(trimmed).matches()) {
       throw new RFWValidationException("Formato de número inteiro no suportado. Valor: '${0}'", new String[] { value });
     }
 
@@ -1352,7 +1393,7 @@ public class RUTypes {
 
     // Regex: sinal opcional, dígitos obrigatórios, decimal opcional com dígitos
     // Aceita: 123, -10, +50, 1.23, -0.50, +12.0001
-    if (!trimmed.matches("[+-]?\\d+(\\.\\d+)?")) {
+    if (!DECIMALPATTERN.matcher(trimmed).matches()) {
       throw new RFWValidationException("Formato numérico inválido para BigDecimal. Valor recebido: '${0}'", new String[] { value });
     }
 
@@ -1468,7 +1509,7 @@ public class RUTypes {
     if (value == null) {
       return null;
     }
-    return value.replaceAll("\\D", "");
+    return RUString.removeNonDigits(value);
   }
 
   /**
@@ -2,6 +2,7 @@ package br.eng.rodrigogml.rfw.kernel.utils;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.regex.Pattern;
 
 import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
 import br.eng.rodrigogml.rfw.kernel.exceptions.RFWValidationException;
@@ -19,6 +20,74 @@ import br.eng.rodrigogml.rfw.kernel.preprocess.PreProcess;
  */
 public class RUValueValidation {
 
+  /**
+   * Valor com apenas dígitos (ao menos um).
+   */
+  private static final Pattern DIGITSPATTERN = Pattern.compile("\\d+");
+
+  /**
+   * Valor com exatamente 8 dígitos.
+   */
+  private static final Pattern DIGITS8PATTERN = Pattern.compile("\\d{8}");
+
+  /**
+   * Valor com exatamente 9 dígitos.
+   */
+  private static final Pattern DIGITS9PATTERN = Pattern.compile("\\d{9}");
+
+  /**
+   * Valor com exatamente 10 dígitos.
+   */
+  private static final Pattern DIGITS10PATTERN = Pattern.compile("\\d{10}");
+
+  /**
+   * Valor com exatamente 11 dígitos.
+   */
+  private static final Pattern DIGITS11PATTERN = Pattern.compile("\\d{11}");
+
+  /**
+   * Valor com exatamente 12 dígitos.
+   */
+  private static final Pattern DIGITS12PATTERN = Pattern.compile("\\d{12}");
+
+  /**
+   * Valor com exatamente 13 dígitos.
+   */
+  private static final Pattern DIGITS13PATTERN = Pattern.compile("\\d{13}");
+
+  /**
+   * Valor com exatamente 14 dígitos.
+   */
+  private static final Pattern DIGITS14PATTERN = Pattern.compile("\\d{14}");
+
+  /**
+   * Porta TCP/IP: de 1 a 5 dígitos. A faixa de valores é validada depois.
+   */
+  private static final Pattern TCPPORTPATTERN = Pattern.compile("^[0-9]{1,5}$");
+
+  /**
+   * Octeto de um endereço IPv4 (de 0 a 255, sem zeros à esquerda), usado no {@link #IPV4PATTERN}.
+   */
+  private static final String IPV4OCTET = "(0|[1-9][0-9]?|1[0-9]{2}|2[0-4][0-9]|25[0-5])";
+
+  /**
+   * Endereço IPv4 completo: quatro octetos separados por ponto.
+   */
+  private static final Pattern IPV4PATTERN = Pattern.compile("^" + IPV4OCTET + "(\\." + IPV4OCTET + "){3}$");
+
+  /**
+   * Sintaxe simplificada de endereço de e-mail, usada no {@link #validateEmailAddress(String)}.
+   */
+  private static final Pattern EMAILADDRESSPATTERN = Pattern.compile("^[\\w.-]+@[\\w.-]+\\.[a-zA-Z]{2,6}$");
+
+  /**
+   * Endereço de e-mail conforme a RFC 5322 – versão amplamente aceita (“relaxed official standard”), usada no {@link #validateMailAddress(String)}.
+   */
+  private static final Pattern MAILADDRESSPATTERN = Pattern.compile("^(?i)" + // case-insensitive
+      "[a-z0-9.!#$%&'*+/=?^_`{|}~-]+" + // local-part sem aspas
+      "@" + "(?:[a-z0-9](?:[a-z0-9-]{0,61}[a-z0-9])?\\.)+" + // labels do domínio
+      "[a-z]{2,}$"); // TLD
+
   /**
    * Valida se o valor informado representa uma porta TCP/IP válida.<br>
    * <p>
@@ -41,7 +110,7 @@ public class RUValueValidation {
     String trimmed = port.trim();
 
     // Deve conter apenas dígitos
-    if (!trimmed.matches("^[0-9]{1,5}$")) {
+    if (!TCPPORTPATTERN.matcher(trimmed).matches()) {
       throw new RFWValidationException("RFW_ERR_900003", new String[] { port });
     }
 
@@ -67,7 +136,7 @@ public class RUValueValidation {
     keyPrefix = RUString.removeNonDigits(keyPrefix);
 
     // Validar se a chave possui exatamente 43 dígitos
-    if (keyPrefix == null || keyPrefix.length() != 43 || !keyPrefix.matches("[0-9]+")) {
+    if (keyPrefix == null || keyPrefix.length() != 43 || !DIGITSPATTERN.matcher(keyPrefix).matches()) {
       throw new RFWValidationException("RFW_000047", new String[] { keyPrefix });
     }
 
@@ -121,21 +190,8 @@ public class RUValueValidation {
 
     String value = ip.trim(); // Remove espaços em branco nas extremidades para evitar falsos negativos.
 
-    // Padrão para um octeto IPv4:
-    // - "0"
-    // - 1 a 9
-    // - 10 a 99
-    // - 100 a 199
-    // - 200 a 249
-    // - 250 a 255
-    // Sem zeros à esquerda (exceto o "0" isolado).
-    String octetPattern = "(0|[1-9][0-9]?|1[0-9]{2}|2[0-4][0-9]|25[0-5])";
-
-    // IPv4 completo: quatro octetos separados por ponto.
-    String ipv4Regex = "^" + octetPattern + "(\\." + octetPattern + "){3}$";
-
-    // Caso não atenda ao padrão, lança erro de validação.
-    if (!value.matches(ipv4Regex)) {
+    // Caso não atenda ao padrão de quatro octetos (0 a 255, sem zeros à esquerda), lança erro de validação.
+    if (!IPV4PATTERN.matcher(value).matches()) {
       throw new RFWValidationException("RFW_ERR_900001", new String[] { ip });
     }
   }
@@ -148,7 +204,7 @@ public class RUValueValidation {
    */
   public static void validateCNPJ(String cnpj) throws RFWException {
     if (cnpj == null) throw new RFWValidationException("RFW_ERR_200011", new String[] { cnpj });
-    if (!cnpj.matches("\\d{14}")) throw new RFWValidationException("RFW_ERR_200012", new String[] { cnpj });
+    if (!DIGITS14PATTERN.matcher(cnpj).matches()) throw new RFWValidationException("RFW_ERR_200012", new String[] { cnpj });
     if (Integer.parseInt(cnpj.substring(8, 12)) == 0) throw new RFWValidationException("RFW_ERR_200013", new String[] { cnpj });
     if (Integer.parseInt(cnpj.substring(0, 8)) == 0) throw new RFWValidationException("RFW_ERR_200014", new String[] { cnpj });
     if (!cnpj.substring(12).equals(calcDVCNPJ(cnpj.substring(0, 12)))) throw new RFWValidationException("RFW_ERR_200016", new String[] { cnpj });
@@ -166,7 +222,7 @@ public class RUValueValidation {
    */
   public static String calcDVCNPJ(String cnpj) throws RFWException {
     PreProcess.requiredNonNull(cnpj);
-    if (!cnpj.matches("\\d{12}")) throw new RFWValidationException("RFW_000048");
+    if (!DIGITS12PATTERN.matcher(cnpj).matches()) throw new RFWValidationException("RFW_000048");
 
     int[] weights1 = { 5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2 };
     int[] weights2 = { 6, 5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3 };
@@ -193,7 +249,7 @@ public class RUValueValidation {
    */
   public static void validateCPF(String cpf) throws RFWException {
     if (cpf == null) throw new RFWValidationException("RFW_ERR_200017", new String[] { cpf });
-    if (!cpf.matches("\\d{11}")) throw new RFWValidationException("RFW_ERR_200018", new String[] { cpf });
+    if (!DIGITS11PATTERN.matcher(cpf).matches()) throw new RFWValidationException("RFW_ERR_200018", new String[] { cpf });
     if (Integer.parseInt(cpf.substring(0, 9)) == 0) throw new RFWValidationException("RFW_ERR_200019", new String[] { cpf });
     if (!cpf.substring(9).equals(calcDVCPF(cpf.substring(0, 9)))) throw new RFWValidationException("RFW_ERR_200021", new String[] { cpf });
   }
@@ -210,7 +266,7 @@ public class RUValueValidation {
    */
   public static String calcDVCPF(String cpf) throws RFWException {
     PreProcess.requiredNonNull(cpf);
-    if (!cpf.matches("\\d{9}")) throw new RFWValidationException("RFW_000049");
+    if (!DIGITS9PATTERN.matcher(cpf).matches()) throw new RFWValidationException("RFW_000049");
 
     int[] weights1 = { 10, 9, 8, 7, 6, 5, 4, 3, 2 };
     int[] weights2 = { 11, 10, 9, 8, 7, 6, 5, 4, 3 };
@@ -237,7 +293,7 @@ public class RUValueValidation {
    */
   public static void validateCPFOrCNPJ(String cpfOrCnpj) throws RFWException {
     if (cpfOrCnpj == null) throw new RFWValidationException("RFW_ERR_200018", new String[] { cpfOrCnpj });
-    if (!cpfOrCnpj.matches("\\d{11}") && !cpfOrCnpj.matches("\\d{14}")) throw new RFWValidationException("RFW_ERR_200419", new String[] { cpfOrCnpj });
+    if (!DIGITS11PATTERN.matcher(cpfOrCnpj).matches() && !DIGITS14PATTERN.matcher(cpfOrCnpj).matches()) throw new RFWValidationException("RFW_ERR_200419", new String[] { cpfOrCnpj });
     if (Integer.parseInt(cpfOrCnpj.substring(0, 9)) == 0) throw new RFWValidationException("RFW_ERR_200420", new String[] { cpfOrCnpj });
 
     if (cpfOrCnpj.length() == 11) {
@@ -273,7 +329,7 @@ public class RUValueValidation {
    */
   public static void validateIEonTO(String ie) throws RFWException {
     // valida quantida de digitos
-    if (ie == null || !ie.matches("[0-9]{9}") && !ie.matches("[0-9]{11}")) {
+    if (ie == null || !DIGITS9PATTERN.matcher(ie).matches() && !DIGITS11PATTERN.matcher(ie).matches()) {
       throw new RFWValidationException("BISERP_100069");
     } else if (ie.length() == 9) {
       ie = ie.substring(0, 2) + "02" + ie.substring(2);
@@ -307,7 +363,7 @@ public class RUValueValidation {
    * @throws RFWValidationException Se a IE for inválida.
    */
   public static void validateIEonSE(String ie) throws RFWException {
-    if (ie == null || !ie.matches("\\d{9}")) {
+    if (ie == null || !DIGITS9PATTERN.matcher(ie).matches()) {
       throw new RFWValidationException("BISERP_100067");
     }
 
@@ -339,7 +395,7 @@ public class RUValueValidation {
    * @throws RFWValidationException Se a IE for inválida.
    */
   public static void validateIEonSP(String ie) throws RFWException {
-    if (ie == null || !ie.matches("\\d{12}")) {
+    if (ie == null || !DIGITS12PATTERN.matcher(ie).matches()) {
       throw new RFWValidationException("BISERP_000299");
     }
 
@@ -375,7 +431,7 @@ public class RUValueValidation {
    * @throws RFWValidationException Se a IE for inválida.
    */
   public static void validateIEonSC(String ie) throws RFWException {
-    if (ie == null || !ie.matches("\\d{9}")) {
+    if (ie == null || !DIGITS9PATTERN.matcher(ie).matches()) {
       throw new RFWValidationException("BISERP_100065");
     }
 
@@ -407,7 +463,7 @@ public class RUValueValidation {
    * @throws RFWValidationException Se a IE for inválida.
    */
   public static void validateIEonRR(String ie) throws RFWException {
-    if (ie == null || !ie.matches("\\d{9}")) {
+    if (ie == null || !DIGITS9PATTERN.matcher(ie).matches()) {
       throw new RFWValidationException("BISERP_100062");
     }
 
@@ -441,7 +497,7 @@ public class RUValueValidation {
    * @throws RFWValidationException Se a IE for inválida.
    */
   public static void validateIEonRO(String ie) throws RFWException {
-    if (ie == null || !ie.matches("\\d{14}")) {
+    if (ie == null || !DIGITS14PATTERN.matcher(ie).matches()) {
       throw new RFWValidationException("BISERP_100060");
     }
 
@@ -478,7 +534,7 @@ public class RUValueValidation {
    * @throws RFWValidationException Se a IE for inválida.
    */
   public static void validateIEonRS(String ie) throws RFWException {
-    if (ie == null || !ie.matches("\\d{10}")) {
+    if (ie == null || !DIGITS10PATTERN.matcher(ie).matches()) {
       throw new RFWValidationException("BISERP_100058");
     }
 
@@ -510,7 +566,7 @@ public class RUValueValidation {
    * @throws RFWValidationException Se a IE for inválida.
    */
   public static void validateIEonRN(String ie) throws RFWException {
-    if (ie == null || !(ie.matches("\\d{9}") || ie.matches("\\d{10}"))) {
+    if (ie == null || !(DIGITS9PATTERN.matcher(ie).matches() || DIGITS10PATTERN.matcher(ie).matches())) {
       throw new RFWValidationException("BISERP_100055");
     }
 
@@ -547,7 +603,7 @@ public class RUValueValidation {
    * @throws RFWValidationException Se a IE for inválida.
    */
   public static void validateIEonRJ(String ie) throws RFWException {
-    if (ie == null || !ie.matches("\\d{8}")) {
+    if (ie == null || !DIGITS8PATTERN.matcher(ie).matches()) {
       throw new RFWValidationException("BISERP_100053");
     }
 
@@ -579,7 +635,7 @@ public class RUValueValidation {
    * @throws RFWValidationException Se a IE for inválida.
    */
   public static void validateIEonPI(String ie) throws RFWException {
-    if (ie == null || !ie.matches("\\d{9}")) {
+    if (ie == null || !DIGITS9PATTERN.matcher(ie).matches()) {
       throw new RFWValidationException("BISERP_100051");
     }
 
@@ -611,7 +667,7 @@ public class RUValueValidation {
    * @throws RFWValidationException Se a IE for inválida.
    */
   public static void validateIEonPE(String ie) throws RFWException {
-    if (ie == null || !(ie.matches("\\d{9}") || ie.matches("\\d{14}"))) {
+    if (ie == null || !(DIGITS9PATTERN.matcher(ie).matches() || DIGITS14PATTERN.matcher(ie).matches())) {
       throw new RFWValidationException("BISERP_100049");
     }
 
@@ -676,7 +732,7 @@ public class RUValueValidation {
    * @throws RFWValidationException Se a IE for inválida.
    */
   public static void validateIEonPR(String ie) throws RFWException {
-    if (ie == null || !ie.matches("\\d{10}")) {
+    if (ie == null || !DIGITS10PATTERN.matcher(ie).matches()) {
       throw new RFWValidationException("BISERP_100047");
     }
 
@@ -723,7 +779,7 @@ public class RUValueValidation {
    * @throws RFWValidationException Se a IE for inválida.
    */
   public static void validateIEonPB(String ie) throws RFWException {
-    if (ie == null || !ie.matches("\\d{9}")) {
+    if (ie == null || !DIGITS9PATTERN.matcher(ie).matches()) {
       throw new RFWValidationException("BISERP_100045");
     }
 
@@ -755,7 +811,7 @@ public class RUValueValidation {
    * @throws RFWValidationException Se a IE for inválida.
    */
   public static void validateIEonPA(String ie) throws RFWException {
-    if (ie == null || !ie.matches("\\d{9}")) {
+    if (ie == null || !DIGITS9PATTERN.matcher(ie).matches()) {
       throw new RFWValidationException("BISERP_100042");
     }
 
@@ -792,7 +848,7 @@ public class RUValueValidation {
    * @throws RFWValidationException Se a IE for inválida.
    */
   public static void validateIEonMG(String ie) throws RFWException {
-    if (ie == null || !ie.matches("\\d{13}")) {
+    if (ie == null || !DIGITS13PATTERN.matcher(ie).matches()) {
       throw new RFWValidationException("BISERP_100040");
     }
 
@@ -838,7 +894,7 @@ public class RUValueValidation {
    * @throws RFWValidationException Se a IE for inválida.
    */
   public static void validateIEonMS(String ie) throws RFWException {
-    if (ie == null || !ie.matches("\\d{9}")) {
+    if (ie == null || !DIGITS9PATTERN.matcher(ie).matches()) {
       throw new RFWValidationException("BISERP_100037");
     }
 
@@ -873,7 +929,7 @@ public class RUValueValidation {
    * @throws RFWValidationException Se a IE for inválida.
    */
   public static void validateIEonMT(String ie) throws RFWException {
-    if (ie == null || !ie.matches("\\d{11}")) {
+    if (ie == null || !DIGITS11PATTERN.matcher(ie).matches()) {
       throw new RFWValidationException("BISERP_100035");
     }
 
@@ -904,7 +960,7 @@ public class RUValueValidation {
    * @throws RFWValidationException Se a IE for inválida.
    */
   public static void validateIEonMA(String ie) throws RFWException {
-    if (ie == null || !ie.matches("\\d{9}")) {
+    if (ie == null || !DIGITS9PATTERN.matcher(ie).matches()) {
       throw new RFWValidationException("BISERP_100032");
     }
 
@@ -939,7 +995,7 @@ public class RUValueValidation {
    * @throws RFWValidationException Se a IE for inválida.
    */
   public static void validateIEonGO(String ie) throws RFWValidationException {
-    if (ie == null || !ie.matches("\\d{9}")) {
+    if (ie == null || !DIGITS9PATTERN.matcher(ie).matches()) {
       throw new RFWValidationException("BISERP_100029");
     }
 
@@ -993,7 +1049,7 @@ public class RUValueValidation {
    * @throws RFWValidationException Se a IE for inválida.
    */
   public static void validateIEonES(String ie) throws RFWValidationException {
-    if (ie == null || !ie.matches("\\d{9}")) {
+    if (ie == null || !DIGITS9PATTERN.matcher(ie).matches()) {
       throw new RFWValidationException("BISERP_100027");
     }
 
@@ -1022,7 +1078,7 @@ public class RUValueValidation {
    * @throws RFWValidationException Se a IE for inválida.
    */
   public static void validateIEonDF(String ie) throws RFWValidationException {
-    if (ie == null || !ie.matches("\\d{13}")) {
+    if (ie == null || !DIGITS13PATTERN.matcher(ie).matches()) {
       throw new RFWValidationException("BISERP_100025");
     }
 
@@ -1063,7 +1119,7 @@ public class RUValueValidation {
    * @throws RFWValidationException Se a IE for inválida.
    */
   public static void validateIEonCE(String ie) throws RFWValidationException {
-    if (ie == null || !ie.matches("\\d{9}")) {
+    if (ie == null || !DIGITS9PATTERN.matcher(ie).matches()) {
       throw new RFWValidationException("BISERP_100023");
     }
 
@@ -1092,7 +1148,7 @@ public class RUValueValidation {
    * @throws RFWValidationException Se a IE for inválida.
    */
   public static void validateIEonBA(String ie) throws RFWValidationException {
-    if (ie == null || !ie.matches("\\d{8}|\\d{9}")) {
+    if (ie == null || !(DIGITS8PATTERN.matcher(ie).matches() || DIGITS9PATTERN.matcher(ie).matches())) {
       throw new RFWValidationException("BISERP_100021");
     }
 
@@ -1130,7 +1186,7 @@ public class RUValueValidation {
    * @throws RFWValidationException Se a IE for inválida.
    */
   public static void validateIEonAM(String ie) throws RFWValidationException {
-    if (ie == null || !ie.matches("\\d{9}")) {
+    if (ie == null || !DIGITS9PATTERN.matcher(ie).matches()) {
       throw new RFWValidationException("BISERP_100019");
     }
 
@@ -1157,7 +1213,7 @@ public class RUValueValidation {
    * @throws RFWValidationException Se a IE for inválida.
    */
   public static void validateIEonAP(String ie) throws RFWValidationException {
-    if (ie == null || !ie.matches("\\d{9}")) {
+    if (ie == null || !DIGITS9PATTERN.matcher(ie).matches()) {
       throw new RFWValidationException("BISERP_100016");
     }
 
@@ -1194,7 +1250,7 @@ public class RUValueValidation {
    * @throws RFWValidationException Se a IE for inválida.
    */
   public static void validateIEonAL(String ie) throws RFWValidationException {
-    if (ie == null || !ie.matches("\\d{9}")) {
+    if (ie == null || !DIGITS9PATTERN.matcher(ie).matches()) {
       throw new RFWValidationException("BISERP_100013");
     }
 
@@ -1231,7 +1287,7 @@ public class RUValueValidation {
    * @throws RFWValidationException Se a IE for inválida.
    */
   public static void validateIEonAC(String ie) throws RFWValidationException {
-    if (ie == null || !ie.matches("\\d{13}")) {
+    if (ie == null || !DIGITS13PATTERN.matcher(ie).matches()) {
       throw new RFWValidationException("BISERP_100010");
     }
 
@@ -1524,7 +1580,7 @@ public class RUValueValidation {
    */
   public static String calcDVGenericMod11(String value) throws RFWException {
     value = RUString.removeNonDigits(value);
-    if (value == null || !value.matches("[0-9]+")) {
+    if (value == null || !DIGITSPATTERN.matcher(value).matches()) {
       throw new RFWValidationException("É esperado apenas uma entrada com dígitos. O valor '${0}' é inválido!", new String[] { value });
     }
 
@@ -1549,7 +1605,7 @@ public class RUValueValidation {
    * @throws RFWException
    */
   public static void validateEmailAddress(String email) throws RFWException {
-    if (!email.matches("^[\\w.-]+@[\\w.-]+\\.[a-zA-Z]{2,6}$")) {
+    if (!EMAILADDRESSPATTERN.matcher(email).matches()) {
       throw new RFWValidationException("RFW_000062");
     }
   }
@@ -1590,7 +1646,7 @@ public class RUValueValidation {
    * @return true se o valor for válido; false caso contrário
    */
   public static boolean isValidGTIN(String value) {
-    if (value == null || !value.matches("\\d+")) return false;
+    if (value == null || !DIGITSPATTERN.matcher(value).matches()) return false;
 
     int len = value.length();
 
@@ -1744,7 +1800,7 @@ public class RUValueValidation {
    * @return true se todas as validações forem atendidas
    */
   private static boolean validateLengthAndDV(String value, int expectedLength) {
-    if (value == null || value.length() != expectedLength || !value.matches("\\d+")) {
+    if (value == null || value.length() != expectedLength || !DIGITSPATTERN.matcher(value).matches()) {
       return false;
     }
 
@@ -1804,13 +1860,7 @@ public class RUValueValidation {
       throw new RFWValidationException("RFW_000018");
     }
 
-    // RFC 5322 – versão amplamente aceita (“relaxed official standard”)
-    final String regex = "^(?i)" + // case-insensitive
-        "[a-z0-9.!#$%&'*+/=?^_`{|}~-]+" + // local-part sem aspas
-        "@" + "(?:[a-z0-9](?:[a-z0-9-]{0,61}[a-z0-9])?\\.)+" + // labels do domínio
-        "[a-z]{2,}$"; // TLD
-
-    if (!mail.matches(regex)) {
+    if (!MAILADDRESSPATTERN.matcher(mail).matches()) {
       throw new RFWValidationException("O endereço de e-mail não é um endereço válido.");
     }
   }
@@ -0,0 +1,99 @@
+package br.eng.rodrigogml.rfw.kernel.validator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWVO;
+
+/**
+ * Description: Resultado da validação em lote realizada pelo {@link RFWValidator#validatePersistAll(Class, java.util.Collection)}.<br>
+ * Mantém, na mesma ordem da coleção recebida, cada objeto validado e a exceção lançada pela sua validação (ou null quando o objeto é válido). A falha de um objeto não interrompe a validação dos demais.
+ *
+ * @author Rodrigo GML
+ * @since 1.0.0 (17 de out. de 2026)
+ */
+public class RFWValidationBatchResult {
+
+  /**
+   * Objetos validados, na ordem em que foram recebidos.
+   */
+  private final RFWVO[] vos;
+
+  /**
+   * Exceção lançada na validação de cada objeto, no mesmo índice de {@link #vos}. Null quando o objeto foi validado sem falhas.
+   */
+  private final RFWException[] exceptions;
+
+  RFWValidationBatchResult(RFWVO[] vos, RFWException[] exceptions) {
+    this.vos = vos;
+    this.exceptions = exceptions;
+  }
+
+  /**
+   * Retorna a quantidade de objetos validados.
+   */
+  public int size() {
+    return this.vos.length;
+  }
+
+  /**
+   * Retorna o objeto validado na posição informada.
+   *
+   * @param index Posição do objeto na coleção recebida para validação.
+   */
+  public RFWVO getVO(int index) {
+    return this.vos[index];
+  }
+
+  /**
+   * Retorna a exceção lançada na validação do objeto na posição informada. Em geral um RFWValidationGroupException com as falhas de validação, mas pode ser qualquer {@link RFWException} lançada durante a validação (como um RFWCriticalException).
+   *
+   * @param index Posição do objeto na coleção recebida para validação.
+   * @return Exceção lançada ou null caso o objeto seja válido.
+   */
+  public RFWException getException(int index) {
+    return this.exceptions[index];
+  }
+
+  /**
+   * Verifica se o objeto na posição informada foi validado sem falhas.
+   *
+   * @param index Posição do objeto na coleção recebida para validação.
+   */
+  public boolean isValid(int index) {
+    return this.exceptions[index] == null;
+  }
+
+  /**
+   * Verifica se todos os objetos foram validados sem falhas.
+   */
+  public boolean isValid() {
+    for (RFWException e : this.exceptions) {
+      if (e != null) return false;
+    }
+    return true;
+  }
+
+  /**
+   * Retorna as posições dos objetos que falharam na validação, em ordem crescente.
+   */
+  public List<Integer> getInvalidIndexes() {
+    final ArrayList<Integer> list = new ArrayList<>();
+    for (int i = 0; i < this.exceptions.length; i++) {
+      if (this.exceptions[i] != null) list.add(i);
+    }
+    return list;
+  }
+
+  /**
+   * Lança a exceção do primeiro objeto (na ordem recebida) que falhou na validação. Não faz nada caso todos os objetos sejam válidos.
+   *
+   * @throws RFWException Exceção do primeiro objeto inválido.
+   */
+  public void throwFirstException() throws RFWException {
+    for (RFWException e : this.exceptions) {
+      if (e != null) throw e;
+    }
+  }
+}
@@ -0,0 +1,133 @@
+package br.eng.rodrigogml.rfw.kernel.validator;
+
+import java.io.Serializable;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWValidationException;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWVO;
+
+/**
+ * Description: Falha de validação encontrada pelo {@link RFWValidator}, com as mesmas informações de um {@link RFWValidationException} mas sem ser um Throwable.<br>
+ * Permite acumular as falhas da validação sem o custo de criar uma exceção (e sua pilha de execução) para cada atributo inválido.
+ *
+ * @author Rodrigo GML
+ * @since 1.0.0 (17 de out. de 2026)
+ */
+public class RFWValidationFailure implements Serializable {
+
+  private static final long serialVersionUID = -2741863529173518416L;
+
+  /**
+   * Código do erro para resolver no arquivo de bundle, ou a própria mensagem de erro.
+   */
+  private final String exceptionCode;
+
+  /**
+   * Parâmetros que serão substituídos na mensagem do Bundle com o padrão ${0}, ${1} ...
+   */
+  private final String[] params;
+
+  /**
+   * Caminho para o atributo que falhou na validação.
+   */
+  private final String fieldPath;
+
+  /**
+   * Nome da Classe descendente do {@link RFWVO} que falhou na validação.
+   */
+  private final String className;
+
+  /**
+   * Título dos campos que falharam na validação, utilizados para substituir o ${fieldname} da mensagem.
+   */
+  private final String[] fieldName;
+
+  /**
+   * Exceção original, quando a falha foi recebida como exceção (como as lançadas pelos métodos de validação do RUValueValidation). Mantida para não perder a causa da falha quando a exceção for lançada.
+   */
+  private final transient RFWValidationException exception;
+
+  RFWValidationFailure(String exceptionCode, String[] params, String fieldPath, String className, String[] fieldName) {
+    this.exceptionCode = exceptionCode;
+    this.params = params;
+    this.fieldPath = fieldPath;
+    this.className = className;
+    this.fieldName = fieldName;
+    this.exception = null;
+  }
+
+  RFWValidationFailure(RFWValidationException exception) {
+    this.exceptionCode = exception.getExceptionCode();
+    this.params = exception.getParams();
+    this.fieldPath = exception.getFieldPath();
+    this.className = exception.getClassName();
+    this.fieldName = exception.getFieldName();
+    this.exception = exception;
+  }
+
+  /**
+   * Cria a exceção equivalente a esta falha. Caso a falha tenha sido recebida como exceção, retorna a exceção original.
+   */
+  public RFWValidationException toException() {
+    return toException(true);
+  }
+
+  /**
+   * Cria a exceção equivalente a esta falha. Caso a falha tenha sido recebida como exceção, retorna a exceção original.
+   *
+   * @param writableStackTrace Indica se a pilha de execução deve ser registrada.
+   */
+  RFWValidationException toException(boolean writableStackTrace) {
+    if (this.exception != null) return this.exception;
+    return new RFWValidationException(this.exceptionCode, this.params, this.fieldPath, this.className, this.fieldName, writableStackTrace);
+  }
+
+  /**
+   * # código do erro para resolver no arquivo de bundle, ou a própria mensagem de erro.
+   *
+   * @return the código do erro para resolver no arquivo de bundle, ou a própria mensagem de erro
+   */
+  public String getExceptionCode() {
+    return exceptionCode;
+  }
+
+  /**
+   * # parâmetros que serão substituídos na mensagem do Bundle com o padrão ${0}, ${1} ...
+   *
+   * @return the parâmetros que serão substituídos na mensagem do Bundle com o padrão ${0}, ${1} ...
+   */
+  public String[] getParams() {
+    return params;
+  }
+
+  /**
+   * # caminho para o atributo que falhou na validação.
+   *
+   * @return the caminho para o atributo que falhou na validação
+   */
+  public String getFieldPath() {
+    return fieldPath;
+  }
+
+  /**
+   * # nome da Classe descendente do {@link RFWVO} que falhou na validação.
+   *
+   * @return the nome da Classe descendente do {@link RFWVO} que falhou na validação
+   */
+  public String getClassName() {
+    return className;
+  }
+
+  /**
+   * # título dos campos que falharam na validação, utilizados para substituir o ${fieldname} da mensagem.
+   *
+   * @return the título dos campos que falharam na validação, utilizados para substituir o ${fieldname} da mensagem
+   */
+  public String[] getFieldName() {
+    return fieldName;
+  }
+
+  @Override
+  public String toString() {
+    return this.fieldPath + ": " + this.exceptionCode;
+  }
+}
@@ -0,0 +1,81 @@
+package br.eng.rodrigogml.rfw.kernel.validator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWValidationException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWValidationGroupException;
+
+/**
+ * Description: Resultado da validação realizada pelo {@link RFWValidator#checkPersist(Class, br.eng.rodrigogml.rfw.kernel.vo.RFWVO, String[])}.<br>
+ * Contém as falhas de validação encontradas, na mesma ordem em que seriam reportadas no {@link RFWValidationGroupException}, sem que nenhuma exceção seja criada.
+ *
+ * @author Rodrigo GML
+ * @since 1.0.0 (17 de out. de 2026)
+ */
+public class RFWValidationResult {
+
+  /**
+   * Falhas de validação encontradas.
+   */
+  private final List<RFWValidationFailure> failures;
+
+  RFWValidationResult(List<RFWValidationFailure> failures) {
+    this.failures = Collections.unmodifiableList(failures);
+  }
+
+  /**
+   * Verifica se o objeto foi validado sem falhas.
+   */
+  public boolean isValid() {
+    return this.failures.isEmpty();
+  }
+
+  /**
+   * Retorna a quantidade de falhas encontradas.
+   */
+  public int size() {
+    return this.failures.size();
+  }
+
+  /**
+   * Retorna as falhas de validação encontradas, na ordem em que foram encontradas.
+   */
+  public List<RFWValidationFailure> getFailures() {
+    return this.failures;
+  }
+
+  /**
+   * Cria o {@link RFWValidationGroupException} com as falhas encontradas, o mesmo que seria lançado pelo {@link RFWValidator#validatePersist(Class, br.eng.rodrigogml.rfw.kernel.vo.RFWVO, String[])}.
+   *
+   * @return Exceção com as falhas ou null caso o objeto seja válido.
+   */
+  public RFWValidationGroupException toException() {
+    return toException(true);
+  }
+
+  /**
+   * Cria o {@link RFWValidationGroupException} com as falhas encontradas.
+   *
+   * @param writableStackTrace Indica se a pilha de execução do grupo e de cada falha deve ser registrada. Utilizado como false apenas na validação em lote, onde muitas exceções podem ser criadas.
+   * @return Exceção com as falhas ou null caso o objeto seja válido.
+   */
+  RFWValidationGroupException toException(boolean writableStackTrace) {
+    if (this.failures.isEmpty()) return null;
+    final ArrayList<RFWValidationException> list = new ArrayList<>(this.failures.size());
+    for (RFWValidationFailure failure : this.failures) {
+      list.add(failure.toException(writableStackTrace));
+    }
+    return new RFWValidationGroupException(list, writableStackTrace);
+  }
+
+  /**
+   * Lança o {@link RFWValidationGroupException} com as falhas encontradas. Não faz nada caso o objeto seja válido.
+   *
+   * @throws RFWValidationGroupException Exceção com as falhas encontradas.
+   */
+  public void throwIfInvalid() throws RFWValidationGroupException {
+    if (!this.failures.isEmpty()) throw toException();
+  }
+}
@@ -2,20 +2,32 @@ package br.eng.rodrigogml.rfw.kernel.validator;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.math.BigDecimal;
-import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
 
 import br.eng.rodrigogml.rfw.kernel.RFW;
 import br.eng.rodrigogml.rfw.kernel.dataformatters.RFWCEPDataFormatter;
@@ -25,6 +37,7 @@ import br.eng.rodrigogml.rfw.kernel.exceptions.RFWCriticalException;
 import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
 import br.eng.rodrigogml.rfw.kernel.exceptions.RFWValidationException;
 import br.eng.rodrigogml.rfw.kernel.exceptions.RFWValidationGroupException;
+import br.eng.rodrigogml.rfw.kernel.interfaces.RFWCachedDBProvider;
 import br.eng.rodrigogml.rfw.kernel.interfaces.RFWDBProvider;
 import br.eng.rodrigogml.rfw.kernel.rfwmeta.RFWMetaAttributeRelation;
 import br.eng.rodrigogml.rfw.kernel.rfwmeta.RFWMetaAttributeRelation.CompareOperation;
@@ -56,9 +69,14 @@ import br.eng.rodrigogml.rfw.kernel.rfwmeta.RFWMetaUniqueConstraint;
 import br.eng.rodrigogml.rfw.kernel.rfwmeta.RFWMetaUsedBy;
 import br.eng.rodrigogml.rfw.kernel.rfwmeta.RFWMetaUsedByArray;
 import br.eng.rodrigogml.rfw.kernel.utils.RUReflex;
+import br.eng.rodrigogml.rfw.kernel.utils.RURegex;
+import br.eng.rodrigogml.rfw.kernel.utils.RUString;
 import br.eng.rodrigogml.rfw.kernel.utils.RUValueValidation;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWAttributePath;
 import br.eng.rodrigogml.rfw.kernel.vo.RFWMO;
 import br.eng.rodrigogml.rfw.kernel.vo.RFWVO;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWVOFieldMeta;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWVOMeta;
 
 /**
  * Description: Classe principal do RFWValidator.<BR>
@@ -75,11 +93,465 @@ public class RFWValidator {
     INSERT, UPDATE, DELETE
   }
 
+  /**
+   * Tipos de regra de validação de atributo, um para cada RFWMeta annotation suportada.
+   */
+  private static enum RuleType {
+    STRING, INTEGER, LONG, BIGDECIMAL, BIGDECIMALCURRENCY, BIGDECIMALPERCENTAGE, ENUM, COLLECTION, DOUBLE, FLOAT, BOOLEAN, STRINGCNPJ, STRINGCPF, STRINGCPFORCNPJ, STRINGEMAIL, STRINGIE, STRINGCEP, STRINGPHONE, DATE, RELATIONSHIP, BYTEARRAY, GENERIC, UNSUPPORTED
+  }
+
+  /**
+   * Data mínima ou máxima da {@link RFWMetaDateField} já interpretada para o tipo de data do atributo. Caso o valor da annotation seja inválido, mantém o erro para que seja lançado apenas quando a validação precisar do valor, como acontecia antes do plano.
+   */
+  private static final class DateBound {
+    final Object value;
+    final Exception error;
+
+    DateBound(Object value, Exception error) {
+      this.value = value;
+      this.error = error;
+    }
+  }
+
+  /**
+   * Regra de validação de um atributo do VO. Mantém a annotation encontrada e os valores que antes eram lidos e interpretados a cada validação (obrigatoriedade, unicidade, pattern, limites, etc.).
+   */
+  private static final class FieldRule {
+    final RFWVOFieldMeta field;
+    final RuleType type;
+    final Annotation annotation;
+    final boolean required;
+    final boolean unique;
+    final String caption;
+    /**
+     * Indica se é um relacionamento de composição, sempre validado na validação incremental já que os objetos filhos podem ter sido alterados sem alterar o atributo.
+     */
+    final boolean composition;
+    Pattern pattern = null;
+    RuntimeException patternError = null;
+    int minScale = 0;
+    int maxScale = 0;
+    BigDecimal minValue = null;
+    BigDecimal maxValue = null;
+    RuntimeException minValueError = null;
+    RuntimeException maxValueError = null;
+    Class<?> dateType = null;
+    DateBound minDate = null;
+    DateBound maxDate = null;
+
+    FieldRule(RFWVOFieldMeta field, RuleType type, Annotation annotation) {
+      this.field = field;
+      this.type = type;
+      this.annotation = annotation;
+      this.required = Boolean.TRUE.equals(readAnnotationValue(annotation, "required"));
+      this.unique = Boolean.TRUE.equals(readAnnotationValue(annotation, "unique"));
+      this.caption = (String) readAnnotationValue(annotation, "caption");
+      this.composition = annotation instanceof RFWMetaRelationshipField && (((RFWMetaRelationshipField) annotation).relationship() == RelationshipTypes.COMPOSITION || ((RFWMetaRelationshipField) annotation).relationship() == RelationshipTypes.COMPOSITION_TREE);
+    }
+
+    private static Object readAnnotationValue(Annotation annotation, String name) {
+      if (annotation == null) return null;
+      try {
+        final Method method = annotation.annotationType().getMethod(name);
+        return method.invoke(annotation);
+      } catch (Exception e) {
+        // A annotation não tem a propriedade
+        return null;
+      }
+    }
+
+    /**
+     * Interpreta as definições de escala e os valores mínimo e máximo das annotations de BigDecimal.
+     */
+    void setBigDecimalBounds(int scale, int scaleMax, String minValue, String maxValue) {
+      this.minScale = (scale == -1 ? 0 : scale);
+      this.maxScale = (scaleMax == -1 ? this.minScale : scaleMax);
+      try {
+        if (!"".equals(maxValue)) this.maxValue = new BigDecimal(maxValue);
+      } catch (RuntimeException e) {
+        this.maxValueError = e;
+      }
+      try {
+        if (!"".equals(minValue)) this.minValue = new BigDecimal(minValue);
+      } catch (RuntimeException e) {
+        this.minValueError = e;
+      }
+    }
+  }
+
+  /**
+   * Plano de validação de uma classe de VO: as regras dos atributos declarados na classe, na ordem de declaração, e as annotations de classe.
+   */
+  private static final class ValidationPlan {
+    final FieldRule[] rules;
+    final RFWMetaUniqueConstraint uniqueConstraint;
+    final RFWMetaAttributeRelation attributeRelation;
+
+    ValidationPlan(FieldRule[] rules, RFWMetaUniqueConstraint uniqueConstraint, RFWMetaAttributeRelation attributeRelation) {
+      this.rules = rules;
+      this.uniqueConstraint = uniqueConstraint;
+      this.attributeRelation = attributeRelation;
+    }
+  }
+
+  /**
+   * Verificação de existência de um objeto associado, coletada durante a validação para ser feita em lote ao final.
+   */
+  private static final class AssociationCheck {
+    final Long id;
+    final int sequence;
+    final String message;
+    final String[] params;
+
+    AssociationCheck(Long id, int sequence, String message, String[] params) {
+      this.id = id;
+      this.sequence = sequence;
+      this.message = message;
+      this.params = params;
+    }
+  }
+
+  /**
+   * Verificação de unicidade de um ou mais atributos do VO, com as informações para montar o RFWMO da consulta e a falha de validação caso seja encontrado outro objeto com os mesmos valores.
+   */
+  private static final class UniqueCheck {
+    final Class<? extends RFWVO> voClass;
+    final String[] fields;
+    final Object[] values;
+    final Long excludeID;
+    final String message;
+    final String fieldPath;
+    final String className;
+    final String[] fieldName;
+    /**
+     * Posição do objeto no lote, usado apenas na validação em lote.
+     */
+    int itemIndex = -1;
+    private List<Object> key = null;
+    private List<Object> batchKey = null;
+
+    UniqueCheck(Class<? extends RFWVO> voClass, String[] fields, Object[] values, Long excludeID, String message, String fieldPath, String className, String[] fieldName) {
+      this.voClass = voClass;
+      this.fields = fields;
+      this.values = values;
+      this.excludeID = excludeID;
+      this.message = message;
+      this.fieldPath = fieldPath;
+      this.className = className;
+      this.fieldName = fieldName;
+    }
+
+    /**
+     * Monta o RFWMO para procurar outro objeto com os mesmos valores.
+     */
+    RFWMO createMO() throws RFWException {
+      final RFWMO mo = new RFWMO();
+      try {
+        for (int i = 0; i < this.fields.length; i++) {
+          if (this.values[i] == null) {
+            mo.isNull(this.fields[i]);
+          } else {
+            mo.equal(this.fields[i], this.values[i]);
+          }
+        }
+        if (this.excludeID != null) mo.notEqual("id", this.excludeID);
+      } catch (Exception e) {
+        throw new RFWCriticalException("Falha ao montar MO para teste de UniqueConstraint: '${0}'.", new String[] { e.getMessage() }, e);
+      }
+      return mo;
+    }
+
+    RFWValidationException createException() {
+      return new RFWValidationException(this.message, null, this.fieldPath, this.className, this.fieldName, false);
+    }
+
+    /**
+     * Chave com os valores normalizados, usada para identificar os objetos do banco de dados que têm exatamente os mesmos valores.
+     */
+    List<Object> getKey() {
+      if (this.key == null) {
+        final Object[] normalized = new Object[this.values.length];
+        for (int i = 0; i < normalized.length; i++) {
+          normalized[i] = normalize(this.values[i]);
+        }
+        this.key = Arrays.asList(normalized);
+      }
+      return this.key;
+    }
+
+    /**
+     * Chave usada para encontrar os valores duplicados dentro do próprio lote. Como a collation do banco de dados pode não diferenciar maiúsculas, acentos ou espaços à direita, as Strings são comparadas sem essas diferenças, para não deixar passar valores que o
+     * banco consideraria iguais.
+     */
+    List<Object> getBatchKey() {
+      if (this.batchKey == null) {
+        final Object[] folded = new Object[this.values.length];
+        for (int i = 0; i < folded.length; i++) {
+          final Object value = normalize(this.values[i]);
+          folded[i] = value instanceof String ? fold((String) value) : value;
+        }
+        this.batchKey = Arrays.asList(folded);
+      }
+      return this.batchKey;
+    }
+
+    /**
+     * Verifica se a verificação pode ser consultada em lote: sem valores nulos e com atributos que estão no próprio objeto consultado (ou no ID de um objeto associado).
+     */
+    boolean isBatchable() {
+      for (int i = 0; i < this.fields.length; i++) {
+        if (this.values[i] == null) return false;
+        final String path = this.fields[i].endsWith(".id") ? this.fields[i].substring(0, this.fields[i].length() - 3) : this.fields[i];
+        if (path.indexOf('.') >= 0) return false;
+      }
+      return true;
+    }
+
+    /**
+     * Normaliza o valor para comparação: objetos são comparados pelo ID, BigDecimal sem os zeros à direita e datas pelo instante.
+     */
+    static Object normalize(Object value) {
+      if (value instanceof RFWVO) return ((RFWVO) value).getId();
+      if (value instanceof BigDecimal) return ((BigDecimal) value).stripTrailingZeros();
+      if (value instanceof Date) return ((Date) value).getTime();
+      return value;
+    }
+
+    /**
+     * Remove da String as diferenças que as collations mais permissivas desconsideram: maiúsculas, acentos e espaços à direita.
+     */
+    static String fold(String value) {
+      int end = value.length();
+      while (end > 0 && value.charAt(end - 1) == ' ')
+        end--;
+      return RUString.removeAccents(value.substring(0, end)).toLowerCase();
+    }
+  }
+
+  /**
+   * Estado de uma validação iniciada por um dos métodos públicos, compartilhado por toda a recursão do grafo de objetos.
+   */
+  private static final class ValidationContext {
+    /**
+     * DataProvider utilizado nas consultas desta validação. Pode ser o próprio DataProvider do validador ou o cache criado para a validação (veja {@link RFWValidator#enableCache(RFWCachedDBProvider.Scope, int, long)}).
+     */
+    final RFWDBProvider dataProvider;
+
+    /**
+     * Indica se a validação é incremental, validando nos objetos com controle de alterações apenas os atributos alterados (veja {@link RFWValidator#setIncrementalValidation(boolean)}).
+     */
+    final boolean incremental;
+
+    /**
+     * Indica se as verificações de unicidade devem ser apenas coletadas em {@link #uniqueChecks} para serem feitas em lote, ao invés de consultadas no momento da validação do atributo.
+     */
+    final boolean deferUniqueChecks;
+
+    /**
+     * Falhas de validação encontradas, na ordem em que foram encontradas.
+     */
+    final ArrayList<RFWValidationFailure> failures = new ArrayList<>();
+
+    /**
+     * Verificações de unicidade coletadas quando {@link #deferUniqueChecks} é true.
+     */
+    final ArrayList<UniqueCheck> uniqueChecks = new ArrayList<>();
+
+    ValidationContext(RFWDBProvider dataProvider, boolean deferUniqueChecks, boolean incremental) {
+      this.dataProvider = dataProvider;
+      this.incremental = incremental;
+      this.deferUniqueChecks = deferUniqueChecks;
+    }
+
+    /**
+     * Registra as falhas de uma exceção de validação recebida durante a validação. O {@link RFWValidator#FAILED} é ignorado, já que suas falhas já foram registradas.
+     */
+    void addFailures(RFWValidationException e) {
+      if (e == FAILED) return;
+      if (e instanceof RFWValidationGroupException) {
+        for (RFWValidationException item : ((RFWValidationGroupException) e).getValidationlist()) {
+          this.failures.add(new RFWValidationFailure(item));
+        }
+      } else {
+        this.failures.add(new RFWValidationFailure(e));
+      }
+    }
+
+    /**
+     * Objetos associados que precisam ter sua existência confirmada no banco de dados, agrupados pela classe e indexados pelo ID. Só mantemos a primeira ocorrência de cada objeto.
+     */
+    final LinkedHashMap<Class<? extends RFWVO>, LinkedHashMap<Long, AssociationCheck>> associationChecks = new LinkedHashMap<>();
+    int associationCount = 0;
+
+    /**
+     * Registra um objeto associado para a verificação de existência.
+     *
+     * @param assocVO Objeto associado, já com o ID definido.
+     * @param message Mensagem do erro crítico caso o objeto não seja encontrado.
+     * @param params Parâmetros da mensagem.
+     */
+    void addAssociationCheck(RFWVO assocVO, String message, String[] params) {
+      LinkedHashMap<Long, AssociationCheck> checks = this.associationChecks.get(assocVO.getClass());
+      if (checks == null) {
+        checks = new LinkedHashMap<>();
+        this.associationChecks.put(assocVO.getClass(), checks);
+      }
+      if (!checks.containsKey(assocVO.getId())) checks.put(assocVO.getId(), new AssociationCheck(assocVO.getId(), this.associationCount++, message, params));
+    }
+  }
+
+  /**
+   * Nó da árvore de caminhos do {@link ForcedRequiredPath}, indexado pelos segmentos do caminho.
+   */
+  private static final class ForcedRequiredNode {
+    final HashMap<String, ForcedRequiredNode> children = new HashMap<>();
+    boolean required = false;
+  }
+
+  /**
+   * Campos passados no forceRequiredFields compilados em árvores de caminhos, montadas uma única vez por validação.<br>
+   * A recursão carrega o nó correspondente ao objeto sendo validado, assim a decisão de forçar a obrigatoriedade de um atributo é uma única consulta no HashMap, ao invés de montar e comparar o caminho do atributo com cada um dos campos informados.<br>
+   * Mantém duas árvores com as mesmas regras da comparação por String: a dos caminhos completos (com os índices de iteração, como "itens[0].valor"), e a dos caminhos genéricos (sem os índices e hashs, como "itens.valor").
+   */
+  private static final class ForcedRequiredPath {
+    /**
+     * Nó da árvore dos caminhos completos. Nulo se nenhum caminho informado continua por este objeto.
+     */
+    final ForcedRequiredNode exact;
+
+    /**
+     * Nó da árvore dos caminhos genéricos. Nulo se nenhum caminho informado continua por este objeto.
+     */
+    final ForcedRequiredNode clean;
+
+    ForcedRequiredPath(ForcedRequiredNode exact, ForcedRequiredNode clean) {
+      this.exact = exact;
+      this.clean = clean;
+    }
+
+    /**
+     * Compila os caminhos informados.
+     *
+     * @param forceRequiredFields Lista com os campos que devem ser verificamos como "required = true".
+     * @return Caminhos compilados, ou nulo caso nenhum caminho tenha sido informado.
+     */
+    static ForcedRequiredPath compile(String[] forceRequiredFields) {
+      if (forceRequiredFields == null || forceRequiredFields.length == 0) return null;
+      final ForcedRequiredNode exact = new ForcedRequiredNode();
+      final ForcedRequiredNode clean = new ForcedRequiredNode();
+      for (String reqField : forceRequiredFields) {
+        if (reqField == null) continue;
+        // Caminhos com índices ou hashs só podem ser iguais ao caminho completo, já que o caminho genérico nunca os contém
+        ForcedRequiredNode node = reqField.indexOf('[') >= 0 || reqField.indexOf('{') >= 0 ? exact : clean;
+        for (String segment : reqField.split("\\.", -1)) {
+          ForcedRequiredNode child = node.children.get(segment);
+          if (child == null) {
+            child = new ForcedRequiredNode();
+            node.children.put(segment, child);
+          }
+          node = child;
+        }
+        node.required = true;
+      }
+      return new ForcedRequiredPath(exact.children.isEmpty() ? null : exact, clean.children.isEmpty() ? null : clean);
+    }
+
+    /**
+     * Verifica se o atributo do objeto atual deve ter sua obrigatoriedade forçada.
+     */
+    boolean isRequired(String fieldName) {
+      if (this.exact != null) {
+        final ForcedRequiredNode node = this.exact.children.get(fieldName);
+        if (node != null && node.required) return true;
+      }
+      if (this.clean != null) {
+        final ForcedRequiredNode node = this.clean.children.get(fieldName);
+        if (node != null && node.required) return true;
+      }
+      return false;
+    }
+
+    /**
+     * Recupera os caminhos a partir do objeto do atributo, para continuar a recursão.
+     *
+     * @param fieldName Nome do atributo do objeto atual.
+     * @return Caminhos a partir do objeto do atributo, ou nulo caso nenhum caminho continue pelo atributo.
+     */
+    ForcedRequiredPath child(String fieldName) {
+      return child(this.exact == null ? null : this.exact.children.get(fieldName), fieldName);
+    }
+
+    /**
+     * Recupera os caminhos a partir de um objeto da coleção do atributo, para continuar a recursão.
+     *
+     * @param fieldName Nome do atributo do objeto atual.
+     * @param index Índice do objeto dentro da coleção.
+     * @return Caminhos a partir do objeto da coleção, ou nulo caso nenhum caminho continue pelo objeto.
+     */
+    ForcedRequiredPath child(String fieldName, int index) {
+      // O nome com o índice só é montado quando algum caminho completo continua pelo objeto atual
+      return child(this.exact == null || this.exact.children.isEmpty() ? null : this.exact.children.get(fieldName + "[" + index + "]"), fieldName);
+    }
+
+    private ForcedRequiredPath child(ForcedRequiredNode exact, String fieldName) {
+      final ForcedRequiredNode clean = this.clean == null ? null : this.clean.children.get(fieldName);
+      if (exact == null && clean == null) return null;
+      return new ForcedRequiredPath(exact, clean);
+    }
+  }
+
+  /**
+   * Exceção lançada para interromper a validação de um atributo (ou objeto) quando a falha já foi registrada no {@link ValidationContext#failures}.<br>
+   * É sempre a mesma instância e não tem pilha de execução, assim nenhuma exceção é criada para cada falha de validação. Nunca deve escapar dos métodos públicos do validador.
+   */
+  private static final RFWValidationException FAILED = new RFWValidationException("RFWValidator.FAILED", null, null, null, null, false);
+
+  /**
+   * Formato das datas mínima e máxima definidas na {@link RFWMetaDateField} para os tipos do java.time.
+   */
+  private static final DateTimeFormatter DATEBOUNDFORMATTER = DateTimeFormatter.ofPattern("uuuuMMddHHmmssSSSS");
+
+  /**
+   * Planos de validação já montados, indexados pela classe do VO.
+   */
+  private static final ConcurrentHashMap<Class<?>, ValidationPlan> planCache = new ConcurrentHashMap<>();
+
   /**
    * DataProvider fornecido para realizar as consultas no banco de dados.
    */
   private RFWDBProvider dataProvider = null;
 
+  /**
+   * Escopo do cache das consultas ao DataProvider durante as validações. Nulo quando o cache não está habilitado.
+   */
+  private RFWCachedDBProvider.Scope cacheScope = null;
+
+  /**
+   * Cache compartilhado por todas as validações quando {@link #cacheScope} é {@link RFWCachedDBProvider.Scope#SHARED}.
+   */
+  private RFWCachedDBProvider sharedCache = null;
+
+  /**
+   * Quantidade máxima de objetos por classe dos caches criados para cada validação.
+   */
+  private int cacheMaxEntriesPerClass = 0;
+
+  /**
+   * Tempo de vida dos objetos dos caches criados para cada validação, em milissegundos.
+   */
+  private long cacheTTLMillis = 0;
+
+  /**
+   * Acertos e falhas acumulados dos caches já descartados ao final de cada validação.
+   */
+  private final AtomicLong cacheHitCount = new AtomicLong();
+  private final AtomicLong cacheMissCount = new AtomicLong();
+
+  /**
+   * Indica se a validação é incremental. Veja {@link #setIncrementalValidation(boolean)}.
+   */
+  private boolean incrementalValidation = false;
+
   public RFWValidator() {
   }
 
@@ -87,6 +559,273 @@ public class RFWValidator {
     this.dataProvider = dataProvider;
   }
 
+  /**
+   * Descarta os planos de validação em cache, veja {@link RFWVOMeta#clearCache()}.
+   */
+  public static void clearCache() {
+    planCache.clear();
+  }
+
+  /**
+   * Habilita o cache das consultas de objetos pelo ID feitas ao DataProvider durante as validações, como a confirmação de existência dos objetos associados. Veja {@link RFWCachedDBProvider}.<br>
+   * Com o escopo {@link RFWCachedDBProvider.Scope#VALIDATION} um novo cache é criado a cada chamada do validatePersist ou validatePersistAll (compartilhado por todo o lote) e descartado ao final. Com o escopo {@link RFWCachedDBProvider.Scope#SHARED} o mesmo cache é utilizado por todas as validações, e deve ser invalidado pelo {@link #getSharedCache()} quando os objetos forem alterados.<br>
+   * Não faz nada caso o validador não tenha um DataProvider.
+   *
+   * @param scope Escopo do cache.
+   * @param maxEntriesPerClass Quantidade máxima de objetos mantidos em cache para cada classe de entidade.
+   * @param ttlMillis Tempo de vida dos objetos no cache, em milissegundos. Valores menores ou iguais a zero indicam que os objetos não expiram.
+   * @throws RFWException Lançado caso os parâmetros sejam inválidos.
+   */
+  public void enableCache(RFWCachedDBProvider.Scope scope, int maxEntriesPerClass, long ttlMillis) throws RFWException {
+    if (scope == null) throw new RFWCriticalException("O escopo do cache não pode ser nulo!");
+    if (maxEntriesPerClass <= 0) throw new RFWCriticalException("A quantidade máxima de objetos em cache deve ser maior que zero!");
+    disableCache();
+    if (this.dataProvider != null) {
+      this.cacheScope = scope;
+      this.cacheMaxEntriesPerClass = maxEntriesPerClass;
+      this.cacheTTLMillis = ttlMillis;
+      if (scope == RFWCachedDBProvider.Scope.SHARED) this.sharedCache = new RFWCachedDBProvider(this.dataProvider, maxEntriesPerClass, ttlMillis);
+    }
+  }
+
+  /**
+   * Desabilita o cache das consultas, descartando o cache compartilhado, caso exista. Os contadores de acertos e falhas são mantidos.
+   */
+  public void disableCache() {
+    if (this.sharedCache != null) {
+      this.cacheHitCount.addAndGet(this.sharedCache.getHitCount());
+      this.cacheMissCount.addAndGet(this.sharedCache.getMissCount());
+      this.sharedCache = null;
+    }
+    this.cacheScope = null;
+  }
+
+  /**
+   * Retorna o cache compartilhado pelas validações quando habilitado com o escopo {@link RFWCachedDBProvider.Scope#SHARED}, permitindo invalidar os objetos alterados.
+   *
+   * @return Cache compartilhado ou null caso não esteja habilitado.
+   */
+  public RFWCachedDBProvider getSharedCache() {
+    return this.sharedCache;
+  }
+
+  /**
+   * Retorna a quantidade total de consultas atendidas pelo cache desde a criação do validador.
+   */
+  public long getCacheHitCount() {
+    final RFWCachedDBProvider cache = this.sharedCache;
+    return this.cacheHitCount.get() + (cache == null ? 0 : cache.getHitCount());
+  }
+
+  /**
+   * Retorna a quantidade total de consultas que não estavam em cache e foram repassadas ao DataProvider desde a criação do validador.
+   */
+  public long getCacheMissCount() {
+    final RFWCachedDBProvider cache = this.sharedCache;
+    return this.cacheMissCount.get() + (cache == null ? 0 : cache.getMissCount());
+  }
+
+  /**
+   * Indica se a validação é incremental. Veja {@link #setIncrementalValidation(boolean)}.
+   */
+  public boolean isIncrementalValidation() {
+    return incrementalValidation;
+  }
+
+  /**
+   * Define se a validação é incremental.<br>
+   * Na validação incremental, os objetos já persistidos (com ID) que estão com o controle de alterações habilitado ({@link RFWVO#startChangeTracking()}) têm validados apenas os atributos alterados. As validações de classe ({@link RFWMetaUniqueConstraint} e {@link RFWMetaAttributeRelation}) só são feitas quando algum dos atributos envolvidos foi alterado. Evita assim revalidar (e consultar no banco de dados as unicidades e associações) os atributos que não foram modificados.<br>
+   * Os atributos definidos em forceRequiredFields e os relacionamentos de composição são sempre validados, já que os objetos filhos podem ter sido alterados ou incluídos sem alterar o atributo do objeto pai. Objetos novos ou sem o controle de alterações são sempre validados por completo.
+   *
+   * @param incrementalValidation true para validar apenas os atributos alterados.
+   */
+  public void setIncrementalValidation(boolean incrementalValidation) {
+    this.incrementalValidation = incrementalValidation;
+  }
+
+  /**
+   * Define o DataProvider utilizado em uma chamada de validação, conforme o cache habilitado.
+   */
+  private RFWDBProvider createValidationProvider() throws RFWException {
+    if (this.cacheScope == RFWCachedDBProvider.Scope.SHARED) return this.sharedCache;
+    if (this.cacheScope == RFWCachedDBProvider.Scope.VALIDATION) return new RFWCachedDBProvider(this.dataProvider, this.cacheMaxEntriesPerClass, this.cacheTTLMillis);
+    return this.dataProvider;
+  }
+
+  /**
+   * Finaliza o DataProvider utilizado em uma chamada de validação, acumulando os contadores do cache criado apenas para a validação.
+   */
+  private void releaseValidationProvider(RFWDBProvider provider) {
+    if (provider instanceof RFWCachedDBProvider && provider != this.sharedCache) {
+      this.cacheHitCount.addAndGet(((RFWCachedDBProvider) provider).getHitCount());
+      this.cacheMissCount.addAndGet(((RFWCachedDBProvider) provider).getMissCount());
+    }
+  }
+
+  /**
+   * Valida o objeto raiz com o DataProvider definido para a chamada, liberando-o ao final.
+   *
+   * @return Resultado com as falhas de validação encontradas.
+   */
+  private RFWValidationResult validatePersistRoot(Class<? extends RFWVO> voClass, RFWVO vo, String[] forceRequiredFields) throws RFWException {
+    final RFWDBProvider provider = createValidationProvider();
+    try {
+      final ValidationContext context = new ValidationContext(provider, false, this.incrementalValidation);
+      validatePersistRoot(voClass, vo, ForcedRequiredPath.compile(forceRequiredFields), context);
+      return new RFWValidationResult(context.failures);
+    } finally {
+      releaseValidationProvider(provider);
+    }
+  }
+
+  /**
+   * Registra uma falha de validação no contexto e retorna a exceção que deve ser lançada para interromper a validação do atributo.<br>
+   * Dentro de uma validação a falha é apenas registrada e é retornado o {@link #FAILED}, sem criar nenhuma exceção. Sem o contexto (métodos de validação chamados diretamente) é criada a exceção com a falha.
+   *
+   * @param context Estado da validação, ou null quando chamado fora de uma validação do objeto.
+   * @param exceptionCode Código do erro ou mensagem de erro.
+   * @param params Parâmetros que serão substituídos na mensagem.
+   * @param fieldPath Caminho para o atributo que falhou na validação.
+   * @param className Nome da Classe que falhou na validação.
+   * @param fieldName Título dos campos que falharam na validação.
+   * @return Exceção a ser lançada.
+   */
+  private static RFWValidationException fail(ValidationContext context, String exceptionCode, String[] params, String fieldPath, String className, String[] fieldName) {
+    if (context == null) return new RFWValidationException(exceptionCode, params, fieldPath, className, fieldName);
+    context.failures.add(new RFWValidationFailure(exceptionCode, params, fieldPath, className, fieldName));
+    return FAILED;
+  }
+
+  /**
+   * Veja {@link #fail(ValidationContext, String, String[], String, String, String[])}.
+   */
+  private static RFWValidationException fail(ValidationContext context, String exceptionCode, String fieldPath, String className, String[] fieldName) {
+    return fail(context, exceptionCode, null, fieldPath, className, fieldName);
+  }
+
+  /**
+   * Veja {@link #fail(ValidationContext, String, String[], String, String, String[])}.
+   */
+  private static RFWValidationException fail(ValidationContext context, String exceptionCode, String[] params) {
+    return fail(context, exceptionCode, params, null, null, null);
+  }
+
+  /**
+   * Veja {@link #fail(ValidationContext, String, String[], String, String, String[])}.
+   */
+  private static RFWValidationException fail(ValidationContext context, String exceptionCode, String[] params, String fieldPath) {
+    return fail(context, exceptionCode, params, fieldPath, null, null);
+  }
+
+  /**
+   * Recupera o plano de validação da classe. Na primeira chamada para cada classe as RFWMeta annotations são analisadas e o plano é armazenado em cache.
+   *
+   * @param voClass Classe do VO.
+   * @return Plano de validação da classe.
+   */
+  private static ValidationPlan getValidationPlan(Class<? extends RFWVO> voClass) throws RFWException {
+    ValidationPlan plan = planCache.get(voClass);
+    if (plan == null) {
+      final ArrayList<FieldRule> rules = new ArrayList<>();
+      for (RFWVOFieldMeta field : RFWVOMeta.getInstance(voClass).getDeclaredFields()) {
+        final FieldRule rule = createFieldRule(field);
+        if (rule != null) rules.add(rule);
+      }
+      plan = new ValidationPlan(rules.toArray(new FieldRule[rules.size()]), voClass.getAnnotation(RFWMetaUniqueConstraint.class), voClass.getAnnotation(RFWMetaAttributeRelation.class));
+      final ValidationPlan previous = planCache.putIfAbsent(voClass, plan);
+      if (previous != null) plan = previous;
+    }
+    return plan;
+  }
+
+  /**
+   * Cria a regra de validação do atributo conforme a RFWMeta annotation encontrada. A ordem de verificação das annotations é a mesma utilizada desde antes do plano de validação, caso o atributo tenha mais de uma.
+   *
+   * @return Regra de validação ou null caso o atributo não tenha nenhuma RFWMeta annotation.
+   */
+  private static FieldRule createFieldRule(RFWVOFieldMeta field) {
+    if (field.isAnnotationPresent(RFWMetaStringField.class)) {
+      final RFWMetaStringField ann = field.getAnnotation(RFWMetaStringField.class);
+      final FieldRule rule = new FieldRule(field, RuleType.STRING, ann);
+      if (!"".equals(ann.pattern())) {
+        try {
+          rule.pattern = RURegex.getPattern(ann.pattern());
+        } catch (RuntimeException e) {
+          rule.patternError = e;
+        }
+      }
+      return rule;
+    } else if (field.isAnnotationPresent(RFWMetaIntegerField.class)) {
+      return new FieldRule(field, RuleType.INTEGER, field.getAnnotation(RFWMetaIntegerField.class));
+    } else if (field.isAnnotationPresent(RFWMetaLongField.class)) {
+      return new FieldRule(field, RuleType.LONG, field.getAnnotation(RFWMetaLongField.class));
+    } else if (field.isAnnotationPresent(RFWMetaBigDecimalField.class)) {
+      final RFWMetaBigDecimalField ann = field.getAnnotation(RFWMetaBigDecimalField.class);
+      final FieldRule rule = new FieldRule(field, RuleType.BIGDECIMAL, ann);
+      rule.setBigDecimalBounds(ann.scale(), ann.scaleMax(), ann.minValue(), ann.maxValue());
+      return rule;
+    } else if (field.isAnnotationPresent(RFWMetaBigDecimalCurrencyField.class)) {
+      final RFWMetaBigDecimalCurrencyField ann = field.getAnnotation(RFWMetaBigDecimalCurrencyField.class);
+      final FieldRule rule = new FieldRule(field, RuleType.BIGDECIMALCURRENCY, ann);
+      rule.setBigDecimalBounds(ann.scale(), ann.scaleMax(), ann.minValue(), ann.maxValue());
+      return rule;
+    } else if (field.isAnnotationPresent(RFWMetaBigDecimalPercentageField.class)) {
+      final RFWMetaBigDecimalPercentageField ann = field.getAnnotation(RFWMetaBigDecimalPercentageField.class);
+      final FieldRule rule = new FieldRule(field, RuleType.BIGDECIMALPERCENTAGE, ann);
+      rule.setBigDecimalBounds(ann.scale(), ann.scaleMax(), ann.minValue(), ann.maxValue());
+      return rule;
+    } else if (field.isAnnotationPresent(RFWMetaEnumField.class)) {
+      return new FieldRule(field, RuleType.ENUM, field.getAnnotation(RFWMetaEnumField.class));
+    } else if (field.isAnnotationPresent(RFWMetaCollectionField.class)) {
+      return new FieldRule(field, RuleType.COLLECTION, field.getAnnotation(RFWMetaCollectionField.class));
+    } else if (field.isAnnotationPresent(RFWMetaDoubleField.class)) {
+      return new FieldRule(field, RuleType.DOUBLE, field.getAnnotation(RFWMetaDoubleField.class));
+    } else if (field.isAnnotationPresent(RFWMetaFloatField.class)) {
+      return new FieldRule(field, RuleType.FLOAT, field.getAnnotation(RFWMetaFloatField.class));
+    } else if (field.isAnnotationPresent(RFWMetaBooleanField.class)) {
+      return new FieldRule(field, RuleType.BOOLEAN, field.getAnnotation(RFWMetaBooleanField.class));
+    } else if (field.isAnnotationPresent(RFWMetaStringCNPJField.class)) {
+      return new FieldRule(field, RuleType.STRINGCNPJ, field.getAnnotation(RFWMetaStringCNPJField.class));
+    } else if (field.isAnnotationPresent(RFWMetaStringCPFField.class)) {
+      return new FieldRule(field, RuleType.STRINGCPF, field.getAnnotation(RFWMetaStringCPFField.class));
+    } else if (field.isAnnotationPresent(RFWMetaStringCPFOrCNPJField.class)) {
+      return new FieldRule(field, RuleType.STRINGCPFORCNPJ, field.getAnnotation(RFWMetaStringCPFOrCNPJField.class));
+    } else if (field.isAnnotationPresent(RFWMetaStringEmailField.class)) {
+      return new FieldRule(field, RuleType.STRINGEMAIL, field.getAnnotation(RFWMetaStringEmailField.class));
+    } else if (field.isAnnotationPresent(RFWMetaStringIEField.class)) {
+      return new FieldRule(field, RuleType.STRINGIE, field.getAnnotation(RFWMetaStringIEField.class));
+    } else if (field.isAnnotationPresent(RFWMetaStringCEPField.class)) {
+      return new FieldRule(field, RuleType.STRINGCEP, field.getAnnotation(RFWMetaStringCEPField.class));
+    } else if (field.isAnnotationPresent(RFWMetaStringPhoneField.class)) {
+      return new FieldRule(field, RuleType.STRINGPHONE, field.getAnnotation(RFWMetaStringPhoneField.class));
+    } else if (field.isAnnotationPresent(RFWMetaDateField.class)) {
+      final RFWMetaDateField ann = field.getAnnotation(RFWMetaDateField.class);
+      final FieldRule rule = new FieldRule(field, RuleType.DATE, ann);
+      rule.dateType = getDateType(field.getType());
+      if (rule.dateType != null) {
+        rule.minDate = resolveDateBound(rule.dateType, ann.minValue());
+        rule.maxDate = resolveDateBound(rule.dateType, ann.maxValue());
+      }
+      return rule;
+    } else if (field.isAnnotationPresent(RFWMetaRelationshipField.class)) {
+      return new FieldRule(field, RuleType.RELATIONSHIP, field.getAnnotation(RFWMetaRelationshipField.class));
+    } else if (field.isAnnotationPresent(RFWMetaByteArrayField.class)) {
+      return new FieldRule(field, RuleType.BYTEARRAY, field.getAnnotation(RFWMetaByteArrayField.class));
+    } else if (field.isAnnotationPresent(RFWMetaGenericField.class)) {
+      return new FieldRule(field, RuleType.GENERIC, field.getAnnotation(RFWMetaGenericField.class));
+    } else {
+      // Se o não encontramos nenhuma das BISMeta annotations conhecidas, verificamos se encontramos alguma BISMeta annotation que não estamos validando. A regra lança o erro crítico durante a validação, garantindo assim que não esquecemos de fazer alguma validação para alguma nova BISMeta annotation.
+      // Fazemos a comparação de package usando o pacote atual de uma annotation conhecida ao invés de uma String fixa. Evitamos assim que esta verificação vá por água abaixo em algum refactor futuro.
+      final String basepackage = RFWMetaStringField.class.getPackage().getName();
+      for (Annotation annotation : field.getField().getDeclaredAnnotations()) {
+        if (annotation.annotationType().getCanonicalName().startsWith(basepackage + ".BISMeta")) {
+          return new FieldRule(field, RuleType.UNSUPPORTED, annotation);
+        }
+      }
+    }
+    return null;
+  }
+
   /**
    * Valida o objeto para exclusão.
    *
@@ -118,7 +857,7 @@ public class RFWValidator {
       throw new RFWCriticalException("Objecto diferente da classe passada no BISValidator! O objeto passado para validação é do tipo '" + vo.getClass().getCanonicalName() + "' enquanto que a classe passada é do tipo '" + voClass.getCanonicalName() + "'.");
     // validatePersist(voClass, vo, vo.getClass().getSimpleName().toLowerCase(), (vo.getId() == null ? VALIDATION.INSERT : VALIDATION.UPDATE), null, vo, null, new ArrayList<RFWVO>(), null);
     // Em 12/8/21 foi removido o basePath com o nome inicial do VO. Isso pq os MetaObjects deixaram de ter o .val() e passaram a ter o mesmo padrão utilizado pelo BUReflex. Passar o nome do VO como base do caminho fazia com que os campos passados em forceRequiredFields e a associação dos objetos na tela deixassem de funcionar.
-    validatePersist(voClass, vo, null, (vo.getId() == null || vo.isInsertWithID() ? VALIDATION.INSERT : VALIDATION.UPDATE), null, vo, null, new ArrayList<RFWVO>(), null);
+    validatePersistRoot(voClass, vo, null).throwIfInvalid();
   }
 
   /**
@@ -134,7 +873,162 @@ public class RFWValidator {
       throw new RFWCriticalException("Objecto diferente da classe passada no BISValidator! O objeto passado para validação é do tipo '" + vo.getClass().getCanonicalName() + "' enquanto que a classe passada é do tipo '" + voClass.getCanonicalName() + "'.");
     // validatePersist(voClass, vo, vo.getClass().getSimpleName().toLowerCase(), (vo.getId() == null ? VALIDATION.INSERT : VALIDATION.UPDATE), null, vo, null, new ArrayList<RFWVO>(), forceRequiredFields);
     // Em 12/8/21 foi removido o basePath com o nome inicial do VO. Isso pq os MetaObjects deixaram de ter o .val() e passaram a ter o mesmo padrão utilizado pelo BUReflex. Passar o nome do VO como base do caminho fazia com que os campos passados em forceRequiredFields e a associação dos objetos na tela deixassem de funcionar.
-    validatePersist(voClass, vo, null, (vo.getId() == null || vo.isInsertWithID() ? VALIDATION.INSERT : VALIDATION.UPDATE), null, vo, null, new ArrayList<RFWVO>(), forceRequiredFields);
+    validatePersistRoot(voClass, vo, forceRequiredFields).throwIfInvalid();
+  }
+
+  /**
+   * Valida o objeto para persistir, retornando as falhas de validação encontradas ao invés de lançar o {@link RFWValidationGroupException}.<br>
+   * Realiza exatamente as mesmas validações do {@link #validatePersist(Class, RFWVO)}, mas nenhuma exceção é criada para as falhas de validação, sendo indicado quando muitos objetos inválidos são esperados, como na importação de dados.
+   *
+   * @param voClass Classe da Entidade.
+   * @param vo Entidade a ser validado.
+   * @return Resultado com as falhas de validação encontradas.
+   * @throws RFWException Lançado apenas em caso de erros críticos durante a execução das validações (como um objeto associado inexistente).
+   */
+  public RFWValidationResult checkPersist(Class<? extends RFWVO> voClass, RFWVO vo) throws RFWException {
+    return checkPersist(voClass, vo, null);
+  }
+
+  /**
+   * Valida o objeto para persistir, retornando as falhas de validação encontradas ao invés de lançar o {@link RFWValidationGroupException}.<br>
+   * Realiza exatamente as mesmas validações do {@link #validatePersist(Class, RFWVO, String[])}, mas nenhuma exceção é criada para as falhas de validação, sendo indicado quando muitos objetos inválidos são esperados, como na importação de dados.
+   *
+   * @param voClass Classe da Entidade.
+   * @param vo Entidade a ser validado.
+   * @param forceRequiredFields Lista com os campos que devem ser verificamos como "required = true", independente do que estiver definido no @BISMetaAnnotation do campo. Passar nulo caso não queira forçar nenhuma validação de obrigatoriedade.
+   * @return Resultado com as falhas de validação encontradas.
+   * @throws RFWException Lançado apenas em caso de erros críticos durante a execução das validações (como um objeto associado inexistente).
+   */
+  public RFWValidationResult checkPersist(Class<? extends RFWVO> voClass, RFWVO vo, String[] forceRequiredFields) throws RFWException {
+    if (vo != null && !vo.getClass().isAssignableFrom(voClass))
+      throw new RFWCriticalException("Objecto diferente da classe passada no BISValidator! O objeto passado para validação é do tipo '" + vo.getClass().getCanonicalName() + "' enquanto que a classe passada é do tipo '" + voClass.getCanonicalName() + "'.");
+    return validatePersistRoot(voClass, vo, forceRequiredFields);
+  }
+
+  /**
+   * Inicia a validação recursiva do objeto raiz e, ao final, valida em lote as associações encontradas em todo o grafo. As falhas de validação ficam registradas no contexto.<br>
+   * A verificação das associações é feita mesmo que a validação tenha encontrado falhas nos atributos, já que uma associação inexistente é um erro crítico e tem prioridade sobre as falhas de validação, como acontecia quando cada associação era verificada no momento em que era encontrada.
+   *
+   * @param voClass Classe da Entidade.
+   * @param vo Entidade a ser validado.
+   * @param forcedPath Campos que devem ser verificamos como "required = true", já compilados pelo {@link ForcedRequiredPath#compile(String[])}. Nulo caso não queira forçar nenhuma validação de obrigatoriedade.
+   * @param context Estado da validação, compartilhado por toda a recursão.
+   * @throws RFWException Lançado em caso de problemas durante a execução das validações.
+   */
+  private void validatePersistRoot(Class<? extends RFWVO> voClass, RFWVO vo, ForcedRequiredPath forcedPath, ValidationContext context) throws RFWException {
+    try {
+      validatePersist(voClass, vo, RFWAttributePath.ROOT, (vo.getId() == null || vo.isInsertWithID() ? VALIDATION.INSERT : VALIDATION.UPDATE), null, vo, RFWAttributePath.ROOT, new ArrayList<RFWVO>(), forcedPath, context);
+    } catch (RFWValidationException e) {
+      context.addFailures(e);
+    }
+    checkAssociations(context);
+  }
+
+  /**
+   * Verifica se os objetos associados coletados durante a validação existem no banco de dados. Os IDs são agrupados pela classe e consultados pelo {@link RFWDBProvider#existsIDs(Class, Collection)}, ao invés de uma consulta por objeto associado.<br>
+   * Caso algum objeto não seja encontrado, lança o erro da primeira associação inexistente na ordem em que foram encontradas durante a validação.
+   *
+   * @param context Contexto da validação com as associações coletadas.
+   * @throws RFWException Lançado caso algum objeto associado não seja encontrado no banco de dados.
+   */
+  private void checkAssociations(ValidationContext context) throws RFWException {
+    AssociationCheck missing = null;
+    for (Entry<Class<? extends RFWVO>, LinkedHashMap<Long, AssociationCheck>> entry : context.associationChecks.entrySet()) {
+      final Set<Long> found = context.dataProvider.existsIDs(entry.getKey(), entry.getValue().keySet());
+      for (AssociationCheck check : entry.getValue().values()) {
+        if (!found.contains(check.id) && (missing == null || check.sequence < missing.sequence)) missing = check;
+      }
+    }
+    if (missing != null) throw new RFWCriticalException(missing.message, missing.params);
+  }
+
+  /**
+   * Valida uma coleção de objetos independentes para persistir, em paralelo no {@link ForkJoinPool#commonPool()}.<br>
+   * Veja {@link #validatePersistAll(Class, Collection, String[], Executor)}.
+   *
+   * @param voClass Classe das Entidades.
+   * @param vos Entidades a serem validadas.
+   * @return Resultado da validação de cada objeto, na ordem da coleção recebida.
+   * @throws RFWException Lançado apenas em caso de falha na execução do lote. As falhas de validação de cada objeto são retornadas no resultado.
+   */
+  public RFWValidationBatchResult validatePersistAll(Class<? extends RFWVO> voClass, Collection<? extends RFWVO> vos) throws RFWException {
+    return validatePersistAll(voClass, vos, null, null);
+  }
+
+  /**
+   * Valida uma coleção de objetos independentes para persistir, em paralelo no {@link ForkJoinPool#commonPool()}.<br>
+   * Veja {@link #validatePersistAll(Class, Collection, String[], Executor)}.
+   *
+   * @param voClass Classe das Entidades.
+   * @param vos Entidades a serem validadas.
+   * @param forceRequiredFields Lista com os campos que devem ser verificamos como "required = true", independente do que estiver definido no @BISMetaAnnotation do campo. Passar nulo caso não queira forçar nenhuma validação de obrigatoriedade.
+   * @return Resultado da validação de cada objeto, na ordem da coleção recebida.
+   * @throws RFWException Lançado apenas em caso de falha na execução do lote. As falhas de validação de cada objeto são retornadas no resultado.
+   */
+  public RFWValidationBatchResult validatePersistAll(Class<? extends RFWVO> voClass, Collection<? extends RFWVO> vos, String[] forceRequiredFields) throws RFWException {
+    return validatePersistAll(voClass, vos, forceRequiredFields, null);
+  }
+
+  /**
+   * Valida uma coleção de objetos independentes para persistir, como se o {@link #validatePersist(Class, RFWVO, String[])} fosse chamado para cada um deles.<br>
+   * Os objetos são divididos em blocos contínuos e validados em paralelo no executor informado. A falha de um objeto não interrompe a validação dos demais: as exceções de cada objeto são retornadas no {@link RFWValidationBatchResult}, na mesma ordem da coleção recebida.<br>
+   * As verificações de unicidade (atributos unique e {@link RFWMetaUniqueConstraint}) são feitas ao final, para todo o lote: além de consultar o banco de dados em lote, encontram os objetos com valores duplicados dentro do próprio lote. Nesse caso o primeiro objeto (na ordem da coleção) é considerado válido e os seguintes recebem a falha de duplicidade.<br>
+   * <b>Atenção:</b> quando há um {@link RFWDBProvider} definido, ele será chamado simultaneamente por várias threads e deve ser thread-safe. Caso não seja, utilize um executor de uma única thread.
+   *
+   * @param voClass Classe das Entidades.
+   * @param vos Entidades a serem validadas.
+   * @param forceRequiredFields Lista com os campos que devem ser verificamos como "required = true", independente do que estiver definido no @BISMetaAnnotation do campo. Passar nulo caso não queira forçar nenhuma validação de obrigatoriedade.
+   * @param executor Executor utilizado para validar os objetos. Se nulo, utiliza o {@link ForkJoinPool#commonPool()}.
+   * @return Resultado da validação de cada objeto, na ordem da coleção recebida.
+   * @throws RFWException Lançado em caso de falha na execução do lote ou nas consultas de unicidade em lote. As falhas de validação de cada objeto são retornadas no resultado.
+   */
+  public RFWValidationBatchResult validatePersistAll(Class<? extends RFWVO> voClass, Collection<? extends RFWVO> vos, String[] forceRequiredFields, Executor executor) throws RFWException {
+    if (vos == null) throw new RFWCriticalException("A coleção de objetos para validação não pode ser nula!");
+    if (executor == null) executor = ForkJoinPool.commonPool();
+
+    final RFWVO[] items = vos.toArray(new RFWVO[vos.size()]);
+    final RFWException[] exceptions = new RFWException[items.length];
+    final ValidationContext[] contexts = new ValidationContext[items.length];
+    final ForcedRequiredPath forcedPath = ForcedRequiredPath.compile(forceRequiredFields);
+    final RFWDBProvider provider = createValidationProvider();
+    try {
+      if (items.length > 0) {
+        // Dividimos em alguns blocos por thread disponível, evitando criar uma tarefa por objeto e ainda permitindo equilibrar blocos mais demorados
+        final int parallelism = executor instanceof ForkJoinPool ? ((ForkJoinPool) executor).getParallelism() : Runtime.getRuntime().availableProcessors();
+        final int chunks = Math.min(items.length, Math.max(1, parallelism) * 4);
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[chunks];
+        try {
+          for (int chunk = 0; chunk < chunks; chunk++) {
+            final int start = (int) ((long) items.length * chunk / chunks);
+            final int end = (int) ((long) items.length * (chunk + 1) / chunks);
+            futures[chunk] = CompletableFuture.runAsync(() -> {
+              for (int i = start; i < end; i++) {
+                try {
+                  final RFWVO vo = items[i];
+                  if (vo != null && !vo.getClass().isAssignableFrom(voClass))
+                    throw new RFWCriticalException("Objecto diferente da classe passada no BISValidator! O objeto passado para validação é do tipo '" + vo.getClass().getCanonicalName() + "' enquanto que a classe passada é do tipo '" + voClass.getCanonicalName() + "'.");
+                  contexts[i] = new ValidationContext(provider, true, this.incrementalValidation);
+                  validatePersistRoot(voClass, vo, forcedPath, contexts[i]);
+                  if (contexts[i].failures.size() > 0) exceptions[i] = new RFWValidationResult(contexts[i].failures).toException(false);
+                } catch (RFWException e) {
+                  exceptions[i] = e;
+                } catch (RuntimeException e) {
+                  exceptions[i] = new RFWCriticalException("Falha ao validar o objeto da posição '${0}' do lote.", new String[] { "" + i }, e);
+                }
+              }
+            }, executor);
+          }
+          CompletableFuture.allOf(futures).join();
+        } catch (RuntimeException e) {
+          throw new RFWCriticalException("Falha ao executar a validação em lote!", e);
+        }
+        // As verificações de unicidade são feitas depois, com todo o lote, para consultar o banco em lote e encontrar valores duplicados entre os próprios objetos do lote
+        checkUniqueInBatch(provider, contexts, exceptions);
+      }
+    } finally {
+      releaseValidationProvider(provider);
+    }
+    return new RFWValidationBatchResult(items, exceptions);
   }
 
   /**
@@ -147,13 +1041,14 @@ public class RFWValidator {
    * @param validation Define o tipo da validação
    * @param parentvo Objeto pai, usado quando estamos executando uma validação recursiva (Objetos mapeados dentro do objeto principal)
    * @param rootvo Objeto Raiz, o que foi passado quando o BISValidator foi chamado. Mesmo quando estivermos validando recursivamente, esse objeto será sempre o mesmo.
-   * @param rootpath Caminho desde o objeto raiz até o atributo que estamos validando atualmente. Nulo quando estamos validando o próprio objeto raiz.
+   * @param rootpath Caminho desde o objeto raiz até o atributo que estamos validando atualmente. {@link RFWAttributePath#ROOT} quando estamos validando o próprio objeto raiz.
    * @param newVOs Lista com os VOs que ainda não estão no banco mas fazem parte do objeto. Objetos nesta lista não serão validados se tem ID em uma eventual ASSOCIAÇÃO. Este objeto é gerenciado internamente com a recursão do método. Para a chamada inicial passar uma lista vazia.
-   * @param forceRequiredFields Lista com os campos que devem ser verificamos como "required = true", independente do que estiver definido no @BISMetaAnnotation do campo. Passar nulo caso não queira forçar nenhuma validação de obrigatoriedade.
+   * @param forcedPath Campos que devem ser verificamos como "required = true", a partir do objeto sendo validado (já no nó do basepath). Nulo caso nenhum campo deste objeto ou de seus filhos tenha a obrigatoriedade forçada.
+   * @param context Estado da validação, compartilhado por toda a recursão.
    * @throws RFWException Lançado em caso de validação ou problemas durante a execução das validações.
    */
-  private void validatePersist(Class<? extends RFWVO> voClass, RFWVO vo, String basepath, VALIDATION validation, RFWVO parentvo, RFWVO rootvo, String rootpath, List<RFWVO> newVOs, String[] forceRequiredFields) throws RFWException {
-    ArrayList<RFWValidationException> vallist = new ArrayList<>();
+  private void validatePersist(Class<? extends RFWVO> voClass, RFWVO vo, RFWAttributePath basepath, VALIDATION validation, RFWVO parentvo, RFWVO rootvo, RFWAttributePath rootpath, List<RFWVO> newVOs, ForcedRequiredPath forcedPath, ValidationContext context) throws RFWException {
+    final int failureCount = context.failures.size();
 
     // Verifica se o objeto não é nulo!
     if (vo == null) {
@@ -176,113 +1071,126 @@ public class RFWValidator {
       if (parentvo != null && vo.getId() == null) newVOs.add(vo);
     }
 
-    // Iteramos os Fields da Classe para procurar as meta-annotations do bis.
-    for (Field field : voClass.getDeclaredFields()) {
-      boolean forceRequired = false; // Flag indicando se deve forçar a validação de obrigatoriedade
-      if (forceRequiredFields != null) {
-        for (String reqField : forceRequiredFields) {
-          String path = createPath(basepath, field.getName(), null);
-          if (reqField.equals(path)) {
-            forceRequired = true;
-            break;
-          } else {
-            // Se não encontrou o caminho completo, tentamos se tem um caminho genérico (sem os ids de iteração e hashs)
-            path = RUReflex.getCleanPath(path);
-            if (reqField.equals(path)) {
-              forceRequired = true;
-              break;
-            }
-          }
-        }
-      }
+    // Executamos as regras do plano de validação da classe, na ordem em que os atributos foram declarados
+    final ValidationPlan plan = getValidationPlan(voClass);
+    // Na validação incremental, os objetos já persistidos com controle de alterações validam apenas os atributos alterados
+    Set<String> dirtyFields = null;
+    if (context.incremental && vo.getId() != null && !vo.isInsertWithID() && vo.hasChangeTracking()) dirtyFields = new HashSet<>(vo.listDirtyFields());
+    for (FieldRule rule : plan.rules) {
+      // Flag indicando se deve forçar a validação de obrigatoriedade. O forcedPath já está no nó do basepath, testando tanto o caminho completo quanto o genérico (sem os ids de iteração e hashs)
+      final boolean forceRequired = forcedPath != null && forcedPath.isRequired(rule.field.getName());
+      if (dirtyFields != null && !forceRequired && !rule.composition && !dirtyFields.contains(rule.field.getName())) continue;
       try {
-        if (field.isAnnotationPresent(RFWMetaStringField.class)) {
-          validateStringField(voClass, vo, field, basepath, rootvo, rootpath, forceRequired);
-        } else if (field.isAnnotationPresent(RFWMetaIntegerField.class)) {
-          validateIntegerField(voClass, vo, field, basepath, rootvo, rootpath, forceRequired);
-        } else if (field.isAnnotationPresent(RFWMetaLongField.class)) {
-          validateLongField(voClass, vo, field, basepath, rootvo, rootpath, forceRequired);
-        } else if (field.isAnnotationPresent(RFWMetaBigDecimalField.class)) {
-          validateBigDecimalField(voClass, vo, field, basepath, rootvo, rootpath, forceRequired);
-        } else if (field.isAnnotationPresent(RFWMetaBigDecimalCurrencyField.class)) {
-          validateBigDecimalCurrencyField(voClass, vo, field, basepath, rootvo, rootpath, forceRequired);
-        } else if (field.isAnnotationPresent(RFWMetaBigDecimalPercentageField.class)) {
-          validateBigDecimalPercentageField(voClass, vo, field, basepath, rootvo, rootpath, forceRequired);
-        } else if (field.isAnnotationPresent(RFWMetaEnumField.class)) {
-          validateEnumField(voClass, vo, field, basepath, rootvo, rootpath, forceRequired);
-        } else if (field.isAnnotationPresent(RFWMetaCollectionField.class)) {
-          validateCollectionField(voClass, vo, field, basepath, rootvo, rootpath, forceRequired);
-        } else if (field.isAnnotationPresent(RFWMetaDoubleField.class)) {
-          validateDoubleField(voClass, vo, field, basepath, rootvo, rootpath, forceRequired);
-        } else if (field.isAnnotationPresent(RFWMetaFloatField.class)) {
-          validateFloatField(voClass, vo, field, basepath, rootvo, rootpath, forceRequired);
-        } else if (field.isAnnotationPresent(RFWMetaBooleanField.class)) {
-          validateBooleanField(voClass, vo, field, basepath, rootvo, rootpath, forceRequired);
-        } else if (field.isAnnotationPresent(RFWMetaStringCNPJField.class)) {
-          validateStringCNPJField(voClass, vo, field, basepath, rootvo, rootpath, forceRequired);
-        } else if (field.isAnnotationPresent(RFWMetaStringCPFField.class)) {
-          validateStringCPFField(voClass, vo, field, basepath, rootvo, rootpath, forceRequired);
-        } else if (field.isAnnotationPresent(RFWMetaStringCPFOrCNPJField.class)) {
-          validateStringCPFOrCNPJField(voClass, vo, field, basepath, rootvo, rootpath, forceRequired);
-        } else if (field.isAnnotationPresent(RFWMetaStringEmailField.class)) {
-          validateStringEmailField(voClass, vo, field, basepath, rootvo, rootpath, forceRequired);
-        } else if (field.isAnnotationPresent(RFWMetaStringIEField.class)) {
-          validateStringIEField(voClass, vo, field, basepath, rootvo, rootpath, forceRequired);
-        } else if (field.isAnnotationPresent(RFWMetaStringCEPField.class)) {
-          validateStringCEPField(voClass, vo, field, basepath, rootvo, rootpath, forceRequired);
-        } else if (field.isAnnotationPresent(RFWMetaStringPhoneField.class)) {
-          validateStringPhoneField(voClass, vo, field, basepath, rootvo, rootpath, forceRequired);
-        } else if (field.isAnnotationPresent(RFWMetaDateField.class)) {
-          validateDateField(voClass, vo, field, basepath, rootvo, rootpath, forceRequired);
-        } else if (field.isAnnotationPresent(RFWMetaRelationshipField.class)) {
-          validateRelationshipField(voClass, vo, field, basepath, validation, rootvo, rootpath, newVOs, forceRequired, forceRequiredFields);
-        } else if (field.isAnnotationPresent(RFWMetaByteArrayField.class)) {
-          validateByteArrayField(voClass, vo, field, basepath, rootvo, rootpath, forceRequired);
-        } else if (field.isAnnotationPresent(RFWMetaGenericField.class)) {
-          validateGenericField(voClass, vo, field, basepath, rootvo, rootpath, forceRequired);
-        } else {
-          // Se o não encontramos nenhuma das BISMeta annotations conhecidas, verificamos se encontramos alguma BISMeta annotation que não estamos validando e lançamos como crítico! Garantimos assim que não esquecemos de fazer alguma validação para alguma nova BISMeta annotation.
-          final Annotation[] anns = field.getDeclaredAnnotations();
-          for (Annotation annotation : anns) {
-            // Fazemos a comparação de package usando o pacote atual de uma annotation conhecida ao invés de uma String fixa. Evitamos assim que esta verificação vá por água abaixo em algum refactor futuro.
-            final String basepackage = RFWMetaStringField.class.getPackage().getName();
-            if (annotation.annotationType().getCanonicalName().startsWith(basepackage + ".BISMeta")) {
-              throw new RFWCriticalException("Encontrada BISMeta Annotation não suportada pelo BISValidator! BISMeta: ${0} - VO: ${1}.", new String[] { annotation.annotationType().getCanonicalName(), voClass.getCanonicalName() });
-            }
-          }
+        switch (rule.type) {
+          case STRING:
+            validateStringField(voClass, vo, rule, basepath, rootvo, rootpath, forceRequired, context);
+            break;
+          case INTEGER:
+            validateIntegerField(voClass, vo, rule, basepath, rootvo, rootpath, forceRequired, context);
+            break;
+          case LONG:
+            validateLongField(voClass, vo, rule, basepath, rootvo, rootpath, forceRequired, context);
+            break;
+          case BIGDECIMAL:
+            validateBigDecimalField(voClass, vo, rule, basepath, rootvo, rootpath, forceRequired, context);
+            break;
+          case BIGDECIMALCURRENCY:
+            validateBigDecimalCurrencyField(voClass, vo, rule, basepath, rootvo, rootpath, forceRequired, context);
+            break;
+          case BIGDECIMALPERCENTAGE:
+            validateBigDecimalPercentageField(voClass, vo, rule, basepath, rootvo, rootpath, forceRequired, context);
+            break;
+          case ENUM:
+            validateEnumField(voClass, vo, rule, basepath, rootvo, rootpath, forceRequired, context);
+            break;
+          case COLLECTION:
+            validateCollectionField(voClass, vo, rule, basepath, rootvo, rootpath, forceRequired, context);
+            break;
+          case DOUBLE:
+            validateDoubleField(voClass, vo, rule, basepath, rootvo, rootpath, forceRequired, context);
+            break;
+          case FLOAT:
+            validateFloatField(voClass, vo, rule, basepath, rootvo, rootpath, forceRequired, context);
+            break;
+          case BOOLEAN:
+            validateBooleanField(voClass, vo, rule, basepath, rootvo, rootpath, forceRequired, context);
+            break;
+          case STRINGCNPJ:
+            validateStringCNPJField(voClass, vo, rule, basepath, rootvo, rootpath, forceRequired, context);
+            break;
+          case STRINGCPF:
+            validateStringCPFField(voClass, vo, rule, basepath, rootvo, rootpath, forceRequired, context);
+            break;
+          case STRINGCPFORCNPJ:
+            validateStringCPFOrCNPJField(voClass, vo, rule, basepath, rootvo, rootpath, forceRequired, context);
+            break;
+          case STRINGEMAIL:
+            validateStringEmailField(voClass, vo, rule, basepath, rootvo, rootpath, forceRequired, context);
+            break;
+          case STRINGIE:
+            validateStringIEField(voClass, vo, rule, basepath, rootvo, rootpath, forceRequired, context);
+            break;
+          case STRINGCEP:
+            validateStringCEPField(voClass, vo, rule, basepath, rootvo, rootpath, forceRequired, context);
+            break;
+          case STRINGPHONE:
+            validateStringPhoneField(voClass, vo, rule, basepath, rootvo, rootpath, forceRequired, context);
+            break;
+          case DATE:
+            validateDateField(voClass, vo, rule, basepath, rootvo, rootpath, forceRequired, context);
+            break;
+          case RELATIONSHIP:
+            validateRelationshipField(voClass, vo, rule, basepath, validation, rootvo, rootpath, newVOs, forceRequired, forcedPath, context);
+            break;
+          case BYTEARRAY:
+            validateByteArrayField(voClass, vo, rule, basepath, rootvo, rootpath, forceRequired, context);
+            break;
+          case GENERIC:
+            validateGenericField(voClass, vo, rule, basepath, rootvo, rootpath, forceRequired, context);
+            break;
+          case UNSUPPORTED:
+            // Encontramos alguma BISMeta annotation que não estamos validando, lançamos como crítico! Garantimos assim que não esquecemos de fazer alguma validação para alguma nova BISMeta annotation.
+            throw new RFWCriticalException("Encontrada BISMeta Annotation não suportada pelo BISValidator! BISMeta: ${0} - VO: ${1}.", new String[] { rule.annotation.annotationType().getCanonicalName(), voClass.getCanonicalName() });
         }
       } catch (RFWValidationException e) {
-        if (e instanceof RFWValidationGroupException) {
-          vallist.addAll(((RFWValidationGroupException) e).getValidationlist());
-        } else {
-          vallist.add(e);
-        }
+        context.addFailures(e);
       }
     }
 
     // Depois de validado os BISMetas, e somente se ainda não tiver falhado em nenhum campo validamos as Anotações de Classe
-    if (vallist.size() == 0) {
+    if (context.failures.size() == failureCount) {
       try {
         // *** RFWMetaUniqueConstraint
-        if (voClass.isAnnotationPresent(RFWMetaUniqueConstraint.class)) {
-          validateUniqueConstraint(voClass, vo, basepath);
+        if (plan.uniqueConstraint != null && isAnyDirty(dirtyFields, plan.uniqueConstraint.fields())) {
+          validateUniqueConstraint(voClass, vo, basepath, plan.uniqueConstraint, context);
         }
 
         // *** RFWMetaAttributeRelation
-        if (voClass.isAnnotationPresent(RFWMetaAttributeRelation.class)) {
-          validateAttributeRelation(voClass, vo, basepath);
+        if (plan.attributeRelation != null && isAnyDirty(dirtyFields, plan.attributeRelation.attribute(), plan.attributeRelation.attribute2())) {
+          validateAttributeRelation(voClass, vo, basepath, plan.attributeRelation, context);
         }
       } catch (RFWValidationException e) {
-        if (e instanceof RFWValidationGroupException) {
-          vallist.addAll(((RFWValidationGroupException) e).getValidationlist());
-        } else {
-          vallist.add(e);
-        }
+        context.addFailures(e);
       }
     }
 
-    // Verifica se temos validações na lista, se tiver lança todas juntas
-    if (vallist.size() > 0) throw new RFWValidationGroupException(vallist);
+    // Se o objeto teve alguma falha, interrompe a validação do atributo do objeto pai (as falhas já estão registradas no contexto)
+    if (context.failures.size() > failureCount) throw FAILED;
+  }
+
+  /**
+   * Verifica se algum dos atributos (ou caminhos de atributos) passados foi alterado. Nos caminhos que atravessam outros objetos é considerado o atributo do próprio objeto (primeiro nível do caminho).
+   *
+   * @param dirtyFields Atributos alterados do objeto, ou null quando todos os atributos devem ser considerados alterados.
+   * @param paths Atributos ou caminhos de atributos.
+   */
+  private static boolean isAnyDirty(Set<String> dirtyFields, String... paths) {
+    if (dirtyFields == null) return true;
+    for (String path : paths) {
+      final int index = path.indexOf('.');
+      if (dirtyFields.contains(index < 0 ? path : path.substring(0, index))) return true;
+    }
+    return false;
   }
 
   /**
@@ -294,41 +1202,43 @@ public class RFWValidator {
    * @param basepath Caminho base até este atributo, caso a validação esteja ocorrendo cascata.
    * @param forceRequired
    */
-  private void validateStringField(Class<? extends RFWVO> voClass, RFWVO vo, Field field, String basepath, RFWVO rootvo, String rootpath, boolean forceRequired) throws RFWException {
+  private void validateStringField(Class<? extends RFWVO> voClass, RFWVO vo, FieldRule rule, RFWAttributePath basepath, RFWVO rootvo, RFWAttributePath rootpath, boolean forceRequired, ValidationContext context) throws RFWException {
     // Recuperamos a anotação se suas definições
-    final RFWMetaStringField ann = field.getAnnotation(RFWMetaStringField.class);
+    final RFWVOFieldMeta field = rule.field;
+    final RFWMetaStringField ann = (RFWMetaStringField) rule.annotation;
     String value;
     try {
-      value = (String) RUReflex.getPropertyValue(vo, field.getName());
+      value = (String) field.getValue(vo);
     } catch (RFWException e) {
       throw e;
     } catch (Exception e) {
       throw new RFWCriticalException("BISMetaField '${1}' usado em um campo não compatível no '${2} da '${0}'.", new String[] { voClass.getCanonicalName(), RFWMetaStringField.class.getName(), field.getName() }, e);
     }
     // Valida obrigatoriedade
-    if ((forceRequired || ann.required()) && value == null) {
-      throw new RFWValidationException("'${fieldname}' é obrigatório.", createPath(basepath, field.getName(), null), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
+    if ((forceRequired || rule.required) && value == null) {
+      throw fail(context, "'${fieldname}' é obrigatório.", createPath(basepath, field.getName()), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
     }
     // Valida unicidade
-    if (ann.unique()) {
-      checkUnique(value, voClass, field.getName(), vo, basepath, ann.caption(), rootvo, rootpath);
+    if (rule.unique) {
+      checkUnique(value, voClass, field.getName(), vo, basepath, rule.caption, rootvo, rootpath, context);
     }
     // Valida maxlength
     if (ann.maxLength() <= 0) {
       throw new RFWCriticalException("RFWMetaStringField definido com maxlength = 0 na classe '${0}'.", new String[] { voClass.getCanonicalName() });
     } else if (value != null) {
-      if (value.length() > ann.maxLength()) throw new RFWValidationException("'${fieldname}' com tamanho excessivo! O tamanho máximo deve ser de ${0} caracteres.", new String[] { "" + ann.maxLength() }, createPath(basepath, field.getName(), null), voClass.getCanonicalName(),
+      if (value.length() > ann.maxLength()) throw fail(context, "'${fieldname}' com tamanho excessivo! O tamanho máximo deve ser de ${0} caracteres.", new String[] { "" + ann.maxLength() }, createPath(basepath, field.getName()), voClass.getCanonicalName(),
           new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
     }
     if (value != null) {
       // Valida minlength
       if (ann.minLength() >= 0) {
-        if (value.length() < ann.minLength()) throw new RFWValidationException("'${fieldname}' muito curto! O tamanho mínimo deve ser de ${0} caracteres.", new String[] { "" + ann.minLength(), "" + value }, createPath(basepath, field.getName(), null), voClass.getCanonicalName(),
+        if (value.length() < ann.minLength()) throw fail(context, "'${fieldname}' muito curto! O tamanho mínimo deve ser de ${0} caracteres.", new String[] { "" + ann.minLength(), "" + value }, createPath(basepath, field.getName()), voClass.getCanonicalName(),
             new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
       }
       // Valida pattern
-      if (!"".equals(ann.pattern())) {
-        if (!value.matches(ann.pattern())) throw new RFWValidationException("O valor de '${fieldname}' não está em um padrão aceito!", new String[] { "" + ann.pattern(), "" + value }, createPath(basepath, field.getName(), null), voClass.getCanonicalName(),
+      if (rule.patternError != null) throw rule.patternError;
+      if (rule.pattern != null) {
+        if (!rule.pattern.matcher(value).matches()) throw fail(context, "O valor de '${fieldname}' não está em um padrão aceito!", new String[] { "" + ann.pattern(), "" + value }, createPath(basepath, field.getName()), voClass.getCanonicalName(),
             new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
       }
     }
@@ -343,20 +1253,21 @@ public class RFWValidator {
    * @param basepath Caminho base até este atributo, caso a validação esteja ocorrendo cascata.
    * @param forceRequired
    */
-  private void validateGenericField(Class<? extends RFWVO> voClass, RFWVO vo, Field field, String basepath, RFWVO rootvo, String rootpath, boolean forceRequired) throws RFWException {
+  private void validateGenericField(Class<? extends RFWVO> voClass, RFWVO vo, FieldRule rule, RFWAttributePath basepath, RFWVO rootvo, RFWAttributePath rootpath, boolean forceRequired, ValidationContext context) throws RFWException {
     // Recuperamos a anotação se suas definições
-    final RFWMetaGenericField ann = field.getAnnotation(RFWMetaGenericField.class);
+    final RFWVOFieldMeta field = rule.field;
+    final RFWMetaGenericField ann = (RFWMetaGenericField) rule.annotation;
     Object value;
     try {
-      value = RUReflex.getPropertyValue(vo, field.getName());
+      value = field.getValue(vo);
     } catch (RFWException e) {
       throw e;
     } catch (Exception e) {
       throw new RFWCriticalException("BISMetaField '${1}' usado em um campo não compatível no '${2} da '${0}'.", new String[] { voClass.getCanonicalName(), RFWMetaGenericField.class.getName(), field.getName() }, e);
     }
     // Valida obrigatoriedade
-    if ((forceRequired || ann.required()) && value == null) {
-      throw new RFWValidationException("'${fieldname}' é obrigatório.", createPath(basepath, field.getName(), null), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
+    if ((forceRequired || rule.required) && value == null) {
+      throw fail(context, "'${fieldname}' é obrigatório.", createPath(basepath, field.getName()), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
     }
   }
 
@@ -369,36 +1280,37 @@ public class RFWValidator {
    * @param basepath Caminho base até este atributo, caso a validação esteja ocorrendo cascata.
    * @param forceRequired
    */
-  private void validateByteArrayField(Class<? extends RFWVO> voClass, RFWVO vo, Field field, String basepath, RFWVO rootvo, String rootpath, boolean forceRequired) throws RFWException {
+  private void validateByteArrayField(Class<? extends RFWVO> voClass, RFWVO vo, FieldRule rule, RFWAttributePath basepath, RFWVO rootvo, RFWAttributePath rootpath, boolean forceRequired, ValidationContext context) throws RFWException {
     // Recuperamos a anotação se suas definições
-    final RFWMetaByteArrayField ann = field.getAnnotation(RFWMetaByteArrayField.class);
+    final RFWVOFieldMeta field = rule.field;
+    final RFWMetaByteArrayField ann = (RFWMetaByteArrayField) rule.annotation;
     byte[] value;
     try {
-      value = (byte[]) RUReflex.getPropertyValue(vo, field.getName());
+      value = (byte[]) field.getValue(vo);
     } catch (RFWException e) {
       throw e;
     } catch (Exception e) {
       throw new RFWCriticalException("BISMetaField '${1}' usado em um campo não compatível no '${2} da '${0}'.", new String[] { voClass.getCanonicalName(), RFWMetaStringField.class.getName(), field.getName() }, e);
     }
     // Valida obrigatoriedade
-    if ((forceRequired || ann.required()) && value == null) {
-      throw new RFWValidationException("'${fieldname}' é obrigatório.", createPath(basepath, field.getName(), null), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
+    if ((forceRequired || rule.required) && value == null) {
+      throw fail(context, "'${fieldname}' é obrigatório.", createPath(basepath, field.getName()), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
     }
     // Valida unicidade
-    if (ann.unique()) {
-      checkUnique(value, voClass, field.getName(), vo, basepath, ann.caption(), rootvo, rootpath);
+    if (rule.unique) {
+      checkUnique(value, voClass, field.getName(), vo, basepath, rule.caption, rootvo, rootpath, context);
     }
     // Valida maxlength
     if (ann.maxlength() <= 0) {
       throw new RFWCriticalException("RFWMetaStringField definido com maxlength = 0 na classe '${0}'.", new String[] { voClass.getCanonicalName() });
     } else if (value != null) {
-      if (value.length > ann.maxlength()) throw new RFWValidationException("'${fieldname}' com tamanho excessivo! O tamanho máximo deve ser de ${0} caracteres.", new String[] { "" + ann.maxlength() }, createPath(basepath, field.getName(), null), voClass.getCanonicalName(),
+      if (value.length > ann.maxlength()) throw fail(context, "'${fieldname}' com tamanho excessivo! O tamanho máximo deve ser de ${0} caracteres.", new String[] { "" + ann.maxlength() }, createPath(basepath, field.getName()), voClass.getCanonicalName(),
           new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
     }
     if (value != null) {
       // Valida minlength
       if (ann.minlength() >= 0) {
-        if (value.length < ann.minlength()) throw new RFWValidationException("'${fieldname}' muito curto! O tamanho mínimo deve ser de ${0} caracteres.", new String[] { "" + ann.minlength(), "" + value }, createPath(basepath, field.getName(), null), voClass.getCanonicalName(),
+        if (value.length < ann.minlength()) throw fail(context, "'${fieldname}' muito curto! O tamanho mínimo deve ser de ${0} caracteres.", new String[] { "" + ann.minlength(), "" + value }, createPath(basepath, field.getName()), voClass.getCanonicalName(),
             new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
       }
     }
@@ -410,12 +1322,12 @@ public class RFWValidator {
    * @param voClass Classe da Entidade/VO sendo validada.
    * @param vo Entidade sendo validada.
    * @param basepath Caminho base até chegar nesta validação
+   * @param ann Anotação da classe.
+   * @param context Estado da validação, compartilhado por toda a recursão.
    */
-  private void validateUniqueConstraint(Class<? extends RFWVO> voClass, RFWVO vo, String basepath) throws RFWException {
-    // Busca no banco se temos
-    if (this.dataProvider != null) {
-      // Recuperamos a anotação se suas definições
-      final RFWMetaUniqueConstraint ann = voClass.getAnnotation(RFWMetaUniqueConstraint.class);
+  private void validateUniqueConstraint(Class<? extends RFWVO> voClass, RFWVO vo, RFWAttributePath basepath, RFWMetaUniqueConstraint ann, ValidationContext context) throws RFWException {
+    // Busca no banco se temos (na validação em lote a verificação também é feita entre os objetos do lote, mesmo sem o DataProvider)
+    if (context.dataProvider != null || context.deferUniqueChecks) {
 
       // Verificamos os valores dos campos definidos na constraint
       Object[] value = new Object[ann.fields().length];
@@ -430,36 +1342,29 @@ public class RFWValidator {
         }
       }
 
-      // Montamos o MO para verificar se encontramos um objeto no banco com os mesmos valores
-      RFWMO mo = new RFWMO();
-      try {
-        for (int i = 0; i < value.length; i++) {
-          Object object = value[i];
-          String fieldname = ann.fields()[i];
-
-          // Se o valor da propriedade for null vamos utilizar o método de isnull do MO
-          if (object == null) {
-            mo.isNull(fieldname);
-          } else {
-            if (object instanceof RFWVO) {
-              // Se o ID estiver nulo, abortamos a validação, pois consideramos que esse ID nulo seja de um objeto que ainda será persistido. Logo não terá problema de constraint. (talvez tenha problema se o próprio objeto estiver criando objetos com contraints duplicadas.
-              if (((RFWVO) value[i]).getId() == null) return;
-              // Se for um RFWVO, buscamos pela igualdade do seu ID e não do próprio objeto
-              mo.equal(fieldname + ".id", ((RFWVO) value[i]).getId());
-            } else {
-              mo.equal(fieldname, value[i]);
-            }
-          }
+      // Montamos a verificação para procurar um objeto no banco com os mesmos valores
+      final String[] fields = new String[value.length];
+      final Object[] values = new Object[value.length];
+      for (int i = 0; i < value.length; i++) {
+        if (value[i] instanceof RFWVO) {
+          // Se o ID estiver nulo, abortamos a validação, pois consideramos que esse ID nulo seja de um objeto que ainda será persistido. Logo não terá problema de constraint. (talvez tenha problema se o próprio objeto estiver criando objetos com contraints duplicadas.
+          if (((RFWVO) value[i]).getId() == null) return;
+          // Se for um RFWVO, buscamos pela igualdade do seu ID e não do próprio objeto
+          fields[i] = ann.fields()[i] + ".id";
+          values[i] = ((RFWVO) value[i]).getId();
+        } else {
+          // Se o valor da propriedade for null a verificação utiliza o método de isnull do MO
+          fields[i] = ann.fields()[i];
+          values[i] = value[i];
         }
-        // Caso o VO tenha um ID, adicionamos a condição de não aceitar esse objeto na busca para evitar de contrastar a constraint com esse próprio objeto no caso de um update.
-        if (vo.getId() != null) mo.notEqual("id", vo.getId());
-      } catch (Exception e) {
-        throw new RFWCriticalException("Falha ao montar MO para teste de UniqueConstraint: '${0}'.", new String[] { e.getMessage() }, e);
       }
-
-      RFWVO dbvo = this.dataProvider.findUniqueMatch(voClass, mo, null);
-      if (dbvo != null) {
-        throw new RFWValidationException("Já existe um cadastro com os mesmos valores nos campos: ${fieldname}!", createPath(basepath, ann.fields()[0], null), voClass.getCanonicalName(), fieldcaptions);
+      // Caso o VO tenha um ID, a verificação não aceita esse objeto na busca para evitar de contrastar a constraint com esse próprio objeto no caso de um update.
+      final UniqueCheck check = new UniqueCheck(voClass, fields, values, vo.getId(), "Já existe um cadastro com os mesmos valores nos campos: ${fieldname}!", createPath(basepath, ann.fields()[0]), voClass.getCanonicalName(), fieldcaptions);
+      if (context.deferUniqueChecks) {
+        context.uniqueChecks.add(check);
+      } else {
+        RFWVO dbvo = context.dataProvider.findUniqueMatch(voClass, check.createMO(), null);
+        if (dbvo != null) throw fail(context, check.message, null, check.fieldPath, check.className, check.fieldName);
       }
     }
   }
@@ -470,10 +1375,9 @@ public class RFWValidator {
    * @param voClass Classe da Entidade/VO sendo validada.
    * @param vo Entidade sendo validada.
    * @param basepath Caminho base até chegar nesta validação
+   * @param ann Anotação da classe.
    */
-  private void validateAttributeRelation(Class<? extends RFWVO> voClass, RFWVO vo, String basepath) throws RFWException {
-    // Recuperamos a anotação se suas definições
-    final RFWMetaAttributeRelation ann = voClass.getAnnotation(RFWMetaAttributeRelation.class);
+  private void validateAttributeRelation(Class<? extends RFWVO> voClass, RFWVO vo, RFWAttributePath basepath, RFWMetaAttributeRelation ann, ValidationContext context) throws RFWException {
 
     // Obtemos os valores dos dois atributos e executamos a comparação
     Object value1 = null;
@@ -491,7 +1395,7 @@ public class RFWValidator {
 
     // Com os dois valores na mão, chamamos o método para resolver a condição
     if (!evalCompareOperation(value1, value2, ann.operation())) {
-      throw new RFWValidationException(ann.exceptioncode(), new String[] { "" + value1, "" + value2 });
+      throw fail(context, ann.exceptioncode(), new String[] { "" + value1, "" + value2 });
     }
   }
 
@@ -561,7 +1465,7 @@ public class RFWValidator {
                 // Busca no banco se temos
                 List<Long> list = this.dataProvider.findIDs(ann.voClass(), mo, null);
                 if (list != null && list.size() > 0) {
-                  throw new RFWValidationException("O cadastro está em uso no momento e não pode ser exclúido!", new String[] { "" + list.get(0) }, createPath(basepath, "id", null), ann.voClass().getCanonicalName(), null);
+                  throw new RFWValidationException("O cadastro está em uso no momento e não pode ser exclúido!", new String[] { "" + list.get(0) }, RUReflex.getAttributePath("id", basepath), ann.voClass().getCanonicalName(), null);
                 }
               }
             }
@@ -582,27 +1486,29 @@ public class RFWValidator {
    * @param field com a anotação.
    * @param basepath Caminho base até este atributo, caso a validação esteja ocorrendo cascata.
    * @param forceRequired
-   * @param forceRequiredFields
+   * @param forcedPath Campos que devem ter a obrigatoriedade forçada, a partir do objeto sendo validado.
+   * @param context Estado da validação, compartilhado por toda a recursão.
    */
   @SuppressWarnings({ "unchecked", "rawtypes" })
-  private void validateRelationshipField(Class<? extends RFWVO> voClass, RFWVO vo, Field field, String basepath, VALIDATION validation, RFWVO rootvo, String rootpath, List<RFWVO> newVOs, boolean forceRequired, String[] forceRequiredFields) throws RFWException {
+  private void validateRelationshipField(Class<? extends RFWVO> voClass, RFWVO vo, FieldRule rule, RFWAttributePath basepath, VALIDATION validation, RFWVO rootvo, RFWAttributePath rootpath, List<RFWVO> newVOs, boolean forceRequired, ForcedRequiredPath forcedPath, ValidationContext context) throws RFWException {
     // Recuperamos a anotação se suas definições
-    final RFWMetaRelationshipField ann = field.getAnnotation(RFWMetaRelationshipField.class);
+    final RFWVOFieldMeta field = rule.field;
+    final RFWMetaRelationshipField ann = (RFWMetaRelationshipField) rule.annotation;
 
     // Se for uma WEAK_ASSOCIATION não faz absolutamente nenhuma validação, nem de obrigatoriedade nem nada!
     if (ann.relationship() == RelationshipTypes.WEAK_ASSOCIATION) return;
 
     Object value;
     try {
-      value = RUReflex.getPropertyValue(vo, field.getName());
+      value = field.getValue(vo);
     } catch (RFWException e) {
       throw e;
     } catch (Exception e) {
       throw new RFWCriticalException("BISMetaField '${1}' usado em um campo não compatível no '${2} da '${0}'.", new String[] { voClass.getCanonicalName(), RFWMetaRelationshipField.class.getName(), field.getName() }, e);
     }
     // Valida obrigatoriedade
-    if ((forceRequired || ann.required()) && value == null) {
-      throw new RFWValidationException("'${fieldname}' é obrigatório.", createPath(basepath, field.getName(), null), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
+    if ((forceRequired || rule.required) && value == null) {
+      throw fail(context, "'${fieldname}' é obrigatório.", createPath(basepath, field.getName()), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
     }
     if (value != null) {
       switch (ann.relationship()) {
@@ -616,29 +1522,26 @@ public class RFWValidator {
             if (((RFWVO) value).getId() == null || ((RFWVO) value).isInsertWithID()) { // Um objeto que tem ID mas tem a marcação de inserir com ID = true é considerado um objeto que não está no banco. Se ele já foi persistido, deve ter a flag defina em false.
               // ...e se ele não está na lista de objetos que serão inseridos por serem novos.
               if (!newVOs.contains(value)) {
-                throw new RFWValidationException("Associação inválida! É esperado um objeto pré-existente no atributo '${fieldname}'!", createPath(basepath, field.getName(), null), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
+                throw fail(context, "Associação inválida! É esperado um objeto pré-existente no atributo '${fieldname}'!", createPath(basepath, field.getName()), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
               }
             } else {
-              if (this.dataProvider != null) {
-                // Valida se o objeto já está no banco de dados...
-                RFWVO dbvo = this.dataProvider.findByID((Class<? extends RFWVO>) value.getClass(), ((RFWVO) value).getId(), null);
-                if (dbvo == null) {
-                  throw new RFWCriticalException("O objeto associado não foi encontrado no banco de dados! Atributo: '${0}'", new String[] { field.getName() });
-                }
+              if (context.dataProvider != null) {
+                // Valida se o objeto já está no banco de dados (a consulta é feita em lote ao final da validação)
+                context.addAssociationCheck((RFWVO) value, "O objeto associado não foi encontrado no banco de dados! Atributo: '${0}'", new String[] { createPath(basepath, field.getName()) });
               }
               // Valida unicidade do relacionamento
-              if (ann.unique()) {
-                checkUnique(value, voClass, field.getName(), vo, basepath, ann.caption(), rootvo, rootpath);
+              if (rule.unique) {
+                checkUnique(value, voClass, field.getName(), vo, basepath, rule.caption, rootvo, rootpath, context);
               }
             }
           } else if (value instanceof List) {
             List<?> list = (List) value;
             // Se temos uma lista de associações, verificamos se ela tem o tamanho mínimo exigido
             if (ann.minSize() > -1 && list.size() < ann.minSize()) {
-              throw new RFWValidationException("'${fieldname}' deve ter no mínimo '${0}' relacionamento(s).", new String[] { "" + ann.minSize() }, createPath(basepath, field.getName(), null), voClass.getCanonicalName(), new String[] { ann.caption() });
+              throw fail(context, "'${fieldname}' deve ter no mínimo '${0}' relacionamento(s).", new String[] { "" + ann.minSize() }, createPath(basepath, field.getName()), voClass.getCanonicalName(), new String[] { rule.caption });
             }
             if (list.size() > ann.maxSize()) {
-              throw new RFWValidationException("'${fieldname}' deve ter no máximo '${0}' relacionamento(s).", new String[] { "" + ann.maxSize() }, createPath(basepath, field.getName(), null), voClass.getCanonicalName(), new String[] { ann.caption() });
+              throw fail(context, "'${fieldname}' deve ter no máximo '${0}' relacionamento(s).", new String[] { "" + ann.maxSize() }, createPath(basepath, field.getName()), voClass.getCanonicalName(), new String[] { rule.caption });
             }
             // Valida os itens da lista
             for (Object listvo : list) {
@@ -646,16 +1549,13 @@ public class RFWValidator {
               if (listvo == null || ((RFWVO) listvo).getId() == null) {
                 throw new RFWCriticalException("A associação, ou seu ID, do atributo '${0}' da classe '${1}' é nulo!", new String[] { field.getName(), voClass.getCanonicalName() });
               }
-              // agora se cada existe no banco
-              if (this.dataProvider != null) {
-                final RFWVO dbvo = this.dataProvider.findByID((Class<? extends RFWVO>) listvo.getClass(), ((RFWVO) listvo).getId(), null);
-                if (dbvo == null) {
-                  throw new RFWCriticalException("'${fieldname}' contém uma associação com um objeto que não foi encontrado na base de dados: '${0}' / ID: '${1}'.", new String[] { listvo.getClass().getCanonicalName(), "" + ((RFWVO) listvo).getId() });
-                }
+              // agora se cada existe no banco (a consulta é feita em lote ao final da validação)
+              if (context.dataProvider != null) {
+                context.addAssociationCheck((RFWVO) listvo, "'${2}' contém uma associação com um objeto que não foi encontrado na base de dados: '${0}' / ID: '${1}'.", new String[] { listvo.getClass().getCanonicalName(), "" + ((RFWVO) listvo).getId(), createPath(basepath, field.getName()) });
               }
             }
             // Se o relacionamento for marcado como único, verificamos se cada uma das associações não está em uso por outro objeto
-            if (ann.unique()) {
+            if (rule.unique) {
               final ArrayList compareList = new ArrayList(list); // Duplicamos a lista para manipular e iterar sem prejudicar a lista principal
               for (Object assocVO : list) {
                 if (assocVO instanceof RFWVO) {
@@ -663,19 +1563,19 @@ public class RFWValidator {
                   compareList.remove(assocVO); // Remove este objeto para não conincidir com ele mesmo, e para já ir diminuindo a lista de relacionamento, deixando cada for 1 item menor
                   for (Object dupVO : compareList) {
                     if (((RFWVO) dupVO).getId().equals(((RFWVO) assocVO).getId())) {
-                      throw new RFWValidationException("'${fieldname}' duplicado!. Não podem existir dois cadastros com o mesmo '${fieldname}'.", createPath(basepath, field.getName(), null), voClass.getCanonicalName(),
+                      throw fail(context, "'${fieldname}' duplicado!. Não podem existir dois cadastros com o mesmo '${fieldname}'.", createPath(basepath, field.getName()), voClass.getCanonicalName(),
                           new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
                     }
                   }
-                  if (this.dataProvider != null) {
+                  if (context.dataProvider != null) {
                     // Busca algum outro relacionamento com este mesmo objeto no banco de dados.
                     RFWMO mo = new RFWMO();
                     mo.equal(field.getName() + ".id", ((RFWVO) assocVO).getId());
                     // Caso este objeto tenha um ID, garantimos que a busca não vai encontrar esse próprio objeto na busca, afinal em caso de update o relacionamento pode já existir no banco
                     mo.notEqual("id", vo.getId());
-                    List<Long> foundList = this.dataProvider.findIDs(voClass, mo, null);
+                    List<Long> foundList = context.dataProvider.findIDs(voClass, mo, null);
                     if (foundList != null && foundList.size() > 0) {
-                      throw new RFWValidationException("'${fieldname}' duplicado. Não podem existir dois cadastros com o mesmo '${fieldname}'.", createPath(basepath, field.getName(), null), voClass.getCanonicalName(),
+                      throw fail(context, "'${fieldname}' duplicado. Não podem existir dois cadastros com o mesmo '${fieldname}'.", createPath(basepath, field.getName()), voClass.getCanonicalName(),
                           new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
                     }
                   }
@@ -686,26 +1586,23 @@ public class RFWValidator {
             Map<?, ?> map = (Map) value;
             // Se temos um Map de associações, verificamos se ela tem o tamanho mínimo exigido
             if (ann.minSize() > -1 && map.size() < ann.minSize()) {
-              throw new RFWValidationException("'${fieldname}' deve ter no mínimo '${0}' relacionamento(s).", new String[] { "" + ann.minSize() }, createPath(basepath, field.getName(), null), voClass.getCanonicalName(), new String[] { ann.caption() });
+              throw fail(context, "'${fieldname}' deve ter no mínimo '${0}' relacionamento(s).", new String[] { "" + ann.minSize() }, createPath(basepath, field.getName()), voClass.getCanonicalName(), new String[] { rule.caption });
             }
             if (map.size() > ann.maxSize()) {
-              throw new RFWValidationException("'${fieldname}' deve ter no máximo '${0}' relacionamento(s).", new String[] { "" + ann.maxSize() }, createPath(basepath, field.getName(), null), voClass.getCanonicalName(), new String[] { ann.caption() });
+              throw fail(context, "'${fieldname}' deve ter no máximo '${0}' relacionamento(s).", new String[] { "" + ann.maxSize() }, createPath(basepath, field.getName()), voClass.getCanonicalName(), new String[] { rule.caption });
             } // Valida os itens da lista
             for (Object listvo : map.values()) {
               // valida se o objeto da lista não é nulo e se tem um ID
               if (listvo == null || ((RFWVO) listvo).getId() == null) {
                 throw new RFWCriticalException("A associação, ou seu ID, do atributo '${0}' da classe '${1}' é nulo!", new String[] { field.getName(), voClass.getCanonicalName() });
               }
-              // agora se cada existe no banco
-              if (this.dataProvider != null) {
-                final RFWVO dbvo = this.dataProvider.findByID((Class<? extends RFWVO>) listvo.getClass(), ((RFWVO) listvo).getId(), null);
-                if (dbvo == null) {
-                  throw new RFWCriticalException("'${fieldname}' contém uma associação com um objeto que não foi encontrado na base de dados: '${0}' / ID: '${1}'.", new String[] { listvo.getClass().getCanonicalName(), "" + ((RFWVO) listvo).getId() });
-                }
+              // agora se cada existe no banco (a consulta é feita em lote ao final da validação)
+              if (context.dataProvider != null) {
+                context.addAssociationCheck((RFWVO) listvo, "'${2}' contém uma associação com um objeto que não foi encontrado na base de dados: '${0}' / ID: '${1}'.", new String[] { listvo.getClass().getCanonicalName(), "" + ((RFWVO) listvo).getId(), createPath(basepath, field.getName()) });
               }
             }
             // Se o relacionamento for marcado como único, verificamos se cada uma das associações não está em uso por outro objeto
-            if (ann.unique()) {
+            if (rule.unique) {
               final ArrayList compareList = new ArrayList(map.values()); // Duplicamos a lista para manipular e iterar sem prejudicar a lista principal
               for (Object assocVO : map.values()) {
                 if (assocVO instanceof RFWVO) {
@@ -713,19 +1610,19 @@ public class RFWValidator {
                   compareList.remove(assocVO); // Remove este objeto para não conincidir com ele mesmo, e para já ir diminuindo a lista de relacionamento, deixando cada for 1 item menor
                   for (Object dupVO : compareList) {
                     if (((RFWVO) dupVO).getId().equals(((RFWVO) assocVO).getId())) {
-                      throw new RFWValidationException("'${fieldname}' duplicado!. Não podem existir dois cadastros com o mesmo '${fieldname}'.", createPath(basepath, field.getName(), null), voClass.getCanonicalName(),
+                      throw fail(context, "'${fieldname}' duplicado!. Não podem existir dois cadastros com o mesmo '${fieldname}'.", createPath(basepath, field.getName()), voClass.getCanonicalName(),
                           new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
                     }
                   }
                   // Busca algum outro relacionamento com este mesmo objeto no banco de dados.
-                  if (this.dataProvider != null) {
+                  if (context.dataProvider != null) {
                     RFWMO mo = new RFWMO();
                     mo.equal(field.getName() + ".id", ((RFWVO) assocVO).getId());
                     // Caso este objeto tenha um ID, garantimos que a busca não vai encontrar esse próprio objeto na busca, afinal em caso de update o relacionamento pode já existir no banco
                     mo.notEqual("id", vo.getId());
-                    List<Long> foundList = this.dataProvider.findIDs(voClass, mo, null);
+                    List<Long> foundList = context.dataProvider.findIDs(voClass, mo, null);
                     if (foundList != null && foundList.size() > 0) {
-                      throw new RFWValidationException("'${fieldname}' duplicado. Não podem existir dois cadastros com o mesmo '${fieldname}'.", createPath(basepath, field.getName(), null), voClass.getCanonicalName(),
+                      throw fail(context, "'${fieldname}' duplicado. Não podem existir dois cadastros com o mesmo '${fieldname}'.", createPath(basepath, field.getName()), voClass.getCanonicalName(),
                           new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
                     }
                   }
@@ -739,22 +1636,22 @@ public class RFWValidator {
         case COMPOSITION:
           // Faz a validação em cadeia
           if (value instanceof RFWVO) {
-            validatePersist(((RFWVO) value).getClass(), (RFWVO) value, createPath(basepath, field.getName(), null), validation, vo, rootvo, createPath(rootpath, field.getName(), null), newVOs, forceRequiredFields);
+            validatePersist(((RFWVO) value).getClass(), (RFWVO) value, basepath.child(field.getName()), validation, vo, rootvo, rootpath.child(field.getName()), newVOs, forcedPath == null ? null : forcedPath.child(field.getName()), context);
           } else if (value instanceof List) {
             List<?> list = (List) value;
             // Se temos uma lista de associações, verificamos se ela tem o tamanho mínimo exigido
             if (ann.minSize() > -1 && list.size() < ann.minSize()) {
-              throw new RFWValidationException("'${fieldname}' deve ter no mínimo '${0}' relacionamento(s).", new String[] { "" + ann.minSize() }, createPath(basepath, field.getName(), null), voClass.getCanonicalName(), new String[] { ann.caption() });
+              throw fail(context, "'${fieldname}' deve ter no mínimo '${0}' relacionamento(s).", new String[] { "" + ann.minSize() }, createPath(basepath, field.getName()), voClass.getCanonicalName(), new String[] { rule.caption });
             }
             if (list.size() > ann.maxSize()) {
-              throw new RFWValidationException("'${fieldname}' deve ter no máximo '${0}' relacionamento(s).", new String[] { "" + ann.maxSize() }, createPath(basepath, field.getName(), null), voClass.getCanonicalName(), new String[] { ann.caption() });
+              throw fail(context, "'${fieldname}' deve ter no máximo '${0}' relacionamento(s).", new String[] { "" + ann.maxSize() }, createPath(basepath, field.getName()), voClass.getCanonicalName(), new String[] { rule.caption });
             }
             int count = 0;
             for (Iterator iterator = ((List) value).iterator(); iterator.hasNext();) {
               Object obj = iterator.next();
               if (obj instanceof RFWVO) {
                 RFWVO childvo = (RFWVO) obj;
-                validatePersist(childvo.getClass(), childvo, createPath(basepath, field.getName(), "" + count), validation, vo, rootvo, createPath(rootpath, field.getName(), "" + count), newVOs, forceRequiredFields);
+                validatePersist(childvo.getClass(), childvo, basepath.child(field.getName(), count), validation, vo, rootvo, rootpath.child(field.getName(), count), newVOs, forcedPath == null ? null : forcedPath.child(field.getName(), count), context);
               } else {
                 throw new RFWCriticalException("O BISValidator não suporta a BISMetaRelationship '${3}' em uma List de '${0}'. Encontrada no atributo '${1}' da classe '${2}'.",
                     new String[] { obj.getClass().getCanonicalName(), field.getName(), voClass.getCanonicalName(), ann.relationship().toString() });
@@ -765,16 +1662,16 @@ public class RFWValidator {
             Map<?, ?> map = (Map) value;
             // Se temos um Map de associações, verificamos se ela tem o tamanho mínimo exigido
             if (ann.minSize() > -1 && map.size() < ann.minSize()) {
-              throw new RFWValidationException("'${fieldname}' deve ter no mínimo '${0}' relacionamento(s).", new String[] { "" + ann.minSize() }, createPath(basepath, field.getName(), null), voClass.getCanonicalName(), new String[] { ann.caption() });
+              throw fail(context, "'${fieldname}' deve ter no mínimo '${0}' relacionamento(s).", new String[] { "" + ann.minSize() }, createPath(basepath, field.getName()), voClass.getCanonicalName(), new String[] { rule.caption });
             }
             if (map.size() > ann.maxSize()) {
-              throw new RFWValidationException("'${fieldname}' deve ter no máximo '${0}' relacionamento(s).", new String[] { "" + ann.maxSize() }, createPath(basepath, field.getName(), null), voClass.getCanonicalName(), new String[] { ann.caption() });
+              throw fail(context, "'${fieldname}' deve ter no máximo '${0}' relacionamento(s).", new String[] { "" + ann.maxSize() }, createPath(basepath, field.getName()), voClass.getCanonicalName(), new String[] { rule.caption });
             }
             int count = 0;
             for (Object obj : ((Map) value).values()) {
               if (obj instanceof RFWVO) {
                 RFWVO childvo = (RFWVO) obj;
-                validatePersist(childvo.getClass(), childvo, createPath(basepath, field.getName(), "" + count), validation, vo, rootvo, createPath(rootpath, field.getName(), "" + count), newVOs, forceRequiredFields);
+                validatePersist(childvo.getClass(), childvo, basepath.child(field.getName(), count), validation, vo, rootvo, rootpath.child(field.getName(), count), newVOs, forcedPath == null ? null : forcedPath.child(field.getName(), count), context);
               } else {
                 throw new RFWCriticalException("O BISValidator não suporta a BISMetaRelationship '${3}' em uma List de '${0}'. Encontrada no atributo '${1}' da classe '${2}'.",
                     new String[] { obj.getClass().getCanonicalName(), field.getName(), voClass.getCanonicalName(), ann.relationship().toString() });
@@ -791,19 +1688,16 @@ public class RFWValidator {
             if (((RFWVO) value).getId() == null || ((RFWVO) value).isInsertWithID()) {
               // ...e se ele não está na lista de objetos que serão inseridos por serem novos.
               if (!newVOs.contains(value)) {
-                throw new RFWValidationException("Associação inválida! É esperado um objeto pré-existente no atributo '${fieldname}'!", createPath(basepath, field.getName(), null), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
+                throw fail(context, "Associação inválida! É esperado um objeto pré-existente no atributo '${fieldname}'!", createPath(basepath, field.getName()), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
               }
             } else {
-              // Valida se o objeto já está no banco de dados...
-              if (this.dataProvider != null) {
-                RFWVO dbvo = this.dataProvider.findByID((Class<? extends RFWVO>) value.getClass(), ((RFWVO) value).getId(), null);
-                if (dbvo == null) {
-                  throw new RFWCriticalException("O objeto associado não foi encontrado no banco de dados! Atributo: '${0}'", new String[] { field.getName() });
-                }
+              // Valida se o objeto já está no banco de dados (a consulta é feita em lote ao final da validação)
+              if (context.dataProvider != null) {
+                context.addAssociationCheck((RFWVO) value, "O objeto associado não foi encontrado no banco de dados! Atributo: '${0}'", new String[] { createPath(basepath, field.getName()) });
               }
               // Valida unicidade do relacionamento
-              if (ann.unique()) {
-                checkUnique(value, voClass, field.getName(), vo, basepath, ann.caption(), rootvo, rootpath);
+              if (rule.unique) {
+                checkUnique(value, voClass, field.getName(), vo, basepath, rule.caption, rootvo, rootpath, context);
               }
             }
           } else {
@@ -817,16 +1711,13 @@ public class RFWValidator {
             if (((RFWVO) value).getId() == null) {
               // ... Não causamos erro aqui pq ele pode ser inserido junto com o objeto, mesmo que este objeto seja inserido no banco antes do INNER_ASSOCIATION, ele entra na lista de pendências. Se no final ele ainda não estiver pronto para ser associado, o RFWDAO causará erro posterior
             } else {
-              // Valida se o objeto já está no banco de dados...
-              if (this.dataProvider != null) {
-                RFWVO dbvo = this.dataProvider.findByID((Class<? extends RFWVO>) value.getClass(), ((RFWVO) value).getId(), null);
-                if (dbvo == null) {
-                  throw new RFWCriticalException("O objeto associado não foi encontrado no banco de dados mesmo já vindo com um ID definido! Atributo: '${0}'", new String[] { field.getName() });
-                }
+              // Valida se o objeto já está no banco de dados (a consulta é feita em lote ao final da validação)
+              if (context.dataProvider != null) {
+                context.addAssociationCheck((RFWVO) value, "O objeto associado não foi encontrado no banco de dados mesmo já vindo com um ID definido! Atributo: '${0}'", new String[] { createPath(basepath, field.getName()) });
               }
               // Valida a unicidade do relacionamento
-              if (ann.unique()) {
-                checkUnique(value, voClass, field.getName(), vo, basepath, ann.caption(), rootvo, rootpath);
+              if (rule.unique) {
+                checkUnique(value, voClass, field.getName(), vo, basepath, rule.caption, rootvo, rootpath, context);
               }
             }
           } else {
@@ -837,22 +1728,22 @@ public class RFWValidator {
         case COMPOSITION_TREE:
           // Faz a validação em cadeia
           if (value instanceof RFWVO) {
-            validatePersist(((RFWVO) value).getClass(), (RFWVO) value, createPath(basepath, field.getName(), null), validation, vo, rootvo, createPath(rootpath, field.getName(), null), newVOs, forceRequiredFields);
+            validatePersist(((RFWVO) value).getClass(), (RFWVO) value, basepath.child(field.getName()), validation, vo, rootvo, rootpath.child(field.getName()), newVOs, forcedPath == null ? null : forcedPath.child(field.getName()), context);
           } else if (value instanceof List) {
             List<?> list = (List) value;
             // Se temos uma lista de associações, verificamos se ela tem o tamanho mínimo exigido
             if (ann.minSize() > -1 && list.size() < ann.minSize()) {
-              throw new RFWValidationException("'${fieldname}' deve ter no mínimo '${0}' relacionamento(s).", new String[] { "" + ann.minSize() }, createPath(basepath, field.getName(), null), voClass.getCanonicalName(), new String[] { ann.caption() });
+              throw fail(context, "'${fieldname}' deve ter no mínimo '${0}' relacionamento(s).", new String[] { "" + ann.minSize() }, createPath(basepath, field.getName()), voClass.getCanonicalName(), new String[] { rule.caption });
             }
             if (list.size() > ann.maxSize()) {
-              throw new RFWValidationException("'${fieldname}' deve ter no máximo '${0}' relacionamento(s).", new String[] { "" + ann.maxSize() }, createPath(basepath, field.getName(), null), voClass.getCanonicalName(), new String[] { ann.caption() });
+              throw fail(context, "'${fieldname}' deve ter no máximo '${0}' relacionamento(s).", new String[] { "" + ann.maxSize() }, createPath(basepath, field.getName()), voClass.getCanonicalName(), new String[] { rule.caption });
             }
             int count = 0;
             for (Iterator iterator = ((List) value).iterator(); iterator.hasNext();) {
               Object obj = iterator.next();
               if (obj instanceof RFWVO) {
                 RFWVO childvo = (RFWVO) obj;
-                validatePersist(childvo.getClass(), childvo, createPath(basepath, field.getName(), "" + count), validation, vo, rootvo, createPath(rootpath, field.getName(), "" + count), newVOs, forceRequiredFields);
+                validatePersist(childvo.getClass(), childvo, basepath.child(field.getName(), count), validation, vo, rootvo, rootpath.child(field.getName(), count), newVOs, forcedPath == null ? null : forcedPath.child(field.getName(), count), context);
               } else {
                 throw new RFWCriticalException("O BISValidator não suporta a BISMetaRelationship '${3}' em uma List de '${0}'. Encontrada no atributo '${1}' da classe '${2}'.",
                     new String[] { obj.getClass().getCanonicalName(), field.getName(), voClass.getCanonicalName(), ann.relationship().toString() });
@@ -863,16 +1754,16 @@ public class RFWValidator {
             Map<?, ?> map = (Map) value;
             // Se temos um Map de associações, verificamos se ela tem o tamanho mínimo exigido
             if (ann.minSize() > -1 && map.size() < ann.minSize()) {
-              throw new RFWValidationException("'${fieldname}' deve ter no mínimo '${0}' relacionamento(s).", new String[] { "" + ann.minSize() }, createPath(basepath, field.getName(), null), voClass.getCanonicalName(), new String[] { ann.caption() });
+              throw fail(context, "'${fieldname}' deve ter no mínimo '${0}' relacionamento(s).", new String[] { "" + ann.minSize() }, createPath(basepath, field.getName()), voClass.getCanonicalName(), new String[] { rule.caption });
             }
             if (map.size() > ann.maxSize()) {
-              throw new RFWValidationException("'${fieldname}' deve ter no máximo '${0}' relacionamento(s).", new String[] { "" + ann.maxSize() }, createPath(basepath, field.getName(), null), voClass.getCanonicalName(), new String[] { ann.caption() });
+              throw fail(context, "'${fieldname}' deve ter no máximo '${0}' relacionamento(s).", new String[] { "" + ann.maxSize() }, createPath(basepath, field.getName()), voClass.getCanonicalName(), new String[] { rule.caption });
             }
             int count = 0;
             for (Object obj : ((Map) value).values()) {
               if (obj instanceof RFWVO) {
                 RFWVO childvo = (RFWVO) obj;
-                validatePersist(childvo.getClass(), childvo, createPath(basepath, field.getName(), "" + count), validation, vo, rootvo, createPath(rootpath, field.getName(), "" + count), newVOs, forceRequiredFields);
+                validatePersist(childvo.getClass(), childvo, basepath.child(field.getName(), count), validation, vo, rootvo, rootpath.child(field.getName(), count), newVOs, forcedPath == null ? null : forcedPath.child(field.getName(), count), context);
               } else {
                 throw new RFWCriticalException("O BISValidator não suporta a BISMetaRelationship '${3}' em uma List de '${0}'. Encontrada no atributo '${1}' da classe '${2}'.",
                     new String[] { obj.getClass().getCanonicalName(), field.getName(), voClass.getCanonicalName(), ann.relationship().toString() });
@@ -898,24 +1789,25 @@ public class RFWValidator {
    * @param rootpath
    * @param forceRequired
    */
-  private void validateStringCNPJField(Class<? extends RFWVO> voClass, RFWVO vo, Field field, String basepath, RFWVO rootvo, String rootpath, boolean forceRequired) throws RFWException {
+  private void validateStringCNPJField(Class<? extends RFWVO> voClass, RFWVO vo, FieldRule rule, RFWAttributePath basepath, RFWVO rootvo, RFWAttributePath rootpath, boolean forceRequired, ValidationContext context) throws RFWException {
     // Recuperamos a anotação se suas definições
-    final RFWMetaStringCNPJField ann = field.getAnnotation(RFWMetaStringCNPJField.class);
+    final RFWVOFieldMeta field = rule.field;
+    final RFWMetaStringCNPJField ann = (RFWMetaStringCNPJField) rule.annotation;
     String value;
     try {
-      value = (String) RUReflex.getPropertyValue(vo, field.getName());
+      value = (String) field.getValue(vo);
     } catch (RFWException e) {
       throw e;
     } catch (Exception e) {
       throw new RFWCriticalException("BISMetaField '${1}' usado em um campo não compatível no '${2} da '${0}'.", new String[] { voClass.getCanonicalName(), RFWMetaStringCNPJField.class.getName(), field.getName() }, e);
     }
     // Valida obrigatoriedade
-    if ((forceRequired || ann.required()) && value == null) {
-      throw new RFWValidationException("'${fieldname}' é obrigatório.", createPath(basepath, field.getName(), null), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
+    if ((forceRequired || rule.required) && value == null) {
+      throw fail(context, "'${fieldname}' é obrigatório.", createPath(basepath, field.getName()), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
     }
     // Valida unicidade
-    if (ann.unique()) {
-      checkUnique(value, voClass, field.getName(), vo, basepath, ann.caption(), rootvo, rootpath);
+    if (rule.unique) {
+      checkUnique(value, voClass, field.getName(), vo, basepath, rule.caption, rootvo, rootpath, context);
     }
     // Valida o dado se preenchido
     if (value != null) {
@@ -934,24 +1826,25 @@ public class RFWValidator {
    * @param rootpath
    * @param forceRequired
    */
-  private void validateStringCPFField(Class<? extends RFWVO> voClass, RFWVO vo, Field field, String basepath, RFWVO rootvo, String rootpath, boolean forceRequired) throws RFWException {
+  private void validateStringCPFField(Class<? extends RFWVO> voClass, RFWVO vo, FieldRule rule, RFWAttributePath basepath, RFWVO rootvo, RFWAttributePath rootpath, boolean forceRequired, ValidationContext context) throws RFWException {
     // Recuperamos a anotação se suas definições
-    final RFWMetaStringCPFField ann = field.getAnnotation(RFWMetaStringCPFField.class);
+    final RFWVOFieldMeta field = rule.field;
+    final RFWMetaStringCPFField ann = (RFWMetaStringCPFField) rule.annotation;
     String value;
     try {
-      value = (String) RUReflex.getPropertyValue(vo, field.getName());
+      value = (String) field.getValue(vo);
     } catch (RFWException e) {
       throw e;
     } catch (Exception e) {
       throw new RFWCriticalException("BISMetaField '${1}' usado em um campo não compatível no '${2} da '${0}'.", new String[] { voClass.getCanonicalName(), RFWMetaStringCPFField.class.getName(), field.getName() }, e);
     }
     // Valida obrigatoriedade
-    if ((forceRequired || ann.required()) && value == null) {
-      throw new RFWValidationException("'${fieldname}' é obrigatório.", createPath(basepath, field.getName(), null), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
+    if ((forceRequired || rule.required) && value == null) {
+      throw fail(context, "'${fieldname}' é obrigatório.", createPath(basepath, field.getName()), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
     }
     // Valida unicidade
-    if (ann.unique()) {
-      checkUnique(value, voClass, field.getName(), vo, basepath, ann.caption(), rootvo, rootpath);
+    if (rule.unique) {
+      checkUnique(value, voClass, field.getName(), vo, basepath, rule.caption, rootvo, rootpath, context);
     }
     // Valida o dado se preenchido
     if (value != null) {
@@ -970,24 +1863,25 @@ public class RFWValidator {
    * @param rootpath
    * @param forceRequired
    */
-  private void validateStringCPFOrCNPJField(Class<? extends RFWVO> voClass, RFWVO vo, Field field, String basepath, RFWVO rootvo, String rootpath, boolean forceRequired) throws RFWException {
+  private void validateStringCPFOrCNPJField(Class<? extends RFWVO> voClass, RFWVO vo, FieldRule rule, RFWAttributePath basepath, RFWVO rootvo, RFWAttributePath rootpath, boolean forceRequired, ValidationContext context) throws RFWException {
     // Recuperamos a anotação se suas definições
-    final RFWMetaStringCPFOrCNPJField ann = field.getAnnotation(RFWMetaStringCPFOrCNPJField.class);
+    final RFWVOFieldMeta field = rule.field;
+    final RFWMetaStringCPFOrCNPJField ann = (RFWMetaStringCPFOrCNPJField) rule.annotation;
     String value;
     try {
-      value = (String) RUReflex.getPropertyValue(vo, field.getName());
+      value = (String) field.getValue(vo);
     } catch (RFWException e) {
       throw e;
     } catch (Exception e) {
       throw new RFWCriticalException("BISMetaField '${1}' usado em um campo não compatível no '${2} da '${0}'.", new String[] { voClass.getCanonicalName(), RFWMetaStringCPFOrCNPJField.class.getName(), field.getName() }, e);
     }
     // Valida obrigatoriedade
-    if ((forceRequired || ann.required()) && value == null) {
-      throw new RFWValidationException("'${fieldname}' é obrigatório.", createPath(basepath, field.getName(), null), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
+    if ((forceRequired || rule.required) && value == null) {
+      throw fail(context, "'${fieldname}' é obrigatório.", createPath(basepath, field.getName()), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
     }
     // Valida unicidade
-    if (ann.unique()) {
-      checkUnique(value, voClass, field.getName(), vo, basepath, ann.caption(), rootvo, rootpath);
+    if (rule.unique) {
+      checkUnique(value, voClass, field.getName(), vo, basepath, rule.caption, rootvo, rootpath, context);
     }
     // Valida o dado se preenchido
     if (value != null) {
@@ -1006,29 +1900,30 @@ public class RFWValidator {
    * @param rootpath
    * @param forceRequired
    */
-  private void validateStringEmailField(Class<? extends RFWVO> voClass, RFWVO vo, Field field, String basepath, RFWVO rootVO, String rootpath, boolean forceRequired) throws RFWException {
+  private void validateStringEmailField(Class<? extends RFWVO> voClass, RFWVO vo, FieldRule rule, RFWAttributePath basepath, RFWVO rootVO, RFWAttributePath rootpath, boolean forceRequired, ValidationContext context) throws RFWException {
     // Recuperamos a anotação se suas definições
-    final RFWMetaStringEmailField ann = field.getAnnotation(RFWMetaStringEmailField.class);
+    final RFWVOFieldMeta field = rule.field;
+    final RFWMetaStringEmailField ann = (RFWMetaStringEmailField) rule.annotation;
     String value;
     try {
-      value = (String) RUReflex.getPropertyValue(vo, field.getName());
+      value = (String) field.getValue(vo);
     } catch (RFWException e) {
       throw e;
     } catch (Exception e) {
       throw new RFWCriticalException("BISMetaField '${1}' usado em um campo não compatível no '${2} da '${0}'.", new String[] { voClass.getCanonicalName(), RFWMetaStringEmailField.class.getName(), field.getName() }, e);
     }
     // Valida obrigatoriedade
-    if ((forceRequired || ann.required()) && value == null) {
-      throw new RFWValidationException("'${fieldname}' é obrigatório.", createPath(basepath, field.getName(), null), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootVO.getClass(), basepath, field.getName()) });
+    if ((forceRequired || rule.required) && value == null) {
+      throw fail(context, "'${fieldname}' é obrigatório.", createPath(basepath, field.getName()), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootVO.getClass(), basepath, field.getName()) });
     }
     // Valida o tamanho máximo
     if (ann.maxLength() > 0 && value != null && value.length() > ann.maxLength()) {
-      throw new RFWValidationException("O valor '${0}' é muito grande. Deve ter no máximo '${1}' caracteres.", createPath(basepath, field.getName(), null), voClass.getCanonicalName(),
+      throw fail(context, "O valor '${0}' é muito grande. Deve ter no máximo '${1}' caracteres.", createPath(basepath, field.getName()), voClass.getCanonicalName(),
           new String[] { value, "" + ann.maxLength(), getAttributeFullCaption(rootVO.getClass(), basepath, field.getName()) });
     }
     // Valida unicidade
-    if (ann.unique()) {
-      checkUnique(value, voClass, field.getName(), vo, basepath, ann.caption(), rootVO, rootpath);
+    if (rule.unique) {
+      checkUnique(value, voClass, field.getName(), vo, basepath, rule.caption, rootVO, rootpath, context);
     }
     // Valida o dado se preenchido
     if (value != null) {
@@ -1051,24 +1946,25 @@ public class RFWValidator {
    * @param rootpath
    * @param forceRequired
    */
-  private void validateStringIEField(Class<? extends RFWVO> voClass, RFWVO vo, Field field, String basepath, RFWVO rootvo, String rootpath, boolean forceRequired) throws RFWException {
+  private void validateStringIEField(Class<? extends RFWVO> voClass, RFWVO vo, FieldRule rule, RFWAttributePath basepath, RFWVO rootvo, RFWAttributePath rootpath, boolean forceRequired, ValidationContext context) throws RFWException {
     // Recuperamos a anotação se suas definições
-    final RFWMetaStringIEField ann = field.getAnnotation(RFWMetaStringIEField.class);
+    final RFWVOFieldMeta field = rule.field;
+    final RFWMetaStringIEField ann = (RFWMetaStringIEField) rule.annotation;
     String value;
     try {
-      value = (String) RUReflex.getPropertyValue(vo, field.getName());
+      value = (String) field.getValue(vo);
     } catch (RFWException e) {
       throw e;
     } catch (Exception e) {
       throw new RFWCriticalException("BISMetaField '${1}' usado em um campo não compatível no '${2} da '${0}'.", new String[] { voClass.getCanonicalName(), RFWMetaStringField.class.getName(), field.getName() }, e);
     }
     // Valida obrigatoriedade
-    if ((forceRequired || ann.required()) && value == null) {
-      throw new RFWValidationException("'${fieldname}' é obrigatório.", createPath(basepath, field.getName(), null), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
+    if ((forceRequired || rule.required) && value == null) {
+      throw fail(context, "'${fieldname}' é obrigatório.", createPath(basepath, field.getName()), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
     }
     // Valida unicidade
-    if (ann.unique()) {
-      checkUnique(value, voClass, field.getName(), vo, basepath, ann.caption(), rootvo, rootpath);
+    if (rule.unique) {
+      checkUnique(value, voClass, field.getName(), vo, basepath, rule.caption, rootvo, rootpath, context);
     }
     // Valida o dado se preenchido
     if (value != null) {
@@ -1104,24 +2000,25 @@ public class RFWValidator {
    * @param rootpath
    * @param forceRequired
    */
-  private void validateStringCEPField(Class<? extends RFWVO> voClass, RFWVO vo, Field field, String basepath, RFWVO rootvo, String rootpath, boolean forceRequired) throws RFWException {
+  private void validateStringCEPField(Class<? extends RFWVO> voClass, RFWVO vo, FieldRule rule, RFWAttributePath basepath, RFWVO rootvo, RFWAttributePath rootpath, boolean forceRequired, ValidationContext context) throws RFWException {
     // Recuperamos a anotação se suas definições
-    final RFWMetaStringCEPField ann = field.getAnnotation(RFWMetaStringCEPField.class);
+    final RFWVOFieldMeta field = rule.field;
+    final RFWMetaStringCEPField ann = (RFWMetaStringCEPField) rule.annotation;
     String value;
     try {
-      value = (String) RUReflex.getPropertyValue(vo, field.getName());
+      value = (String) field.getValue(vo);
     } catch (RFWException e) {
       throw e;
     } catch (Exception e) {
       throw new RFWCriticalException("BISMetaField '${1}' usado em um campo não compatível no '${2} da '${0}'.", new String[] { voClass.getCanonicalName(), RFWMetaStringField.class.getName(), field.getName() }, e);
     }
     // Valida obrigatoriedade
-    if ((forceRequired || ann.required()) && value == null) {
-      throw new RFWValidationException("'${fieldname}' é obrigatório.", createPath(basepath, field.getName(), null), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
+    if ((forceRequired || rule.required) && value == null) {
+      throw fail(context, "'${fieldname}' é obrigatório.", createPath(basepath, field.getName()), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
     }
     // Valida unicidade
-    if (ann.unique()) {
-      checkUnique(value, voClass, field.getName(), vo, basepath, ann.caption(), rootvo, rootpath);
+    if (rule.unique) {
+      checkUnique(value, voClass, field.getName(), vo, basepath, rule.caption, rootvo, rootpath, context);
     }
     // Valida o dado se preenchido
     if (value != null) {
@@ -1140,28 +2037,29 @@ public class RFWValidator {
    * @param rootpath
    * @param forceRequired
    */
-  private void validateStringPhoneField(Class<? extends RFWVO> voClass, RFWVO vo, Field field, String basepath, RFWVO rootvo, String rootpath, boolean forceRequired) throws RFWException {
+  private void validateStringPhoneField(Class<? extends RFWVO> voClass, RFWVO vo, FieldRule rule, RFWAttributePath basepath, RFWVO rootvo, RFWAttributePath rootpath, boolean forceRequired, ValidationContext context) throws RFWException {
     // Recuperamos a anotação se suas definições
-    final RFWMetaStringPhoneField ann = field.getAnnotation(RFWMetaStringPhoneField.class);
+    final RFWVOFieldMeta field = rule.field;
+    final RFWMetaStringPhoneField ann = (RFWMetaStringPhoneField) rule.annotation;
     String value;
     try {
-      value = (String) RUReflex.getPropertyValue(vo, field.getName());
+      value = (String) field.getValue(vo);
     } catch (RFWException e) {
       throw e;
     } catch (Exception e) {
       throw new RFWCriticalException("BISMetaField '${1}' usado em um campo não compatível no '${2} da '${0}'.", new String[] { voClass.getCanonicalName(), RFWMetaStringField.class.getName(), field.getName() }, e);
     }
     // Valida obrigatoriedade
-    if ((forceRequired || ann.required()) && value == null) {
-      throw new RFWValidationException("'${fieldname}' é obrigatório.", createPath(basepath, field.getName(), null), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
+    if ((forceRequired || rule.required) && value == null) {
+      throw fail(context, "'${fieldname}' é obrigatório.", createPath(basepath, field.getName()), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
     }
     // Valida unicidade
-    if (ann.unique()) {
-      checkUnique(value, voClass, field.getName(), vo, basepath, ann.caption(), rootvo, rootpath);
+    if (rule.unique) {
+      checkUnique(value, voClass, field.getName(), vo, basepath, rule.caption, rootvo, rootpath, context);
     }
     // Valida o dado se preenchido
     if (value != null) {
-      if (RFWPhoneDataFormatter.getPhoneType(value) == PhoneType.UNKNOW && !ann.acceptUnknowFormats()) throw new RFWValidationException("O Número '${0}' de Telefone Inválido!", new String[] { value }, createPath(basepath, field.getName(), null));
+      if (RFWPhoneDataFormatter.getPhoneType(value) == PhoneType.UNKNOW && !ann.acceptUnknowFormats()) throw fail(context, "O Número '${0}' de Telefone Inválido!", new String[] { value }, createPath(basepath, field.getName()));
     }
   }
 
@@ -1176,34 +2074,35 @@ public class RFWValidator {
    * @param rootpath
    * @param forceRequired
    */
-  private void validateDoubleField(Class<? extends RFWVO> voClass, RFWVO vo, Field field, String basepath, RFWVO rootvo, String rootpath, boolean forceRequired) throws RFWException {
+  private void validateDoubleField(Class<? extends RFWVO> voClass, RFWVO vo, FieldRule rule, RFWAttributePath basepath, RFWVO rootvo, RFWAttributePath rootpath, boolean forceRequired, ValidationContext context) throws RFWException {
     // Recuperamos a anotação se suas definições
-    final RFWMetaDoubleField ann = field.getAnnotation(RFWMetaDoubleField.class);
+    final RFWVOFieldMeta field = rule.field;
+    final RFWMetaDoubleField ann = (RFWMetaDoubleField) rule.annotation;
     Double value;
     try {
-      value = (Double) RUReflex.getPropertyValue(vo, field.getName());
+      value = (Double) field.getValue(vo);
     } catch (RFWException e) {
       throw e;
     } catch (Exception e) {
       throw new RFWCriticalException("BISMetaField '${1}' usado em um campo não compatível no '${2} da '${0}'.", new String[] { voClass.getCanonicalName(), RFWMetaDoubleField.class.getName(), field.getName() }, e);
     }
     // Valida obrigatoriedade
-    if ((forceRequired || ann.required()) && value == null) {
-      throw new RFWValidationException("'${fieldname}' é obrigatório.", createPath(basepath, field.getName(), null), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
+    if ((forceRequired || rule.required) && value == null) {
+      throw fail(context, "'${fieldname}' é obrigatório.", createPath(basepath, field.getName()), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
     }
     // Valida unicidade
-    if (ann.unique()) {
-      checkUnique(value, voClass, field.getName(), vo, basepath, ann.caption(), rootvo, rootpath);
+    if (rule.unique) {
+      checkUnique(value, voClass, field.getName(), vo, basepath, rule.caption, rootvo, rootpath, context);
     }
     if (value != null) {
       // Valida max value
       if (ann.maxValue() < value) {
-        throw new RFWValidationException("'${fieldname}' valor maior que o permitido! O maior valor aceito é ${0}.", new String[] { "" + ann.maxValue() }, createPath(basepath, field.getName(), null), voClass.getCanonicalName(),
+        throw fail(context, "'${fieldname}' valor maior que o permitido! O maior valor aceito é ${0}.", new String[] { "" + ann.maxValue() }, createPath(basepath, field.getName()), voClass.getCanonicalName(),
             new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
       }
       // Valida minvalue
       if (ann.minValue() > value) {
-        throw new RFWValidationException("'${fieldname}' valor menor que o permitido! O menor valor aceito é ${0}.", new String[] { "" + ann.minValue() }, createPath(basepath, field.getName(), null), voClass.getCanonicalName(),
+        throw fail(context, "'${fieldname}' valor menor que o permitido! O menor valor aceito é ${0}.", new String[] { "" + ann.minValue() }, createPath(basepath, field.getName()), voClass.getCanonicalName(),
             new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
       }
     }
@@ -1220,34 +2119,35 @@ public class RFWValidator {
    * @param rootpath
    * @param forceRequired
    */
-  private void validateFloatField(Class<? extends RFWVO> voClass, RFWVO vo, Field field, String basepath, RFWVO rootvo, String rootpath, boolean forceRequired) throws RFWException {
+  private void validateFloatField(Class<? extends RFWVO> voClass, RFWVO vo, FieldRule rule, RFWAttributePath basepath, RFWVO rootvo, RFWAttributePath rootpath, boolean forceRequired, ValidationContext context) throws RFWException {
     // Recuperamos a anotação se suas definições
-    final RFWMetaFloatField ann = field.getAnnotation(RFWMetaFloatField.class);
+    final RFWVOFieldMeta field = rule.field;
+    final RFWMetaFloatField ann = (RFWMetaFloatField) rule.annotation;
     Float value;
     try {
-      value = (Float) RUReflex.getPropertyValue(vo, field.getName());
+      value = (Float) field.getValue(vo);
     } catch (RFWException e) {
       throw e;
     } catch (Exception e) {
       throw new RFWCriticalException("BISMetaField '${1}' usado em um campo não compatível no '${2} da '${0}'.", new String[] { voClass.getCanonicalName(), RFWMetaFloatField.class.getName(), field.getName() }, e);
     }
     // Valida obrigatoriedade
-    if ((forceRequired || ann.required()) && value == null) {
-      throw new RFWValidationException("'${fieldname}' é obrigatório.", createPath(basepath, field.getName(), null), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
+    if ((forceRequired || rule.required) && value == null) {
+      throw fail(context, "'${fieldname}' é obrigatório.", createPath(basepath, field.getName()), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
     }
     // Valida unicidade
-    if (ann.unique()) {
-      checkUnique(value, voClass, field.getName(), vo, basepath, ann.caption(), rootvo, rootpath);
+    if (rule.unique) {
+      checkUnique(value, voClass, field.getName(), vo, basepath, rule.caption, rootvo, rootpath, context);
     }
     if (value != null) {
       // Valida max value
       if (ann.maxValue() < value) {
-        throw new RFWValidationException("'${fieldname}' valor maior que o permitido! O maior valor aceito é ${0}.", new String[] { "" + ann.maxValue() }, createPath(basepath, field.getName(), null), voClass.getCanonicalName(),
+        throw fail(context, "'${fieldname}' valor maior que o permitido! O maior valor aceito é ${0}.", new String[] { "" + ann.maxValue() }, createPath(basepath, field.getName()), voClass.getCanonicalName(),
             new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
       }
       // Valida minvalue
       if (ann.minValue() > value) {
-        throw new RFWValidationException("'${fieldname}' valor menor que o permitido! O menor valor aceito é ${0}.", new String[] { "" + ann.minValue() }, createPath(basepath, field.getName(), null), voClass.getCanonicalName(),
+        throw fail(context, "'${fieldname}' valor menor que o permitido! O menor valor aceito é ${0}.", new String[] { "" + ann.minValue() }, createPath(basepath, field.getName()), voClass.getCanonicalName(),
             new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
       }
     }
@@ -1264,34 +2164,35 @@ public class RFWValidator {
    * @param rootpath
    * @param forceRequired
    */
-  private void validateIntegerField(Class<? extends RFWVO> voClass, RFWVO vo, Field field, String basepath, RFWVO rootvo, String rootpath, boolean forceRequired) throws RFWException {
+  private void validateIntegerField(Class<? extends RFWVO> voClass, RFWVO vo, FieldRule rule, RFWAttributePath basepath, RFWVO rootvo, RFWAttributePath rootpath, boolean forceRequired, ValidationContext context) throws RFWException {
     // Recuperamos a anotação se suas definições
-    final RFWMetaIntegerField ann = field.getAnnotation(RFWMetaIntegerField.class);
+    final RFWVOFieldMeta field = rule.field;
+    final RFWMetaIntegerField ann = (RFWMetaIntegerField) rule.annotation;
     Integer value;
     try {
-      value = (Integer) RUReflex.getPropertyValue(vo, field.getName());
+      value = (Integer) field.getValue(vo);
     } catch (RFWException e) {
       throw e;
     } catch (Exception e) {
       throw new RFWCriticalException("BISMetaField '${1}' usado em um campo não compatível no '${2} da '${0}'.", new String[] { voClass.getCanonicalName(), RFWMetaIntegerField.class.getName(), field.getName() }, e);
     }
     // Valida obrigatoriedade
-    if ((forceRequired || ann.required()) && value == null) {
-      throw new RFWValidationException("'${fieldname}' é obrigatório.", createPath(basepath, field.getName(), null), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
+    if ((forceRequired || rule.required) && value == null) {
+      throw fail(context, "'${fieldname}' é obrigatório.", createPath(basepath, field.getName()), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
     }
     // Valida unicidade
-    if (ann.unique()) {
-      checkUnique(value, voClass, field.getName(), vo, basepath, ann.caption(), rootvo, rootpath);
+    if (rule.unique) {
+      checkUnique(value, voClass, field.getName(), vo, basepath, rule.caption, rootvo, rootpath, context);
     }
     if (value != null) {
       // Valida max value
       if (ann.maxValue() < value) {
-        throw new RFWValidationException("'${fieldname}' valor maior que o permitido! O maior valor aceito é ${0}.", new String[] { "" + ann.maxValue() }, createPath(basepath, field.getName(), null), voClass.getCanonicalName(),
+        throw fail(context, "'${fieldname}' valor maior que o permitido! O maior valor aceito é ${0}.", new String[] { "" + ann.maxValue() }, createPath(basepath, field.getName()), voClass.getCanonicalName(),
             new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
       }
       // Valida minvalue
       if (ann.minValue() > value) {
-        throw new RFWValidationException("'${fieldname}' valor menor que o permitido! O menor valor aceito é ${0}.", new String[] { "" + ann.maxValue() }, createPath(basepath, field.getName(), null), voClass.getCanonicalName(),
+        throw fail(context, "'${fieldname}' valor menor que o permitido! O menor valor aceito é ${0}.", new String[] { "" + ann.maxValue() }, createPath(basepath, field.getName()), voClass.getCanonicalName(),
             new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
       }
     }
@@ -1308,34 +2209,35 @@ public class RFWValidator {
    * @param rootpath
    * @param forceRequired
    */
-  private void validateLongField(Class<? extends RFWVO> voClass, RFWVO vo, Field field, String basepath, RFWVO rootvo, String rootpath, boolean forceRequired) throws RFWException {
+  private void validateLongField(Class<? extends RFWVO> voClass, RFWVO vo, FieldRule rule, RFWAttributePath basepath, RFWVO rootvo, RFWAttributePath rootpath, boolean forceRequired, ValidationContext context) throws RFWException {
     // Recuperamos a anotação se suas definições
-    final RFWMetaLongField ann = field.getAnnotation(RFWMetaLongField.class);
+    final RFWVOFieldMeta field = rule.field;
+    final RFWMetaLongField ann = (RFWMetaLongField) rule.annotation;
     Long value;
     try {
-      value = (Long) RUReflex.getPropertyValue(vo, field.getName());
+      value = (Long) field.getValue(vo);
     } catch (RFWException e) {
       throw e;
     } catch (Exception e) {
       throw new RFWCriticalException("BISMetaField '${1}' usado em um campo não compatível no '${2} da '${0}'.", new String[] { voClass.getCanonicalName(), RFWMetaLongField.class.getName(), field.getName() }, e);
     }
     // Valida obrigatoriedade
-    if ((forceRequired || ann.required()) && value == null) {
-      throw new RFWValidationException("'${fieldname}' é obrigatório.", createPath(basepath, field.getName(), null), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
+    if ((forceRequired || rule.required) && value == null) {
+      throw fail(context, "'${fieldname}' é obrigatório.", createPath(basepath, field.getName()), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
     }
     // Valida unicidade
-    if (ann.unique()) {
-      checkUnique(value, voClass, field.getName(), vo, basepath, ann.caption(), rootvo, rootpath);
+    if (rule.unique) {
+      checkUnique(value, voClass, field.getName(), vo, basepath, rule.caption, rootvo, rootpath, context);
     }
     if (value != null) {
       // Valida max value
       if (ann.maxvalue() < value) {
-        throw new RFWValidationException("'${fieldname}' valor maior que o permitido! O maior valor aceito é ${0}.", new String[] { "" + ann.maxvalue() }, createPath(basepath, field.getName(), null), voClass.getCanonicalName(),
+        throw fail(context, "'${fieldname}' valor maior que o permitido! O maior valor aceito é ${0}.", new String[] { "" + ann.maxvalue() }, createPath(basepath, field.getName()), voClass.getCanonicalName(),
             new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
       }
       // Valida minvalue
       if (ann.minvalue() > value) {
-        throw new RFWValidationException("'${fieldname}' valor menor que o permitido! O menor valor aceito é ${0}.", new String[] { "" + ann.maxvalue() }, createPath(basepath, field.getName(), null), voClass.getCanonicalName(),
+        throw fail(context, "'${fieldname}' valor menor que o permitido! O menor valor aceito é ${0}.", new String[] { "" + ann.maxvalue() }, createPath(basepath, field.getName()), voClass.getCanonicalName(),
             new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
       }
     }
@@ -1352,65 +2254,66 @@ public class RFWValidator {
    * @param rootpath
    * @param forceRequired
    */
-  private void validateBigDecimalField(Class<? extends RFWVO> voClass, RFWVO vo, Field field, String basepath, RFWVO rootvo, String rootpath, boolean forceRequired) throws RFWException {
+  private void validateBigDecimalField(Class<? extends RFWVO> voClass, RFWVO vo, FieldRule rule, RFWAttributePath basepath, RFWVO rootvo, RFWAttributePath rootpath, boolean forceRequired, ValidationContext context) throws RFWException {
     // Recuperamos a anotação se suas definições
-    final RFWMetaBigDecimalField ann = field.getAnnotation(RFWMetaBigDecimalField.class);
+    final RFWVOFieldMeta field = rule.field;
+    final RFWMetaBigDecimalField ann = (RFWMetaBigDecimalField) rule.annotation;
     BigDecimal value;
     try {
-      value = (BigDecimal) RUReflex.getPropertyValue(vo, field.getName());
+      value = (BigDecimal) field.getValue(vo);
     } catch (RFWException e) {
       throw e;
     } catch (Exception e) {
       throw new RFWCriticalException("BISMetaField '${1}' usado em um campo não compatível no '${2} da '${0}'.", new String[] { voClass.getCanonicalName(), RFWMetaBigDecimalField.class.getName(), field.getName() }, e);
     }
     // Valida obrigatoriedade
-    if ((forceRequired || ann.required()) && value == null) {
-      throw new RFWValidationException("'${fieldname}' é obrigatório.", createPath(basepath, field.getName(), null), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
+    if ((forceRequired || rule.required) && value == null) {
+      throw fail(context, "'${fieldname}' é obrigatório.", createPath(basepath, field.getName()), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
     }
     // Valida unicidade
-    if (ann.unique()) {
-      checkUnique(value, voClass, field.getName(), vo, basepath, ann.caption(), rootvo, rootpath);
+    if (rule.unique) {
+      checkUnique(value, voClass, field.getName(), vo, basepath, rule.caption, rootvo, rootpath, context);
     }
     if (value != null) {
-      final int minScale = (ann.scale() == -1 ? 0 : ann.scale());
-      final int maxScale = (ann.scaleMax() == -1 ? minScale : ann.scaleMax());
+      final int minScale = rule.minScale;
+      final int maxScale = rule.maxScale;
       if (maxScale < minScale) throw new RFWCriticalException("A precisão máxima não pode ser menor que a precisão mínima para o atributo '${0}' da classe '${1}'.", new String[] { field.getName(), vo.getClass().getCanonicalName() });
 
       // MaxValue
-      BigDecimal max = null;
-      if (!"".equals(ann.maxValue())) max = new BigDecimal(ann.maxValue());
+      if (rule.maxValueError != null) throw rule.maxValueError;
+      final BigDecimal max = rule.maxValue;
       // Valida o Scale do valor máximo
       if (max != null && max.scale() > minScale && max.scale() > maxScale) {
         throw new RFWCriticalException("No campo '${0}' da classe '${1}', a definição de maxFloatValue tem mais casas do que a precisão definida pela propriedade scale!", new String[] { field.getName(), voClass.getCanonicalName() });
       }
       if (max != null && max.compareTo(value) < 0) {
-        throw new RFWValidationException("'${fieldname}' valor maior que o permitido! O maior valor aceito é ${0}.", new String[] { max.toString() }, createPath(basepath, field.getName(), null), voClass.getCanonicalName(),
+        throw fail(context, "'${fieldname}' valor maior que o permitido! O maior valor aceito é ${0}.", new String[] { max.toString() }, createPath(basepath, field.getName()), voClass.getCanonicalName(),
             new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
       }
 
       // MinValue
-      BigDecimal min = null;
-      if (!"".equals(ann.minValue())) min = new BigDecimal(ann.minValue());
+      if (rule.minValueError != null) throw rule.minValueError;
+      final BigDecimal min = rule.minValue;
       // Valida o Scale do valor mínimo
       if (min != null && min.scale() > minScale && min.scale() > maxScale) {
         throw new RFWCriticalException("No campo '${0}' da classe '${1}', a definição de minFloatValue tem mais casas do que a precisão definida pela propriedade scale!", new String[] { field.getName(), voClass.getCanonicalName() });
       }
       if (min != null && min.compareTo(value) > 0) {
-        throw new RFWValidationException("'${fieldname}' valor menor que o permitido! O menor valor aceito é ${0}.", new String[] { min.toString() }, createPath(basepath, field.getName(), null), voClass.getCanonicalName(),
+        throw fail(context, "'${fieldname}' valor menor que o permitido! O menor valor aceito é ${0}.", new String[] { min.toString() }, createPath(basepath, field.getName()), voClass.getCanonicalName(),
             new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
       }
       // Valida o Scale (Precisão) - Se definido
       if (value.scale() < minScale) {
-        throw new RFWValidationException("'${fieldname}' deve ter uma precisão de ${0} casas decimais.", new String[] { "" + minScale }, createPath(basepath, field.getName(), null), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
+        throw fail(context, "'${fieldname}' deve ter uma precisão de ${0} casas decimais.", new String[] { "" + minScale }, createPath(basepath, field.getName()), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
       }
       // Valida o Scale Máximo (Precisão) - Se definido
       if (value.scale() > maxScale) {
-        throw new RFWValidationException("'${fieldname}' deve ter uma precisão máxima de ${0} casas decimais.", new String[] { "" + maxScale }, createPath(basepath, field.getName(), null), voClass.getCanonicalName(),
+        throw fail(context, "'${fieldname}' deve ter uma precisão máxima de ${0} casas decimais.", new String[] { "" + maxScale }, createPath(basepath, field.getName()), voClass.getCanonicalName(),
             new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
       }
       // Valida o valor absoluto - Mas permite o valor zero
       if (ann.absolute() && value.abs().compareTo(value) != 0 && value.compareTo(BigDecimal.ZERO) != 0) {
-        throw new RFWValidationException("'${fieldname}' deve ter um valor positivo! Valores negativos não são aceitos!", null, createPath(basepath, field.getName(), null), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
+        throw fail(context, "'${fieldname}' deve ter um valor positivo! Valores negativos não são aceitos!", null, createPath(basepath, field.getName()), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
       }
     }
   }
@@ -1426,65 +2329,66 @@ public class RFWValidator {
    * @param rootpath
    * @param forceRequired
    */
-  private void validateBigDecimalCurrencyField(Class<? extends RFWVO> voClass, RFWVO vo, Field field, String basepath, RFWVO rootvo, String rootpath, boolean forceRequired) throws RFWException {
+  private void validateBigDecimalCurrencyField(Class<? extends RFWVO> voClass, RFWVO vo, FieldRule rule, RFWAttributePath basepath, RFWVO rootvo, RFWAttributePath rootpath, boolean forceRequired, ValidationContext context) throws RFWException {
     // Recuperamos a anotação se suas definições
-    final RFWMetaBigDecimalCurrencyField ann = field.getAnnotation(RFWMetaBigDecimalCurrencyField.class);
+    final RFWVOFieldMeta field = rule.field;
+    final RFWMetaBigDecimalCurrencyField ann = (RFWMetaBigDecimalCurrencyField) rule.annotation;
     BigDecimal value;
     try {
-      value = (BigDecimal) RUReflex.getPropertyValue(vo, field.getName());
+      value = (BigDecimal) field.getValue(vo);
     } catch (RFWException e) {
       throw e;
     } catch (Exception e) {
       throw new RFWCriticalException("BISMetaField '${1}' usado em um campo não compatível no '${2} da '${0}'.", new String[] { voClass.getCanonicalName(), RFWMetaBigDecimalCurrencyField.class.getName(), field.getName() }, e);
     }
     // Valida obrigatoriedade
-    if ((forceRequired || ann.required()) && value == null) {
-      throw new RFWValidationException("'${fieldname}' é obrigatório.", createPath(basepath, field.getName(), null), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
+    if ((forceRequired || rule.required) && value == null) {
+      throw fail(context, "'${fieldname}' é obrigatório.", createPath(basepath, field.getName()), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
     }
     // Valida unicidade
-    if (ann.unique()) {
-      checkUnique(value, voClass, field.getName(), vo, basepath, ann.caption(), rootvo, rootpath);
+    if (rule.unique) {
+      checkUnique(value, voClass, field.getName(), vo, basepath, rule.caption, rootvo, rootpath, context);
     }
     if (value != null) {
-      final int minScale = (ann.scale() == -1 ? 0 : ann.scale());
-      final int maxScale = (ann.scaleMax() == -1 ? minScale : ann.scaleMax());
+      final int minScale = rule.minScale;
+      final int maxScale = rule.maxScale;
       if (maxScale < minScale) throw new RFWCriticalException("A precisão máxima não pode ser menor que a precisão mínima para o atributo '${0}' da classe '${1}'.", new String[] { field.getName(), vo.getClass().getCanonicalName() });
 
       // MaxValue
-      BigDecimal max = null;
-      if (!"".equals(ann.maxValue())) max = new BigDecimal(ann.maxValue());
+      if (rule.maxValueError != null) throw rule.maxValueError;
+      final BigDecimal max = rule.maxValue;
       // Valida o Scale do valor máximo
       if (max != null && max.scale() > minScale && max.scale() > maxScale) {
         throw new RFWCriticalException("No campo '${0}' da classe '${1}', a definição de maxFloatValue tem mais casas do que a precisão definida pela propriedade scale!", new String[] { field.getName(), voClass.getCanonicalName() });
       }
       if (max != null && max.compareTo(value) < 0) {
-        throw new RFWValidationException("'${fieldname}' valor maior que o permitido! O maior valor aceito é ${0}.", new String[] { max.toString() }, createPath(basepath, field.getName(), null), voClass.getCanonicalName(),
+        throw fail(context, "'${fieldname}' valor maior que o permitido! O maior valor aceito é ${0}.", new String[] { max.toString() }, createPath(basepath, field.getName()), voClass.getCanonicalName(),
             new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
       }
 
       // MinValue
-      BigDecimal min = null;
-      if (!"".equals(ann.minValue())) min = new BigDecimal(ann.minValue());
+      if (rule.minValueError != null) throw rule.minValueError;
+      final BigDecimal min = rule.minValue;
       // Valida o Scale do valor mínimo
       if (min != null && min.scale() > minScale && min.scale() > maxScale) {
         throw new RFWCriticalException("No campo '${0}' da classe '${1}', a definição de minFloatValue tem mais casas do que a precisão definida pela propriedade scale!", new String[] { field.getName(), voClass.getCanonicalName() });
       }
       if (min != null && min.compareTo(value) > 0) {
-        throw new RFWValidationException("'${fieldname}' valor menor que o permitido! O menor valor aceito é ${0}.", new String[] { min.toString() }, createPath(basepath, field.getName(), null), voClass.getCanonicalName(),
+        throw fail(context, "'${fieldname}' valor menor que o permitido! O menor valor aceito é ${0}.", new String[] { min.toString() }, createPath(basepath, field.getName()), voClass.getCanonicalName(),
             new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
       }
       // Valida o Scale (Precisão) - Se definido
       if (value.scale() < minScale) {
-        throw new RFWValidationException("'${fieldname}' deve ter uma precisão de ${0} casas decimais.", new String[] { "" + minScale }, createPath(basepath, field.getName(), null), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
+        throw fail(context, "'${fieldname}' deve ter uma precisão de ${0} casas decimais.", new String[] { "" + minScale }, createPath(basepath, field.getName()), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
       }
       // Valida o Scale Máximo (Precisão) - Se definido
       if (value.scale() > maxScale) {
-        throw new RFWValidationException("'${fieldname}' deve ter uma precisão máxima de ${0} casas decimais.", new String[] { "" + maxScale }, createPath(basepath, field.getName(), null), voClass.getCanonicalName(),
+        throw fail(context, "'${fieldname}' deve ter uma precisão máxima de ${0} casas decimais.", new String[] { "" + maxScale }, createPath(basepath, field.getName()), voClass.getCanonicalName(),
             new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
       }
       // Valida o valor absoluto - Mas permite o valor zero
       if (ann.absolute() && value.abs().compareTo(value) != 0 && value.compareTo(BigDecimal.ZERO) != 0) {
-        throw new RFWValidationException("'${fieldname}' deve ter um valor positivo! Valores negativos não são aceitos!", createPath(basepath, field.getName(), null), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
+        throw fail(context, "'${fieldname}' deve ter um valor positivo! Valores negativos não são aceitos!", createPath(basepath, field.getName()), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
       }
     }
   }
@@ -1500,65 +2404,66 @@ public class RFWValidator {
    * @param rootpath
    * @param forceRequired
    */
-  private void validateBigDecimalPercentageField(Class<? extends RFWVO> voClass, RFWVO vo, Field field, String basepath, RFWVO rootvo, String rootpath, boolean forceRequired) throws RFWException {
+  private void validateBigDecimalPercentageField(Class<? extends RFWVO> voClass, RFWVO vo, FieldRule rule, RFWAttributePath basepath, RFWVO rootvo, RFWAttributePath rootpath, boolean forceRequired, ValidationContext context) throws RFWException {
     // Recuperamos a anotação se suas definições
-    final RFWMetaBigDecimalPercentageField ann = field.getAnnotation(RFWMetaBigDecimalPercentageField.class);
+    final RFWVOFieldMeta field = rule.field;
+    final RFWMetaBigDecimalPercentageField ann = (RFWMetaBigDecimalPercentageField) rule.annotation;
     BigDecimal value;
     try {
-      value = (BigDecimal) RUReflex.getPropertyValue(vo, field.getName());
+      value = (BigDecimal) field.getValue(vo);
     } catch (RFWException e) {
       throw e;
     } catch (Exception e) {
       throw new RFWCriticalException("BISMetaField '${1}' usado em um campo não compatível no '${2} da '${0}'.", new String[] { voClass.getCanonicalName(), RFWMetaBigDecimalPercentageField.class.getName(), field.getName() }, e);
     }
     // Valida obrigatoriedade
-    if ((forceRequired || ann.required()) && value == null) {
-      throw new RFWValidationException("'${fieldname}' é obrigatório.", createPath(basepath, field.getName(), null), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
+    if ((forceRequired || rule.required) && value == null) {
+      throw fail(context, "'${fieldname}' é obrigatório.", createPath(basepath, field.getName()), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
     }
     // Valida unicidade
-    if (ann.unique()) {
-      checkUnique(value, voClass, field.getName(), vo, basepath, ann.caption(), rootvo, rootpath);
+    if (rule.unique) {
+      checkUnique(value, voClass, field.getName(), vo, basepath, rule.caption, rootvo, rootpath, context);
     }
     if (value != null) {
-      final int minScale = (ann.scale() == -1 ? 0 : ann.scale());
-      final int maxScale = (ann.scaleMax() == -1 ? minScale : ann.scaleMax());
+      final int minScale = rule.minScale;
+      final int maxScale = rule.maxScale;
       if (maxScale < minScale) throw new RFWCriticalException("A precisão máxima não pode ser menor que a precisão mínima para o atributo '${0}' da classe '${1}'.", new String[] { field.getName(), vo.getClass().getCanonicalName() });
 
       // MaxValue
-      BigDecimal max = null;
-      if (!"".equals(ann.maxValue())) max = new BigDecimal(ann.maxValue());
+      if (rule.maxValueError != null) throw rule.maxValueError;
+      final BigDecimal max = rule.maxValue;
       // Valida o Scale do valor máximo
       if (max != null && max.scale() > minScale && max.scale() > maxScale) {
         throw new RFWCriticalException("No campo '${0}' da classe '${1}', a definição de maxFloatValue tem mais casas do que a precisão definida pela propriedade scale!", new String[] { field.getName(), voClass.getCanonicalName() });
       }
       if (max != null && max.compareTo(value) < 0) {
-        throw new RFWValidationException("'${fieldname}' valor maior que o permitido! O maior valor aceito é ${0}.", new String[] { max.toString() }, createPath(basepath, field.getName(), null), voClass.getCanonicalName(),
+        throw fail(context, "'${fieldname}' valor maior que o permitido! O maior valor aceito é ${0}.", new String[] { max.toString() }, createPath(basepath, field.getName()), voClass.getCanonicalName(),
             new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
       }
 
       // MinValue
-      BigDecimal min = null;
-      if (!"".equals(ann.minValue())) min = new BigDecimal(ann.minValue());
+      if (rule.minValueError != null) throw rule.minValueError;
+      final BigDecimal min = rule.minValue;
       // Valida o Scale do valor mínimo
       if (min != null && min.scale() > minScale && min.scale() > maxScale) {
         throw new RFWCriticalException("No campo '${0}' da classe '${1}', a definição de minFloatValue tem mais casas do que a precisão definida pela propriedade scale!", new String[] { field.getName(), voClass.getCanonicalName() });
       }
       if (min != null && min.compareTo(value) > 0) {
-        throw new RFWValidationException("'${fieldname}' valor menor que o permitido! O menor valor aceito é ${0}.", new String[] { min.toString() }, createPath(basepath, field.getName(), null), voClass.getCanonicalName(),
+        throw fail(context, "'${fieldname}' valor menor que o permitido! O menor valor aceito é ${0}.", new String[] { min.toString() }, createPath(basepath, field.getName()), voClass.getCanonicalName(),
             new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
       }
       // Valida o Scale (Precisão) - Se definido
       if (value.scale() < minScale) {
-        throw new RFWValidationException("'${fieldname}' deve ter uma precisão de ${0} casas decimais.", new String[] { "" + minScale }, createPath(basepath, field.getName(), null), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
+        throw fail(context, "'${fieldname}' deve ter uma precisão de ${0} casas decimais.", new String[] { "" + minScale }, createPath(basepath, field.getName()), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
       }
       // Valida o Scale Máximo (Precisão) - Se definido
       if (value.scale() > maxScale) {
-        throw new RFWValidationException("'${fieldname}' deve ter uma precisão máxima de ${0} casas decimais.", new String[] { "" + maxScale }, createPath(basepath, field.getName(), null), voClass.getCanonicalName(),
+        throw fail(context, "'${fieldname}' deve ter uma precisão máxima de ${0} casas decimais.", new String[] { "" + maxScale }, createPath(basepath, field.getName()), voClass.getCanonicalName(),
             new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
       }
       // Valida o valor absoluto - Mas permite o valor zero
       if (ann.absolute() && value.abs().compareTo(value) != 0 && value.compareTo(BigDecimal.ZERO) != 0) {
-        throw new RFWValidationException("'${fieldname}' deve ter um valor positivo! Valores negativos não são aceitos!", createPath(basepath, field.getName(), null), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
+        throw fail(context, "'${fieldname}' deve ter um valor positivo! Valores negativos não são aceitos!", createPath(basepath, field.getName()), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
       }
     }
   }
@@ -1574,24 +2479,25 @@ public class RFWValidator {
    * @param rootpath
    * @param forceRequired
    */
-  private void validateEnumField(Class<? extends RFWVO> voClass, RFWVO vo, Field field, String basepath, RFWVO rootvo, String rootpath, boolean forceRequired) throws RFWException {
+  private void validateEnumField(Class<? extends RFWVO> voClass, RFWVO vo, FieldRule rule, RFWAttributePath basepath, RFWVO rootvo, RFWAttributePath rootpath, boolean forceRequired, ValidationContext context) throws RFWException {
     // Recuperamos a anotação se suas definições
-    final RFWMetaEnumField ann = field.getAnnotation(RFWMetaEnumField.class);
+    final RFWVOFieldMeta field = rule.field;
+    final RFWMetaEnumField ann = (RFWMetaEnumField) rule.annotation;
     Enum<?> value = null;
     try {
-      value = (Enum<?>) RUReflex.getPropertyValue(vo, field.getName());
+      value = (Enum<?>) field.getValue(vo);
     } catch (RFWException e) {
       throw e;
     } catch (Exception e) {
       throw new RFWCriticalException("BISMetaField '${1}' usado em um campo não compatível no '${2} da '${0}'.", new String[] { voClass.getCanonicalName(), RFWMetaEnumField.class.getName(), field.getName() }, e);
     }
     // Valida obrigatoriedade
-    if ((forceRequired || ann.required()) && value == null) {
-      throw new RFWValidationException("'${fieldname}' é obrigatório.", createPath(basepath, field.getName(), null), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
+    if ((forceRequired || rule.required) && value == null) {
+      throw fail(context, "'${fieldname}' é obrigatório.", createPath(basepath, field.getName()), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
     }
     // Valida unicidade
-    if (ann.unique()) {
-      checkUnique(value, voClass, field.getName(), vo, basepath, ann.caption(), rootvo, rootpath);
+    if (rule.unique) {
+      checkUnique(value, voClass, field.getName(), vo, basepath, rule.caption, rootvo, rootpath, context);
     }
   }
 
@@ -1606,60 +2512,61 @@ public class RFWValidator {
    * @param rootpath
    * @param forceRequired
    */
-  private void validateCollectionField(Class<? extends RFWVO> voClass, RFWVO vo, Field field, String basepath, RFWVO rootvo, String rootpath, boolean forceRequired) throws RFWException {
+  private void validateCollectionField(Class<? extends RFWVO> voClass, RFWVO vo, FieldRule rule, RFWAttributePath basepath, RFWVO rootvo, RFWAttributePath rootpath, boolean forceRequired, ValidationContext context) throws RFWException {
     // Recuperamos a anotação se suas definições
-    final RFWMetaCollectionField ann = field.getAnnotation(RFWMetaCollectionField.class);
+    final RFWVOFieldMeta field = rule.field;
+    final RFWMetaCollectionField ann = (RFWMetaCollectionField) rule.annotation;
     Object value = null;
     try {
-      value = RUReflex.getPropertyValue(vo, field.getName());
+      value = field.getValue(vo);
     } catch (RFWException e) {
       throw e;
     } catch (Exception e) {
       throw new RFWCriticalException("BISMetaField '${1}' usado em um campo não compatível no '${2} da '${0}'.", new String[] { voClass.getCanonicalName(), ann.getClass().getName(), field.getName() }, e);
     }
     // Valida obrigatoriedade
-    if ((forceRequired || ann.required()) && value == null) {
-      throw new RFWValidationException("'${fieldname}' é obrigatório.", createPath(basepath, field.getName(), null), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
+    if ((forceRequired || rule.required) && value == null) {
+      throw fail(context, "'${fieldname}' é obrigatório.", createPath(basepath, field.getName()), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
     }
     if (value != null) {
       // Avaliamos o tipo do atributo
       if (value instanceof Map<?, ?>) {
         if (ann.minSize() > ((Map<?, ?>) value).size()) {
-          throw new RFWValidationException("O atributo '${0}' deve conter no mínimo '${1}' elemento.", new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()), "" + ann.minSize() }, createPath(basepath, field.getName(), null));
+          throw fail(context, "O atributo '${0}' deve conter no mínimo '${1}' elemento.", new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()), "" + ann.minSize() }, createPath(basepath, field.getName()));
         }
         for (Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
           if (entry.getKey() instanceof String) {
             if (ann.maxLengthKey() > 0 && entry.getKey() != null && ((String) entry.getKey()).length() > ann.maxLengthKey()) {
               // Lançado como Critico pq o usuário provavelmente não define como chave, deve faltar limitador em algum ponto do sistema que valide a chave.
               throw new RFWCriticalException("A chave '${2}' do Map no atributo '${0}' da classe '${1}' é maior do que o limite definido de '${3}'.",
-                  new String[] { createPath(basepath, field.getName(), null), rootvo.getClass().getCanonicalName(), entry.getKey().toString(), "" + ann.maxLengthKey() });
+                  new String[] { createPath(basepath, field.getName()), rootvo.getClass().getCanonicalName(), entry.getKey().toString(), "" + ann.maxLengthKey() });
             }
           }
           if (entry.getValue() instanceof String) {
             if (ann.maxLength() > 0 && entry.getValue() != null && ((String) entry.getValue()).length() > ann.maxLength()) {
-              throw new RFWValidationException("O valor '${0}' é muito grande. Deve ter no máximo '${1}' caracteres.", new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()), "" + ann.maxLength() }, createPath(basepath, field.getName(), null));
+              throw fail(context, "O valor '${0}' é muito grande. Deve ter no máximo '${1}' caracteres.", new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()), "" + ann.maxLength() }, createPath(basepath, field.getName()));
             }
           }
         }
       } else if (value instanceof List<?>) {
         if (ann.minSize() > ((List<?>) value).size()) {
-          throw new RFWValidationException("O atributo '${0}' deve conter no mínimo '${1}' elemento.", createPath(basepath, field.getName(), null), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()), "" + ann.minSize() });
+          throw fail(context, "O atributo '${0}' deve conter no mínimo '${1}' elemento.", createPath(basepath, field.getName()), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()), "" + ann.minSize() });
         }
         for (Object item : ((List<?>) value)) {
           if (item instanceof String) {
             if (ann.maxLength() > 0 && item != null && ((String) item).length() > ann.maxLength()) {
-              throw new RFWValidationException("O valor '${0}' é muito grande. Deve ter no máximo '${1}' caracteres.", new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()), "" + ann.maxLength() }, createPath(basepath, field.getName(), null));
+              throw fail(context, "O valor '${0}' é muito grande. Deve ter no máximo '${1}' caracteres.", new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()), "" + ann.maxLength() }, createPath(basepath, field.getName()));
             }
           }
         }
       } else if (value instanceof HashSet<?>) {
         if (ann.minSize() > ((HashSet<?>) value).size()) {
-          throw new RFWValidationException("O atributo '${0}' deve conter no mínimo '${1}' elemento.", new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()), "" + ann.minSize() }, createPath(basepath, field.getName(), null));
+          throw fail(context, "O atributo '${0}' deve conter no mínimo '${1}' elemento.", new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()), "" + ann.minSize() }, createPath(basepath, field.getName()));
         }
         for (Object item : ((HashSet<?>) value)) {
           if (item instanceof String) {
             if (ann.maxLength() > 0 && item != null && ((String) item).length() > ann.maxLength()) {
-              throw new RFWValidationException("O valor '${0}' é muito grande. Deve ter no máximo '${1}' caracteres.", new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()), "" + ann.maxLength() }, createPath(basepath, field.getName(), null));
+              throw fail(context, "O valor '${0}' é muito grande. Deve ter no máximo '${1}' caracteres.", new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()), "" + ann.maxLength() }, createPath(basepath, field.getName()));
             }
           }
         }
@@ -1680,24 +2587,25 @@ public class RFWValidator {
    * @param rootpath
    * @param forceRequired
    */
-  private void validateBooleanField(Class<? extends RFWVO> voClass, RFWVO vo, Field field, String basepath, RFWVO rootvo, String rootpath, boolean forceRequired) throws RFWException {
+  private void validateBooleanField(Class<? extends RFWVO> voClass, RFWVO vo, FieldRule rule, RFWAttributePath basepath, RFWVO rootvo, RFWAttributePath rootpath, boolean forceRequired, ValidationContext context) throws RFWException {
     // Recuperamos a anotação se suas definições
-    final RFWMetaBooleanField ann = field.getAnnotation(RFWMetaBooleanField.class);
+    final RFWVOFieldMeta field = rule.field;
+    final RFWMetaBooleanField ann = (RFWMetaBooleanField) rule.annotation;
     Boolean value;
     try {
-      value = (Boolean) RUReflex.getPropertyValue(vo, field.getName());
+      value = (Boolean) field.getValue(vo);
     } catch (RFWException e) {
       throw e;
     } catch (Exception e) {
       throw new RFWCriticalException("BISMetaField '${1}' usado em um campo não compatível no '${2} da '${0}'.", new String[] { voClass.getCanonicalName(), RFWMetaBooleanField.class.getName(), field.getName() }, e);
     }
     // Valida obrigatoriedade
-    if ((forceRequired || ann.required()) && value == null) {
-      throw new RFWValidationException("'${fieldname}' é obrigatório.", createPath(basepath, field.getName(), null), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
+    if ((forceRequired || rule.required) && value == null) {
+      throw fail(context, "'${fieldname}' é obrigatório.", createPath(basepath, field.getName()), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
     }
     // Valida unicidade
-    if (ann.unique()) {
-      checkUnique(value, voClass, field.getName(), vo, basepath, ann.caption(), rootvo, rootpath);
+    if (rule.unique) {
+      checkUnique(value, voClass, field.getName(), vo, basepath, rule.caption, rootvo, rootpath, context);
     }
   }
 
@@ -1712,214 +2620,281 @@ public class RFWValidator {
    * @param rootpath
    * @param forceRequired
    */
-  private void validateDateField(Class<? extends RFWVO> voClass, RFWVO vo, Field field, String basepath, RFWVO rootvo, String rootpath, boolean forceRequired) throws RFWException {
+  private void validateDateField(Class<? extends RFWVO> voClass, RFWVO vo, FieldRule rule, RFWAttributePath basepath, RFWVO rootvo, RFWAttributePath rootpath, boolean forceRequired, ValidationContext context) throws RFWException {
     // Recuperamos a anotação se suas definições
-    final RFWMetaDateField ann = field.getAnnotation(RFWMetaDateField.class);
+    final RFWVOFieldMeta field = rule.field;
+    final RFWMetaDateField ann = (RFWMetaDateField) rule.annotation;
     Object obj;
     try {
-      obj = RUReflex.getPropertyValue(vo, field.getName());
+      obj = field.getValue(vo);
     } catch (RFWException e) {
       throw e;
     } catch (Exception e) {
       throw new RFWCriticalException("BISMetaField '${1}' usado em um campo não compatível no '${2} da '${0}'.", new String[] { voClass.getCanonicalName(), RFWMetaDateField.class.getName(), field.getName() }, e);
     }
     // Valida obrigatoriedade
-    if ((forceRequired || ann.required()) && obj == null) {
-      throw new RFWValidationException("'${fieldname}' é obrigatório.", createPath(basepath, field.getName(), null), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
+    if ((forceRequired || rule.required) && obj == null) {
+      throw fail(context, "'${fieldname}' é obrigatório.", createPath(basepath, field.getName()), voClass.getCanonicalName(), new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
     }
 
     // Valida unicidade
-    if (ann.unique()) {
-      checkUnique(obj, voClass, field.getName(), vo, basepath, ann.caption(), rootvo, rootpath);
+    if (rule.unique) {
+      checkUnique(obj, voClass, field.getName(), vo, basepath, rule.caption, rootvo, rootpath, context);
     }
 
     // Demais Validação conforme a classe de Data utilizada
-    if (obj instanceof Date) {
-      validateDateField_Date(voClass, vo, field, basepath, rootvo, rootpath, forceRequired, (Date) obj, ann);
-    } else if (obj instanceof LocalDate) {
-      validateDateField_LocalDate(voClass, vo, field, basepath, rootvo, rootpath, forceRequired, (LocalDate) obj, ann);
-    } else if (obj instanceof LocalDateTime) {
-      validateDateField_LocalDateTime(voClass, vo, field, basepath, rootvo, rootpath, forceRequired, (LocalDateTime) obj, ann);
-    } else if (obj instanceof LocalTime) {
-      validateDateField_LocalTime(voClass, vo, field, basepath, rootvo, rootpath, forceRequired, (LocalTime) obj, ann);
+    if (obj != null) {
+      final Class<?> dateType = getDateType(obj.getClass());
+      if (dateType != null) {
+        // Os limites são interpretados na montagem do plano conforme o tipo do atributo, só interpretamos novamente se o objeto recebido for de outro tipo
+        final DateBound min = dateType == rule.dateType ? rule.minDate : resolveDateBound(dateType, ann.minValue());
+        final DateBound max = dateType == rule.dateType ? rule.maxDate : resolveDateBound(dateType, ann.maxValue());
+        validateDateBounds(voClass, field.getName(), basepath, rootvo, obj, min, max, context);
+      }
     }
   }
 
   public void validateDateField_LocalDate(Class<? extends RFWVO> voClass, RFWVO vo, Field field, String basepath, RFWVO rootvo, String rootpath, boolean forceRequired, LocalDate value, RFWMetaDateField ann) throws RFWException {
     if (value != null) {
-      DateTimeFormatter dtf = DateTimeFormatter.ofPattern("uuuuMMddHHmmssSSSS");
-
-      // Valida data mínima
-      if (ann.minValue().length() > 0) {
-        LocalDate minDate;
-        try {
-          minDate = LocalDate.parse(ann.minValue(), dtf);
-        } catch (Exception e) {
-          throw new RFWCriticalException("Data inválida encontrada na BISMetaDateAnnotation da classe '${0}' no atributo '${1}'.", new String[] { voClass.getCanonicalName(), field.getName() }, e);
-        }
-        if (minDate.compareTo(value) < 0) {
-          throw new RFWValidationException("A Data de '${fieldname}' deve ser maior ou igual à '${0}'.", new String[] { SimpleDateFormat.getDateTimeInstance().format(minDate) }, createPath(basepath, field.getName(), null), voClass.getCanonicalName(),
-              new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
-        }
-      }
-      // Valida data máxima
-      if (ann.maxValue().length() > 0) {
-        LocalDate maxDate;
-        try {
-          maxDate = LocalDate.parse(ann.maxValue(), dtf);
-        } catch (Exception e) {
-          throw new RFWCriticalException("Data inválida encontrada na BISMetaDateAnnotation da classe '${0}' no atributo '${1}'.", new String[] { voClass.getCanonicalName(), field.getName() }, e);
-        }
-        if (maxDate.compareTo(value) > 0) {
-          throw new RFWValidationException("A Data de '${fieldname}' deve ser menor ou igual à '${0}'.", new String[] { SimpleDateFormat.getDateTimeInstance().format(maxDate) }, createPath(basepath, field.getName(), null), voClass.getCanonicalName(),
-              new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
-        }
-      }
+      validateDateBounds(voClass, field.getName(), RFWAttributePath.parse(basepath), rootvo, value, resolveDateBound(LocalDate.class, ann.minValue()), resolveDateBound(LocalDate.class, ann.maxValue()), null);
     }
   }
 
   public void validateDateField_LocalDateTime(Class<? extends RFWVO> voClass, RFWVO vo, Field field, String basepath, RFWVO rootvo, String rootpath, boolean forceRequired, LocalDateTime value, RFWMetaDateField ann) throws RFWException {
     if (value != null) {
-      DateTimeFormatter dtf = DateTimeFormatter.ofPattern("uuuuMMddHHmmssSSSS");
-
-      // Valida data mínima
-      if (ann.minValue().length() > 0) {
-        LocalDateTime minDate;
-        try {
-          minDate = LocalDateTime.parse(ann.minValue(), dtf);
-        } catch (Exception e) {
-          throw new RFWCriticalException("Data inválida encontrada na BISMetaDateAnnotation da classe '${0}' no atributo '${1}'.", new String[] { voClass.getCanonicalName(), field.getName() }, e);
-        }
-        if (minDate.compareTo(value) < 0) {
-          throw new RFWValidationException("A Data de '${fieldname}' deve ser maior ou igual à '${0}'.", new String[] { SimpleDateFormat.getDateTimeInstance().format(minDate) }, createPath(basepath, field.getName(), null), voClass.getCanonicalName(),
-              new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
-        }
-      }
-      // Valida data máxima
-      if (ann.maxValue().length() > 0) {
-        LocalDateTime maxDate;
-        try {
-          maxDate = LocalDateTime.parse(ann.maxValue(), dtf);
-        } catch (Exception e) {
-          throw new RFWCriticalException("Data inválida encontrada na BISMetaDateAnnotation da classe '${0}' no atributo '${1}'.", new String[] { voClass.getCanonicalName(), field.getName() }, e);
-        }
-        if (maxDate.compareTo(value) > 0) {
-          throw new RFWValidationException("A Data de '${fieldname}' deve ser menor ou igual à '${0}'.", new String[] { SimpleDateFormat.getDateTimeInstance().format(maxDate) }, createPath(basepath, field.getName(), null), voClass.getCanonicalName(),
-              new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
-        }
-      }
+      validateDateBounds(voClass, field.getName(), RFWAttributePath.parse(basepath), rootvo, value, resolveDateBound(LocalDateTime.class, ann.minValue()), resolveDateBound(LocalDateTime.class, ann.maxValue()), null);
     }
   }
 
   public void validateDateField_LocalTime(Class<? extends RFWVO> voClass, RFWVO vo, Field field, String basepath, RFWVO rootvo, String rootpath, boolean forceRequired, LocalTime value, RFWMetaDateField ann) throws RFWException {
     if (value != null) {
-      DateTimeFormatter dtf = DateTimeFormatter.ofPattern("uuuuMMddHHmmssSSSS");
+      validateDateBounds(voClass, field.getName(), RFWAttributePath.parse(basepath), rootvo, value, resolveDateBound(LocalTime.class, ann.minValue()), resolveDateBound(LocalTime.class, ann.maxValue()), null);
+    }
+  }
+
+  public void validateDateField_Date(Class<? extends RFWVO> voClass, RFWVO vo, Field field, String basepath, RFWVO rootvo, String rootpath, boolean forceRequired, Date value, RFWMetaDateField ann) throws RFWException {
+    if (value != null) {
+      validateDateBounds(voClass, field.getName(), RFWAttributePath.parse(basepath), rootvo, value, resolveDateBound(Date.class, ann.minValue()), resolveDateBound(Date.class, ann.maxValue()), null);
+    }
+  }
 
-      // Valida data mínima
-      if (ann.minValue().length() > 0) {
-        LocalTime minDate;
-        try {
-          minDate = LocalTime.parse(ann.minValue(), dtf);
-        } catch (Exception e) {
-          throw new RFWCriticalException("Data inválida encontrada na BISMetaDateAnnotation da classe '${0}' no atributo '${1}'.", new String[] { voClass.getCanonicalName(), field.getName() }, e);
-        }
-        if (minDate.compareTo(value) < 0) {
-          throw new RFWValidationException("A Data de '${fieldname}' deve ser maior ou igual à '${0}'.", new String[] { SimpleDateFormat.getDateTimeInstance().format(minDate) }, createPath(basepath, field.getName(), null), voClass.getCanonicalName(),
-              new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
-        }
+  /**
+   * Valida a data mínima e máxima definidas na {@link RFWMetaDateField}.
+   *
+   * @param min Data mínima já interpretada, ou null caso não tenha sido definida.
+   * @param max Data máxima já interpretada, ou null caso não tenha sido definida.
+   * @param context Estado da validação, ou null quando chamado fora de uma validação do objeto (a falha é lançada como exceção).
+   */
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  private void validateDateBounds(Class<? extends RFWVO> voClass, String fieldname, RFWAttributePath basepath, RFWVO rootvo, Object value, DateBound min, DateBound max, ValidationContext context) throws RFWException {
+    // Valida data mínima
+    if (min != null) {
+      if (min.error != null) throw new RFWCriticalException("Data inválida encontrada na BISMetaDateAnnotation da classe '${0}' no atributo '${1}'.", new String[] { voClass.getCanonicalName(), fieldname }, min.error);
+      if (((Comparable) min.value).compareTo(value) < 0) {
+        throw fail(context, "A Data de '${fieldname}' deve ser maior ou igual à '${0}'.", new String[] { SimpleDateFormat.getDateTimeInstance().format(min.value) }, createPath(basepath, fieldname), voClass.getCanonicalName(),
+            new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, fieldname) });
       }
-      // Valida data máxima
-      if (ann.maxValue().length() > 0) {
-        LocalTime maxDate;
-        try {
-          maxDate = LocalTime.parse(ann.maxValue(), dtf);
-        } catch (Exception e) {
-          throw new RFWCriticalException("Data inválida encontrada na BISMetaDateAnnotation da classe '${0}' no atributo '${1}'.", new String[] { voClass.getCanonicalName(), field.getName() }, e);
-        }
-        if (maxDate.compareTo(value) > 0) {
-          throw new RFWValidationException("A Data de '${fieldname}' deve ser menor ou igual à '${0}'.", new String[] { SimpleDateFormat.getDateTimeInstance().format(maxDate) }, createPath(basepath, field.getName(), null), voClass.getCanonicalName(),
-              new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
-        }
+    }
+    // Valida data máxima
+    if (max != null) {
+      if (max.error != null) throw new RFWCriticalException("Data inválida encontrada na BISMetaDateAnnotation da classe '${0}' no atributo '${1}'.", new String[] { voClass.getCanonicalName(), fieldname }, max.error);
+      if (((Comparable) max.value).compareTo(value) > 0) {
+        throw fail(context, "A Data de '${fieldname}' deve ser menor ou igual à '${0}'.", new String[] { SimpleDateFormat.getDateTimeInstance().format(max.value) }, createPath(basepath, fieldname), voClass.getCanonicalName(),
+            new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, fieldname) });
       }
     }
   }
 
-  public void validateDateField_Date(Class<? extends RFWVO> voClass, RFWVO vo, Field field, String basepath, RFWVO rootvo, String rootpath, boolean forceRequired, Date value, RFWMetaDateField ann) throws RFWException {
+  /**
+   * Retorna o tipo de data tratado pela validação da {@link RFWMetaDateField}, ou null caso a classe não seja suportada.
+   */
+  private static Class<?> getDateType(Class<?> clazz) {
+    if (Date.class.isAssignableFrom(clazz)) return Date.class;
+    if (clazz == LocalDate.class || clazz == LocalDateTime.class || clazz == LocalTime.class) return clazz;
+    return null;
+  }
+
+  /**
+   * Interpreta o valor de data mínima/máxima definido na {@link RFWMetaDateField} para o tipo de data do atributo.
+   *
+   * @return Limite interpretado, ou null caso o valor não tenha sido definido na annotation.
+   */
+  private static DateBound resolveDateBound(Class<?> dateType, String value) {
+    if (value.length() == 0) return null;
+    try {
+      if (dateType == Date.class) return new DateBound(new SimpleDateFormat("uuuuMMddHHmmssSSSS").parse(value), null);
+      if (dateType == LocalDate.class) return new DateBound(LocalDate.parse(value, DATEBOUNDFORMATTER), null);
+      if (dateType == LocalDateTime.class) return new DateBound(LocalDateTime.parse(value, DATEBOUNDFORMATTER), null);
+      return new DateBound(LocalTime.parse(value, DATEBOUNDFORMATTER), null);
+    } catch (Exception e) {
+      return new DateBound(null, e);
+    }
+  }
+
+  /**
+   * Centraliza a validação de unicidade do valor no objeto.
+   */
+  private void checkUnique(Object value, Class<? extends RFWVO> voClass, String fieldname, RFWVO vo, RFWAttributePath basepath, String fieldcaption, RFWVO rootvo, RFWAttributePath rootpath, ValidationContext context) throws RFWException {
     if (value != null) {
-      SimpleDateFormat sd = new SimpleDateFormat("uuuuMMddHHmmssSSSS");
+      // Procura o conicidência de valor pelo objeto raiz ao invés de só o objeto atual. Assim evitamos o BUG 306.
+      // Se tem ID o objeto pode já estar no banco, evitamos o objeto com mesmo ID para não valida unicidade contra o mesmo objeto
+      final UniqueCheck check = new UniqueCheck(rootvo.getClass(), new String[] { rootpath.child(fieldname).getCleanPath() }, new Object[] { value }, rootvo.getId(), "'${fieldname}' duplicado. Não podem existir dois cadastros com o mesmo '${fieldname}'.", createPath(basepath, fieldname),
+          voClass.getCanonicalName(), new String[] { fieldcaption, "" + value });
+      if (context.deferUniqueChecks) {
+        context.uniqueChecks.add(check);
+      } else if (context.dataProvider != null) {
+        RFWVO foundvo = context.dataProvider.findUniqueMatch(check.voClass, check.createMO(), null);
+        if (foundvo != null) throw fail(context, check.message, null, check.fieldPath, check.className, check.fieldName);
+      }
+    }
+  }
 
-      // Valida data mínima
-      if (ann.minValue().length() > 0) {
-        Date minDate;
-        try {
-          minDate = sd.parse(ann.minValue());
-        } catch (ParseException e) {
-          throw new RFWCriticalException("Data inválida encontrada na BISMetaDateAnnotation da classe '${0}' no atributo '${1}'.", new String[] { voClass.getCanonicalName(), field.getName() }, e);
+  /**
+   * Executa em lote as verificações de unicidade coletadas durante a validação dos objetos de um {@link #validatePersistAll(Class, Collection, String[], Executor)}.<br>
+   * As verificações são agrupadas pela classe e pelos atributos verificados. Em cada grupo:
+   * <li>Os valores de cada objeto são comparados em memória com os dos demais objetos do lote, encontrando os objetos que duplicam valores de objetos anteriores do próprio lote. As Strings são comparadas sem diferenciar maiúsculas, acentos e espaços à direita (veja
+   * {@link UniqueCheck#getBatchKey()});</li>
+   * <li>Os valores restantes são consultados no banco de dados em blocos, com uma condição IN por atributo, ao invés de uma consulta por objeto. Verificações com valores nulos ou com caminhos que passam por outros objetos continuam sendo consultadas uma a uma.</li>
+   * <li>Quem decide a igualdade é o banco de dados: caso a consulta do bloco retorne algum objeto cujos valores não são exatamente os de uma das verificações (o que acontece quando a collation não diferencia maiúsculas, acentos ou espaços), as verificações do bloco que ainda
+   * não falharam são refeitas uma a uma pelo {@link RFWDBProvider#findUniqueMatch(Class, RFWMO, String[])}.</li>
+   * As falhas encontradas são adicionadas às exceções dos objetos do lote.
+   *
+   * @param dataProvider DataProvider utilizado na validação do lote.
+   * @param contexts Contexto da validação de cada objeto do lote. Nulo para os objetos que não chegaram a ser validados.
+   * @param exceptions Exceções da validação de cada objeto do lote.
+   */
+  private void checkUniqueInBatch(RFWDBProvider dataProvider, ValidationContext[] contexts, RFWException[] exceptions) throws RFWException {
+    final LinkedHashMap<String, ArrayList<UniqueCheck>> groups = new LinkedHashMap<>();
+    for (int i = 0; i < contexts.length; i++) {
+      // Objetos que falharam criticamente não são verificados
+      if (contexts[i] == null || (exceptions[i] != null && !(exceptions[i] instanceof RFWValidationException))) continue;
+      for (UniqueCheck check : contexts[i].uniqueChecks) {
+        check.itemIndex = i;
+        final String key = check.voClass.getName() + ":" + String.join(",", check.fields);
+        ArrayList<UniqueCheck> group = groups.get(key);
+        if (group == null) {
+          group = new ArrayList<>();
+          groups.put(key, group);
         }
-        if (minDate.compareTo(value) < 0) {
-          throw new RFWValidationException("A Data de '${fieldname}' deve ser maior ou igual à '${0}'.", new String[] { SimpleDateFormat.getDateTimeInstance().format(minDate) }, createPath(basepath, field.getName(), null), voClass.getCanonicalName(),
-              new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
+        group.add(check);
+      }
+    }
+
+    for (ArrayList<UniqueCheck> group : groups.values()) {
+      // Duplicidade dentro do próprio lote
+      final HashMap<List<Object>, Integer> firstItems = new HashMap<>();
+      final ArrayList<UniqueCheck> batchChecks = new ArrayList<>();
+      for (UniqueCheck check : group) {
+        final Integer firstItem = firstItems.putIfAbsent(check.getBatchKey(), check.itemIndex);
+        if (firstItem != null && firstItem != check.itemIndex) {
+          addBatchFailure(exceptions, check);
+        } else if (dataProvider != null) {
+          if (check.isBatchable()) {
+            batchChecks.add(check);
+          } else {
+            RFWVO dbvo = dataProvider.findUniqueMatch(check.voClass, check.createMO(), null);
+            if (dbvo != null) addBatchFailure(exceptions, check);
+          }
         }
       }
-      // Valida data máxima
-      if (ann.maxValue().length() > 0) {
-        Date maxDate;
-        try {
-          maxDate = sd.parse(ann.maxValue());
-        } catch (ParseException e) {
-          throw new RFWCriticalException("Data inválida encontrada na BISMetaDateAnnotation da classe '${0}' no atributo '${1}'.", new String[] { voClass.getCanonicalName(), field.getName() }, e);
+
+      // Duplicidade com os objetos do banco de dados
+      for (int start = 0; start < batchChecks.size(); start += RFWDBProvider.INCHUNKSIZE) {
+        final List<UniqueCheck> chunk = batchChecks.subList(start, Math.min(batchChecks.size(), start + RFWDBProvider.INCHUNKSIZE));
+        final UniqueCheck first = chunk.get(0);
+        final RFWMO mo = new RFWMO();
+        final ArrayList<String> attributes = new ArrayList<>();
+        for (int i = 0; i < first.fields.length; i++) {
+          final LinkedHashSet<Object> values = new LinkedHashSet<>();
+          for (UniqueCheck check : chunk) {
+            values.add(check.values[i]);
+          }
+          mo.in(first.fields[i], values);
+          // Atributos que apontam para outro objeto precisam ser recuperados para comparar o ID
+          if (first.fields[i].endsWith(".id")) {
+            attributes.add(first.fields[i].substring(0, first.fields[i].length() - 3));
+          } else if (first.values[i] instanceof RFWVO) {
+            attributes.add(first.fields[i]);
+          }
         }
-        if (maxDate.compareTo(value) > 0) {
-          throw new RFWValidationException("A Data de '${fieldname}' deve ser menor ou igual à '${0}'.", new String[] { SimpleDateFormat.getDateTimeInstance().format(maxDate) }, createPath(basepath, field.getName(), null), voClass.getCanonicalName(),
-              new String[] { getAttributeFullCaption(rootvo.getClass(), basepath, field.getName()) });
+        final List<? extends RFWVO> list = dataProvider.findList(first.voClass, mo, null, attributes.size() == 0 ? null : attributes.toArray(new String[attributes.size()]), null, null);
+        if (list != null && list.size() > 0) {
+          final HashMap<List<Object>, List<Long>> found = new HashMap<>();
+          for (RFWVO dbvo : list) {
+            final Object[] key = new Object[first.fields.length];
+            for (int i = 0; i < key.length; i++) {
+              key[i] = UniqueCheck.normalize(RUReflex.getPropertyValue(dbvo, first.fields[i]));
+            }
+            found.computeIfAbsent(Arrays.asList(key), k -> new ArrayList<>()).add(dbvo.getId());
+          }
+          final HashSet<List<Object>> matched = new HashSet<>();
+          final ArrayList<UniqueCheck> pending = new ArrayList<>();
+          for (UniqueCheck check : chunk) {
+            final List<Long> ids = found.get(check.getKey());
+            boolean failed = false;
+            if (ids != null) {
+              matched.add(check.getKey());
+              for (Long id : ids) {
+                if (check.excludeID == null || !check.excludeID.equals(id)) {
+                  addBatchFailure(exceptions, check);
+                  failed = true;
+                  break;
+                }
+              }
+            }
+            if (!failed) pending.add(check);
+          }
+          // Objetos que o banco considerou iguais sem ter exatamente os mesmos valores: não sabemos a qual verificação pertencem, deixamos o banco decidir
+          if (matched.size() < found.size()) {
+            for (UniqueCheck check : pending) {
+              if (dataProvider.findUniqueMatch(check.voClass, check.createMO(), null) != null) addBatchFailure(exceptions, check);
+            }
+          }
         }
       }
     }
   }
 
   /**
-   * Centraliza a validação de unicidade do valor no objeto.
+   * Adiciona a falha de uma verificação de unicidade feita em lote à exceção do objeto do lote ao qual ela pertence.
    */
-  private void checkUnique(Object value, Class<? extends RFWVO> voClass, String fieldname, RFWVO vo, String basepath, String fieldcaption, RFWVO rootvo, String rootpath) throws RFWException {
-    if (value != null) {
-      // Procura o conicidência de valor pelo objeto raiz ao invés de só o objeto atual. Assim evitamos o BUG 306.
-      RFWMO mo = new RFWMO();
-      mo.equal(RUReflex.getCleanPath(createPath(rootpath, fieldname, null)), value);
-      if (rootvo.getId() != null) { // Se tem ID o objeto pode já estar no banco, evitamos o objeto com mesmo ID para não valida unicidade contra o mesmo objeto
-        mo.notEqual("id", rootvo.getId());
-      }
-      RFWVO foundvo = this.dataProvider.findUniqueMatch(rootvo.getClass(), mo, null);
-      if (foundvo != null) {
-        throw new RFWValidationException("'${fieldname}' duplicado. Não podem existir dois cadastros com o mesmo '${fieldname}'.", createPath(basepath, fieldname, null), voClass.getCanonicalName(), new String[] { fieldcaption, "" + value });
-      }
+  private static void addBatchFailure(RFWException[] exceptions, UniqueCheck check) {
+    final RFWException current = exceptions[check.itemIndex];
+    if (current == null) {
+      exceptions[check.itemIndex] = new RFWValidationGroupException(new ArrayList<>(Arrays.asList(check.createException())), false);
+    } else if (current instanceof RFWValidationGroupException) {
+      ((RFWValidationGroupException) current).addValidationException(check.createException());
+    } else if (current instanceof RFWValidationException) {
+      final RFWValidationGroupException group = new RFWValidationGroupException(new ArrayList<>(Arrays.asList((RFWValidationException) current, check.createException())), false);
+      exceptions[check.itemIndex] = group;
     }
   }
 
   /**
    * Método auxiliar usado para facilitar a criação do caminho dos fields.
    *
-   * @param basepath Caminho base dos VOs anteriores, ou Null caso ainda esteja no VO raiz.
+   * A String só é montada aqui, quando o caminho é de fato utilizado (normalmente em uma falha de validação). Na recursão os caminhos são passados como {@link RFWAttributePath}.
+   *
+   * @param basepath Caminho base dos VOs anteriores, ou {@link RFWAttributePath#ROOT} caso ainda esteja no VO raiz.
    * @param field field da classe com erro de validação.
-   * @param iterableid identificador do item dentro da colection. Index em caso de listas ou key em caso de hashs.
    * @return Caminho completo para a propriedade.
    */
-  private String createPath(String basepath, String fieldname, String iterableid) {
-    if (basepath == null) basepath = "";
-    basepath += (basepath.length() > 0 ? "." : "") + fieldname + (iterableid != null ? "[" + iterableid + "]" : "");
-    return basepath;
+  private static String createPath(RFWAttributePath basepath, String fieldname) {
+    if (basepath == null) return fieldname;
+    return basepath.child(fieldname).toString();
   }
 
   /**
    * Método auxiliar usado para recuperar o "Caption Completo" do atributo para ser adicionado na msg de validação.
    *
    * @param voClass Classe do VO raiz para começar a busca
-   * @param basepath Caminho base dos VOs anteriores, ou Null caso ainda esteja no VO raiz.
+   * @param basepath Caminho base dos VOs anteriores, ou {@link RFWAttributePath#ROOT} caso ainda esteja no VO raiz.
    * @param fieldname field da classe com erro de validação.
    * @return
    * @throws RFWException Lançado caso algum atributo no caminho não tenha a BISMetaAnnotation
    */
-  private String getAttributeFullCaption(Class<? extends RFWVO> voClass, String basepath, String fieldname) throws RFWException {
-    return RUReflex.getRFWMetaAnnotationFullCaption(voClass, createPath(basepath, fieldname, null));
+  private String getAttributeFullCaption(Class<? extends RFWVO> voClass, RFWAttributePath basepath, String fieldname) throws RFWException {
+    return RUReflex.getRFWMetaAnnotationFullCaption(voClass, createPath(basepath, fieldname));
   }
 
 }
@@ -0,0 +1,245 @@
+package br.eng.rodrigogml.rfw.kernel.vo;
+
+import java.io.Serializable;
+import java.util.concurrent.ConcurrentHashMap;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWRunTimeException;
+import br.eng.rodrigogml.rfw.kernel.utils.RUReflex;
+
+/**
+ * Description: Caminho de um atributo no padrão do {@link RUReflex} (como "a.b[3].c" ou "a.hash[key{String}].c"), montado a partir do caminho pai ao invés de concatenar Strings.<br>
+ * Cada caminho guarda apenas a referência para o caminho pai e o seu próprio bloco, compartilhando toda a estrutura anterior. A representação em String ({@link #toString()}) e o caminho limpo ({@link #getCleanPath()}) só são montados quando solicitados e ficam em cache no objeto, assim
+ * as recursões que só precisam do caminho quando encontram uma falha não criam nenhuma String.<br>
+ * Os caminhos filhos sem índice ou chave são internalizados no caminho pai: pedir o mesmo atributo duas vezes retorna a mesma instância. Como os caminhos internalizados no {@link #ROOT} nunca são descartados, cada caminho internaliza no máximo {@link #MAXCHILDREN}
+ * filhos, e os demais (como os montados a partir de nomes dinâmicos) são criados a cada chamada, evitando que a árvore cresça indefinidamente.<br>
+ * Os objetos desta classe são imutáveis e podem ser compartilhados entre threads.
+ *
+ * @author Rodrigo GML
+ * @since 1.0.0 (17 de out. de 2026)
+ */
+public final class RFWAttributePath implements Serializable {
+
+  private static final long serialVersionUID = -6203718547120395186L;
+
+  /**
+   * Quantidade máxima de caminhos filhos internalizados em cada caminho. Depois de atingido o limite os novos filhos são criados a cada chamada.
+   */
+  static final int MAXCHILDREN = 1024;
+
+  /**
+   * Caminho raiz (vazio), a partir do qual os caminhos dos atributos são montados.
+   */
+  public static final RFWAttributePath ROOT = new RFWAttributePath(null, "", "");
+
+  /**
+   * Caminho pai. Nulo apenas no {@link #ROOT}.
+   */
+  private final RFWAttributePath parent;
+
+  /**
+   * Nome do atributo deste bloco do caminho.
+   */
+  private final String name;
+
+  /**
+   * Índice ou chave do bloco do caminho, já com os delimitadores (como "[3]" ou "[key{String}]"). Vazio quando o bloco não tem índice.
+   */
+  private final String index;
+
+  /**
+   * Representação em String do caminho, montada apenas quando solicitada.
+   */
+  private String path;
+
+  /**
+   * Caminho limpo, sem os índices e chaves, montado apenas quando solicitado.
+   */
+  private String cleanPath;
+
+  /**
+   * Caminhos filhos sem índice já criados, para reaproveitar as instâncias, limitado a {@link #MAXCHILDREN}. Criado apenas quando o primeiro filho é solicitado.
+   */
+  private transient volatile ConcurrentHashMap<String, RFWAttributePath> children;
+
+  private RFWAttributePath(RFWAttributePath parent, String name, String index) {
+    this.parent = parent;
+    this.name = name;
+    this.index = index;
+    if (parent == null) {
+      this.path = "";
+      this.cleanPath = "";
+    }
+  }
+
+  /**
+   * Interpreta um caminho em String, quebrando os blocos pelo ".". Os "." dentro dos índices ou chaves (entre "[]" ou "{}") não são considerados separadores.
+   *
+   * @param path Caminho em String.
+   * @return Caminho interpretado, {@link #ROOT} caso o caminho seja vazio, ou nulo caso seja nulo.
+   */
+  public static RFWAttributePath parse(String path) {
+    if (path == null) return null;
+    RFWAttributePath current = ROOT;
+    int depth = 0;
+    int start = 0;
+    int indexStart = -1;
+    for (int i = 0; i <= path.length(); i++) {
+      final char c = i < path.length() ? path.charAt(i) : '.';
+      if (c == '[' || c == '{') {
+        if (depth++ == 0 && indexStart < 0) indexStart = i;
+      } else if (c == ']' || c == '}') {
+        if (depth > 0) depth--;
+      } else if (c == '.' && depth == 0) {
+        if (i > start) {
+          if (indexStart < 0) {
+            current = current.child(path.substring(start, i));
+          } else {
+            current = new RFWAttributePath(current, path.substring(start, indexStart), path.substring(indexStart, i));
+          }
+        }
+        start = i + 1;
+        indexStart = -1;
+      }
+    }
+    return current;
+  }
+
+  /**
+   * Cria o caminho de um atributo deste caminho.
+   *
+   * @param attribute Nome do atributo. Se nulo ou vazio retorna o próprio caminho.
+   * @return Caminho do atributo. Sempre a mesma instância para o mesmo atributo, enquanto o limite de {@link #MAXCHILDREN} filhos internalizados não for atingido.
+   */
+  public RFWAttributePath child(String attribute) {
+    if (attribute == null || attribute.isEmpty()) return this;
+    ConcurrentHashMap<String, RFWAttributePath> map = this.children;
+    if (map == null) {
+      synchronized (this) {
+        map = this.children;
+        if (map == null) {
+          map = new ConcurrentHashMap<>();
+          this.children = map;
+        }
+      }
+    }
+    RFWAttributePath child = map.get(attribute);
+    if (child == null) {
+      child = new RFWAttributePath(this, attribute, "");
+      if (map.size() < MAXCHILDREN) {
+        final RFWAttributePath existing = map.putIfAbsent(attribute, child);
+        if (existing != null) child = existing;
+      }
+    }
+    return child;
+  }
+
+  /**
+   * Cria o caminho de um item de uma lista ou array deste caminho.
+   *
+   * @param attribute Nome do atributo que contém a lista.
+   * @param index Índice do item.
+   * @return Caminho do item, no formato "attribute[index]".
+   */
+  public RFWAttributePath child(String attribute, int index) {
+    return new RFWAttributePath(this, attribute == null ? "" : attribute, "[" + index + "]");
+  }
+
+  /**
+   * Cria o caminho de um item de uma hash deste caminho, no mesmo formato do {@link RUReflex#getAttributePath(String, Object, Class, String)}.
+   *
+   * @param attribute Nome do atributo que contém a hash.
+   * @param key Objeto chave da hash.
+   * @param clazz Classe da chave de Hash. Atualmente suporta apenas String e Long.
+   * @return Caminho do item, no formato "attribute[key{Tipo}]".
+   */
+  public RFWAttributePath child(String attribute, Object key, Class<?> clazz) {
+    final String type;
+    if (String.class.isAssignableFrom(clazz)) {
+      type = "{String}";
+    } else if (Long.class.isAssignableFrom(clazz)) {
+      type = "{Long}";
+    } else {
+      throw new RFWRunTimeException("Classe não suportada como chave de hash!");
+    }
+    return new RFWAttributePath(this, attribute == null ? "" : attribute, "[" + key + type + "]");
+  }
+
+  /**
+   * Retorna o caminho pai. Ex: de "a.b[0].c" retorna "a.b[0]".
+   *
+   * @return Caminho pai, {@link #ROOT} para os atributos do primeiro nível, ou nulo caso este seja o {@link #ROOT}.
+   */
+  public RFWAttributePath getParent() {
+    return this.parent;
+  }
+
+  /**
+   * Retorna o nome do atributo do último bloco do caminho, sem o índice. Ex: de "a.b[0]" retorna "b".
+   */
+  public String getName() {
+    return this.name;
+  }
+
+  /**
+   * Retorna o último bloco do caminho, com o índice. Ex: de "a.b[0]" retorna "b[0]". O mesmo que o {@link RUReflex#getLastPath(String)}.
+   *
+   * @return Último bloco do caminho, ou nulo caso este seja o {@link #ROOT}.
+   */
+  public String getLastPath() {
+    if (this.parent == null) return null;
+    return this.index.isEmpty() ? this.name : this.name + this.index;
+  }
+
+  /**
+   * Verifica se este é o caminho raiz (vazio).
+   */
+  public boolean isRoot() {
+    return this.parent == null;
+  }
+
+  /**
+   * Retorna o caminho limpo, sem os índices e chaves. Ex: de "a.b[0].c" retorna "a.b.c". O mesmo que o {@link RUReflex#getCleanPath(String)}.
+   */
+  public String getCleanPath() {
+    String clean = this.cleanPath;
+    if (clean == null) {
+      final String parentClean = this.parent.getCleanPath();
+      clean = parentClean.isEmpty() ? this.name : parentClean + "." + this.name;
+      this.cleanPath = clean;
+    }
+    return clean;
+  }
+
+  /**
+   * Retorna o caminho completo em String, como "a.b[0].c". Montado na primeira chamada e mantido em cache.
+   */
+  @Override
+  public String toString() {
+    String str = this.path;
+    if (str == null) {
+      final String parentPath = this.parent.toString();
+      str = (parentPath.isEmpty() ? "" : parentPath + ".") + this.name + this.index;
+      this.path = str;
+    }
+    return str;
+  }
+
+  /**
+   * Mantém o {@link #ROOT} como instância única após a desserialização.
+   */
+  private Object readResolve() {
+    return this.parent == null ? ROOT : this;
+  }
+
+  @Override
+  public int hashCode() {
+    return toString().hashCode();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) return true;
+    if (!(obj instanceof RFWAttributePath)) return false;
+    return toString().equals(obj.toString());
+  }
+}
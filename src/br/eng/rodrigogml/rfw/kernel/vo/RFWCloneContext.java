@@ -0,0 +1,154 @@
+package br.eng.rodrigogml.rfw.kernel.vo;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+
+/**
+ * Description: Contexto de uma operação de clone recursivo ({@link RFWRecursiveClonable#cloneRecursive(RFWCloneContext)}).<br>
+ * Mantém os objetos já clonados comparando-os pela <b>referência</b> (como um {@link IdentityHashMap}) e não pelo equals/hashCode. Como o hashCode do {@link RFWVO} é baseado no ID, todos os objetos ainda não persistidos (ID nulo) cairiam no mesmo "bucket" do {@link HashMap} utilizado pelo {@link RFWRecursiveClonable#cloneRecursive(HashMap)}, degradando a busca em grafos grandes.<br>
+ * <br>
+ * Opcionalmente o contexto também limita quais partes do grafo devem ser clonadas:
+ * <li><b>attributes</b> - caminhos dos atributos (no mesmo formato utilizado no findByID do RFWDAO, ex: "itemList.product") que devem ser clonados. Atributos que apontam para outros objetos clonáveis, List ou Map e que não façam parte de nenhum dos caminhos não são copiados. Atributos simples são sempre copiados;</li>
+ * <li><b>maxDepth</b> - profundidade máxima de objetos clonáveis a partir do objeto raiz (profundidade 0). Os objetos além dessa profundidade não são copiados.</li>
+ * <br>
+ * Objetos fora do filtro que já tenham sido clonados em outra parte do grafo (como a referência de volta para o objeto pai) continuam apontando para o seu clone.<br>
+ * Este objeto não é thread-safe, cada operação de clone deve utilizar sua própria instância.
+ *
+ * @author Rodrigo GML
+ * @since 1.0.0 (17 de out. de 2026)
+ */
+public class RFWCloneContext {
+
+  /**
+   * Objetos já clonados, indexados pela referência do objeto original.
+   */
+  private final IdentityHashMap<RFWRecursiveClonable, RFWRecursiveClonable> clonedObjects = new IdentityHashMap<>();
+
+  /**
+   * Caminhos dos atributos que devem ser clonados. Null para clonar todo o grafo.
+   */
+  private final String[] attributes;
+
+  /**
+   * Profundidade máxima a ser clonada. Valores negativos indicam que não há limite.
+   */
+  private final int maxDepth;
+
+  /**
+   * Caminho do objeto que está sendo clonado no momento. Null quando estamos no objeto raiz.
+   */
+  private String currentPath = null;
+
+  /**
+   * Profundidade do objeto que está sendo clonado no momento.
+   */
+  private int currentDepth = 0;
+
+  /**
+   * Cria um contexto para clonar todo o grafo de objetos.
+   */
+  public RFWCloneContext() {
+    this(null, -1);
+  }
+
+  /**
+   * Cria um contexto que clona apenas parte do grafo de objetos.
+   *
+   * @param attributes Caminhos dos atributos que devem ser clonados. Null para não filtrar pelos atributos.
+   * @param maxDepth Profundidade máxima dos objetos a serem clonados, sendo o objeto raiz a profundidade 0. Valores negativos indicam que não há limite.
+   */
+  public RFWCloneContext(String[] attributes, int maxDepth) {
+    this.attributes = attributes;
+    this.maxDepth = maxDepth;
+  }
+
+  /**
+   * Verifica se o atributo do objeto que está sendo clonado no momento deve ter seu conteúdo (outros objetos clonáveis, List ou Map) clonado.
+   *
+   * @param attribute Nome do atributo no objeto atual.
+   * @return true se o atributo deve ser clonado, false caso deva ser ignorado.
+   */
+  public boolean accept(String attribute) {
+    if (this.maxDepth >= 0 && this.currentDepth >= this.maxDepth) return false;
+    if (this.attributes == null) return true;
+    final String path = getChildPath(attribute);
+    for (String att : this.attributes) {
+      if (att != null && att.startsWith(path) && (att.length() == path.length() || att.charAt(path.length()) == '.')) return true;
+    }
+    return false;
+  }
+
+  /**
+   * Indica ao contexto que o clone passará a trabalhar nos objetos do atributo passado. Deve ser sempre seguido de um {@link #leave(String)} ao terminar o atributo.
+   *
+   * @param attribute Nome do atributo no objeto atual.
+   * @return Caminho anterior, que deve ser passado para o {@link #leave(String)}.
+   */
+  public String enter(String attribute) {
+    final String previous = this.currentPath;
+    this.currentPath = getChildPath(attribute);
+    this.currentDepth++;
+    return previous;
+  }
+
+  /**
+   * Retorna o contexto para o objeto que estava sendo clonado antes do {@link #enter(String)}.
+   *
+   * @param previousPath Caminho retornado pelo {@link #enter(String)}.
+   */
+  public void leave(String previousPath) {
+    this.currentPath = previousPath;
+    this.currentDepth--;
+  }
+
+  private String getChildPath(String attribute) {
+    return this.currentPath == null ? attribute : this.currentPath + "." + attribute;
+  }
+
+  /**
+   * # caminhos dos atributos que devem ser clonados. Null para clonar todo o grafo.
+   *
+   * @return the caminhos dos atributos que devem ser clonados
+   */
+  public String[] getAttributes() {
+    return attributes;
+  }
+
+  /**
+   * # profundidade máxima a ser clonada. Valores negativos indicam que não há limite.
+   *
+   * @return the profundidade máxima a ser clonada
+   */
+  public int getMaxDepth() {
+    return maxDepth;
+  }
+
+  /**
+   * Recupera o clone já criado para o objeto.
+   *
+   * @param original Objeto original.
+   * @return Clone do objeto, ou null caso o objeto ainda não tenha sido clonado neste contexto.
+   */
+  public RFWRecursiveClonable get(RFWRecursiveClonable original) {
+    return this.clonedObjects.get(original);
+  }
+
+  /**
+   * Registra o clone criado para o objeto, mantendo as referências cíclicas e objetos compartilhados no grafo.
+   *
+   * @param original Objeto original.
+   * @param clone Clone do objeto.
+   */
+  public void put(RFWRecursiveClonable original, RFWRecursiveClonable clone) {
+    this.clonedObjects.put(original, clone);
+  }
+
+  /**
+   * Quantidade de objetos já clonados neste contexto.
+   *
+   * @return Quantidade de objetos clonados.
+   */
+  public int size() {
+    return this.clonedObjects.size();
+  }
+}
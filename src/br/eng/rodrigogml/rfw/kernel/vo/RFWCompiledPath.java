@@ -0,0 +1,420 @@
+package br.eng.rodrigogml.rfw.kernel.vo;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWCriticalException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.kernel.utils.RUReflex;
+
+/**
+ * Description: Caminho de propriedade "compilado" para leitura e escrita de atributos por reflexão.<br>
+ * O caminho (no padrão do {@link RUReflex#getPropertyValue(Object, String)}, como "a.b[3].c" ou "a.hash[key{String}].c") é interpretado uma única vez e os métodos get/set de cada passo são resolvidos como {@link MethodHandle} e mantidos em cache por classe. Assim as chamadas seguintes não precisam mais
+ * quebrar a String, validar índices ou procurar os métodos.<br>
+ * Como o objeto de cada passo pode ser de uma subclasse do tipo declarado, os métodos são resolvidos pela classe do objeto encontrado em tempo de execução, exatamente como no {@link RUReflex#getPropertyValue(Object, String)}.<br>
+ * Os objetos desta classe são imutáveis e podem ser compartilhados entre threads.
+ *
+ * @author Rodrigo GML
+ * @since 1.0.0 (17 de out. de 2026)
+ */
+public final class RFWCompiledPath {
+
+  /**
+   * Limite de caminhos mantidos em cache para cada classe. Caminhos com índices de listas e chaves de hash geram Strings diferentes para cada item, evitamos assim que o cache cresça indefinidamente. Passado o limite os caminhos continuam sendo compilados, só não são mais armazenados.
+   */
+  private static final int MAXCACHEDPATHSPERCLASS = 4096;
+
+  /**
+   * Cache dos caminhos compilados, indexados pela classe e pelo caminho.
+   */
+  private static final ConcurrentHashMap<Class<?>, ConcurrentHashMap<String, RFWCompiledPath>> pathCache = new ConcurrentHashMap<>();
+
+  /**
+   * Cache dos métodos de acesso de cada atributo, indexados pela classe e pelo nome do atributo.
+   */
+  private static final ConcurrentHashMap<Class<?>, ConcurrentHashMap<String, PropertyHandle>> handleCache = new ConcurrentHashMap<>();
+
+  /**
+   * Métodos de acesso já resolvidos para um atributo de uma classe.
+   */
+  static final class PropertyHandle {
+
+    /**
+     * Classe em que os métodos foram procurados.
+     */
+    final Class<?> beanClass;
+
+    /**
+     * Tipo de retorno do método get.
+     */
+    final Class<?> type;
+
+    /**
+     * Método get, adaptado para a assinatura (Object)Object.
+     */
+    final MethodHandle getter;
+
+    /**
+     * Método set, adaptado para a assinatura (Object,Object)void. Null caso a classe não tenha o método set para o tipo retornado pelo get.
+     */
+    final MethodHandle setter;
+
+    /**
+     * Nome do método set procurado, utilizado para montar a mensagem de erro caso ele não exista.
+     */
+    final String setterName;
+
+    PropertyHandle(Class<?> beanClass, String property) throws ReflectiveOperationException {
+      this.beanClass = beanClass;
+      final String capName = property.substring(0, 1).toUpperCase() + property.substring(1, property.length());
+      Method getMethod;
+      try {
+        getMethod = beanClass.getMethod("get" + capName);
+      } catch (NoSuchMethodException e) {
+        try {
+          getMethod = beanClass.getMethod("is" + capName);
+        } catch (NoSuchMethodException e2) {
+          getMethod = beanClass.getMethod("are" + capName);
+        }
+      }
+      this.type = getMethod.getReturnType();
+      this.getter = toHandle(getMethod).asType(MethodType.methodType(Object.class, Object.class));
+
+      this.setterName = "set" + capName;
+      MethodHandle setter = null;
+      try {
+        setter = toHandle(beanClass.getMethod(this.setterName, this.type)).asType(MethodType.methodType(void.class, Object.class, Object.class));
+      } catch (NoSuchMethodException e) {
+        // Atributos somente leitura não tem o set, só lançamos erro se alguém tentar escrever
+      }
+      this.setter = setter;
+    }
+
+    /**
+     * Converte o método em {@link MethodHandle}. Métodos públicos declarados em classes não públicas são acessados pela definição da classe/interface pública mais próxima, como faz o {@link Method#invoke(Object, Object...)}.
+     */
+    static MethodHandle toHandle(Method method) throws IllegalAccessException {
+      try {
+        return MethodHandles.publicLookup().unreflect(method);
+      } catch (IllegalAccessException e) {
+        method.setAccessible(true);
+        return MethodHandles.lookup().unreflect(method);
+      }
+    }
+  }
+
+  /**
+   * Um passo do caminho, com o nome do atributo e o índice/chave quando houver.
+   */
+  private static final class Segment {
+
+    /**
+     * Nome do atributo, sem o índice/chave.
+     */
+    final String property;
+
+    /**
+     * Conteúdo entre colchetes, ou null quando o passo não tem índice/chave.
+     */
+    final String key;
+
+    /**
+     * Índice da lista já convertido. -1 quando a chave não é um índice numérico válido.
+     */
+    final int listIndex;
+
+    /**
+     * Chave da hash já convertida de acordo com a classe definida em "{}".
+     */
+    final Object mapKey;
+
+    /**
+     * Últimos métodos utilizados neste passo. Como normalmente um caminho é sempre utilizado com objetos da mesma classe, evitamos a consulta ao cache global na maioria das chamadas.
+     */
+    volatile PropertyHandle lastHandle;
+
+    Segment(String segment) {
+      final int indexkey = segment.indexOf('[');
+      if (indexkey > -1) {
+        this.property = segment.substring(0, indexkey);
+        this.key = segment.substring(indexkey + 1, segment.length() - 1);
+
+        int listIndex = -1;
+        if (isDigits(this.key)) {
+          try {
+            listIndex = Integer.parseInt(this.key);
+          } catch (NumberFormatException e) {
+            // Índice maior que um int, deixamos -1 para lançar a exception na hora de utilizar a lista
+          }
+        }
+        this.listIndex = listIndex;
+
+        String mapKey = this.key;
+        String clazz = null;
+        final int classIndex = mapKey.indexOf('{');
+        if (classIndex > -1) {
+          clazz = mapKey.substring(classIndex + 1, mapKey.length() - 1);
+          mapKey = mapKey.substring(0, classIndex);
+        }
+        Object hashKey = null;
+        if ("String".equals(clazz)) {
+          hashKey = mapKey;
+        } else if ("Long".equals(clazz)) {
+          try {
+            hashKey = Long.parseLong(mapKey);
+          } catch (NumberFormatException e) {
+            // Só lançamos erro se o atributo for realmente uma hash
+          }
+        }
+        this.mapKey = hashKey;
+      } else {
+        this.property = segment;
+        this.key = null;
+        this.listIndex = -1;
+        this.mapKey = null;
+      }
+    }
+
+    PropertyHandle getHandle(Class<?> beanClass) throws ReflectiveOperationException {
+      PropertyHandle handle = this.lastHandle;
+      if (handle == null || handle.beanClass != beanClass) {
+        handle = getPropertyHandle(beanClass, this.property);
+        this.lastHandle = handle;
+      }
+      return handle;
+    }
+  }
+
+  /**
+   * Classe para qual o caminho foi compilado.
+   */
+  private final Class<?> beanClass;
+
+  /**
+   * Caminho original.
+   */
+  private final String path;
+
+  /**
+   * Passos do caminho.
+   */
+  private final Segment[] segments;
+
+  private RFWCompiledPath(Class<?> beanClass, String path) {
+    this.beanClass = beanClass;
+    this.path = path;
+
+    int count = 1;
+    for (int i = 0; i < path.length(); i++) {
+      if (path.charAt(i) == '.') count++;
+    }
+    this.segments = new Segment[count];
+    int start = 0;
+    for (int i = 0; i < count; i++) {
+      int end = path.indexOf('.', start);
+      if (end == -1) end = path.length();
+      this.segments[i] = new Segment(path.substring(start, end));
+      start = end + 1;
+    }
+  }
+
+  /**
+   * Recupera o caminho compilado para a classe e caminho passados, do cache ou compilando na primeira vez.
+   *
+   * @param beanClass Classe do objeto raiz do caminho.
+   * @param path Caminho da propriedade, no padrão do {@link RUReflex#getPropertyValue(Object, String)}.
+   * @return Caminho compilado.
+   */
+  public static RFWCompiledPath compile(Class<?> beanClass, String path) {
+    Objects.requireNonNull(beanClass, "A classe não pode ser nula!");
+    Objects.requireNonNull(path, "O caminho não pode ser nulo!");
+
+    ConcurrentHashMap<String, RFWCompiledPath> classCache = pathCache.get(beanClass);
+    if (classCache == null) {
+      classCache = new ConcurrentHashMap<>();
+      final ConcurrentHashMap<String, RFWCompiledPath> previous = pathCache.putIfAbsent(beanClass, classCache);
+      if (previous != null) classCache = previous;
+    }
+    RFWCompiledPath compiled = classCache.get(path);
+    if (compiled == null) {
+      compiled = new RFWCompiledPath(beanClass, path);
+      if (classCache.size() < MAXCACHEDPATHSPERCLASS) {
+        final RFWCompiledPath previous = classCache.putIfAbsent(path, compiled);
+        if (previous != null) compiled = previous;
+      }
+    }
+    return compiled;
+  }
+
+  /**
+   * Descarta todos os caminhos e métodos em cache, veja {@link RFWVOMeta#clearCache()}.
+   */
+  public static void clearCache() {
+    pathCache.clear();
+    handleCache.clear();
+  }
+
+  /**
+   * Recupera (ou resolve na primeira vez) os métodos de acesso de um atributo de uma classe.
+   */
+  static PropertyHandle getPropertyHandle(Class<?> beanClass, String property) throws ReflectiveOperationException {
+    ConcurrentHashMap<String, PropertyHandle> classCache = handleCache.get(beanClass);
+    if (classCache == null) {
+      classCache = new ConcurrentHashMap<>();
+      final ConcurrentHashMap<String, PropertyHandle> previous = handleCache.putIfAbsent(beanClass, classCache);
+      if (previous != null) classCache = previous;
+    }
+    PropertyHandle handle = classCache.get(property);
+    if (handle == null) {
+      // Atributos sem o método get não são armazenados, a exception é lançada em todas as chamadas
+      handle = new PropertyHandle(beanClass, property);
+      final PropertyHandle previous = classCache.putIfAbsent(property, handle);
+      if (previous != null) handle = previous;
+    }
+    return handle;
+  }
+
+  /**
+   * Recupera o valor da propriedade no objeto passado. Mesmo comportamento do {@link RUReflex#getPropertyValue(Object, String)}: caso algum objeto do caminho seja nulo, retorna null.
+   *
+   * @param bean Objeto raiz do caminho.
+   * @return Valor encontrado.
+   * @throws RFWException Lançado caso não seja possível ler o valor ('RFW_000032').
+   */
+  public Object getValue(Object bean) throws RFWException {
+    try {
+      Object obj = bean;
+      for (int i = 0; i < this.segments.length && obj != null; i++) {
+        obj = getSegmentValue(obj, this.segments[i]);
+      }
+      return obj;
+    } catch (Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new RFWCriticalException("RFW_000032", new String[] { this.path, bean.getClass().getCanonicalName() }, e);
+    }
+  }
+
+  /**
+   * Lê o valor de um passo do caminho no objeto passado.
+   */
+  private static Object getSegmentValue(Object obj, Segment segment) throws Throwable {
+    Object value = segment.getHandle(obj.getClass()).getter.invokeExact(obj);
+    if (segment.key != null && value != null) {
+      if (value instanceof List<?>) {
+        final List<?> list = (List<?>) value;
+        // Se é uma lista validamos que o index seja numérico
+        if (segment.listIndex < 0) throw new RFWCriticalException("RFW_ERR_200395", new String[] { segment.property });
+        if (segment.listIndex >= list.size()) throw new RFWCriticalException("RFW_ERR_200396", new String[] { segment.key, segment.property });
+        value = list.get(segment.listIndex);
+      } else if (value instanceof Map<?, ?>) {
+        value = ((Map<?, ?>) value).get(segment.mapKey);
+      }
+    }
+    return value;
+  }
+
+  /**
+   * Define o valor da propriedade no objeto passado. Mesmo comportamento do {@link RUReflex#setPropertyValue(Object, String, Object, boolean)}.
+   *
+   * @param bean Objeto raiz do caminho.
+   * @param value Valor a ser definido.
+   * @param instantiateNullObjs tenta instanciar objetos que sejam nulos no caminho para definir a propriedade. Para que esta função funcione, os objetos devem ter um construtor sem argumentos.
+   * @throws RFWException Lançado caso não seja possível definir o valor ('RFW_ERR_000066').
+   */
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  public void setValue(Object bean, Object value, boolean instantiateNullObjs) throws RFWException {
+    try {
+      if (bean == null) {
+        throw new NullPointerException("O objeto bean recebido não pode ser nulo!");
+      }
+      Object obj = bean;
+      final int last = this.segments.length - 1;
+      for (int i = 0; i < last; i++) {
+        final Segment segment = this.segments[i];
+        Object tmpobj = getSegmentValue(obj, segment);
+        // Verifica se o tmpobj é nulo, e se devemos tentar criar o novo objeto
+        if (tmpobj == null) {
+          if (!instantiateNullObjs) {
+            throw new NullPointerException("Foi encontrado um objeto nulo ao tentar reflexão para definir o valor de uma propriedade!");
+          } else {
+            // Se temos índices ou chaves nem tentamos criar, não temos como criar uma hash ou lista adequadamente
+            if (segment.key != null) throw new RFWCriticalException("RFW_ERR_200398", new String[] { this.path });
+            final PropertyHandle handle = segment.getHandle(obj.getClass());
+            final Constructor<?> constructor = handle.type.getConstructor();
+            tmpobj = constructor.newInstance();
+            setSegmentValue(obj, handle, tmpobj);
+          }
+        }
+        obj = tmpobj;
+      }
+
+      final Segment segment = this.segments[last];
+      if (segment.key != null) {
+        final Object tmpobj = segment.getHandle(obj.getClass()).getter.invokeExact(obj);
+        if (tmpobj instanceof List<?>) {
+          ((List) tmpobj).add(value);
+        } else if (tmpobj instanceof Map<?, ?>) {
+          // Na definição de valores em hash apenas chaves do tipo String são suportadas
+          ((Map) tmpobj).put(segment.mapKey instanceof String ? segment.mapKey : null, value);
+        }
+      } else {
+        setSegmentValue(obj, segment.getHandle(obj.getClass()), value);
+      }
+    } catch (Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new RFWCriticalException("RFW_ERR_000066", e);
+    }
+  }
+
+  /**
+   * Chama o método set do atributo.
+   */
+  private static void setSegmentValue(Object obj, PropertyHandle handle, Object value) throws Throwable {
+    if (handle.setter == null) throw new NoSuchMethodException(handle.beanClass.getName() + "." + handle.setterName + "(" + handle.type.getName() + ")");
+    handle.setter.invokeExact(obj, value);
+  }
+
+  /**
+   * Verifica se a String é composta apenas por dígitos. Equivalente ao antigo teste com a expressão regular "[0-9]*", mas exigindo ao menos um dígito para que o índice possa ser convertido.
+   */
+  private static boolean isDigits(String value) {
+    if (value.length() == 0) return false;
+    for (int i = 0; i < value.length(); i++) {
+      final char c = value.charAt(i);
+      if (c < '0' || c > '9') return false;
+    }
+    return true;
+  }
+
+  /**
+   * # classe para qual o caminho foi compilado.
+   *
+   * @return the classe para qual o caminho foi compilado
+   */
+  public Class<?> getBeanClass() {
+    return beanClass;
+  }
+
+  /**
+   * # caminho original.
+   *
+   * @return the caminho original
+   */
+  public String getPath() {
+    return path;
+  }
+
+  @Override
+  public String toString() {
+    return this.beanClass.getName() + ":" + this.path;
+  }
+}
@@ -474,10 +474,11 @@ public class RFWField implements Serializable, Cloneable {
   /**
    * Obtem uma lista dos parâmetros que foram influídos nesta função.
    *
-   * @return Lista clonada dos parâmetros.
+   * @return Lista clonada dos parâmetros, ou nulo caso a função não tenha parâmetros.
    */
   @SuppressWarnings("unchecked")
   public LinkedList<RFWField> getFunctionParam() {
+    if (this.functionParam == null) return null;
     return (LinkedList<RFWField>) this.functionParam.clone();
   }
 
@@ -0,0 +1,564 @@
+package br.eng.rodrigogml.rfw.kernel.vo;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWCriticalException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWRunTimeException;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWMOEvaluator.Accessor;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWMOEvaluator.IndexHint;
+
+/**
+ * Description: Coleção de VOs em memória com índices secundários sobre caminhos de atributos, para consultas repetidas com {@link RFWMO} sem percorrer toda a coleção.<br>
+ * Podem ser criados dois tipos de índice:
+ * <ul>
+ * <li><b>Hash</b> ({@link #addHashIndex(String)}): resolve as condições equal e in;</li>
+ * <li><b>Ordem</b> ({@link #addTreeIndex(String)}): resolve as condições equal, greaterThan, greaterThanOrEqualTo, lessThan e lessThanOrEqualTo, e por consequência os filtros de período do {@link RFWMO} (como o {@link RFWMO#periodHasDate(String, String, java.time.LocalDate)}).</li>
+ * </ul>
+ * Os dois tipos também resolvem o isNull. Nas consultas ({@link #query(RFWMO)} ou {@link RFWMOEvaluator#filter(Collection)}), o índice da condição obrigatória mais seletiva é usado para escolher os candidatos, e apenas eles são avaliados com todas as condições do MO.
+ * Sem nenhuma condição indexada a coleção inteira é avaliada. O resultado é sempre o mesmo da avaliação da coleção inteira, na ordem de inclusão dos objetos.<br>
+ * Os objetos são identificados pela instância, e os índices são atualizados na inclusão e remoção de cada objeto. <b>Caso um atributo indexado de um objeto já incluído seja alterado, o objeto deve ser reindexado com o {@link #reindex(RFWVO)}</b>.<br>
+ * A coleção é thread safe: as consultas podem ser feitas em paralelo, e as alterações bloqueiam as consultas apenas enquanto atualizam os índices.
+ *
+ * @author Rodrigo GML
+ * @since 1.0.0 (17 de out. de 2026)
+ */
+public class RFWIndexedCollection<VO extends RFWVO> extends AbstractCollection<VO> {
+
+  /**
+   * Objeto da coleção, com a sua ordem de inclusão e as chaves com que foi registrado em cada índice (necessárias para a remoção, mesmo que o objeto tenha sido alterado).
+   */
+  private static final class Entry<VO> {
+    final VO vo;
+    final long sequence;
+    final ArrayList<Object[]> keys = new ArrayList<>();
+
+    Entry(VO vo, long sequence) {
+      this.vo = vo;
+      this.sequence = sequence;
+    }
+  }
+
+  /**
+   * Índice sobre um caminho de atributo.
+   */
+  private static final class Index<VO> {
+
+    /**
+     * Caminho do atributo indexado.
+     */
+    final String path;
+
+    /**
+     * Acesso aos valores do atributo.
+     */
+    final Accessor accessor;
+
+    /**
+     * Objetos por valor normalizado do atributo. {@link HashMap} para os índices hash e {@link TreeMap} para os índices de ordem.
+     */
+    final Map<Object, LinkedHashSet<Entry<VO>>> map;
+
+    /**
+     * Objetos com o atributo nulo.
+     */
+    final LinkedHashSet<Entry<VO>> nulls = new LinkedHashSet<>();
+
+    Index(String path, boolean sorted) {
+      this.path = path;
+      this.accessor = new Accessor(path);
+      this.map = sorted ? new TreeMap<>((Comparator<Object>) RFWMOEvaluator::compareValues) : new HashMap<>();
+    }
+
+    boolean isSorted() {
+      return this.map instanceof TreeMap;
+    }
+
+    /**
+     * Recupera as chaves (valores normalizados) do atributo no objeto. Caminhos que passam por coleções podem ter várias chaves. Nos índices hash os Enums também são registrados pelo seu nome.
+     */
+    Object[] keys(VO vo) throws RFWException {
+      final LinkedHashSet<Object> keys = new LinkedHashSet<>();
+      this.accessor.anyMatch(vo, value -> {
+        final Object key = RFWMOEvaluator.normalize(value);
+        keys.add(key);
+        if (key instanceof Enum<?> && !isSorted()) keys.add(((Enum<?>) key).name());
+        return false;
+      });
+      return keys.toArray();
+    }
+
+    void add(Entry<VO> entry, Object[] keys) {
+      for (Object key : keys) {
+        if (key == null) {
+          this.nulls.add(entry);
+        } else {
+          LinkedHashSet<Entry<VO>> set = this.map.get(key);
+          if (set == null) {
+            set = new LinkedHashSet<>();
+            this.map.put(key, set);
+          }
+          set.add(entry);
+        }
+      }
+    }
+
+    void remove(Entry<VO> entry, Object[] keys) {
+      for (Object key : keys) {
+        if (key == null) {
+          this.nulls.remove(entry);
+        } else {
+          final LinkedHashSet<Entry<VO>> set = this.map.get(key);
+          if (set != null && set.remove(entry) && set.isEmpty()) this.map.remove(key);
+        }
+      }
+    }
+
+    /**
+     * Recupera os candidatos da condição, parando de acumular assim que ultrapassar o limite (quando já existe um índice mais seletivo).
+     *
+     * @return Lista de conjuntos de candidatos, ou null caso o índice não resolva a condição ou os candidatos ultrapassem o limite.
+     */
+    List<Set<Entry<VO>>> candidates(IndexHint hint, int limit) {
+      final ArrayList<Set<Entry<VO>>> list = new ArrayList<>();
+      int count = 0;
+      try {
+        switch (hint.comparison) {
+          case IS_NULL:
+            list.add(this.nulls);
+            return this.nulls.size() > limit ? null : list;
+          case EQUAL: {
+            if (isSorted() && !isSortable(hint.value)) return null;
+            final Set<Entry<VO>> set = this.map.get(hint.value);
+            if (set != null) list.add(set);
+            return set != null && set.size() > limit ? null : list;
+          }
+          case IN:
+            if (isSorted()) return null;
+            for (Object value : (Collection<?>) hint.value) {
+              final Set<Entry<VO>> set = this.map.get(value);
+              if (set != null) {
+                list.add(set);
+                count += set.size();
+                if (count > limit) return null;
+              }
+            }
+            return list;
+          default: {
+            if (!isSorted() || !isSortable(hint.value)) return null;
+            final NavigableMap<Object, LinkedHashSet<Entry<VO>>> tree = (TreeMap<Object, LinkedHashSet<Entry<VO>>>) this.map;
+            final NavigableMap<Object, LinkedHashSet<Entry<VO>>> range;
+            switch (hint.comparison) {
+              case GREATER_THAN_OR_EQUAL_TO:
+                range = tree.tailMap(hint.value, true);
+                break;
+              case GREATER_THAN:
+                range = tree.tailMap(hint.value, false);
+                break;
+              case LESS_THAN_OR_EQUAL_TO:
+                range = tree.headMap(hint.value, true);
+                break;
+              default:
+                range = tree.headMap(hint.value, false);
+                break;
+            }
+            for (LinkedHashSet<Entry<VO>> set : range.values()) {
+              list.add(set);
+              count += set.size();
+              if (count > limit) return null;
+            }
+            return list;
+          }
+        }
+      } catch (ClassCastException e) {
+        // Valor da condição de um tipo que não pode ser comparado com as chaves: a condição é avaliada sem o índice
+        return null;
+      }
+    }
+
+    /**
+     * Verifica se o valor pode ser procurado no índice de ordem. Strings comparadas com Enums seguem a ordem do nome no avaliador, diferente da ordem do índice.
+     */
+    private boolean isSortable(Object value) {
+      if (this.map.isEmpty() || !(value instanceof String)) return true;
+      return !(((TreeMap<Object, ?>) this.map).firstKey() instanceof Enum<?>);
+    }
+  }
+
+  /**
+   * Objetos da coleção, na ordem de inclusão (indexados pela sequência de inclusão). O VO não pode ser a chave de um HashMap: o equals do {@link RFWVO} compara a instância, mas o hashCode é calculado pelo ID, e o hash muda quando o ID é definido ou alterado depois da inclusão, fazendo o objeto "sumir" do Map.
+   */
+  private final LinkedHashMap<Long, Entry<VO>> entries = new LinkedHashMap<>();
+
+  /**
+   * Mesmos objetos do {@link #entries}, identificados pela instância.
+   */
+  private final IdentityHashMap<VO, Entry<VO>> identity = new IdentityHashMap<>();
+
+  /**
+   * Índices da coleção, por caminho do atributo.
+   */
+  private final LinkedHashMap<String, Index<VO>> indexes = new LinkedHashMap<>();
+
+  /**
+   * Controle de concorrência entre as consultas e as alterações.
+   */
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+  /**
+   * Sequência da ordem de inclusão dos objetos.
+   */
+  private long sequence = 0;
+
+  public RFWIndexedCollection() {
+  }
+
+  /**
+   * Cria a coleção já incluindo os objetos passados.
+   *
+   * @param vos Objetos a serem incluídos.
+   */
+  public RFWIndexedCollection(Collection<? extends VO> vos) {
+    if (vos != null) addAll(vos);
+  }
+
+  /**
+   * Cria (ou substitui) um índice hash sobre o caminho do atributo, usado nas condições equal, in e isNull. Os objetos já incluídos são indexados.
+   *
+   * @param path Caminho do atributo, no padrão do {@link br.eng.rodrigogml.rfw.kernel.utils.RUReflex#getPropertyValue(Object, String)}.
+   * @return Esta coleção, para encadear as chamadas.
+   * @throws RFWException Lançado caso não seja possível ler o atributo dos objetos já incluídos.
+   */
+  public RFWIndexedCollection<VO> addHashIndex(String path) throws RFWException {
+    return addIndex(path, false);
+  }
+
+  /**
+   * Cria (ou substitui) um índice de ordem sobre o caminho do atributo, usado nas condições equal, greaterThan, greaterThanOrEqualTo, lessThan, lessThanOrEqualTo e isNull. Os objetos já incluídos são indexados.
+   *
+   * @param path Caminho do atributo, no padrão do {@link br.eng.rodrigogml.rfw.kernel.utils.RUReflex#getPropertyValue(Object, String)}.
+   * @return Esta coleção, para encadear as chamadas.
+   * @throws RFWException Lançado caso não seja possível ler o atributo dos objetos já incluídos ou os valores não possam ser ordenados entre si.
+   */
+  public RFWIndexedCollection<VO> addTreeIndex(String path) throws RFWException {
+    return addIndex(path, true);
+  }
+
+  private RFWIndexedCollection<VO> addIndex(String path, boolean sorted) throws RFWException {
+    if (path == null || path.isEmpty()) throw new RFWCriticalException("O caminho do atributo do índice não pode ser nulo.");
+    this.lock.writeLock().lock();
+    try {
+      final Index<VO> index = new Index<>(path, sorted);
+      // Monta as chaves de todos os objetos antes de alterar a coleção, assim uma falha não deixa o índice pela metade
+      final ArrayList<Object[]> keys = new ArrayList<>(this.entries.size());
+      for (Entry<VO> entry : this.entries.values()) {
+        keys.add(index.keys(entry.vo));
+      }
+      final Index<VO> previous = this.indexes.get(path);
+      final int position = previous == null ? -1 : new ArrayList<>(this.indexes.keySet()).indexOf(path);
+      try {
+        int i = 0;
+        for (Entry<VO> entry : this.entries.values()) {
+          index.add(entry, keys.get(i++));
+        }
+      } catch (ClassCastException e) {
+        throw new RFWCriticalException("Os valores do atributo '${0}' não podem ser ordenados entre si.", new String[] { path }, e);
+      }
+      this.indexes.put(path, index);
+      int i = 0;
+      for (Entry<VO> entry : this.entries.values()) {
+        if (position >= 0) {
+          entry.keys.set(position, keys.get(i++));
+        } else {
+          entry.keys.add(keys.get(i++));
+        }
+      }
+    } finally {
+      this.lock.writeLock().unlock();
+    }
+    return this;
+  }
+
+  /**
+   * Inclui o objeto na coleção e nos índices. Objetos já incluídos (a mesma instância) são ignorados.
+   *
+   * @throws RFWRunTimeException Lançado caso não seja possível ler algum atributo indexado do objeto.
+   */
+  @Override
+  public boolean add(VO vo) {
+    if (vo == null) throw new NullPointerException("A coleção não aceita objetos nulos.");
+    this.lock.writeLock().lock();
+    try {
+      if (this.identity.containsKey(vo)) return false;
+      final Entry<VO> entry = new Entry<>(vo, this.sequence++);
+      index(entry, keys(entry));
+      this.identity.put(vo, entry);
+      this.entries.put(entry.sequence, entry);
+      return true;
+    } finally {
+      this.lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public boolean remove(Object obj) {
+    this.lock.writeLock().lock();
+    try {
+      final Entry<VO> entry = this.identity.remove(obj);
+      if (entry == null) return false;
+      unindex(entry);
+      this.entries.remove(entry.sequence);
+      return true;
+    } finally {
+      this.lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Atualiza os índices do objeto, necessário depois de alterar algum atributo indexado de um objeto já incluído. O objeto mantém sua posição na ordem da coleção.<br>
+   * Em caso de falha o objeto continua registrado nos índices com as chaves anteriores.
+   *
+   * @param vo Objeto alterado.
+   * @return true caso o objeto faça parte da coleção e tenha sido reindexado.
+   * @throws RFWRunTimeException Lançado caso não seja possível ler algum atributo indexado do objeto, ou o valor não possa ser ordenado com os demais.
+   */
+  public boolean reindex(VO vo) {
+    this.lock.writeLock().lock();
+    try {
+      final Entry<VO> entry = this.identity.get(vo);
+      if (entry == null) return false;
+      // As novas chaves são lidas antes de retirar o objeto dos índices, assim uma falha na leitura não altera nada
+      final ArrayList<Object[]> keys = keys(entry);
+      final ArrayList<Object[]> previous = new ArrayList<>(entry.keys);
+      unindex(entry);
+      try {
+        index(entry, keys);
+      } catch (RuntimeException e) {
+        // As chaves anteriores já estavam nos índices, podem ser registradas novamente sem falha
+        index(entry, previous);
+        throw e;
+      }
+      return true;
+    } finally {
+      this.lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public void clear() {
+    this.lock.writeLock().lock();
+    try {
+      this.entries.clear();
+      this.identity.clear();
+      for (Index<VO> index : this.indexes.values()) {
+        index.map.clear();
+        index.nulls.clear();
+      }
+    } finally {
+      this.lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public boolean contains(Object obj) {
+    this.lock.readLock().lock();
+    try {
+      return this.identity.containsKey(obj);
+    } finally {
+      this.lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public int size() {
+    this.lock.readLock().lock();
+    try {
+      return this.entries.size();
+    } finally {
+      this.lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Itera sobre uma cópia dos objetos da coleção, na ordem de inclusão. A remoção pelo iterador remove o objeto da coleção.
+   */
+  @Override
+  public Iterator<VO> iterator() {
+    final Iterator<VO> it = snapshot().iterator();
+    return new Iterator<VO>() {
+      private VO current;
+
+      @Override
+      public boolean hasNext() {
+        return it.hasNext();
+      }
+
+      @Override
+      public VO next() {
+        this.current = it.next();
+        return this.current;
+      }
+
+      @Override
+      public void remove() {
+        if (this.current == null) throw new IllegalStateException();
+        RFWIndexedCollection.this.remove(this.current);
+        this.current = null;
+      }
+    };
+  }
+
+  /**
+   * Consulta os objetos que satisfazem as condições do MO, usando os índices. O mesmo que {@link RFWMOEvaluator#filter(Collection, RFWMO)}.
+   *
+   * @param mo MO com as condições.
+   * @return Lista com os objetos que satisfazem as condições, na ordem de inclusão.
+   * @throws RFWException Lançado caso alguma condição não possa ser avaliada.
+   */
+  public List<VO> query(RFWMO mo) throws RFWException {
+    return query(RFWMOEvaluator.<VO> compile(mo));
+  }
+
+  /**
+   * Consulta os objetos aceitos pelo avaliador, usando o índice da condição obrigatória mais seletiva para escolher os candidatos.
+   *
+   * @param evaluator Avaliador já compilado, que pode ser reutilizado entre as consultas.
+   * @return Lista com os objetos que satisfazem as condições, na ordem de inclusão.
+   * @throws RFWException Lançado caso alguma condição não possa ser avaliada.
+   */
+  public List<VO> query(RFWMOEvaluator<VO> evaluator) throws RFWException {
+    final ArrayList<VO> result = new ArrayList<>();
+    this.lock.readLock().lock();
+    try {
+      final List<Set<Entry<VO>>> candidates = selectCandidates(evaluator.getIndexHints());
+      if (candidates == null) {
+        for (Entry<VO> entry : this.entries.values()) {
+          if (evaluator.matches(entry.vo)) result.add(entry.vo);
+        }
+        return result;
+      }
+
+      final ArrayList<Entry<VO>> accepted = new ArrayList<>();
+      // Caminhos que passam por coleções podem registrar o mesmo objeto em mais de uma chave
+      final Set<Entry<VO>> visited = candidates.size() > 1 ? Collections.newSetFromMap(new IdentityHashMap<>()) : null;
+      for (Set<Entry<VO>> set : candidates) {
+        for (Entry<VO> entry : set) {
+          if ((visited == null || visited.add(entry)) && evaluator.matches(entry.vo)) accepted.add(entry);
+        }
+      }
+      accepted.sort((a, b) -> Long.compare(a.sequence, b.sequence));
+      for (Entry<VO> entry : accepted) {
+        result.add(entry.vo);
+      }
+      return result;
+    } finally {
+      this.lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Escolhe os candidatos pelo índice da condição mais seletiva.
+   *
+   * @return Conjuntos de candidatos, ou null caso nenhuma condição possa ser resolvida por índice com menos candidatos que a coleção inteira.
+   */
+  private List<Set<Entry<VO>>> selectCandidates(IndexHint[] hints) {
+    List<Set<Entry<VO>>> best = null;
+    int bestCount = this.entries.size();
+    for (IndexHint hint : hints) {
+      final Index<VO> index = this.indexes.get(hint.path);
+      if (index == null) continue;
+      final List<Set<Entry<VO>>> candidates = index.candidates(hint, bestCount);
+      if (candidates == null) continue;
+      int count = 0;
+      for (Set<Entry<VO>> set : candidates) {
+        count += set.size();
+      }
+      if (best == null || count < bestCount) {
+        best = candidates;
+        bestCount = count;
+        if (count == 0) break;
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Cópia dos objetos da coleção, na ordem de inclusão.
+   */
+  private List<VO> snapshot() {
+    this.lock.readLock().lock();
+    try {
+      final ArrayList<VO> list = new ArrayList<>(this.entries.size());
+      for (Entry<VO> entry : this.entries.values()) {
+        list.add(entry.vo);
+      }
+      return list;
+    } finally {
+      this.lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Lê as chaves do objeto para todos os índices, sem alterar nenhum índice.
+   *
+   * @throws RFWRunTimeException Lançado caso não seja possível ler algum atributo indexado.
+   */
+  private ArrayList<Object[]> keys(Entry<VO> entry) {
+    final ArrayList<Object[]> keys = new ArrayList<>(this.indexes.size());
+    try {
+      for (Index<VO> index : this.indexes.values()) {
+        keys.add(index.keys(entry.vo));
+      }
+    } catch (RFWException e) {
+      throw new RFWRunTimeException(e);
+    }
+    return keys;
+  }
+
+  /**
+   * Registra o objeto em todos os índices com as chaves já lidas pelo {@link #keys(Entry)}. Caso alguma chave não possa ser registrada, nenhum índice é alterado.
+   *
+   * @throws RFWRunTimeException Lançado caso o valor não possa ser ordenado com os demais.
+   */
+  private void index(Entry<VO> entry, ArrayList<Object[]> keys) {
+    int i = 0;
+    try {
+      for (Index<VO> index : this.indexes.values()) {
+        index.add(entry, keys.get(i));
+        i++;
+      }
+    } catch (ClassCastException e) {
+      // Desfaz o registro nos índices já atualizados
+      int j = 0;
+      for (Index<VO> index : this.indexes.values()) {
+        if (j == i) break;
+        index.remove(entry, keys.get(j++));
+      }
+      throw new RFWRunTimeException(new RFWCriticalException("O valor do atributo indexado não pode ser ordenado com os valores dos demais objetos da coleção.", e));
+    }
+    entry.keys.clear();
+    entry.keys.addAll(keys);
+  }
+
+  private void unindex(Entry<VO> entry) {
+    int i = 0;
+    for (Index<VO> index : this.indexes.values()) {
+      index.remove(entry, entry.keys.get(i++));
+    }
+  }
+}
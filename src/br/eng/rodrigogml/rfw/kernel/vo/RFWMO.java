@@ -1,11 +1,15 @@
 package br.eng.rodrigogml.rfw.kernel.vo;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -28,6 +32,19 @@ public final class RFWMO implements Serializable, Cloneable {
 
   private static final long serialVersionUID = 5581362952656098332L;
 
+  /**
+   * Campos serializados, no formato anterior às condições em array (uma LinkedList por tipo de condição). Mantém a compatibilidade com os objetos serializados pelas versões anteriores, em ambos os sentidos. Veja {@link #writeObject(ObjectOutputStream)} e
+   * {@link #readObject(ObjectInputStream)}.
+   */
+  private static final ObjectStreamField[] serialPersistentFields = { new ObjectStreamField("appendmethod", AppendMethod.class), new ObjectStreamField("submo", List.class), new ObjectStreamField("equal", LinkedList.class), new ObjectStreamField("notEqual", LinkedList.class),
+      new ObjectStreamField("greaterThan", LinkedList.class), new ObjectStreamField("greaterThanOrEqualTo", LinkedList.class), new ObjectStreamField("lessThan", LinkedList.class), new ObjectStreamField("lessThanOrEqualTo", LinkedList.class), new ObjectStreamField("isNull", LinkedList.class),
+      new ObjectStreamField("isNotNull", LinkedList.class), new ObjectStreamField("like", LinkedList.class), new ObjectStreamField("in", LinkedList.class), new ObjectStreamField("notIn", LinkedList.class) };
+
+  /**
+   * Nome do campo serializado de cada tipo de condição, indexado pelo ordinal do {@link Operator}.
+   */
+  private static final String[] SERIALFIELDS = { "equal", "notEqual", "greaterThan", "greaterThanOrEqualTo", "lessThan", "lessThanOrEqualTo", "isNull", "isNotNull", "like", "in", "notIn" };
+
   /**
    * Classe interna usada para guardar os valores das condições de busca do RFWMO.
    */
@@ -82,17 +99,38 @@ public final class RFWMO implements Serializable, Cloneable {
    */
   private List<RFWMO> submo = null;
 
-  private LinkedList<RFWMOData> equal = new LinkedList<>();
-  private LinkedList<RFWMOData> notEqual = new LinkedList<>();
-  private LinkedList<RFWMOData> greaterThanOrEqualTo = new LinkedList<>();
-  private LinkedList<RFWMOData> greaterThan = new LinkedList<>();
-  private LinkedList<RFWMOData> lessThanOrEqualTo = new LinkedList<>();
-  private LinkedList<RFWMOData> lessThan = new LinkedList<>();
-  private LinkedList<RFWMOData> isNull = new LinkedList<>();
-  private LinkedList<RFWMOData> isNotNull = new LinkedList<>();
-  private LinkedList<RFWMOData> like = new LinkedList<>();
-  private LinkedList<RFWMOData> in = new LinkedList<>();
-  private LinkedList<RFWMOData> notIn = new LinkedList<>();
+  /**
+   * Tipos de condição do {@link RFWMO}, na ordem em que são impressas no {@link RFWMO#printConditions()} e listadas no {@link RFWMO#getAttributes()}.
+   */
+  public static enum Operator {
+    EQUAL, NOT_EQUAL, GREATER_THAN, GREATER_THAN_OR_EQUAL_TO, LESS_THAN, LESS_THAN_OR_EQUAL_TO, IS_NULL, IS_NOT_NULL, LIKE, IN, NOT_IN
+  }
+
+  /**
+   * Todos os tipos de condição, evitando a cópia do array a cada chamada do {@link Operator#values()}.
+   */
+  private static final Operator[] OPERATORS = Operator.values();
+
+  /**
+   * Tipo de cada condição do array {@link #conditions}.
+   */
+  private Operator[] operators = null;
+
+  /**
+   * Condições do MO, na ordem em que foram incluídas. Os arrays só são criados ao incluir a primeira condição e crescem conforme necessário, evitando criar uma lista para cada tipo de condição em MOs que usam apenas um ou dois tipos.
+   */
+  private RFWMOData[] conditions = null;
+
+  /**
+   * Quantidade de condições utilizadas nos arrays {@link #operators} e {@link #conditions}.
+   */
+  private int conditionCount = 0;
+
+  /**
+   * Listas criadas pelos métodos de compatibilidade (como {@link #getEqual()}), indexadas pelo ordinal do {@link Operator}. Ao criar a lista de um tipo, as suas condições são movidas do array para a lista, que passa a ser a única fonte das condições do tipo, mantendo o comportamento
+   * de alterar o MO através da lista retornada.
+   */
+  private LinkedList<RFWMOData>[] views = null;
 
   public RFWMO() {
   }
@@ -102,17 +140,17 @@ public final class RFWMO implements Serializable, Cloneable {
   }
 
   public RFWMO isNotNull(String fieldname) {
-    this.isNotNull.add(new RFWMOData(fieldname, null));
+    add(Operator.IS_NOT_NULL, new RFWMOData(fieldname, null));
     return this;
   }
 
   public RFWMO isNull(String fieldname) {
-    this.isNull.add(new RFWMOData(fieldname, null));
+    add(Operator.IS_NULL, new RFWMOData(fieldname, null));
     return this;
   }
 
   public RFWMO equal(String fieldname, Object value) {
-    this.equal.add(new RFWMOData(fieldname, value));
+    add(Operator.EQUAL, new RFWMOData(fieldname, value));
     return this;
   }
 
@@ -158,13 +196,13 @@ public final class RFWMO implements Serializable, Cloneable {
   }
 
   public RFWMO like(String fieldname, String pattern) {
-    this.like.add(new RFWMOData(fieldname, pattern));
+    add(Operator.LIKE, new RFWMOData(fieldname, pattern));
     return this;
   }
 
   public RFWMO in(String fieldname, Collection<?> valuelist) {
     if (valuelist == null || valuelist.size() == 0) throw new RFWRunTimeException("Não é permitido incluir uma lista sem valores no atributo IN do RFWMO!");
-    this.in.add(new RFWMOData(fieldname, valuelist));
+    add(Operator.IN, new RFWMOData(fieldname, valuelist));
     return this;
   }
 
@@ -173,13 +211,13 @@ public final class RFWMO implements Serializable, Cloneable {
     for (Object t : valuelist) {
       l.add(t);
     }
-    this.in.add(new RFWMOData(fieldname, l));
+    add(Operator.IN, new RFWMOData(fieldname, l));
     return this;
   }
 
   public RFWMO notIn(String fieldname, Collection<?> valuelist) {
     if (valuelist == null || valuelist.size() == 0) throw new RFWRunTimeException("Não é permitido incluir uma lista sem valores no atributo NOT IN do RFWMO!");
-    this.notIn.add(new RFWMOData(fieldname, valuelist));
+    add(Operator.NOT_IN, new RFWMOData(fieldname, valuelist));
     return this;
   }
 
@@ -188,32 +226,32 @@ public final class RFWMO implements Serializable, Cloneable {
     for (Object t : valuelist) {
       l.add(t);
     }
-    this.notIn.add(new RFWMOData(fieldname, l));
+    add(Operator.NOT_IN, new RFWMOData(fieldname, l));
     return this;
   }
 
   public RFWMO notEqual(String fieldname, Object value) {
-    this.notEqual.add(new RFWMOData(fieldname, value));
+    add(Operator.NOT_EQUAL, new RFWMOData(fieldname, value));
     return this;
   }
 
   public RFWMO greaterThanOrEqualTo(String fieldname, Object value) {
-    this.greaterThanOrEqualTo.add(new RFWMOData(fieldname, value));
+    add(Operator.GREATER_THAN_OR_EQUAL_TO, new RFWMOData(fieldname, value));
     return this;
   }
 
   public RFWMO greaterThan(String fieldname, Object value) {
-    this.greaterThan.add(new RFWMOData(fieldname, value));
+    add(Operator.GREATER_THAN, new RFWMOData(fieldname, value));
     return this;
   }
 
   public RFWMO lessThanOrEqualTo(String fieldname, Object value) {
-    this.lessThanOrEqualTo.add(new RFWMOData(fieldname, value));
+    add(Operator.LESS_THAN_OR_EQUAL_TO, new RFWMOData(fieldname, value));
     return this;
   }
 
   public RFWMO lessThan(String fieldname, Object value) {
-    this.lessThan.add(new RFWMOData(fieldname, value));
+    add(Operator.LESS_THAN, new RFWMOData(fieldname, value));
     return this;
   }
 
@@ -224,7 +262,20 @@ public final class RFWMO implements Serializable, Cloneable {
    */
   @Override
   public Object clone() throws CloneNotSupportedException {
-    return super.clone();
+    final RFWMO clone = (RFWMO) super.clone();
+    // Os arrays das condições não podem ser compartilhados, já que as novas condições são escritas nas posições livres do array
+    if (this.conditions != null) {
+      clone.operators = this.operators.clone();
+      clone.conditions = this.conditions.clone();
+    }
+    // As listas de compatibilidade também são copiadas, para que as condições incluídas no clone nunca alterem o objeto original
+    if (this.views != null) {
+      clone.views = this.views.clone();
+      for (int i = 0; i < clone.views.length; i++) {
+        if (clone.views[i] != null) clone.views[i] = new LinkedList<>(clone.views[i]);
+      }
+    }
+    return clone;
   }
 
   /**
@@ -254,82 +305,144 @@ public final class RFWMO implements Serializable, Cloneable {
     clonedvo = (RFWMO) super.clone();
     clonedobjects.put(this, clonedvo);
 
-    // Clona primeiro os LinkedList dos valores
-    clonedvo.equal = (LinkedList<RFWMOData>) this.equal.clone();
-    clonedvo.notEqual = (LinkedList<RFWMOData>) this.notEqual.clone();
-    clonedvo.greaterThanOrEqualTo = (LinkedList<RFWMOData>) this.greaterThanOrEqualTo.clone();
-    clonedvo.greaterThan = (LinkedList<RFWMOData>) this.greaterThan.clone();
-    clonedvo.lessThanOrEqualTo = (LinkedList<RFWMOData>) this.lessThanOrEqualTo.clone();
-    clonedvo.lessThan = (LinkedList<RFWMOData>) this.lessThan.clone();
-    clonedvo.isNull = (LinkedList<RFWMOData>) this.isNull.clone();
-    clonedvo.isNotNull = (LinkedList<RFWMOData>) this.isNotNull.clone();
-    clonedvo.like = (LinkedList<RFWMOData>) this.like.clone();
-    clonedvo.in = (LinkedList<RFWMOData>) this.in.clone();
-    clonedvo.notIn = (LinkedList<RFWMOData>) this.notIn.clone();
-
-    // Recupera a lista de métodos desse objeto
-    Method[] methods = this.getClass().getMethods();
-    // Itera essa lista atrás de métodos do tipo "get" ou "is"
-    for (int i = 0; i < methods.length; i++) {
-      String methodname = methods[i].getName();
-      if (methodname.startsWith("get") || methodname.startsWith("is")) {
-        Method methodget = methods[i];
-        Class<?> returntype = methodget.getReturnType();
-        Method methodset = null;
-        try {
-          methodset = this.getClass().getMethod("set" + methodname.substring(3, methodname.length()), returntype);
-        } catch (SecurityException e) {
-        } catch (NoSuchMethodException e) {
-        }
-        // Verifica a existência do Método SET
-        if (methodset != null) {
-          // Verifica se o retorno do método get não é nulo
-          try {
-            Object gettedvalue = methodget.invoke(this);
-            if (gettedvalue != null) {
-              // Verifica se o tipo de objeto é um dos que desejamos fazer o "deep clone"
-              if (gettedvalue instanceof RFWMO) {
-                RFWMO clonedvalue = ((RFWMO) gettedvalue).cloneRecursive(clonedobjects);
-                methodset.invoke(clonedvo, clonedvalue);
-              } else if (gettedvalue instanceof LinkedList) {
-                LinkedList currentvalue = (LinkedList) gettedvalue;
-                LinkedList clonedvalue = (LinkedList) currentvalue.clone();
-                clonedvalue.clear();
-                for (Object object : currentvalue) {
-                  if (object instanceof RFWMO) {
-                    clonedvalue.add(((RFWMO) object).cloneRecursive(clonedobjects));
-                  } else {
-                    clonedvalue.add(object);
-                  }
-                }
-                methodset.invoke(clonedvo, clonedvalue);
-              } else if (gettedvalue instanceof HashMap) {
-                HashMap currentvalue = (HashMap) gettedvalue;
-                HashMap clonedvalue = (HashMap) currentvalue.clone();
-                clonedvalue.clear();
-                for (Object key : currentvalue.keySet()) {
-                  Object object = currentvalue.get(key);
-                  if (object instanceof RFWMO) {
-                    clonedvalue.put(key, ((RFWMO) object).cloneRecursive(clonedobjects));
-                  } else {
-                    clonedvalue.put(key, object);
-                  }
-                }
-                methodset.invoke(clonedvo, clonedvalue);
-              }
-            }
-          } catch (IllegalArgumentException e) {
-            e.printStackTrace();
-          } catch (IllegalAccessException e) {
-            e.printStackTrace();
-          } catch (InvocationTargetException e) {
-            e.printStackTrace();
-          }
+    // Copia as condições (os RFWMOData são imutáveis e podem ser compartilhados)
+    if (this.conditions != null) {
+      clonedvo.operators = Arrays.copyOf(this.operators, this.conditionCount);
+      clonedvo.conditions = Arrays.copyOf(this.conditions, this.conditionCount);
+    }
+    if (this.views != null) {
+      clonedvo.views = new LinkedList[this.views.length];
+      for (int i = 0; i < this.views.length; i++) {
+        if (this.views[i] != null) clonedvo.views[i] = new LinkedList<>(this.views[i]);
+      }
+    }
+    if (this.submo != null) {
+      clonedvo.submo = new LinkedList<>();
+      for (RFWMO mo : this.submo) {
+        clonedvo.submo.add(mo == null ? null : mo.cloneRecursive(clonedobjects));
+      }
+    }
+    return clonedvo;
+  }
+
+  /**
+   * Serializa o MO no formato anterior, com uma LinkedList por tipo de condição.
+   */
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    final ObjectOutputStream.PutField fields = out.putFields();
+    fields.put("appendmethod", this.appendmethod);
+    fields.put("submo", this.submo);
+    for (Operator operator : OPERATORS) {
+      fields.put(SERIALFIELDS[operator.ordinal()], new LinkedList<>(getConditions(operator)));
+    }
+    out.writeFields();
+  }
+
+  /**
+   * Lê o MO serializado com uma LinkedList por tipo de condição, incluindo as condições no array.
+   */
+  @SuppressWarnings("unchecked")
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    final ObjectInputStream.GetField fields = in.readFields();
+    this.appendmethod = (AppendMethod) fields.get("appendmethod", AppendMethod.AND);
+    this.submo = (List<RFWMO>) fields.get("submo", null);
+    for (Operator operator : OPERATORS) {
+      final LinkedList<RFWMOData> list = (LinkedList<RFWMOData>) fields.get(SERIALFIELDS[operator.ordinal()], null);
+      if (list != null) for (RFWMOData data : list) {
+        add(operator, data);
+      }
+    }
+  }
+
+  /**
+   * Inclui uma condição no MO.
+   */
+  private void add(Operator operator, RFWMOData data) {
+    if (this.views != null && this.views[operator.ordinal()] != null) {
+      this.views[operator.ordinal()].add(data);
+      return;
+    }
+    if (this.conditions == null) {
+      this.operators = new Operator[4];
+      this.conditions = new RFWMOData[4];
+    } else if (this.conditionCount == this.conditions.length) {
+      final int capacity = Math.max(4, this.conditionCount * 2);
+      this.operators = Arrays.copyOf(this.operators, capacity);
+      this.conditions = Arrays.copyOf(this.conditions, capacity);
+    }
+    this.operators[this.conditionCount] = operator;
+    this.conditions[this.conditionCount++] = data;
+  }
+
+  /**
+   * Recupera a lista de compatibilidade das condições do tipo, movendo as condições do array para a lista na primeira chamada.
+   */
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  private LinkedList<RFWMOData> view(Operator operator) {
+    if (this.views == null) this.views = new LinkedList[OPERATORS.length];
+    LinkedList<RFWMOData> view = this.views[operator.ordinal()];
+    if (view == null) {
+      view = new LinkedList<>();
+      int count = 0;
+      for (int i = 0; i < this.conditionCount; i++) {
+        if (this.operators[i] == operator) {
+          view.add(this.conditions[i]);
+        } else {
+          this.operators[count] = this.operators[i];
+          this.conditions[count++] = this.conditions[i];
         }
       }
+      for (int i = count; i < this.conditionCount; i++) {
+        this.operators[i] = null;
+        this.conditions[i] = null;
+      }
+      this.conditionCount = count;
+      this.views[operator.ordinal()] = view;
     }
+    return view;
+  }
 
-    return clonedvo;
+  /**
+   * Substitui todas as condições do tipo pelas condições da lista, que passa a ser a lista de compatibilidade do tipo.
+   */
+  private void setView(Operator operator, LinkedList<RFWMOData> list) {
+    view(operator);
+    this.views[operator.ordinal()] = list == null ? new LinkedList<>() : list;
+  }
+
+  /**
+   * Recupera as condições de um tipo, na ordem em que foram incluídas.<br>
+   * Diferente dos métodos de compatibilidade (como o {@link #getEqual()}), não cria a lista do tipo dentro do MO. A lista retornada não pode ser alterada, e no lugar de tipos sem condições é retornada uma lista vazia compartilhada.
+   *
+   * @param operator Tipo da condição.
+   * @return Lista com as condições do tipo.
+   */
+  public List<RFWMOData> getConditions(Operator operator) {
+    if (this.views != null && this.views[operator.ordinal()] != null) return Collections.unmodifiableList(this.views[operator.ordinal()]);
+    int count = 0;
+    for (int i = 0; i < this.conditionCount; i++) {
+      if (this.operators[i] == operator) count++;
+    }
+    if (count == 0) return Collections.emptyList();
+    final RFWMOData[] found = new RFWMOData[count];
+    count = 0;
+    for (int i = 0; i < this.conditionCount; i++) {
+      if (this.operators[i] == operator) found[count++] = this.conditions[i];
+    }
+    return Collections.unmodifiableList(Arrays.asList(found));
+  }
+
+  /**
+   * Procura os valores das condições de um tipo para um determinado campo.
+   */
+  private Object[] find(Operator operator, String fieldname) {
+    final LinkedList<Object> found = new LinkedList<>();
+    for (RFWMOData data : getConditions(operator)) {
+      if (fieldname.equals(data.getFieldname())) {
+        found.add(data.value);
+      }
+    }
+    return found.toArray(new Object[0]);
   }
 
   /**
@@ -362,6 +475,17 @@ public final class RFWMO implements Serializable, Cloneable {
     return submo;
   }
 
+  /**
+   * Recupera os SubMOs, na ordem em que foram incluídos.<br>
+   * Diferente do {@link #getSubmo()}, não cria a lista de SubMOs dentro do MO. A lista retornada não pode ser alterada, e quando o MO não tem SubMOs é retornada uma lista vazia compartilhada.
+   *
+   * @return Lista com os SubMOs.
+   */
+  public List<RFWMO> getSubmoConditions() {
+    if (this.submo == null) return Collections.emptyList();
+    return Collections.unmodifiableList(this.submo);
+  }
+
   /**
    * Define o permite definir uma lista de MOs que montarão uma condição "isolada". Em conjunto com as definições possíveis em {@link #appendmethod} permite que condições com diferentes conectores sejam usadas em conjunto. Cria o efeito dos "parenteses" nas clausulas where do SQL.
    *
@@ -377,7 +501,7 @@ public final class RFWMO implements Serializable, Cloneable {
    * @return the equal
    */
   public LinkedList<RFWMOData> getEqual() {
-    return equal;
+    return view(Operator.EQUAL);
   }
 
   /**
@@ -386,7 +510,7 @@ public final class RFWMO implements Serializable, Cloneable {
    * @return the not equal
    */
   public LinkedList<RFWMOData> getNotEqual() {
-    return notEqual;
+    return view(Operator.NOT_EQUAL);
   }
 
   /**
@@ -395,7 +519,7 @@ public final class RFWMO implements Serializable, Cloneable {
    * @return the greater than or equal to
    */
   public LinkedList<RFWMOData> getGreaterThanOrEqualTo() {
-    return greaterThanOrEqualTo;
+    return view(Operator.GREATER_THAN_OR_EQUAL_TO);
   }
 
   /**
@@ -404,7 +528,7 @@ public final class RFWMO implements Serializable, Cloneable {
    * @return the greater than
    */
   public LinkedList<RFWMOData> getGreaterThan() {
-    return greaterThan;
+    return view(Operator.GREATER_THAN);
   }
 
   /**
@@ -413,7 +537,7 @@ public final class RFWMO implements Serializable, Cloneable {
    * @return the less than or equal to
    */
   public LinkedList<RFWMOData> getLessThanOrEqualTo() {
-    return lessThanOrEqualTo;
+    return view(Operator.LESS_THAN_OR_EQUAL_TO);
   }
 
   /**
@@ -422,7 +546,7 @@ public final class RFWMO implements Serializable, Cloneable {
    * @return the less than
    */
   public LinkedList<RFWMOData> getLessThan() {
-    return lessThan;
+    return view(Operator.LESS_THAN);
   }
 
   /**
@@ -431,7 +555,7 @@ public final class RFWMO implements Serializable, Cloneable {
    * @return the checa se null
    */
   public LinkedList<RFWMOData> getIsNull() {
-    return isNull;
+    return view(Operator.IS_NULL);
   }
 
   /**
@@ -440,7 +564,7 @@ public final class RFWMO implements Serializable, Cloneable {
    * @return the checa se not null
    */
   public LinkedList<RFWMOData> getIsNotNull() {
-    return isNotNull;
+    return view(Operator.IS_NOT_NULL);
   }
 
   /**
@@ -449,7 +573,7 @@ public final class RFWMO implements Serializable, Cloneable {
    * @return the like
    */
   public LinkedList<RFWMOData> getLike() {
-    return like;
+    return view(Operator.LIKE);
   }
 
   /**
@@ -458,7 +582,7 @@ public final class RFWMO implements Serializable, Cloneable {
    * @return the in
    */
   public LinkedList<RFWMOData> getIn() {
-    return in;
+    return view(Operator.IN);
   }
 
   /**
@@ -467,7 +591,7 @@ public final class RFWMO implements Serializable, Cloneable {
    * @return the not in
    */
   public LinkedList<RFWMOData> getNotIn() {
-    return notIn;
+    return view(Operator.NOT_IN);
   }
 
   /**
@@ -476,7 +600,7 @@ public final class RFWMO implements Serializable, Cloneable {
    * @param equal the new equal
    */
   protected final void setEqual(LinkedList<RFWMOData> equal) {
-    this.equal = equal;
+    setView(Operator.EQUAL, equal);
   }
 
   /**
@@ -485,7 +609,7 @@ public final class RFWMO implements Serializable, Cloneable {
    * @param notEqual the new not equal
    */
   protected final void setNotEqual(LinkedList<RFWMOData> notEqual) {
-    this.notEqual = notEqual;
+    setView(Operator.NOT_EQUAL, notEqual);
   }
 
   /**
@@ -494,7 +618,7 @@ public final class RFWMO implements Serializable, Cloneable {
    * @param greaterThanOrEqualTo the new greater than or equal to
    */
   protected final void setGreaterThanOrEqualTo(LinkedList<RFWMOData> greaterThanOrEqualTo) {
-    this.greaterThanOrEqualTo = greaterThanOrEqualTo;
+    setView(Operator.GREATER_THAN_OR_EQUAL_TO, greaterThanOrEqualTo);
   }
 
   /**
@@ -503,7 +627,7 @@ public final class RFWMO implements Serializable, Cloneable {
    * @param greaterThan the new greater than
    */
   protected final void setGreaterThan(LinkedList<RFWMOData> greaterThan) {
-    this.greaterThan = greaterThan;
+    setView(Operator.GREATER_THAN, greaterThan);
   }
 
   /**
@@ -512,7 +636,7 @@ public final class RFWMO implements Serializable, Cloneable {
    * @param lessThanOrEqualTo the new less than or equal to
    */
   protected final void setLessThanOrEqualTo(LinkedList<RFWMOData> lessThanOrEqualTo) {
-    this.lessThanOrEqualTo = lessThanOrEqualTo;
+    setView(Operator.LESS_THAN_OR_EQUAL_TO, lessThanOrEqualTo);
   }
 
   /**
@@ -521,7 +645,7 @@ public final class RFWMO implements Serializable, Cloneable {
    * @param lessThan the new less than
    */
   protected final void setLessThan(LinkedList<RFWMOData> lessThan) {
-    this.lessThan = lessThan;
+    setView(Operator.LESS_THAN, lessThan);
   }
 
   /**
@@ -530,7 +654,7 @@ public final class RFWMO implements Serializable, Cloneable {
    * @param isNull the new checa se null
    */
   protected final void setIsNull(LinkedList<RFWMOData> isNull) {
-    this.isNull = isNull;
+    setView(Operator.IS_NULL, isNull);
   }
 
   /**
@@ -539,7 +663,7 @@ public final class RFWMO implements Serializable, Cloneable {
    * @param isNotNull the new checa se not null
    */
   protected final void setIsNotNull(LinkedList<RFWMOData> isNotNull) {
-    this.isNotNull = isNotNull;
+    setView(Operator.IS_NOT_NULL, isNotNull);
   }
 
   /**
@@ -548,7 +672,7 @@ public final class RFWMO implements Serializable, Cloneable {
    * @param like the new like
    */
   protected final void setLike(LinkedList<RFWMOData> like) {
-    this.like = like;
+    setView(Operator.LIKE, like);
   }
 
   /**
@@ -557,7 +681,7 @@ public final class RFWMO implements Serializable, Cloneable {
    * @param in the new in
    */
   protected final void setIn(LinkedList<RFWMOData> in) {
-    this.in = in;
+    setView(Operator.IN, in);
   }
 
   /**
@@ -566,7 +690,7 @@ public final class RFWMO implements Serializable, Cloneable {
    * @param notIn the new not in
    */
   protected final void setNotIn(LinkedList<RFWMOData> notIn) {
-    this.notIn = notIn;
+    setView(Operator.NOT_IN, notIn);
   }
 
   /**
@@ -576,13 +700,7 @@ public final class RFWMO implements Serializable, Cloneable {
    * @return Array com todos os valores definidos para o filtro.
    */
   public Object[] findEqual(String fieldname) {
-    final LinkedList<Object> found = new LinkedList<>();
-    for (RFWMOData data : equal) {
-      if (fieldname.equals(data.getFieldname())) {
-        found.add(data.value);
-      }
-    }
-    return found.toArray(new Object[0]);
+    return find(Operator.EQUAL, fieldname);
   }
 
   /**
@@ -592,13 +710,7 @@ public final class RFWMO implements Serializable, Cloneable {
    * @return Array com todos os valores definidos para o filtro.
    */
   public Object[] findNotEqual(String fieldname) {
-    final LinkedList<Object> found = new LinkedList<>();
-    for (RFWMOData data : notEqual) {
-      if (fieldname.equals(data.getFieldname())) {
-        found.add(data.value);
-      }
-    }
-    return found.toArray(new Object[0]);
+    return find(Operator.NOT_EQUAL, fieldname);
   }
 
   /**
@@ -608,13 +720,7 @@ public final class RFWMO implements Serializable, Cloneable {
    * @return Array com todos os valores definidos para o filtro.
    */
   public Object[] findGreaterThanOrEqualTo(String fieldname) {
-    final LinkedList<Object> found = new LinkedList<>();
-    for (RFWMOData data : greaterThanOrEqualTo) {
-      if (fieldname.equals(data.getFieldname())) {
-        found.add(data.value);
-      }
-    }
-    return found.toArray(new Object[0]);
+    return find(Operator.GREATER_THAN_OR_EQUAL_TO, fieldname);
   }
 
   /**
@@ -624,13 +730,7 @@ public final class RFWMO implements Serializable, Cloneable {
    * @return Array com todos os valores definidos para o filtro.
    */
   public Object[] findGreaterThan(String fieldname) {
-    final LinkedList<Object> found = new LinkedList<>();
-    for (RFWMOData data : greaterThan) {
-      if (fieldname.equals(data.getFieldname())) {
-        found.add(data.value);
-      }
-    }
-    return found.toArray(new Object[0]);
+    return find(Operator.GREATER_THAN, fieldname);
   }
 
   /**
@@ -640,13 +740,7 @@ public final class RFWMO implements Serializable, Cloneable {
    * @return Array com todos os valores definidos para o filtro.
    */
   public Object[] findLessThan(String fieldname) {
-    final LinkedList<Object> found = new LinkedList<>();
-    for (RFWMOData data : lessThan) {
-      if (fieldname.equals(data.getFieldname())) {
-        found.add(data.value);
-      }
-    }
-    return found.toArray(new Object[0]);
+    return find(Operator.LESS_THAN, fieldname);
   }
 
   /**
@@ -656,13 +750,7 @@ public final class RFWMO implements Serializable, Cloneable {
    * @return Array com todos os valores definidos para o filtro.
    */
   public Object[] findLessThanOrEqualTo(String fieldname) {
-    final LinkedList<Object> found = new LinkedList<>();
-    for (RFWMOData data : lessThanOrEqualTo) {
-      if (fieldname.equals(data.getFieldname())) {
-        found.add(data.value);
-      }
-    }
-    return found.toArray(new Object[0]);
+    return find(Operator.LESS_THAN_OR_EQUAL_TO, fieldname);
   }
 
   /**
@@ -672,13 +760,7 @@ public final class RFWMO implements Serializable, Cloneable {
    * @return Array com todos os valores definidos para o filtro.
    */
   public Object[] findIsNull(String fieldname) {
-    final LinkedList<Object> found = new LinkedList<>();
-    for (RFWMOData data : isNull) {
-      if (fieldname.equals(data.getFieldname())) {
-        found.add(data.value);
-      }
-    }
-    return found.toArray(new Object[0]);
+    return find(Operator.IS_NULL, fieldname);
   }
 
   /**
@@ -688,13 +770,7 @@ public final class RFWMO implements Serializable, Cloneable {
    * @return Array com todos os valores definidos para o filtro.
    */
   public Object[] findIsNotNull(String fieldname) {
-    final LinkedList<Object> found = new LinkedList<>();
-    for (RFWMOData data : isNotNull) {
-      if (fieldname.equals(data.getFieldname())) {
-        found.add(data.value);
-      }
-    }
-    return found.toArray(new Object[0]);
+    return find(Operator.IS_NOT_NULL, fieldname);
   }
 
   /**
@@ -704,13 +780,7 @@ public final class RFWMO implements Serializable, Cloneable {
    * @return Array com todos os valores definidos para o filtro.
    */
   public Object[] findLike(String fieldname) {
-    final LinkedList<Object> found = new LinkedList<>();
-    for (RFWMOData data : like) {
-      if (fieldname.equals(data.getFieldname())) {
-        found.add(data.value);
-      }
-    }
-    return found.toArray(new Object[0]);
+    return find(Operator.LIKE, fieldname);
   }
 
   /**
@@ -720,13 +790,7 @@ public final class RFWMO implements Serializable, Cloneable {
    * @return Array com todos os valores definidos para o filtro.
    */
   public Object[] findIn(String fieldname) {
-    final LinkedList<Object> found = new LinkedList<>();
-    for (RFWMOData data : in) {
-      if (fieldname.equals(data.getFieldname())) {
-        found.add(data.value);
-      }
-    }
-    return found.toArray(new Object[0]);
+    return find(Operator.IN, fieldname);
   }
 
   /**
@@ -736,13 +800,7 @@ public final class RFWMO implements Serializable, Cloneable {
    * @return Array com todos os valores definidos para o filtro.
    */
   public Object[] findNotIn(String fieldname) {
-    final LinkedList<Object> found = new LinkedList<>();
-    for (RFWMOData data : in) {
-      if (fieldname.equals(data.getFieldname())) {
-        found.add(data.value);
-      }
-    }
-    return found.toArray(new Object[0]);
+    return find(Operator.NOT_IN, fieldname);
   }
 
   /**
@@ -752,51 +810,51 @@ public final class RFWMO implements Serializable, Cloneable {
    */
   public String printConditions() {
     StringBuilder sb = new StringBuilder();
-    for (RFWMOData d : equal) {
+    for (RFWMOData d : getConditions(Operator.EQUAL)) {
       if (sb.length() > 0) sb.append(' ').append(this.getAppendmethod()).append(' ');
       sb.append(d.fieldname).append('=').append(d.value);
     }
-    for (RFWMOData d : notEqual) {
+    for (RFWMOData d : getConditions(Operator.NOT_EQUAL)) {
       if (sb.length() > 0) sb.append(' ').append(this.getAppendmethod()).append(' ');
       sb.append(d.fieldname).append("!=").append(d.value);
     }
-    for (RFWMOData d : greaterThan) {
+    for (RFWMOData d : getConditions(Operator.GREATER_THAN)) {
       if (sb.length() > 0) sb.append(' ').append(this.getAppendmethod()).append(' ');
       sb.append(d.fieldname).append('>').append(d.value);
     }
-    for (RFWMOData d : greaterThanOrEqualTo) {
+    for (RFWMOData d : getConditions(Operator.GREATER_THAN_OR_EQUAL_TO)) {
       if (sb.length() > 0) sb.append(' ').append(this.getAppendmethod()).append(' ');
       sb.append(d.fieldname).append(">=").append(d.value);
     }
-    for (RFWMOData d : lessThan) {
+    for (RFWMOData d : getConditions(Operator.LESS_THAN)) {
       if (sb.length() > 0) sb.append(' ').append(this.getAppendmethod()).append(' ');
       sb.append(d.fieldname).append('<').append(d.value);
     }
-    for (RFWMOData d : lessThanOrEqualTo) {
+    for (RFWMOData d : getConditions(Operator.LESS_THAN_OR_EQUAL_TO)) {
       if (sb.length() > 0) sb.append(' ').append(this.getAppendmethod()).append(' ');
       sb.append(d.fieldname).append("<=").append(d.value);
     }
-    for (RFWMOData d : isNull) {
+    for (RFWMOData d : getConditions(Operator.IS_NULL)) {
       if (sb.length() > 0) sb.append(' ').append(this.getAppendmethod()).append(' ');
       sb.append(d.fieldname).append(" is null");
     }
-    for (RFWMOData d : isNotNull) {
+    for (RFWMOData d : getConditions(Operator.IS_NOT_NULL)) {
       if (sb.length() > 0) sb.append(' ').append(this.getAppendmethod()).append(' ');
       sb.append(d.fieldname).append(" is not null");
     }
-    for (RFWMOData d : like) {
+    for (RFWMOData d : getConditions(Operator.LIKE)) {
       if (sb.length() > 0) sb.append(' ').append(this.getAppendmethod()).append(' ');
       sb.append(d.fieldname).append(" like '").append(d.value).append("'");
     }
-    for (RFWMOData d : in) {
+    for (RFWMOData d : getConditions(Operator.IN)) {
       if (sb.length() > 0) sb.append(' ').append(this.getAppendmethod()).append(' ');
       sb.append(d.fieldname).append(" in (").append(d.value).append(")");
     }
-    for (RFWMOData d : notIn) {
+    for (RFWMOData d : getConditions(Operator.NOT_IN)) {
       if (sb.length() > 0) sb.append(' ').append(this.getAppendmethod()).append(' ');
       sb.append(d.fieldname).append(" not in (").append(d.value).append(")");
     }
-    for (RFWMO bMO : getSubmo()) {
+    for (RFWMO bMO : getSubmoConditions()) {
       if (sb.length() > 0) sb.append(' ').append(this.getAppendmethod()).append(' ');
       sb.append("(").append(bMO.printConditions()).append(")");
     }
@@ -819,29 +877,29 @@ public final class RFWMO implements Serializable, Cloneable {
   public List<String> getAttributes() {
     final LinkedList<String> list = new LinkedList<>();
 
-    for (RFWMOData d : equal)
+    for (RFWMOData d : getConditions(Operator.EQUAL))
       list.add(d.fieldname);
-    for (RFWMOData d : notEqual)
+    for (RFWMOData d : getConditions(Operator.NOT_EQUAL))
       list.add(d.fieldname);
-    for (RFWMOData d : greaterThan)
+    for (RFWMOData d : getConditions(Operator.GREATER_THAN))
       list.add(d.fieldname);
-    for (RFWMOData d : greaterThanOrEqualTo)
+    for (RFWMOData d : getConditions(Operator.GREATER_THAN_OR_EQUAL_TO))
       list.add(d.fieldname);
-    for (RFWMOData d : lessThan)
+    for (RFWMOData d : getConditions(Operator.LESS_THAN))
       list.add(d.fieldname);
-    for (RFWMOData d : lessThanOrEqualTo)
+    for (RFWMOData d : getConditions(Operator.LESS_THAN_OR_EQUAL_TO))
       list.add(d.fieldname);
-    for (RFWMOData d : isNull)
+    for (RFWMOData d : getConditions(Operator.IS_NULL))
       list.add(d.fieldname);
-    for (RFWMOData d : isNotNull)
+    for (RFWMOData d : getConditions(Operator.IS_NOT_NULL))
       list.add(d.fieldname);
-    for (RFWMOData d : like)
+    for (RFWMOData d : getConditions(Operator.LIKE))
       list.add(d.fieldname);
-    for (RFWMOData d : in)
+    for (RFWMOData d : getConditions(Operator.IN))
       list.add(d.fieldname);
-    for (RFWMOData d : notIn)
+    for (RFWMOData d : getConditions(Operator.NOT_IN))
       list.add(d.fieldname);
-    for (RFWMO bMO : getSubmo())
+    for (RFWMO bMO : getSubmoConditions())
       list.addAll(bMO.getAttributes());
 
     return list;
@@ -857,7 +915,11 @@ public final class RFWMO implements Serializable, Cloneable {
     if (this.submo != null) for (RFWMO mo : this.submo) {
       size += mo.size();
     }
-    return size + this.equal.size() + this.notEqual.size() + this.greaterThanOrEqualTo.size() + this.greaterThan.size() + this.lessThanOrEqualTo.size() + this.lessThan.size() + this.isNull.size() + this.isNotNull.size() + this.like.size() + this.in.size() + this.notIn.size();
+    size += this.conditionCount;
+    if (this.views != null) for (LinkedList<RFWMOData> view : this.views) {
+      if (view != null) size += view.size();
+    }
+    return size;
   }
 
   /**
@@ -0,0 +1,551 @@
+package br.eng.rodrigogml.rfw.kernel.vo;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import br.eng.rodrigogml.rfw.kernel.RFW;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWCriticalException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWRunTimeException;
+import br.eng.rodrigogml.rfw.kernel.utils.RURegex;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWMO.AppendMethod;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWMO.Operator;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWMO.RFWMOData;
+
+/**
+ * Description: Avaliador em memória de um {@link RFWMO}. Compila as condições do MO (incluindo os SubMOs e o {@link AppendMethod} de cada um) em um {@link Predicate} reutilizável, que pode ser aplicado sobre listas de VOs já carregadas sem passar pelo banco de dados.<br>
+ * A compilação é feita uma única vez: os caminhos dos atributos são lidos através do {@link RFWCompiledPath}, os valores do "in" e "notIn" são colocados em {@link HashSet} e as expressões do "like" são convertidas em {@link Pattern}. Alterações feitas no MO depois da compilação não são
+ * refletidas no avaliador.<br>
+ * As condições seguem a semântica do SQL gerado pelos provedores de banco de dados:
+ * <ul>
+ * <li>Comparações com atributos nulos (equal, notEqual, maior, menor, like, in e notIn) são sempre falsas, apenas o isNull é verdadeiro;</li>
+ * <li>Quando o caminho do atributo passa por uma coleção (como "items.code"), a condição é verdadeira se algum item da coleção a satisfizer, como no JOIN do SQL. Coleções vazias e objetos nulos no meio do caminho são considerados como valor nulo;</li>
+ * <li>Números de tipos diferentes são comparados pelo valor (Integer 1 é igual a Long 1 e a BigDecimal 1.00), {@link LocalDate} é comparado com {@link LocalDateTime} no início do dia, e {@link Date} é convertido para {@link LocalDateTime} na zona do {@link RFW#getZoneId()};</li>
+ * <li>Enums também podem ser comparados com o seu nome;</li>
+ * <li>O like aceita os curingas "%" e "_" e diferencia maiúsculas de minúsculas.</li>
+ * </ul>
+ * Os objetos desta classe são imutáveis e podem ser compartilhados entre threads.
+ *
+ * @author Rodrigo GML
+ * @since 1.0.0 (17 de out. de 2026)
+ */
+public final class RFWMOEvaluator<VO extends RFWVO> implements Predicate<VO> {
+
+  /**
+   * Condição compilada do MO.
+   */
+  interface Condition {
+    boolean test(Object vo) throws RFWException;
+  }
+
+  /**
+   * Teste aplicado sobre o valor de um atributo.
+   */
+  interface ValueTest {
+    boolean test(Object value) throws RFWException;
+  }
+
+  /**
+   * Caminho compilado de um bloco do {@link Accessor}, junto com a classe para o qual foi compilado. Imutável para que possa ser compartilhado entre threads.
+   */
+  static final class CompiledSegment {
+    final Class<?> beanClass;
+    final RFWCompiledPath path;
+
+    CompiledSegment(Class<?> beanClass, RFWCompiledPath path) {
+      this.beanClass = beanClass;
+      this.path = path;
+    }
+  }
+
+  /**
+   * Caminho de um atributo, quebrado nos seus blocos para que as coleções encontradas no meio do caminho possam ser percorridas.
+   */
+  static final class Accessor {
+
+    /**
+     * Caminho completo do atributo.
+     */
+    final String path;
+
+    /**
+     * Blocos do caminho.
+     */
+    private final String[] segments;
+
+    /**
+     * Último caminho compilado utilizado em cada bloco. Atualizado sem bloqueio pelas threads que compartilham o avaliador: uma thread que não enxergue a última atualização apenas compila o bloco novamente.
+     */
+    private final AtomicReferenceArray<CompiledSegment> compiled;
+
+    Accessor(String path) {
+      this.path = path;
+      this.segments = splitPath(path);
+      this.compiled = new AtomicReferenceArray<>(this.segments.length);
+    }
+
+    /**
+     * Verifica se algum dos valores do atributo no objeto satisfaz o teste.
+     */
+    boolean anyMatch(Object bean, ValueTest test) throws RFWException {
+      return anyMatch(bean, 0, test);
+    }
+
+    private boolean anyMatch(Object obj, int index, ValueTest test) throws RFWException {
+      for (; index < this.segments.length; index++) {
+        if (obj == null) return test.test(null);
+        obj = getSegment(index, obj.getClass()).getValue(obj);
+        if (index + 1 < this.segments.length) {
+          final Collection<?> items = obj instanceof Collection<?> ? (Collection<?>) obj : obj instanceof Map<?, ?> ? ((Map<?, ?>) obj).values() : null;
+          if (items != null) {
+            if (items.isEmpty()) return test.test(null);
+            for (Object item : items) {
+              if (anyMatch(item, index + 1, test)) return true;
+            }
+            return false;
+          }
+        }
+      }
+      return test.test(obj);
+    }
+
+    private RFWCompiledPath getSegment(int index, Class<?> beanClass) {
+      CompiledSegment entry = this.compiled.get(index);
+      if (entry == null || entry.beanClass != beanClass) {
+        entry = new CompiledSegment(beanClass, RFWCompiledPath.compile(beanClass, this.segments[index]));
+        this.compiled.lazySet(index, entry);
+      }
+      return entry.path;
+    }
+
+    /**
+     * Quebra o caminho nos "." que não estão dentro de índices/chaves ("[]").
+     */
+    private static String[] splitPath(String path) {
+      final ArrayList<String> list = new ArrayList<>();
+      int depth = 0;
+      int start = 0;
+      for (int i = 0; i < path.length(); i++) {
+        final char c = path.charAt(i);
+        if (c == '[') {
+          depth++;
+        } else if (c == ']') {
+          if (depth > 0) depth--;
+        } else if (c == '.' && depth == 0) {
+          list.add(path.substring(start, i));
+          start = i + 1;
+        }
+      }
+      list.add(path.substring(start));
+      return list.toArray(new String[list.size()]);
+    }
+  }
+
+  /**
+   * Tipos das condições que podem ser resolvidas por um índice do {@link RFWIndexedCollection}.
+   */
+  static enum Comparison {
+    EQUAL, IN, IS_NULL, GREATER_THAN_OR_EQUAL_TO, GREATER_THAN, LESS_THAN_OR_EQUAL_TO, LESS_THAN
+  }
+
+  /**
+   * Condição que obrigatoriamente precisa ser satisfeita pelos objetos aceitos pelo avaliador (está conectada à raiz apenas por AND), e por isso pode ser usada para escolher os candidatos através de um índice do {@link RFWIndexedCollection}.
+   */
+  static final class IndexHint {
+
+    /**
+     * Tipo da condição.
+     */
+    final Comparison comparison;
+
+    /**
+     * Caminho do atributo.
+     */
+    final String path;
+
+    /**
+     * Valor normalizado da condição. No {@link Comparison#IN} é o conjunto de valores normalizados, no {@link Comparison#IS_NULL} é nulo.
+     */
+    final Object value;
+
+    IndexHint(Comparison comparison, String path, Object value) {
+      this.comparison = comparison;
+      this.path = path;
+      this.value = value;
+    }
+  }
+
+  /**
+   * Condição raiz compilada.
+   */
+  private final Condition condition;
+
+  /**
+   * Condições obrigatórias que podem ser resolvidas por índices.
+   */
+  private final IndexHint[] hints;
+
+  private RFWMOEvaluator(Condition condition, IndexHint[] hints) {
+    this.condition = condition;
+    this.hints = hints;
+  }
+
+  /**
+   * Compila o MO em um avaliador.
+   *
+   * @param mo MO com as condições. Se nulo ou vazio, o avaliador aceita todos os objetos.
+   * @return Avaliador compilado.
+   * @throws RFWException Lançado caso alguma condição não possa ser avaliada em memória (como um like sem String).
+   */
+  public static <VO extends RFWVO> RFWMOEvaluator<VO> compile(RFWMO mo) throws RFWException {
+    if (mo == null) return new RFWMOEvaluator<>(vo -> true, new IndexHint[0]);
+    final ArrayList<IndexHint> hints = new ArrayList<>();
+    final Condition condition = compileMO(mo, hints);
+    return new RFWMOEvaluator<>(condition, hints.toArray(new IndexHint[hints.size()]));
+  }
+
+  /**
+   * Filtra os objetos da coleção que satisfazem as condições do MO, mantendo a ordem da coleção. Itens nulos são descartados.
+   *
+   * @param vos Coleção de objetos.
+   * @param mo MO com as condições.
+   * @return Nova lista com os objetos que satisfazem as condições.
+   * @throws RFWException Lançado caso alguma condição não possa ser avaliada.
+   */
+  public static <VO extends RFWVO> List<VO> filter(Collection<? extends VO> vos, RFWMO mo) throws RFWException {
+    return RFWMOEvaluator.<VO> compile(mo).filter(vos);
+  }
+
+  /**
+   * Filtra os objetos da coleção que satisfazem as condições do MO, avaliando as coleções grandes em paralelo. Veja {@link #filter(Collection, int, Executor)}.
+   *
+   * @param vos Coleção de objetos.
+   * @param mo MO com as condições.
+   * @param parallelThreshold Quantidade mínima de itens da coleção para que a avaliação seja feita em paralelo.
+   * @param executor Executor utilizado na avaliação em paralelo. Se nulo, é utilizado o {@link ForkJoinPool#commonPool()}.
+   * @return Nova lista com os objetos que satisfazem as condições.
+   * @throws RFWException Lançado caso alguma condição não possa ser avaliada.
+   */
+  public static <VO extends RFWVO> List<VO> filter(Collection<? extends VO> vos, RFWMO mo, int parallelThreshold, Executor executor) throws RFWException {
+    return RFWMOEvaluator.<VO> compile(mo).filter(vos, parallelThreshold, executor);
+  }
+
+  /**
+   * Condições obrigatórias do MO que podem ser resolvidas por índices.
+   */
+  IndexHint[] getIndexHints() {
+    return this.hints;
+  }
+
+  /**
+   * Verifica se o objeto satisfaz as condições do MO.
+   *
+   * @param vo Objeto a ser avaliado.
+   * @return true caso satisfaça as condições, false caso contrário ou caso o objeto seja nulo.
+   * @throws RFWException Lançado caso não seja possível ler os atributos ou comparar os valores.
+   */
+  public boolean matches(VO vo) throws RFWException {
+    return vo != null && this.condition.test(vo);
+  }
+
+  /**
+   * Implementação do {@link Predicate} sobre o {@link #matches(RFWVO)}. As falhas são lançadas como {@link RFWRunTimeException}.
+   */
+  @Override
+  public boolean test(VO vo) {
+    try {
+      return matches(vo);
+    } catch (RFWException e) {
+      throw new RFWRunTimeException(e);
+    }
+  }
+
+  /**
+   * Filtra os objetos da coleção que satisfazem as condições, mantendo a ordem da coleção. Itens nulos são descartados.<br>
+   * Quando a coleção é um {@link RFWIndexedCollection}, os candidatos são escolhidos pelo índice da condição mais seletiva e apenas eles são avaliados.
+   *
+   * @param vos Coleção de objetos.
+   * @return Nova lista com os objetos que satisfazem as condições.
+   * @throws RFWException Lançado caso alguma condição não possa ser avaliada.
+   */
+  @SuppressWarnings("unchecked")
+  public List<VO> filter(Collection<? extends VO> vos) throws RFWException {
+    if (vos instanceof RFWIndexedCollection<?>) return ((RFWIndexedCollection<VO>) vos).query(this);
+    final ArrayList<VO> result = new ArrayList<>();
+    if (vos == null) return result;
+    for (VO vo : vos) {
+      if (matches(vo)) result.add(vo);
+    }
+    return result;
+  }
+
+  /**
+   * Filtra os objetos da coleção que satisfazem as condições, mantendo a ordem da coleção. Coleções com ao menos parallelThreshold itens são divididas em alguns blocos por thread disponível, avaliados em paralelo pelo executor.<br>
+   * Os {@link RFWIndexedCollection} são sempre consultados pelos seus índices, na própria thread.
+   *
+   * @param vos Coleção de objetos.
+   * @param parallelThreshold Quantidade mínima de itens da coleção para que a avaliação seja feita em paralelo. Coleções menores são avaliadas na própria thread.
+   * @param executor Executor utilizado na avaliação em paralelo. Se nulo, é utilizado o {@link ForkJoinPool#commonPool()}.
+   * @return Nova lista com os objetos que satisfazem as condições.
+   * @throws RFWException Lançado caso alguma condição não possa ser avaliada.
+   */
+  @SuppressWarnings("unchecked")
+  public List<VO> filter(Collection<? extends VO> vos, int parallelThreshold, Executor executor) throws RFWException {
+    if (parallelThreshold < 1) throw new RFWCriticalException("O limite mínimo para o processamento em paralelo deve ser maior que zero.");
+    if (vos == null || vos.size() < parallelThreshold || vos instanceof RFWIndexedCollection<?>) return filter(vos);
+    if (executor == null) executor = ForkJoinPool.commonPool();
+
+    final Object[] items = vos.toArray();
+    final boolean[] accepted = new boolean[items.length];
+    final int parallelism = executor instanceof ForkJoinPool ? ((ForkJoinPool) executor).getParallelism() : Runtime.getRuntime().availableProcessors();
+    final int chunks = Math.min(items.length, Math.max(1, parallelism) * 4);
+    final Throwable[] failures = new Throwable[chunks];
+    final CompletableFuture<?>[] futures = new CompletableFuture<?>[chunks];
+    try {
+      for (int chunk = 0; chunk < chunks; chunk++) {
+        final int index = chunk;
+        final int start = (int) ((long) items.length * chunk / chunks);
+        final int end = (int) ((long) items.length * (chunk + 1) / chunks);
+        futures[chunk] = CompletableFuture.runAsync(() -> {
+          try {
+            for (int i = start; i < end; i++) {
+              accepted[i] = matches((VO) items[i]);
+            }
+          } catch (Throwable e) {
+            failures[index] = e;
+          }
+        }, executor);
+      }
+      CompletableFuture.allOf(futures).join();
+    } catch (RuntimeException e) {
+      throw new RFWCriticalException("Falha ao executar a avaliação do MO em paralelo.", e);
+    }
+    for (Throwable failure : failures) {
+      if (failure instanceof RFWException) throw (RFWException) failure;
+      if (failure != null) throw new RFWCriticalException("Falha ao executar a avaliação do MO em paralelo.", failure);
+    }
+    final ArrayList<VO> result = new ArrayList<>();
+    for (int i = 0; i < items.length; i++) {
+      if (accepted[i]) result.add((VO) items[i]);
+    }
+    return result;
+  }
+
+  /**
+   * Compila as condições e SubMOs de um MO, conectando-as pelo seu {@link AppendMethod}.
+   *
+   * @param mo MO a ser compilado.
+   * @param hints Lista onde são incluídas as condições que podem ser resolvidas por índices. Só recebe as condições do MO caso ele as conecte por AND (ou tenha apenas uma condição).
+   */
+  private static Condition compileMO(RFWMO mo, List<IndexHint> hints) throws RFWException {
+    final ArrayList<Condition> list = new ArrayList<>();
+    final ArrayList<IndexHint> local = new ArrayList<>();
+    for (RFWMOData data : mo.getConditions(Operator.EQUAL)) {
+      final Object expected = normalize(data.getValue());
+      list.add(attribute(data, value -> value != null && valueEquals(normalize(value), expected)));
+      if (expected != null) local.add(new IndexHint(Comparison.EQUAL, data.getFieldname(), expected));
+    }
+    for (RFWMOData data : mo.getConditions(Operator.NOT_EQUAL)) {
+      final Object expected = normalize(data.getValue());
+      list.add(attribute(data, value -> value != null && !valueEquals(normalize(value), expected)));
+    }
+    addComparisons(list, local, mo.getConditions(Operator.GREATER_THAN_OR_EQUAL_TO), Comparison.GREATER_THAN_OR_EQUAL_TO);
+    addComparisons(list, local, mo.getConditions(Operator.GREATER_THAN), Comparison.GREATER_THAN);
+    addComparisons(list, local, mo.getConditions(Operator.LESS_THAN_OR_EQUAL_TO), Comparison.LESS_THAN_OR_EQUAL_TO);
+    addComparisons(list, local, mo.getConditions(Operator.LESS_THAN), Comparison.LESS_THAN);
+    for (RFWMOData data : mo.getConditions(Operator.IS_NULL)) {
+      list.add(attribute(data, value -> value == null));
+      local.add(new IndexHint(Comparison.IS_NULL, data.getFieldname(), null));
+    }
+    for (RFWMOData data : mo.getConditions(Operator.IS_NOT_NULL)) {
+      list.add(attribute(data, value -> value != null));
+    }
+    for (RFWMOData data : mo.getConditions(Operator.LIKE)) {
+      if (!(data.getValue() instanceof String)) throw new RFWCriticalException("O padrão do like do atributo '${0}' deve ser uma String.", new String[] { data.getFieldname() });
+      final Pattern pattern = RURegex.getPattern(toRegex((String) data.getValue()));
+      list.add(attribute(data, value -> value != null && pattern.matcher(value instanceof Enum<?> ? ((Enum<?>) value).name() : value.toString()).matches()));
+    }
+    for (RFWMOData data : mo.getConditions(Operator.IN)) {
+      final HashSet<Object> set = toSet(data);
+      list.add(attribute(data, value -> value != null && contains(set, value)));
+      local.add(new IndexHint(Comparison.IN, data.getFieldname(), set));
+    }
+    for (RFWMOData data : mo.getConditions(Operator.NOT_IN)) {
+      final HashSet<Object> set = toSet(data);
+      list.add(attribute(data, value -> value != null && !contains(set, value)));
+    }
+    for (RFWMO sub : mo.getSubmoConditions()) {
+      if (sub != null && sub.size() > 0) list.add(compileMO(sub, local));
+    }
+    if (mo.getAppendmethod() != AppendMethod.OR || list.size() <= 1) hints.addAll(local);
+
+    final Condition[] conditions = list.toArray(new Condition[list.size()]);
+    if (conditions.length == 0) return vo -> true;
+    if (conditions.length == 1) return conditions[0];
+    if (mo.getAppendmethod() == AppendMethod.OR) {
+      return vo -> {
+        for (Condition c : conditions) {
+          if (c.test(vo)) return true;
+        }
+        return false;
+      };
+    }
+    return vo -> {
+      for (Condition c : conditions) {
+        if (!c.test(vo)) return false;
+      }
+      return true;
+    };
+  }
+
+  private static void addComparisons(List<Condition> list, List<IndexHint> hints, List<RFWMOData> datas, Comparison comparison) throws RFWException {
+    for (RFWMOData data : datas) {
+      if (data.getValue() == null) throw new RFWCriticalException("O valor de comparação do atributo '${0}' não pode ser nulo.", new String[] { data.getFieldname() });
+      final Object expected = normalize(data.getValue());
+      hints.add(new IndexHint(comparison, data.getFieldname(), expected));
+      list.add(attribute(data, value -> {
+        if (value == null) return false;
+        final int result = compare(normalize(value), expected, data.getFieldname());
+        switch (comparison) {
+          case GREATER_THAN_OR_EQUAL_TO:
+            return result >= 0;
+          case GREATER_THAN:
+            return result > 0;
+          case LESS_THAN_OR_EQUAL_TO:
+            return result <= 0;
+          default:
+            return result < 0;
+        }
+      }));
+    }
+  }
+
+  /**
+   * Cria a condição que aplica o teste sobre os valores do atributo.
+   */
+  private static Condition attribute(RFWMOData data, ValueTest test) throws RFWException {
+    if (data.getFieldname() == null || data.getFieldname().isEmpty()) throw new RFWCriticalException("Encontrada uma condição do RFWMO sem o atributo definido.");
+    final Accessor accessor = new Accessor(data.getFieldname());
+    return vo -> accessor.anyMatch(vo, test);
+  }
+
+  /**
+   * Monta o conjunto de valores normalizados do in/notIn.
+   */
+  private static HashSet<Object> toSet(RFWMOData data) throws RFWException {
+    if (!(data.getValue() instanceof Collection<?>)) throw new RFWCriticalException("Os valores do in/notIn do atributo '${0}' devem ser uma coleção.", new String[] { data.getFieldname() });
+    final Collection<?> values = (Collection<?>) data.getValue();
+    final HashSet<Object> set = new HashSet<>(values.size() * 2);
+    for (Object value : values) {
+      set.add(normalize(value));
+    }
+    return set;
+  }
+
+  private static boolean contains(HashSet<Object> set, Object value) {
+    final Object normalized = normalize(value);
+    return set.contains(normalized) || normalized instanceof Enum<?> && set.contains(((Enum<?>) normalized).name());
+  }
+
+  /**
+   * Converte o padrão do like ("%" para qualquer sequência e "_" para qualquer caractere) em expressão regular.
+   */
+  static String toRegex(String like) {
+    final StringBuilder buff = new StringBuilder(like.length() + 16).append("(?s)");
+    int literalStart = -1;
+    for (int i = 0; i < like.length(); i++) {
+      final char c = like.charAt(i);
+      if (c == '%' || c == '_') {
+        if (literalStart >= 0) {
+          buff.append(Pattern.quote(like.substring(literalStart, i)));
+          literalStart = -1;
+        }
+        buff.append(c == '%' ? ".*" : ".");
+      } else if (literalStart < 0) {
+        literalStart = i;
+      }
+    }
+    if (literalStart >= 0) buff.append(Pattern.quote(like.substring(literalStart)));
+    return buff.toString();
+  }
+
+  /**
+   * Normaliza o valor para que valores equivalentes de tipos diferentes sejam iguais no equals/hashCode: números inteiros (incluindo BigDecimal sem casas decimais significativas) viram Long, os demais números viram BigDecimal sem zeros à direita, {@link LocalDate} vira
+   * {@link LocalDateTime} no início do dia e {@link Date} vira {@link LocalDateTime}.
+   */
+  static Object normalize(Object value) {
+    if (value instanceof Long) return value;
+    if (value instanceof Integer || value instanceof Short || value instanceof Byte) return ((Number) value).longValue();
+    if (value instanceof Number) {
+      BigDecimal decimal;
+      if (value instanceof BigDecimal) {
+        decimal = (BigDecimal) value;
+      } else if (value instanceof BigInteger) {
+        decimal = new BigDecimal((BigInteger) value);
+      } else {
+        final double d = ((Number) value).doubleValue();
+        if (Double.isNaN(d) || Double.isInfinite(d)) return d;
+        decimal = BigDecimal.valueOf(d);
+      }
+      if (decimal.signum() == 0) return 0L;
+      decimal = decimal.stripTrailingZeros();
+      if (decimal.scale() <= 0 && decimal.precision() - decimal.scale() < 19) return decimal.longValue();
+      return decimal;
+    }
+    if (value instanceof LocalDate) return ((LocalDate) value).atStartOfDay();
+    if (value instanceof Date) return LocalDateTime.ofInstant(((Date) value).toInstant(), RFW.getZoneId());
+    return value;
+  }
+
+  private static boolean valueEquals(Object value, Object expected) {
+    if (value.equals(expected)) return true;
+    if (value instanceof Enum<?> && expected instanceof String) return ((Enum<?>) value).name().equals(expected);
+    return false;
+  }
+
+  /**
+   * Compara dois valores já normalizados.
+   */
+  private static int compare(Object value, Object expected, String fieldname) throws RFWException {
+    try {
+      return compareValues(value, expected);
+    } catch (ClassCastException e) {
+      throw new RFWCriticalException("Não é possível comparar o valor do atributo '${0}' (${1}) com o valor '${2}' (${3}).", new String[] { fieldname, value.getClass().getCanonicalName(), "" + expected, expected.getClass().getCanonicalName() }, e);
+    }
+  }
+
+  /**
+   * Compara dois valores já normalizados (veja {@link #normalize(Object)}). Também usado para ordenar as chaves dos índices de ordem do {@link RFWIndexedCollection}.
+   *
+   * @throws ClassCastException Caso os valores não possam ser comparados entre si.
+   */
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  static int compareValues(Object value, Object expected) {
+    if (value instanceof Long && expected instanceof Long) return Long.compare((Long) value, (Long) expected);
+    if (value instanceof Number && expected instanceof Number) return toDecimal((Number) value).compareTo(toDecimal((Number) expected));
+    if (value instanceof Comparable && value.getClass().isInstance(expected)) return ((Comparable) value).compareTo(expected);
+    if (value instanceof Enum<?> && expected instanceof String) return ((Enum<?>) value).name().compareTo((String) expected);
+    if (value instanceof String && expected instanceof Enum<?>) return ((String) value).compareTo(((Enum<?>) expected).name());
+    throw new ClassCastException(value.getClass().getCanonicalName() + " x " + expected.getClass().getCanonicalName());
+  }
+
+  private static BigDecimal toDecimal(Number value) {
+    if (value instanceof BigDecimal) return (BigDecimal) value;
+    if (value instanceof Long) return BigDecimal.valueOf(value.longValue());
+    return BigDecimal.valueOf(value.doubleValue());
+  }
+}
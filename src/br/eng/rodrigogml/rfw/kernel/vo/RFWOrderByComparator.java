@@ -0,0 +1,333 @@
+package br.eng.rodrigogml.rfw.kernel.vo;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWCriticalException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWRunTimeException;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWOrderBy.RFWOrderbyItem;
+
+/**
+ * Description: Ordenação em memória de VOs conforme um {@link RFWOrderBy}. Compila os itens do {@link RFWOrderBy} em um {@link Comparator} reutilizável, que pode ser aplicado sobre listas de VOs já carregadas sem passar pelo banco de dados.<br>
+ * Os atributos são lidos através do {@link RFWCompiledPath}, mantendo o caminho compilado da última classe encontrada. Além do atributo simples, os itens aceitam as constantes e o COALESCE do {@link RFWField}.<br>
+ * As comparações seguem a semântica do ORDER BY dos provedores de banco de dados:
+ * <ul>
+ * <li>Os valores nulos são considerados menores que qualquer outro valor, ficando no início das ordenações ascendentes e no fim das descendentes;</li>
+ * <li>Números de tipos diferentes são comparados pelo valor (Integer 1 é igual a Long 1 e a BigDecimal 1.00), e datas de tipos diferentes seguem a conversão do {@link RFWMOEvaluator};</li>
+ * <li>Enums são comparados pelo seu nome, como são persistidos;</li>
+ * <li>Strings são comparadas pelo {@link Collator} informado na compilação ou, se nenhum for informado, pela ordem natural da String.</li>
+ * </ul>
+ * Os métodos {@link #sort(List)} calculam as chaves de ordenação de cada objeto uma única vez antes de ordenar (incluindo a {@link CollationKey} das Strings), evitando que os atributos sejam lidos e convertidos a cada comparação. Os itens nulos da lista ficam no fim.<br>
+ * Os objetos desta classe são imutáveis e podem ser compartilhados entre threads.
+ *
+ * @author Rodrigo GML
+ * @since 1.0.0 (17 de out. de 2026)
+ */
+public final class RFWOrderByComparator<VO extends RFWVO> implements Comparator<VO> {
+
+  /**
+   * Expressão de um item da ordenação.
+   */
+  private static abstract class Expression {
+    abstract Object evaluate(Object vo) throws RFWException;
+  }
+
+  /**
+   * Lê o valor de um atributo do VO, mantendo o caminho compilado da última classe para não consultar o cache a cada leitura.
+   */
+  private static final class AttributeExpression extends Expression {
+    private final String path;
+    private RFWMOEvaluator.CompiledSegment last;
+
+    AttributeExpression(String path) {
+      this.path = path;
+    }
+
+    @Override
+    Object evaluate(Object vo) throws RFWException {
+      RFWMOEvaluator.CompiledSegment entry = this.last;
+      if (entry == null || entry.beanClass != vo.getClass()) {
+        entry = new RFWMOEvaluator.CompiledSegment(vo.getClass(), RFWCompiledPath.compile(vo.getClass(), this.path));
+        this.last = entry;
+      }
+      return entry.path.getValue(vo);
+    }
+  }
+
+  private static final class ConstantExpression extends Expression {
+    private final Object value;
+
+    ConstantExpression(Object value) {
+      this.value = value;
+    }
+
+    @Override
+    Object evaluate(Object vo) {
+      return this.value;
+    }
+  }
+
+  private static final class CoalesceExpression extends Expression {
+    private final Expression[] params;
+
+    CoalesceExpression(Expression[] params) {
+      this.params = params;
+    }
+
+    @Override
+    Object evaluate(Object vo) throws RFWException {
+      for (Expression param : this.params) {
+        final Object value = param.evaluate(vo);
+        if (value != null) return value;
+      }
+      return null;
+    }
+  }
+
+  /**
+   * Objeto da lista junto com as suas chaves de ordenação já calculadas.
+   */
+  private static final class Keyed {
+    final Object vo;
+    final Object[] keys;
+
+    Keyed(Object vo, Object[] keys) {
+      this.vo = vo;
+      this.keys = keys;
+    }
+  }
+
+  /**
+   * Expressões dos itens da ordenação.
+   */
+  private final Expression[] expressions;
+
+  /**
+   * Direção de cada item da ordenação.
+   */
+  private final boolean[] asc;
+
+  /**
+   * Collator utilizado na comparação das Strings, ou nulo para a ordem natural.
+   */
+  private final Collator collator;
+
+  private RFWOrderByComparator(Expression[] expressions, boolean[] asc, Collator collator) {
+    this.expressions = expressions;
+    this.asc = asc;
+    this.collator = collator;
+  }
+
+  /**
+   * Compila o {@link RFWOrderBy} em um comparador, comparando as Strings pela sua ordem natural.
+   *
+   * @param orderBy Ordenação. Se nula ou vazia, o comparador considera todos os objetos iguais.
+   * @return Comparador compilado.
+   * @throws RFWException Lançado caso algum item utilize uma função não suportada em memória.
+   */
+  public static <VO extends RFWVO> RFWOrderByComparator<VO> compile(RFWOrderBy orderBy) throws RFWException {
+    return compile(orderBy, null);
+  }
+
+  /**
+   * Compila o {@link RFWOrderBy} em um comparador.
+   *
+   * @param orderBy Ordenação. Se nula ou vazia, o comparador considera todos os objetos iguais.
+   * @param collator Collator utilizado na comparação das Strings (como o {@link Collator#getInstance(java.util.Locale)} do idioma do usuário, que ignora acentos ou maiúsculas conforme a sua força). Se nulo, as Strings são comparadas pela sua ordem natural.
+   * @return Comparador compilado.
+   * @throws RFWException Lançado caso algum item utilize uma função não suportada em memória.
+   */
+  public static <VO extends RFWVO> RFWOrderByComparator<VO> compile(RFWOrderBy orderBy, Collator collator) throws RFWException {
+    final List<RFWOrderbyItem> items = orderBy == null ? Collections.<RFWOrderbyItem> emptyList() : orderBy.getOrderbylist();
+    final Expression[] expressions = new Expression[items.size()];
+    final boolean[] asc = new boolean[items.size()];
+    int i = 0;
+    for (RFWOrderbyItem item : items) {
+      if (item == null || item.getField() == null) throw new RFWCriticalException("O item ${0} da ordenação está nulo.", new String[] { "" + i });
+      expressions[i] = compile(item.getField());
+      asc[i] = item.isAsc();
+      i++;
+    }
+    // Copia o Collator para que alterações feitas depois no objeto recebido (como a força) não afetem o comparador
+    return new RFWOrderByComparator<>(expressions, asc, collator == null ? null : (Collator) collator.clone());
+  }
+
+  /**
+   * Ordena a lista conforme o {@link RFWOrderBy}. Veja {@link #sort(List)}.
+   *
+   * @param list Lista a ser ordenada.
+   * @param orderBy Ordenação.
+   * @throws RFWException Lançado caso algum item utilize uma função não suportada em memória ou não seja possível ler ou comparar os valores.
+   */
+  public static <VO extends RFWVO> void sort(List<VO> list, RFWOrderBy orderBy) throws RFWException {
+    RFWOrderByComparator.<VO> compile(orderBy).sort(list);
+  }
+
+  /**
+   * Ordena a lista conforme o {@link RFWOrderBy}, em paralelo quando ela é grande. Veja {@link #sort(List, int)}.
+   *
+   * @param list Lista a ser ordenada.
+   * @param orderBy Ordenação.
+   * @param parallelThreshold Quantidade mínima de itens da lista para que a ordenação seja feita em paralelo.
+   * @throws RFWException Lançado caso algum item utilize uma função não suportada em memória ou não seja possível ler ou comparar os valores.
+   */
+  public static <VO extends RFWVO> void sort(List<VO> list, RFWOrderBy orderBy, int parallelThreshold) throws RFWException {
+    RFWOrderByComparator.<VO> compile(orderBy).sort(list, parallelThreshold);
+  }
+
+  /**
+   * Compara os dois objetos lendo os atributos a cada chamada. Para ordenar listas prefira o {@link #sort(List)}, que lê os atributos de cada objeto uma única vez. As falhas são lançadas como {@link RFWRunTimeException}.
+   */
+  @Override
+  public int compare(VO o1, VO o2) {
+    if (o1 == o2) return 0;
+    if (o1 == null) return 1;
+    if (o2 == null) return -1;
+    try {
+      for (int i = 0; i < this.expressions.length; i++) {
+        final int result = compareKeys(sortValue(this.expressions[i].evaluate(o1)), sortValue(this.expressions[i].evaluate(o2)), i);
+        if (result != 0) return result;
+      }
+      return 0;
+    } catch (RFWException e) {
+      throw new RFWRunTimeException(e);
+    }
+  }
+
+  /**
+   * Ordena a lista na própria thread. A ordenação é estável: objetos iguais para o {@link RFWOrderBy} mantém a ordem original.
+   *
+   * @param list Lista a ser ordenada.
+   * @throws RFWException Lançado caso não seja possível ler ou comparar os valores.
+   */
+  public void sort(List<VO> list) throws RFWException {
+    sort(list, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Ordena a lista. Listas com ao menos parallelThreshold itens são ordenadas pelo {@link Arrays#parallelSort(Object[], Comparator)}, que utiliza o {@link java.util.concurrent.ForkJoinPool#commonPool()}. A ordenação é estável nos dois casos: objetos iguais para o
+   * {@link RFWOrderBy} mantém a ordem original.
+   *
+   * @param list Lista a ser ordenada.
+   * @param parallelThreshold Quantidade mínima de itens da lista para que a ordenação seja feita em paralelo.
+   * @throws RFWException Lançado caso não seja possível ler ou comparar os valores.
+   */
+  @SuppressWarnings("unchecked")
+  public void sort(List<VO> list, int parallelThreshold) throws RFWException {
+    if (parallelThreshold < 1) throw new RFWCriticalException("O limite mínimo para o processamento em paralelo deve ser maior que zero.");
+    if (list == null || list.size() < 2 || this.expressions.length == 0) return;
+
+    final Keyed[] keyed = new Keyed[list.size()];
+    int i = 0;
+    for (VO vo : list) {
+      keyed[i++] = new Keyed(vo, vo == null ? null : keys(vo));
+    }
+
+    final Comparator<Keyed> comparator = (k1, k2) -> {
+      if (k1.keys == null) return k2.keys == null ? 0 : 1;
+      if (k2.keys == null) return -1;
+      try {
+        for (int c = 0; c < this.expressions.length; c++) {
+          final int result = compareKeys(k1.keys[c], k2.keys[c], c);
+          if (result != 0) return result;
+        }
+        return 0;
+      } catch (RFWException e) {
+        throw new RFWRunTimeException(e);
+      }
+    };
+    try {
+      if (keyed.length >= parallelThreshold) {
+        Arrays.parallelSort(keyed, comparator);
+      } else {
+        Arrays.sort(keyed, comparator);
+      }
+    } catch (RFWRunTimeException e) {
+      if (e.getRFWException() != null) throw e.getRFWException();
+      throw e;
+    }
+
+    final ListIterator<VO> it = list.listIterator();
+    for (Keyed k : keyed) {
+      it.next();
+      it.set((VO) k.vo);
+    }
+  }
+
+  /**
+   * Calcula as chaves de ordenação do objeto. As Strings são convertidas em {@link CollationKey} quando há um {@link Collator}, que é comparada muito mais rápido que o próprio {@link Collator#compare(String, String)}.
+   */
+  private Object[] keys(Object vo) throws RFWException {
+    final Object[] keys = new Object[this.expressions.length];
+    for (int i = 0; i < keys.length; i++) {
+      Object value = sortValue(this.expressions[i].evaluate(vo));
+      if (this.collator != null && value instanceof String) value = this.collator.getCollationKey((String) value);
+      keys[i] = value;
+    }
+    return keys;
+  }
+
+  /**
+   * Compara os valores do item da ordenação, já aplicando a direção.
+   */
+  private int compareKeys(Object v1, Object v2, int item) throws RFWException {
+    final int result;
+    if (v1 == v2) {
+      result = 0;
+    } else if (v1 == null) {
+      result = -1;
+    } else if (v2 == null) {
+      result = 1;
+    } else {
+      result = compareValues(v1, v2, item);
+    }
+    return this.asc[item] ? result : -result;
+  }
+
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  private int compareValues(Object v1, Object v2, int item) throws RFWException {
+    if (v1 instanceof String && v2 instanceof String && this.collator != null) return this.collator.compare((String) v1, (String) v2);
+    if (v1.getClass() == v2.getClass() && v1 instanceof Comparable) return ((Comparable) v1).compareTo(v2);
+    try {
+      return RFWMOEvaluator.compareValues(RFWMOEvaluator.normalize(v1), RFWMOEvaluator.normalize(v2));
+    } catch (ClassCastException e) {
+      throw new RFWCriticalException("Não é possível comparar os valores '${0}' (${1}) e '${2}' (${3}) do item ${4} da ordenação.", new String[] { "" + v1, v1.getClass().getCanonicalName(), "" + v2, v2.getClass().getCanonicalName(), "" + item }, e);
+    }
+  }
+
+  /**
+   * Converte o valor lido do VO no valor utilizado na ordenação: enums são ordenados pelo seu nome.
+   */
+  private static Object sortValue(Object value) {
+    if (value instanceof Enum<?>) return ((Enum<?>) value).name();
+    return value;
+  }
+
+  private static Expression compile(RFWField field) throws RFWException {
+    switch (field.getFunction()) {
+      case FIELD:
+        return new AttributeExpression(field.getField());
+      case CONSTANTE_NUMBER:
+      case CONSTANTE_STRING:
+        return new ConstantExpression(field.getConstantValue());
+      case CONSTANT_NULL:
+        return new ConstantExpression(null);
+      case COALESCE: {
+        final Expression[] params = new Expression[field.getFunctionParam().size()];
+        int i = 0;
+        for (RFWField param : field.getFunctionParam()) {
+          params[i++] = compile(param);
+        }
+        return new CoalesceExpression(params);
+      }
+      default:
+        throw new RFWCriticalException("A função '${0}' não é suportada na ordenação em memória.", new String[] { field.getFunction().name() });
+    }
+  }
+}
@@ -0,0 +1,266 @@
+package br.eng.rodrigogml.rfw.kernel.vo;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.TreeSet;
+
+import br.eng.rodrigogml.rfw.kernel.vo.RFWMO.AppendMethod;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWMO.Operator;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWMO.RFWMOData;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWOrderBy.RFWOrderbyItem;
+
+/**
+ * Description: Chave imutável de uma consulta (classe da entidade, {@link RFWMO}, {@link RFWOrderBy}, atributos, offset e limit), utilizada para manter os resultados das consultas em cache.<br>
+ * O {@link RFWMO} guarda as condições na ordem em que foram incluídas, separadas por tipo, de forma que filtros logicamente iguais podem ter objetos diferentes. A chave é montada a partir da forma canônica do MO:
+ * <ul>
+ * <li>As condições e SubMOs conectados pelo mesmo {@link AppendMethod} são ordenados, já que a ordem não altera o resultado. O {@link AppendMethod} de MOs com uma única condição é desconsiderado;</li>
+ * <li>Os valores do "in" e "notIn" são ordenados e sem repetições;</li>
+ * <li>Números de tipos diferentes com o mesmo valor (Integer 1, Long 1 e BigDecimal 1.00) geram a mesma chave;</li>
+ * <li>Os atributos são ordenados e sem repetições, e a lista de atributos nula é igual a lista vazia.</li>
+ * </ul>
+ * A ordem dos itens do {@link RFWOrderBy} é mantida, já que altera o resultado.<br>
+ * Apenas valores de tipos imutáveis e com representação exata são aceitos nas condições: nulo, String, Character, Boolean, números, enums, {@link Date} e os tipos de data do java.time. Para os demais tipos não é possível garantir que a chave identifique a consulta, e o método
+ * {@link #create(Class, RFWMO, RFWOrderBy, String[], Integer, Integer)} retorna nulo, indicando que a consulta não deve ser mantida em cache.<br>
+ * As Strings são escritas na chave precedidas pelo seu tamanho, evitando que os valores sejam confundidos com os separadores. O hash é calculado uma única vez e não depende da JVM.
+ *
+ * @author Rodrigo GML
+ * @since 1.0.0 (17 de out. de 2026)
+ */
+public final class RFWQueryKey {
+
+  /**
+   * Classe da entidade consultada.
+   */
+  private final Class<?> voClass;
+
+  /**
+   * Forma canônica da consulta.
+   */
+  private final String key;
+
+  /**
+   * Hash pré-calculado.
+   */
+  private final int hash;
+
+  private RFWQueryKey(Class<?> voClass, String key) {
+    this.voClass = voClass;
+    this.key = key;
+    this.hash = 31 * voClass.getName().hashCode() + key.hashCode();
+  }
+
+  /**
+   * Cria a chave da consulta.
+   *
+   * @param voClass Classe da entidade consultada.
+   * @param mo Condições da consulta. Nulo é igual ao MO vazio.
+   * @param orderBy Ordenação da consulta. Nula é igual a ordenação vazia.
+   * @param attributes Atributos recuperados pela consulta.
+   * @param offset Offset da consulta.
+   * @param limit Limite de registros da consulta.
+   * @return Chave da consulta, ou nulo caso o MO ou o {@link RFWOrderBy} tenham valores que não podem ser representados na chave.
+   */
+  public static RFWQueryKey create(Class<? extends RFWVO> voClass, RFWMO mo, RFWOrderBy orderBy, String[] attributes, Integer offset, Integer limit) {
+    if (voClass == null) return null;
+    final String canonicalMO = canonical(mo);
+    if (canonicalMO == null) return null;
+    final String canonicalOrderBy = canonical(orderBy);
+    if (canonicalOrderBy == null) return null;
+
+    final StringBuilder sb = new StringBuilder(canonicalMO.length() + canonicalOrderBy.length() + 32);
+    sb.append(canonicalMO).append('|').append(canonicalOrderBy).append("|A[");
+    if (attributes != null) {
+      final TreeSet<String> sorted = new TreeSet<>();
+      for (String attribute : attributes) {
+        if (attribute != null) sorted.add(attribute);
+      }
+      for (String attribute : sorted) {
+        appendString(sb, attribute);
+      }
+    }
+    sb.append("]|").append(offset).append('|').append(limit);
+    return new RFWQueryKey(voClass, sb.toString());
+  }
+
+  /**
+   * Monta a forma canônica das condições do MO.
+   *
+   * @param mo MO. Nulo é igual ao MO vazio.
+   * @return Forma canônica, ou nulo caso alguma condição tenha um valor que não pode ser representado.
+   */
+  public static String canonical(RFWMO mo) {
+    if (mo == null) return "AND[]";
+    final ArrayList<String> terms = new ArrayList<>();
+    for (Operator operator : Operator.values()) {
+      if (!addTerms(terms, operator, mo.getConditions(operator))) return null;
+    }
+    for (RFWMO sub : mo.getSubmoConditions()) {
+      final String canonical = canonical(sub);
+      if (canonical == null) return null;
+      terms.add("(" + canonical + ")");
+    }
+    Collections.sort(terms);
+
+    final StringBuilder sb = new StringBuilder();
+    sb.append(terms.size() > 1 ? mo.getAppendmethod() : AppendMethod.AND).append('[');
+    for (int i = 0; i < terms.size(); i++) {
+      if (i > 0) sb.append(';');
+      sb.append(terms.get(i));
+    }
+    return sb.append(']').toString();
+  }
+
+  /**
+   * Monta a forma canônica da ordenação, mantendo a ordem dos itens.
+   *
+   * @param orderBy Ordenação. Nula é igual a ordenação vazia.
+   * @return Forma canônica, ou nulo caso alguma constante tenha um valor que não pode ser representado.
+   */
+  public static String canonical(RFWOrderBy orderBy) {
+    final StringBuilder sb = new StringBuilder("O[");
+    if (orderBy != null) {
+      for (RFWOrderbyItem item : orderBy.getOrderbylist()) {
+        sb.append(item.isAsc() ? '+' : '-');
+        if (!appendField(sb, item.getField())) return null;
+      }
+    }
+    return sb.append(']').toString();
+  }
+
+  private static boolean addTerms(List<String> terms, Operator operator, List<RFWMOData> datas) {
+    final boolean collection = operator == Operator.IN || operator == Operator.NOT_IN;
+    for (RFWMOData data : datas) {
+      final StringBuilder sb = new StringBuilder(operator.name()).append('(');
+      appendString(sb, data.getFieldname());
+      sb.append(',');
+      if (collection && data.getValue() instanceof Collection<?>) {
+        final TreeSet<String> values = new TreeSet<>();
+        for (Object value : (Collection<?>) data.getValue()) {
+          final StringBuilder v = new StringBuilder();
+          if (!appendValue(v, value)) return false;
+          values.add(v.toString());
+        }
+        sb.append('{').append(String.join(",", values)).append('}');
+      } else if (!appendValue(sb, data.getValue())) {
+        return false;
+      }
+      terms.add(sb.append(')').toString());
+    }
+    return true;
+  }
+
+  private static boolean appendField(StringBuilder sb, RFWField field) {
+    if (field == null) {
+      sb.append('N');
+      return true;
+    }
+    sb.append(field.getFunction()).append('(');
+    appendString(sb, field.getField());
+    sb.append(',');
+    if (!appendValue(sb, field.getConstantValue())) return false;
+    if (field.getFunctionParam() != null) {
+      for (RFWField param : field.getFunctionParam()) {
+        sb.append(',');
+        if (!appendField(sb, param)) return false;
+      }
+    }
+    sb.append(')');
+    return true;
+  }
+
+  /**
+   * Escreve o valor na chave, precedido de uma letra que identifica o seu tipo.
+   *
+   * @return false caso o valor não possa ser representado.
+   */
+  private static boolean appendValue(StringBuilder sb, Object value) {
+    if (value == null) {
+      sb.append('N');
+    } else if (value instanceof String) {
+      sb.append('S');
+      appendString(sb, (String) value);
+    } else if (value instanceof Character || value instanceof Boolean) {
+      sb.append(value instanceof Character ? 'C' : 'B').append(value);
+    } else if (value instanceof Number) {
+      final Object normalized = RFWMOEvaluator.normalize(value);
+      if (normalized instanceof Long) {
+        sb.append('L').append(normalized);
+      } else if (normalized instanceof BigDecimal) {
+        sb.append('D').append(((BigDecimal) normalized).toPlainString());
+      } else if (normalized instanceof Double) {
+        sb.append('F').append(normalized);
+      } else {
+        return false;
+      }
+    } else if (value instanceof Enum<?>) {
+      sb.append('E');
+      appendString(sb, ((Enum<?>) value).getDeclaringClass().getName());
+      appendString(sb, ((Enum<?>) value).name());
+    } else if (value instanceof LocalDate || value instanceof LocalDateTime || value instanceof LocalTime || value instanceof OffsetDateTime || value instanceof ZonedDateTime || value instanceof Instant) {
+      sb.append('T').append(value.getClass().getSimpleName()).append(':');
+      appendString(sb, value.toString());
+    } else if (value instanceof Date) {
+      sb.append('U');
+      appendString(sb, value.getClass().getName());
+      sb.append(((Date) value).getTime());
+      if (value instanceof Timestamp) sb.append('.').append(((Timestamp) value).getNanos());
+    } else {
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Escreve a String precedida pelo seu tamanho, ou "-" caso seja nula.
+   */
+  private static void appendString(StringBuilder sb, String value) {
+    if (value == null) {
+      sb.append('-');
+    } else {
+      sb.append(value.length()).append(':').append(value);
+    }
+  }
+
+  /**
+   * Classe da entidade consultada.
+   */
+  public Class<?> getVoClass() {
+    return this.voClass;
+  }
+
+  /**
+   * Forma canônica da consulta, sem a classe da entidade.
+   */
+  public String getKey() {
+    return this.key;
+  }
+
+  @Override
+  public int hashCode() {
+    return this.hash;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) return true;
+    if (!(obj instanceof RFWQueryKey)) return false;
+    final RFWQueryKey other = (RFWQueryKey) obj;
+    return this.hash == other.hash && this.voClass == other.voClass && this.key.equals(other.key);
+  }
+
+  @Override
+  public String toString() {
+    return this.voClass.getName() + "/" + this.key;
+  }
+}
@@ -3,6 +3,7 @@ package br.eng.rodrigogml.rfw.kernel.vo;
 import java.util.HashMap;
 
 import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.kernel.utils.RURecursiveClone;
 
 /**
  * Description: Esta interface define a implementação de um Clone Recursivo usado pelo framework para duplicar uma estrutura completa de Objetos.<br>
@@ -19,4 +20,16 @@ public interface RFWRecursiveClonable extends Cloneable {
 
   public RFWRecursiveClonable cloneRecursive(HashMap<RFWRecursiveClonable, RFWRecursiveClonable> clonedObjects) throws RFWException;
 
+  /**
+   * Clona o objeto recursivamente utilizando um {@link RFWCloneContext}, que mantém os objetos já clonados pela referência e permite limitar a parte do grafo a ser clonada.<br>
+   * A implementação padrão utiliza o {@link RURecursiveClone}. Objetos que implementam um clone próprio no {@link #cloneRecursive(HashMap)} devem sobrescrever este método também.
+   *
+   * @param context Contexto do clone em andamento.
+   * @return Objeto clonado.
+   * @throws RFWException Lançado caso ocorra alguma falha ao clonar os objetos.
+   */
+  public default RFWRecursiveClonable cloneRecursive(RFWCloneContext context) throws RFWException {
+    return RURecursiveClone.cloneRecursive(this, context);
+  }
+
 }
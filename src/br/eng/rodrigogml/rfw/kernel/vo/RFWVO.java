@@ -40,6 +40,12 @@ public abstract class RFWVO implements RFWRecursiveClonable, Serializable, Clone
   @Deprecated
   private boolean _insertWithID = false; // Começa com _ para ficar no topo quando inspecionamos o VO no debug e não misturar com os outros atributos
 
+  /**
+   * Controle de alterações dos atributos do objeto, criado pelo {@link #startChangeTracking()}. Null quando o controle não está habilitado.<br>
+   * É transiente e não tem métodos get/set para não ser serializado, clonado ou comparado junto com os atributos do objeto.
+   */
+  private transient RFWVOChangeTracker _changeTracker = null; // Começa com _ para ficar no topo quando inspecionamos o VO no debug e não misturar com os outros atributos
+
   public RFWVO() {
   }
 
@@ -73,11 +79,14 @@ public abstract class RFWVO implements RFWRecursiveClonable, Serializable, Clone
   /**
    * Implementação de um clone genérico para todos os VOs do Framework.<br>
    * Duplica o objeto e todos os objetos não mutáveis que tenham métodos get e set.<br>
-   * Para uma clonagem mais específica extender este método em cada VO
+   * Para uma clonagem mais específica extender este método em cada VO.<br>
+   * O controle de alterações (veja {@link #startChangeTracking()}) não é copiado: a cópia começa sem controle, já que os valores de referência e as marcações pertencem ao objeto original.
    */
   @Override
   public Object clone() throws CloneNotSupportedException {
-    return super.clone();
+    final RFWVO clone = (RFWVO) super.clone();
+    clone._changeTracker = null;
+    return clone;
   }
 
   /**
@@ -111,7 +120,7 @@ public abstract class RFWVO implements RFWRecursiveClonable, Serializable, Clone
    */
   @Override
   public RFWVO cloneRecursive() throws RFWException {
-    return cloneRecursive(new HashMap<RFWRecursiveClonable, RFWRecursiveClonable>());
+    return cloneRecursive(new RFWCloneContext());
   }
 
   @Override
@@ -119,6 +128,11 @@ public abstract class RFWVO implements RFWRecursiveClonable, Serializable, Clone
     return (RFWVO) RURecursiveClone.cloneRecursive(this, clonedobjects);
   }
 
+  @Override
+  public RFWVO cloneRecursive(RFWCloneContext context) throws RFWException {
+    return (RFWVO) RURecursiveClone.cloneRecursive(this, context);
+  }
+
   /**
    * Este atributo indica se o objeto foi totalmente carregado do banco de dados (com o método RFWDAO findForUpdate(Long, String[])). Permitindo que o objeto seja atualizado com o método RFWDAO persist(RFWVO).<br>
    * Caso este atributo esteja como false o método lançarpa uma exception avisando que o objeto usado não está completo para edição. Evitando assim que um update de um objeto errado faça alterações irreversíveis aos dados do sistema.<br>
@@ -199,4 +213,64 @@ public abstract class RFWVO implements RFWRecursiveClonable, Serializable, Clone
     this._insertWithID = insertWithID;
   }
 
+  /**
+   * Habilita o controle de alterações dos atributos do objeto, registrando os valores atuais como referência. Caso o controle já esteja habilitado, os valores de referência são registrados novamente e as marcações são descartadas.<br>
+   * Normalmente chamado logo após o objeto ser carregado do banco de dados, permitindo que o RFWValidator valide apenas os atributos alterados (veja RFWValidator#setIncrementalValidation(boolean)) e que a atualização seja limitada aos atributos alterados.<br>
+   * O controle é opcional e não é serializado nem copiado pelo clone.
+   *
+   * @throws RFWException Lançado caso não seja possível ler os valores dos atributos.
+   */
+  public void startChangeTracking() throws RFWException {
+    this._changeTracker = new RFWVOChangeTracker(this);
+  }
+
+  /**
+   * Desabilita o controle de alterações dos atributos do objeto.
+   */
+  public void stopChangeTracking() {
+    this._changeTracker = null;
+  }
+
+  /**
+   * Verifica se o controle de alterações está habilitado neste objeto.
+   *
+   * @return true caso o {@link #startChangeTracking()} tenha sido chamado.
+   */
+  public boolean hasChangeTracking() {
+    return this._changeTracker != null;
+  }
+
+  /**
+   * Marca um atributo como alterado, independente do seu valor. Indicado para os métodos set gerados ou instrumentados, e para alterações que não podem ser detectadas pela comparação com os valores de referência (como alterações dentro de um objeto mutável). Não faz nada caso o controle de alterações não esteja habilitado.
+   *
+   * @param fieldName Nome do atributo.
+   */
+  public void markFieldDirty(String fieldName) {
+    final RFWVOChangeTracker tracker = this._changeTracker;
+    if (tracker != null) tracker.mark(fieldName);
+  }
+
+  /**
+   * Verifica se o atributo foi alterado desde que o controle de alterações foi habilitado.
+   *
+   * @param fieldName Nome do atributo.
+   * @return true caso o atributo tenha sido alterado. Quando o controle de alterações não está habilitado todos os atributos são considerados alterados.
+   * @throws RFWException Lançado caso não seja possível ler o valor do atributo.
+   */
+  public boolean isFieldDirty(String fieldName) throws RFWException {
+    final RFWVOChangeTracker tracker = this._changeTracker;
+    return tracker == null || tracker.isDirty(this, fieldName);
+  }
+
+  /**
+   * Recupera os atributos alterados desde que o controle de alterações foi habilitado.
+   *
+   * @return Lista com os nomes dos atributos alterados, na ordem dos atributos da classe, ou null caso o controle de alterações não esteja habilitado.
+   * @throws RFWException Lançado caso não seja possível ler os valores dos atributos.
+   */
+  public List<String> listDirtyFields() throws RFWException {
+    final RFWVOChangeTracker tracker = this._changeTracker;
+    return tracker == null ? null : tracker.getDirtyFields(this);
+  }
+
 }
@@ -0,0 +1,69 @@
+package br.eng.rodrigogml.rfw.kernel.vo;
+
+/**
+ * Description: Interface implementada pelas classes de acesso geradas em tempo de compilação pelo RFWVOProcessor.<br>
+ * Cada classe gerada acessa os atributos de um {@link RFWVO} chamando diretamente os métodos get/set, sem reflexão, identificando os atributos pela sua posição (ordinal) na tabela de atributos gerada.<br>
+ * A classe gerada tem o nome da classe do VO com o sufixo {@link #SUFFIX} e é encontrada automaticamente pelo {@link RFWVOMeta}. Quando ela não existe, o {@link RFWVOMeta} continua utilizando reflexão.
+ *
+ * @author Rodrigo GML
+ * @since 1.0.0 (17 de out. de 2026)
+ */
+public interface RFWVOAccessor<VO extends RFWVO> {
+
+  /**
+   * Sufixo adicionado ao nome completo da classe do VO para formar o nome da classe de acesso gerada.
+   */
+  public static final String SUFFIX = "_RFWAccessor";
+
+  /**
+   * Classe do VO atendida por este objeto.
+   */
+  public Class<VO> getVOClass();
+
+  /**
+   * Nome dos atributos acessíveis, na ordem dos ordinais.
+   */
+  public String[] getFieldNames();
+
+  /**
+   * Tipo (tipo de retorno do get) dos atributos, na ordem dos ordinais.
+   */
+  public Class<?>[] getFieldTypes();
+
+  /**
+   * Caption definido na RFWMeta Annotation de cada atributo, na ordem dos ordinais. Null para os atributos sem RFWMeta ou sem caption.
+   */
+  public String[] getFieldCaptions();
+
+  /**
+   * Valor do 'required' definido na RFWMeta Annotation de cada atributo, na ordem dos ordinais. Null para os atributos sem RFWMeta ou sem required.
+   */
+  public Boolean[] getFieldRequired();
+
+  /**
+   * Recupera o ordinal de um atributo.
+   *
+   * @param fieldName Nome do atributo.
+   * @return Ordinal do atributo ou -1 caso o atributo não seja atendido por esta classe.
+   */
+  public int getFieldIndex(String fieldName);
+
+  /**
+   * Lê o valor de um atributo.
+   *
+   * @param vo Objeto a ser lido.
+   * @param ordinal Ordinal do atributo.
+   * @return Valor retornado pelo método get.
+   */
+  public Object get(VO vo, int ordinal);
+
+  /**
+   * Define o valor de um atributo. Só deve ser chamado para atributos que tenham método set, os demais ordinais não são atendidos pela classe gerada.
+   *
+   * @param vo Objeto a ser alterado.
+   * @param ordinal Ordinal do atributo.
+   * @param value Valor a ser passado para o método set.
+   * @throws IndexOutOfBoundsException Lançado caso o ordinal não exista ou o atributo não tenha método set.
+   */
+  public void set(VO vo, int ordinal, Object value);
+}
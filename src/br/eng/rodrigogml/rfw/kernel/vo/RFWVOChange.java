@@ -0,0 +1,101 @@
+package br.eng.rodrigogml.rfw.kernel.vo;
+
+import java.io.Serializable;
+
+/**
+ * Description: Representa uma diferença encontrada pelo {@link RFWVODiff} entre dois grafos de objetos.<br>
+ * Além do caminho do atributo, mantém o valor antigo (do primeiro objeto) e o novo (do segundo objeto), permitindo que rotinas como a de auditoria registrem a alteração sem precisar ler os objetos novamente.
+ *
+ * @author Rodrigo GML
+ * @since 1.0.0 (17 de out. de 2026)
+ */
+public class RFWVOChange implements Serializable {
+
+  private static final long serialVersionUID = 4193362917164720372L;
+
+  /**
+   * Tipo da alteração.
+   */
+  public static enum ChangeType {
+    /**
+     * O valor do atributo foi alterado.
+     */
+    MODIFIED,
+    /**
+     * O objeto existe apenas no segundo grafo (item incluído em uma coleção quando comparado por ID).
+     */
+    ADDED,
+    /**
+     * O objeto existe apenas no primeiro grafo (item removido de uma coleção quando comparado por ID).
+     */
+    REMOVED
+  }
+
+  /**
+   * Caminho do atributo alterado, no mesmo formato retornado pelo RUReflex.compareRecursively().
+   */
+  private final String path;
+
+  /**
+   * Valor do atributo no primeiro objeto.
+   */
+  private final Object oldValue;
+
+  /**
+   * Valor do atributo no segundo objeto.
+   */
+  private final Object newValue;
+
+  /**
+   * Tipo da alteração.
+   */
+  private final ChangeType type;
+
+  public RFWVOChange(String path, Object oldValue, Object newValue, ChangeType type) {
+    this.path = path;
+    this.oldValue = oldValue;
+    this.newValue = newValue;
+    this.type = type;
+  }
+
+  /**
+   * # caminho do atributo alterado, no mesmo formato retornado pelo RUReflex.compareRecursively().
+   *
+   * @return the caminho do atributo alterado
+   */
+  public String getPath() {
+    return path;
+  }
+
+  /**
+   * # valor do atributo no primeiro objeto.
+   *
+   * @return the valor do atributo no primeiro objeto
+   */
+  public Object getOldValue() {
+    return oldValue;
+  }
+
+  /**
+   * # valor do atributo no segundo objeto.
+   *
+   * @return the valor do atributo no segundo objeto
+   */
+  public Object getNewValue() {
+    return newValue;
+  }
+
+  /**
+   * # tipo da alteração.
+   *
+   * @return the tipo da alteração
+   */
+  public ChangeType getType() {
+    return type;
+  }
+
+  @Override
+  public String toString() {
+    return this.type + " " + this.path + ": " + this.oldValue + " -> " + this.newValue;
+  }
+}
@@ -0,0 +1,94 @@
+package br.eng.rodrigogml.rfw.kernel.vo;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+
+/**
+ * Description: Controle de alterações dos atributos de um {@link RFWVO}, habilitado pelo {@link RFWVO#startChangeTracking()}.<br>
+ * Um atributo é considerado alterado quando foi marcado explicitamente ({@link RFWVO#markFieldDirty(String)}, para setters gerados ou instrumentados) ou quando seu valor atual é diferente do valor registrado no início do controle (snapshot).<br>
+ * O snapshot é raso: coleções e Maps são copiados (detectando itens incluídos, removidos ou substituídos), mas os objetos {@link RFWVO} são comparados pela instância, assim alterações dentro de um objeto filho não marcam o atributo do objeto pai como alterado.
+ *
+ * @author Rodrigo GML
+ * @since 1.0.0 (17 de out. de 2026)
+ */
+final class RFWVOChangeTracker {
+
+  /**
+   * Metadados da classe do objeto acompanhado.
+   */
+  private final RFWVOMeta meta;
+
+  /**
+   * Valores dos atributos no início do controle, na mesma ordem dos atributos acompanhados pelo {@link RFWVOMeta}.
+   */
+  private final Object[] snapshot;
+
+  /**
+   * Atributos marcados explicitamente como alterados.
+   */
+  private final BitSet marked;
+
+  RFWVOChangeTracker(RFWVO vo) throws RFWException {
+    this.meta = RFWVOMeta.getInstance(vo.getClass());
+    final int count = this.meta.getTrackedFieldCount();
+    this.snapshot = new Object[count];
+    this.marked = new BitSet(count);
+    for (int i = 0; i < count; i++) {
+      this.snapshot[i] = copy(this.meta.getTrackedField(i).getValue(vo));
+    }
+  }
+
+  /**
+   * Marca o atributo como alterado. Atributos não acompanhados são ignorados.
+   */
+  void mark(String fieldName) {
+    final int index = this.meta.getTrackedFieldIndex(fieldName);
+    if (index >= 0) this.marked.set(index);
+  }
+
+  /**
+   * Verifica se o atributo foi alterado. Atributos não acompanhados são sempre considerados alterados.
+   */
+  boolean isDirty(RFWVO vo, String fieldName) throws RFWException {
+    final int index = this.meta.getTrackedFieldIndex(fieldName);
+    return index < 0 || isDirty(vo, index);
+  }
+
+  /**
+   * Recupera os nomes dos atributos alterados, na ordem dos atributos da classe.
+   */
+  List<String> getDirtyFields(RFWVO vo) throws RFWException {
+    final ArrayList<String> list = new ArrayList<>();
+    for (int i = 0; i < this.snapshot.length; i++) {
+      if (isDirty(vo, i)) list.add(this.meta.getTrackedField(i).getName());
+    }
+    return list;
+  }
+
+  private boolean isDirty(RFWVO vo, int index) throws RFWException {
+    return this.marked.get(index) || !Objects.deepEquals(this.snapshot[index], this.meta.getTrackedField(index).getValue(vo));
+  }
+
+  /**
+   * Copia os valores mutáveis para o snapshot, de forma que alterações feitas diretamente no objeto (como incluir um item em uma lista) sejam detectadas.
+   */
+  private static Object copy(Object value) {
+    if (value instanceof List) return new ArrayList<>((List<?>) value);
+    if (value instanceof Set) return new LinkedHashSet<>((Set<?>) value);
+    if (value instanceof Collection) return new ArrayList<>((Collection<?>) value);
+    if (value instanceof Map) return new LinkedHashMap<>((Map<?, ?>) value);
+    if (value instanceof Date) return ((Date) value).clone();
+    if (value instanceof byte[]) return ((byte[]) value).clone();
+    return value;
+  }
+}
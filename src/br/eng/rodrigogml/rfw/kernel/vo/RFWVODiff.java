@@ -0,0 +1,260 @@
+package br.eng.rodrigogml.rfw.kernel.vo;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWCriticalException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWVOChange.ChangeType;
+
+/**
+ * Description: Compara dois grafos de objetos ({@link RFWVO}, coleções, Maps e valores simples) e gera a lista de diferenças encontradas ({@link RFWVOChange}).<br>
+ * Os métodos get de cada classe de {@link RFWVO} são analisados uma única vez e mantidos em cache como um "plano de comparação". Os objetos já comparados são controlados pela referência (e não pelo equals/hashCode), evitando loops em referências cíclicas sem degradar em grafos grandes.<br>
+ * <br>
+ * As coleções podem ser comparadas de duas formas:
+ * <li><b>Por posição</b> - cada item é comparado com o item da mesma posição na outra coleção. Se os tamanhos forem diferentes, a própria coleção é reportada como alterada;</li>
+ * <li><b>Por ID</b> - os itens {@link RFWVO} são associados pelo ID, independente da posição. Itens sem ID são associados na ordem em que aparecem. Itens que só existem na primeira coleção são reportados como {@link ChangeType#REMOVED} (com o índice da primeira coleção) e os que só existem na segunda como {@link ChangeType#ADDED} (com o índice da segunda coleção). Itens associados são comparados recursivamente com o caminho montado pelo índice da segunda coleção.</li>
+ *
+ * @author Rodrigo GML
+ * @since 1.0.0 (17 de out. de 2026)
+ */
+public final class RFWVODiff {
+
+  /**
+   * Método get de um atributo do VO.
+   */
+  private static final class DiffProperty {
+    final String name;
+    final MethodHandle getter;
+
+    DiffProperty(String name, Method getter) throws IllegalAccessException {
+      this.name = name;
+      this.getter = RFWCompiledPath.PropertyHandle.toHandle(getter).asType(MethodType.methodType(Object.class, Object.class));
+    }
+  }
+
+  /**
+   * Planos de comparação já montados, indexados pela classe.
+   */
+  private static final ConcurrentHashMap<Class<?>, DiffProperty[]> planCache = new ConcurrentHashMap<>();
+
+  /**
+   * Indica se os itens das coleções devem ser associados pelo ID ao invés da posição.
+   */
+  private final boolean matchByID;
+
+  /**
+   * Objetos do primeiro grafo que já foram comparados.
+   */
+  private final IdentityHashMap<Object, Boolean> visited = new IdentityHashMap<>();
+
+  /**
+   * Diferenças encontradas.
+   */
+  private final ArrayList<RFWVOChange> changes = new ArrayList<>();
+
+  private RFWVODiff(boolean matchByID) {
+    this.matchByID = matchByID;
+  }
+
+  /**
+   * Compara dois objetos recursivamente.
+   *
+   * @param obj1 Objeto 1 (valores antigos) para ser comparado.
+   * @param obj2 Objeto 2 (valores novos) para ser comparado.
+   * @param matchByID Indica se os itens {@link RFWVO} das coleções devem ser associados pelo ID (true) ou pela posição (false).
+   * @return Lista com as diferenças encontradas, na ordem em que foram encontradas.
+   * @throws RFWException Lançado caso os objetos tenham algum tipo que não pode ser comparado ou falhe a leitura de algum atributo.
+   */
+  public static List<RFWVOChange> compare(Object obj1, Object obj2, boolean matchByID) throws RFWException {
+    final RFWVODiff diff = new RFWVODiff(matchByID);
+    diff.compare(obj1, obj2, RFWAttributePath.ROOT);
+    return diff.changes;
+  }
+
+  /**
+   * Descarta os planos de comparação em cache, veja {@link RFWVOMeta#clearCache()}.
+   */
+  public static void clearCache() {
+    planCache.clear();
+  }
+
+  private void compare(Object obj1, Object obj2, RFWAttributePath basepath) throws RFWException {
+    if (obj1 == null ^ obj2 == null) {
+      addChange(basepath, obj1, obj2, ChangeType.MODIFIED);
+    } else if (obj1 != null && obj2 != null) {
+      if (isValue(obj1.getClass())) {
+        if (!obj1.equals(obj2)) addChange(basepath, obj1, obj2, ChangeType.MODIFIED);
+      } else if (this.visited.put(obj1, Boolean.TRUE) == null) {
+        if (obj1 instanceof Iterable) {
+          if (!(obj2 instanceof Iterable)) {
+            addChange(basepath, obj1, obj2, ChangeType.MODIFIED);
+          } else if (this.matchByID) {
+            compareIterableByID((Iterable<?>) obj1, (Iterable<?>) obj2, basepath);
+          } else {
+            compareIterable((Iterable<?>) obj1, (Iterable<?>) obj2, basepath);
+          }
+        } else if (obj1 instanceof Map) {
+          if (!(obj2 instanceof Map)) {
+            addChange(basepath, obj1, obj2, ChangeType.MODIFIED);
+          } else {
+            compareMap((Map<?, ?>) obj1, (Map<?, ?>) obj2, basepath);
+          }
+        } else if (obj1 instanceof RFWVO) {
+          if (obj1.getClass() != obj2.getClass()) {
+            addChange(basepath, obj1, obj2, ChangeType.MODIFIED);
+          } else {
+            for (DiffProperty property : getPlan(obj1.getClass())) {
+              final Object ret1;
+              final Object ret2;
+              try {
+                ret1 = property.getter.invokeExact(obj1);
+                ret2 = property.getter.invokeExact(obj2);
+              } catch (Throwable e) {
+                throw new RFWCriticalException("Falha ao comparar semelhança dos objetos!", e);
+              }
+              compare(ret1, ret2, basepath.child(property.name));
+            }
+          }
+        } else {
+          throw new RFWCriticalException("Método despreparado para comparar o objeto '" + obj1.getClass().getCanonicalName() + "'.");
+        }
+      }
+    }
+  }
+
+  private void compareIterable(Iterable<?> list1, Iterable<?> list2, RFWAttributePath basepath) throws RFWException {
+    Iterator<?> it1 = list1.iterator();
+    Iterator<?> it2 = list2.iterator();
+    int index = 0;
+    while (true) {
+      if (!it1.hasNext() && !it2.hasNext()) {
+        break;
+      } else if (it1.hasNext() ^ it2.hasNext()) {
+        addChange(basepath, list1, list2, ChangeType.MODIFIED);
+        break;
+      } else {
+        compare(it1.next(), it2.next(), basepath.child("", index));
+      }
+      index++;
+    }
+  }
+
+  private void compareIterableByID(Iterable<?> list1, Iterable<?> list2, RFWAttributePath basepath) throws RFWException {
+    final ArrayList<Object> items1 = new ArrayList<>();
+    for (Object item : list1) {
+      if (item != null && !(item instanceof RFWVO)) {
+        // Sem RFWVO não há ID para associar, comparamos por posição
+        compareIterable(list1, list2, basepath);
+        return;
+      }
+      items1.add(item);
+    }
+    final ArrayList<Object> items2 = new ArrayList<>();
+    final HashMap<Long, Integer> indexByID = new HashMap<>();
+    final ArrayList<Integer> withoutID = new ArrayList<>();
+    for (Object item : list2) {
+      if (item != null && !(item instanceof RFWVO)) {
+        compareIterable(list1, list2, basepath);
+        return;
+      }
+      final Long id = item == null ? null : ((RFWVO) item).getId();
+      if (id == null) {
+        withoutID.add(items2.size());
+      } else {
+        indexByID.putIfAbsent(id, items2.size());
+      }
+      items2.add(item);
+    }
+
+    final boolean[] matched = new boolean[items2.size()];
+    int nextWithoutID = 0;
+    for (int i = 0; i < items1.size(); i++) {
+      final Object item1 = items1.get(i);
+      final Long id = item1 == null ? null : ((RFWVO) item1).getId();
+      Integer index = null;
+      if (id != null) {
+        index = indexByID.remove(id);
+      } else if (nextWithoutID < withoutID.size()) {
+        index = withoutID.get(nextWithoutID++);
+      }
+      if (index == null) {
+        addChange(basepath.child("", i), item1, null, ChangeType.REMOVED);
+      } else {
+        matched[index] = true;
+        compare(item1, items2.get(index), basepath.child("", index));
+      }
+    }
+    for (int i = 0; i < matched.length; i++) {
+      if (!matched[i]) addChange(basepath.child("", i), null, items2.get(i), ChangeType.ADDED);
+    }
+  }
+
+  private void compareMap(Map<?, ?> map1, Map<?, ?> map2, RFWAttributePath basepath) throws RFWException {
+    if (map1.size() != map2.size()) {
+      addChange(basepath, map1, map2, ChangeType.MODIFIED);
+    } else {
+      for (Map.Entry<?, ?> entry : map1.entrySet()) {
+        final Object key = entry.getKey();
+        compare(entry.getValue(), map2.get(key), basepath.child("", key, key.getClass()));
+      }
+    }
+  }
+
+  private void addChange(RFWAttributePath path, Object oldValue, Object newValue, ChangeType type) {
+    // O caminho só é montado em String quando a diferença é encontrada
+    this.changes.add(new RFWVOChange(path.isRoot() ? "" : path.toString(), oldValue, newValue, type));
+  }
+
+  /**
+   * Recupera o plano de comparação da classe: os métodos get/is públicos (exceto o getClass()). Na primeira chamada para cada classe a análise é feita e armazenada em cache.
+   */
+  private static DiffProperty[] getPlan(Class<?> clazz) throws RFWException {
+    DiffProperty[] plan = planCache.get(clazz);
+    if (plan == null) {
+      final ArrayList<DiffProperty> list = new ArrayList<>();
+      for (Method method : clazz.getMethods()) {
+        final String name = method.getName();
+        if (method.getParameterCount() == 0 && !name.equals("getClass")) {
+          String attribute = null;
+          if (name.startsWith("get") && name.length() > 3) {
+            attribute = name.substring(3, 4).toLowerCase() + name.substring(4);
+          } else if (name.startsWith("is") && name.length() > 2) {
+            attribute = name.substring(2, 3).toLowerCase() + name.substring(3);
+          }
+          if (attribute != null) {
+            try {
+              list.add(new DiffProperty(attribute, method));
+            } catch (IllegalAccessException e) {
+              throw new RFWCriticalException("Falha ao comparar semelhança dos objetos!", e);
+            }
+          }
+        }
+      }
+      plan = list.toArray(new DiffProperty[list.size()]);
+      final DiffProperty[] previous = planCache.putIfAbsent(clazz, plan);
+      if (previous != null) plan = previous;
+    }
+    return plan;
+  }
+
+  /**
+   * Verifica se o tipo é um valor simples, comparado pelo equals.
+   */
+  private static boolean isValue(Class<?> type) {
+    return type == String.class || type == Long.class || type == Integer.class || type == Short.class || type == Byte.class || type == Character.class || type == Boolean.class || type == Double.class || type == Float.class || Enum.class.isAssignableFrom(type) || Date.class.isAssignableFrom(type) || type == LocalDate.class || type == LocalDateTime.class || type == LocalTime.class || BigDecimal.class.isAssignableFrom(type) || type == Class.class;
+  }
+}
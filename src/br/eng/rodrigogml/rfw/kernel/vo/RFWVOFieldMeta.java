@@ -0,0 +1,294 @@
+package br.eng.rodrigogml.rfw.kernel.vo;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.LinkedList;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWCriticalException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.kernel.preprocess.PreProcess.PreProcessOption;
+import br.eng.rodrigogml.rfw.kernel.rfwmeta.RFWMetaStringField;
+
+/**
+ * Description: Metadados de um atributo ('field') de um {@link RFWVO}, extraídos uma única vez por reflexão e mantidos em cache pelo {@link RFWVOMeta}.<br>
+ * Reúne a RFWMeta Annotation do atributo, seus valores mais consultados (caption, required e preProcess) e os métodos de get/set já resolvidos.<br>
+ * Os objetos desta classe são imutáveis e podem ser compartilhados entre threads.
+ *
+ * @author Rodrigo GML
+ * @since 1.0.0 (17 de out. de 2026)
+ */
+public final class RFWVOFieldMeta {
+
+  /**
+   * Definição do atributo obtida por reflexão.
+   */
+  private final Field field;
+
+  /**
+   * Nome do atributo.
+   */
+  private final String name;
+
+  /**
+   * Todas as RFWMeta Annotations encontradas no atributo, na ordem em que foram declaradas.
+   */
+  private final Annotation[] metaAnnotations;
+
+  /**
+   * Primeira RFWMeta Annotation declarada no atributo, ou null caso não tenha nenhuma. Mesmo critério utilizado pelo RUReflex.getRFWMetaAnnotation(Field).
+   */
+  private final Annotation metaAnnotation;
+
+  /**
+   * Valor do atributo 'caption' da {@link #metaAnnotation}, ou null caso não exista.
+   */
+  private final String caption;
+
+  /**
+   * Valor do atributo 'required' da {@link #metaAnnotation}, ou null caso não exista.
+   */
+  private final Boolean required;
+
+  /**
+   * Valor do atributo 'preProcess' da {@link #metaAnnotation}, ou null caso não exista.
+   */
+  private final PreProcessOption[] preProcess;
+
+  /**
+   * Método get (ou is/are) do atributo na classe analisada. Null caso a classe não tenha um método público de leitura para o atributo.
+   */
+  private final Method getter;
+
+  /**
+   * Método set do atributo na classe analisada, procurado com o tipo de retorno do {@link #getter}. Null caso não exista.
+   */
+  private final Method setter;
+
+  /**
+   * Classe de acesso gerada pelo RFWVOProcessor, ou null caso não exista ou não atenda este atributo.
+   */
+  private final RFWVOAccessor<RFWVO> accessor;
+
+  /**
+   * Ordinal do atributo no {@link #accessor}.
+   */
+  private final int ordinal;
+
+  @SuppressWarnings("unchecked")
+  RFWVOFieldMeta(Class<?> beanClass, Field field, RFWVOAccessor<?> accessor) {
+    this.field = field;
+    this.name = field.getName();
+
+    final int ordinal = accessor != null ? accessor.getFieldIndex(this.name) : -1;
+    this.accessor = ordinal >= 0 ? (RFWVOAccessor<RFWVO>) accessor : null;
+    this.ordinal = ordinal;
+
+    final String basepackage = RFWMetaStringField.class.getPackage().getName() + ".RFWMeta";
+    final LinkedList<Annotation> list = new LinkedList<>();
+    for (Annotation annotation : field.getDeclaredAnnotations()) {
+      if (annotation.annotationType().getCanonicalName().startsWith(basepackage)) list.add(annotation);
+    }
+    this.metaAnnotations = list.toArray(new Annotation[0]);
+    this.metaAnnotation = this.metaAnnotations.length > 0 ? this.metaAnnotations[0] : null;
+
+    String caption = null;
+    Boolean required = null;
+    PreProcessOption[] preProcess = null;
+    if (this.metaAnnotation != null) {
+      // Qualquer falha ao tentar obter os atributos da annotation não é reportado nem tratado, apenas mantemos null. Mesmo comportamento dos métodos getRFWMetaAnnotation* do RUReflex.
+      try {
+        caption = (String) this.metaAnnotation.annotationType().getMethod("caption").invoke(this.metaAnnotation);
+      } catch (Exception e) {
+      }
+      try {
+        required = (Boolean) this.metaAnnotation.annotationType().getMethod("required").invoke(this.metaAnnotation);
+      } catch (Exception e) {
+      }
+      try {
+        final Object pp = this.metaAnnotation.annotationType().getMethod("preProcess").invoke(this.metaAnnotation);
+        if (pp instanceof PreProcessOption[]) {
+          preProcess = (PreProcessOption[]) pp;
+        } else if (pp instanceof PreProcessOption) {
+          preProcess = new PreProcessOption[] { (PreProcessOption) pp };
+        }
+      } catch (Exception e) {
+      }
+    }
+    this.caption = caption;
+    this.required = required;
+    this.preProcess = preProcess;
+
+    final String capName = this.name.substring(0, 1).toUpperCase() + this.name.substring(1);
+    Method getter = null;
+    for (String prefix : new String[] { "get", "is", "are" }) {
+      try {
+        getter = beanClass.getMethod(prefix + capName);
+        break;
+      } catch (NoSuchMethodException e) {
+      }
+    }
+    Method setter = null;
+    if (getter != null) {
+      try {
+        setter = beanClass.getMethod("set" + capName, getter.getReturnType());
+      } catch (NoSuchMethodException e) {
+      }
+    }
+    this.getter = getter;
+    this.setter = setter;
+  }
+
+  /**
+   * Recupera o valor do atributo no objeto passado. Utiliza a classe de acesso gerada pelo RFWVOProcessor quando existir, caso contrário o método get é resolvido pela classe do objeto e mantido em cache pelo {@link RFWCompiledPath}.
+   *
+   * @param bean Objeto do qual o valor será lido.
+   * @return Valor do atributo.
+   * @throws RFWException Lançado caso não seja possível ler o valor ('RFW_000032').
+   */
+  public Object getValue(Object bean) throws RFWException {
+    try {
+      if (this.accessor != null && this.accessor.getVOClass().isInstance(bean)) return this.accessor.get((RFWVO) bean, this.ordinal);
+      return RFWCompiledPath.getPropertyHandle(bean.getClass(), this.name).getter.invokeExact(bean);
+    } catch (Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new RFWCriticalException("RFW_000032", new String[] { this.name, bean.getClass().getCanonicalName() }, e);
+    }
+  }
+
+  /**
+   * Define o valor do atributo no objeto passado. Utiliza a classe de acesso gerada pelo RFWVOProcessor quando existir e o atributo tiver método set, caso contrário o método set é resolvido pela classe do objeto e mantido em cache pelo {@link RFWCompiledPath}.
+   *
+   * @param bean Objeto no qual o valor será definido.
+   * @param value Valor a ser definido.
+   * @throws RFWException Lançado caso não seja possível definir o valor ('RFW_ERR_000066').
+   */
+  public void setValue(Object bean, Object value) throws RFWException {
+    try {
+      if (this.accessor != null && this.setter != null && this.accessor.getVOClass().isInstance(bean)) {
+        this.accessor.set((RFWVO) bean, this.ordinal, value);
+        return;
+      }
+      final RFWCompiledPath.PropertyHandle handle = RFWCompiledPath.getPropertyHandle(bean.getClass(), this.name);
+      if (handle.setter == null) throw new NoSuchMethodException(handle.beanClass.getName() + "." + handle.setterName + "(" + handle.type.getName() + ")");
+      handle.setter.invokeExact(bean, value);
+    } catch (Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new RFWCriticalException("RFW_ERR_000066", e);
+    }
+  }
+
+  /**
+   * Verifica se o atributo tem a RFWMeta Annotation passada.
+   *
+   * @param annotationClass Classe da RFWMeta Annotation.
+   * @return true caso a annotation esteja presente no atributo.
+   */
+  public boolean isAnnotationPresent(Class<? extends Annotation> annotationClass) {
+    return getAnnotation(annotationClass) != null;
+  }
+
+  /**
+   * Recupera uma RFWMeta Annotation do atributo.
+   *
+   * @param annotationClass Classe da RFWMeta Annotation.
+   * @return Annotation encontrada ou null caso o atributo não tenha a annotation.
+   */
+  @SuppressWarnings("unchecked")
+  public <A extends Annotation> A getAnnotation(Class<A> annotationClass) {
+    for (Annotation ann : this.metaAnnotations) {
+      if (ann.annotationType() == annotationClass) return (A) ann;
+    }
+    return null;
+  }
+
+  /**
+   * Recupera o tipo do atributo. Quando o atributo tem método get, o tipo de retorno do método é utilizado, caso contrário o tipo declarado no field.
+   */
+  public Class<?> getType() {
+    return this.getter != null ? this.getter.getReturnType() : this.field.getType();
+  }
+
+  /**
+   * # definição do atributo obtida por reflexão.
+   *
+   * @return the definição do atributo obtida por reflexão
+   */
+  public Field getField() {
+    return field;
+  }
+
+  /**
+   * # nome do atributo.
+   *
+   * @return the nome do atributo
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * # primeira RFWMeta Annotation declarada no atributo, ou null caso não tenha nenhuma.
+   *
+   * @return the primeira RFWMeta Annotation declarada no atributo
+   */
+  public Annotation getMetaAnnotation() {
+    return metaAnnotation;
+  }
+
+  /**
+   * # tipo da primeira RFWMeta Annotation declarada no atributo, ou null caso não tenha nenhuma.
+   *
+   * @return the tipo da RFWMeta Annotation
+   */
+  public Class<? extends Annotation> getMetaAnnotationType() {
+    return metaAnnotation != null ? metaAnnotation.annotationType() : null;
+  }
+
+  /**
+   * # valor do atributo 'caption' da RFWMeta Annotation, ou null caso não exista.
+   *
+   * @return the caption
+   */
+  public String getCaption() {
+    return caption;
+  }
+
+  /**
+   * # valor do atributo 'required' da RFWMeta Annotation, ou null caso não exista.
+   *
+   * @return the required
+   */
+  public Boolean getRequired() {
+    return required;
+  }
+
+  /**
+   * # valor do atributo 'preProcess' da RFWMeta Annotation, ou null caso não exista.
+   *
+   * @return the preProcess
+   */
+  public PreProcessOption[] getPreProcess() {
+    return preProcess;
+  }
+
+  /**
+   * # método get (ou is/are) do atributo. Null caso não exista.
+   *
+   * @return the getter
+   */
+  public Method getGetter() {
+    return getter;
+  }
+
+  /**
+   * # método set do atributo. Null caso não exista.
+   *
+   * @return the setter
+   */
+  public Method getSetter() {
+    return setter;
+  }
+}
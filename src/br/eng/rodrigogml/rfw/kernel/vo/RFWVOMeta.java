@@ -0,0 +1,234 @@
+package br.eng.rodrigogml.rfw.kernel.vo;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import br.eng.rodrigogml.rfw.kernel.logger.RFWLogger;
+
+/**
+ * Description: Registro dos metadados das classes de {@link RFWVO}.<br>
+ * A reflexão de cada classe (fields declarados, RFWMeta Annotations, caption, required, preProcess e métodos de get/set) é feita uma única vez e mantida em cache, evitando que o RFWValidator, o PreProcess e o RUReflex repitam a mesma análise em toda chamada.<br>
+ * Quando a classe de acesso gerada pelo RFWVOProcessor ({@link RFWVOAccessor}) estiver presente, os valores dos atributos são lidos e escritos por ela, sem reflexão.<br>
+ * O cache é thread-safe e os objetos retornados são imutáveis.
+ *
+ * @author Rodrigo GML
+ * @since 1.0.0 (17 de out. de 2026)
+ */
+public final class RFWVOMeta {
+
+  /**
+   * Cache dos metadados já montados, indexados pela classe.
+   */
+  private static final ConcurrentHashMap<Class<?>, RFWVOMeta> metaCache = new ConcurrentHashMap<>();
+
+  /**
+   * Classe descrita por este objeto.
+   */
+  private final Class<?> voClass;
+
+  /**
+   * Metadados dos fields declarados diretamente na classe ({@link Class#getDeclaredFields()}), na mesma ordem.
+   */
+  private final List<RFWVOFieldMeta> declaredFields;
+
+  /**
+   * Metadados dos fields da classe e de todas as classes pai, começando pela própria classe e subindo na hierarquia.
+   */
+  private final List<RFWVOFieldMeta> fieldsRecursively;
+
+  /**
+   * Definições dos fields de toda a hierarquia, na mesma ordem de {@link #fieldsRecursively}.
+   */
+  private final Field[] fieldsRecursivelyArray;
+
+  /**
+   * Metadados indexados pelo nome do atributo. Quando o mesmo nome é declarado em mais de um nível da hierarquia, prevalece o da classe mais específica.
+   */
+  private final Map<String, RFWVOFieldMeta> fieldsByName;
+
+  /**
+   * Classe de acesso gerada pelo RFWVOProcessor para esta classe, ou null caso não tenha sido gerada.
+   */
+  private final RFWVOAccessor<?> accessor;
+
+  /**
+   * Atributos acompanhados pelo controle de alterações do {@link RFWVO}: os atributos com método get, não estáticos e não transientes, de toda a hierarquia. Dos atributos do próprio {@link RFWVO} apenas o ID é acompanhado.
+   */
+  private final RFWVOFieldMeta[] trackedFields;
+
+  /**
+   * Posição de cada atributo em {@link #trackedFields}, indexado pelo nome.
+   */
+  private final Map<String, Integer> trackedFieldIndexes;
+
+  private RFWVOMeta(Class<?> voClass) {
+    this.voClass = voClass;
+    this.accessor = loadAccessor(voClass);
+
+    final ArrayList<RFWVOFieldMeta> declared = new ArrayList<>();
+    final ArrayList<RFWVOFieldMeta> all = new ArrayList<>();
+    final HashMap<String, RFWVOFieldMeta> byName = new HashMap<>();
+    Class<?> clazz = voClass;
+    while (clazz != null) {
+      for (Field field : clazz.getDeclaredFields()) {
+        final RFWVOFieldMeta fieldMeta = new RFWVOFieldMeta(voClass, field, this.accessor);
+        if (clazz == voClass) declared.add(fieldMeta);
+        all.add(fieldMeta);
+        byName.putIfAbsent(fieldMeta.getName(), fieldMeta);
+      }
+      clazz = clazz.getSuperclass();
+    }
+    this.declaredFields = Collections.unmodifiableList(declared);
+    this.fieldsRecursively = Collections.unmodifiableList(all);
+    this.fieldsByName = byName;
+
+    this.fieldsRecursivelyArray = new Field[all.size()];
+    for (int i = 0; i < all.size(); i++) {
+      this.fieldsRecursivelyArray[i] = all.get(i).getField();
+    }
+
+    final ArrayList<RFWVOFieldMeta> tracked = new ArrayList<>();
+    final HashMap<String, Integer> trackedIndexes = new HashMap<>();
+    for (RFWVOFieldMeta fieldMeta : all) {
+      final Field field = fieldMeta.getField();
+      if (Modifier.isStatic(field.getModifiers()) || Modifier.isTransient(field.getModifiers()) || fieldMeta.getGetter() == null) continue;
+      if (field.getDeclaringClass() == RFWVO.class && !"id".equals(fieldMeta.getName())) continue;
+      if (trackedIndexes.putIfAbsent(fieldMeta.getName(), tracked.size()) == null) tracked.add(fieldMeta);
+    }
+    this.trackedFields = tracked.toArray(new RFWVOFieldMeta[tracked.size()]);
+    this.trackedFieldIndexes = trackedIndexes;
+  }
+
+  /**
+   * Procura a classe de acesso gerada em tempo de compilação pelo RFWVOProcessor. Quando não encontrada os atributos continuam sendo acessados por reflexão.
+   */
+  private static RFWVOAccessor<?> loadAccessor(Class<?> voClass) {
+    if (RFWVO.class.isAssignableFrom(voClass)) {
+      try {
+        final Class<?> accessorClass = Class.forName(voClass.getName() + RFWVOAccessor.SUFFIX, true, voClass.getClassLoader());
+        if (RFWVOAccessor.class.isAssignableFrom(accessorClass)) {
+          final RFWVOAccessor<?> accessor = (RFWVOAccessor<?>) accessorClass.newInstance();
+          if (accessor.getVOClass() == voClass) return accessor;
+        }
+      } catch (ClassNotFoundException e) {
+        // Classe não gerada, seguimos com a reflexão
+      } catch (Throwable e) {
+        RFWLogger.logWarn("Falha ao carregar a classe de acesso gerada para '" + voClass.getCanonicalName() + "'. Os atributos serão acessados por reflexão: " + e.getMessage());
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Recupera os metadados da classe passada. Na primeira chamada para cada classe a reflexão é realizada e o resultado armazenado em cache, as chamadas seguintes retornam o mesmo objeto.
+   *
+   * @param voClass Classe a ser analisada.
+   * @return Metadados da classe.
+   */
+  public static RFWVOMeta getInstance(Class<?> voClass) {
+    Objects.requireNonNull(voClass, "A classe não pode ser nula para obter os metadados!");
+    RFWVOMeta meta = metaCache.get(voClass);
+    if (meta == null) {
+      // Não utilizamos o computeIfAbsent para não bloquear o mapa durante a reflexão. Se duas threads montarem a mesma classe ao mesmo tempo, apenas a primeira instância é mantida.
+      meta = new RFWVOMeta(voClass);
+      final RFWVOMeta previous = metaCache.putIfAbsent(voClass, meta);
+      if (previous != null) meta = previous;
+    }
+    return meta;
+  }
+
+  /**
+   * Descarta todos os metadados em cache. Útil em ambientes que recarregam as classes (como redeploy de aplicações), para não manter referências às classes antigas.
+   */
+  public static void clearCache() {
+    metaCache.clear();
+  }
+
+  /**
+   * Recupera os metadados de um atributo da classe ou de qualquer classe pai.
+   *
+   * @param fieldName Nome do atributo.
+   * @return Metadados do atributo, ou null caso o atributo não exista na hierarquia da classe.
+   */
+  public RFWVOFieldMeta getField(String fieldName) {
+    return this.fieldsByName.get(fieldName);
+  }
+
+  /**
+   * # classe de acesso gerada pelo RFWVOProcessor para esta classe, ou null caso não tenha sido gerada.
+   *
+   * @return the classe de acesso gerada
+   */
+  public RFWVOAccessor<?> getAccessor() {
+    return accessor;
+  }
+
+  /**
+   * # classe descrita por este objeto.
+   *
+   * @return the classe descrita por este objeto
+   */
+  public Class<?> getVOClass() {
+    return voClass;
+  }
+
+  /**
+   * # metadados dos fields declarados diretamente na classe ({@link Class#getDeclaredFields()}), na mesma ordem.
+   *
+   * @return lista imutável com os metadados
+   */
+  public List<RFWVOFieldMeta> getDeclaredFields() {
+    return declaredFields;
+  }
+
+  /**
+   * # metadados dos fields da classe e de todas as classes pai, começando pela própria classe e subindo na hierarquia.
+   *
+   * @return lista imutável com os metadados
+   */
+  public List<RFWVOFieldMeta> getFieldsRecursively() {
+    return fieldsRecursively;
+  }
+
+  /**
+   * Recupera as definições dos fields da classe e de todas as classes pai, na mesma ordem de {@link #getFieldsRecursively()}.
+   *
+   * @return Cópia do array com as definições, pode ser alterada livremente por quem chamou.
+   */
+  public Field[] getDeclaredFieldsRecursively() {
+    return Arrays.copyOf(this.fieldsRecursivelyArray, this.fieldsRecursivelyArray.length);
+  }
+
+  /**
+   * Recupera a quantidade de atributos acompanhados pelo controle de alterações do {@link RFWVO}.
+   */
+  int getTrackedFieldCount() {
+    return this.trackedFields.length;
+  }
+
+  /**
+   * Recupera o atributo acompanhado pelo controle de alterações na posição informada.
+   */
+  RFWVOFieldMeta getTrackedField(int index) {
+    return this.trackedFields[index];
+  }
+
+  /**
+   * Recupera a posição do atributo no controle de alterações do {@link RFWVO}.
+   *
+   * @param fieldName Nome do atributo.
+   * @return Posição do atributo ou -1 caso o atributo não seja acompanhado.
+   */
+  int getTrackedFieldIndex(String fieldName) {
+    final Integer index = this.trackedFieldIndexes.get(fieldName);
+    return index == null ? -1 : index;
+  }
+}
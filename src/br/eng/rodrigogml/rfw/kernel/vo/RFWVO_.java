@@ -16,6 +16,11 @@ public abstract class RFWVO_ implements Serializable {
 
   private final String basepath;
 
+  /**
+   * Caminho base já montado como {@link RFWAttributePath}. Quando o Meta Object é criado pelo construtor com String, é interpretado apenas quando solicitado.
+   */
+  private RFWAttributePath attributePath;
+
   protected RFWVO_() {
     this.basepath = null;
   }
@@ -24,15 +29,52 @@ public abstract class RFWVO_ implements Serializable {
     this.basepath = basepath;
   }
 
+  /**
+   * Cria o Meta Object a partir de um caminho já montado. Usado na navegação entre os Meta Objects para que nenhuma String seja montada até que o caminho de um atributo seja solicitado.
+   *
+   * @param basepath Caminho base.
+   */
+  public RFWVO_(RFWAttributePath basepath) {
+    this.basepath = null;
+    this.attributePath = basepath == null || basepath.isRoot() ? null : basepath;
+  }
+
   public String path() {
+    if (basepath == null && attributePath != null) return attributePath.toString();
     return (basepath != null ? basepath : "");
   }
 
+  /**
+   * Retorna o caminho base deste Meta Object.
+   *
+   * @return Caminho base, ou {@link RFWAttributePath#ROOT} caso seja o Meta Object raiz.
+   */
+  public RFWAttributePath attributePath() {
+    RFWAttributePath path = attributePath;
+    if (path == null) {
+      path = basepath == null ? RFWAttributePath.ROOT : RFWAttributePath.parse(basepath);
+      attributePath = path;
+    }
+    return path;
+  }
+
+  /**
+   * Cria o caminho do atributo sem montar a String, para a navegação entre os Meta Objects.
+   *
+   * @param attribute Nome do atributo a ser anexado.
+   * @return Caminho do atributo.
+   */
+  protected RFWAttributePath attributePath(String attribute) {
+    return attributePath().child(attribute);
+  }
+
   protected String getAttributePath(String attribute) {
+    if (basepath == null && attributePath != null) return attributePath.child(attribute).toString();
     return RUReflex.getAttributePath(attribute, basepath);
   }
 
   protected String getAttributePath(String attribute, int index) {
+    if (basepath == null && attributePath != null) return attributePath.child(attribute, index).toString();
     return RUReflex.getAttributePath(attribute, index, basepath);
   }
 
@@ -45,6 +87,7 @@ public abstract class RFWVO_ implements Serializable {
    * @return
    */
   protected String getAttributePath(String attribute, Object key, Class<?> clazz) {
+    if (basepath == null && attributePath != null) return attributePath.child(attribute, key, clazz).toString();
     return RUReflex.getAttributePath(attribute, key, clazz, basepath);
   }
 
@@ -0,0 +1,244 @@
+package br.eng.rodrigogml.rfw.kernel.interfaces;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWCriticalException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWMO;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWMO.Operator;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWMO.RFWMOData;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWMOEvaluator;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWOrderBy;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWVO;
+
+/**
+ * Description: Testes das implementações padrão do {@link RFWDBProvider} e do {@link RFWDBPagedCursor}.<br>
+ *
+ * @author Rodrigo GML
+ * @since 1.0.0 (17 de out. de 2026)
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class RFWDBProviderTest {
+
+  public static class ItemVO extends RFWVO {
+    private static final long serialVersionUID = 1L;
+
+    private String code;
+
+    public ItemVO() {
+    }
+
+    public ItemVO(long id) {
+      setId(id);
+      this.code = "C" + id;
+    }
+
+    public String getCode() {
+      return code;
+    }
+
+    public void setCode(String code) {
+      this.code = code;
+    }
+  }
+
+  /**
+   * DBProvider em memória que implementa apenas os métodos obrigatórios, registrando as consultas realizadas pelos métodos padrão.
+   */
+  private static class MemoryDBProvider implements RFWDBProvider {
+    final List<ItemVO> rows = new ArrayList<>();
+
+    /**
+     * Quantidade de valores da condição IN de cada consulta.
+     */
+    final List<Integer> inSizes = new ArrayList<>();
+
+    /**
+     * Offsets das consultas do findList.
+     */
+    final List<Integer> offsets = new ArrayList<>();
+
+    MemoryDBProvider(int size) {
+      for (long id = 1; id <= size; id++) {
+        this.rows.add(new ItemVO(id));
+      }
+    }
+
+    private List<ItemVO> query(RFWMO mo) throws RFWException {
+      if (mo != null) {
+        for (RFWMOData data : mo.getConditions(Operator.IN)) {
+          this.inSizes.add(((Collection<?>) data.getValue()).size());
+        }
+      }
+      final List<ItemVO> list = RFWMOEvaluator.filter(this.rows, mo);
+      // Sem ordenação o banco não garante a ordem, devolvemos invertido para validar que a ordem dos IDs recebidos é mantida
+      Collections.reverse(list);
+      return list;
+    }
+
+    @Override
+    public <VO extends RFWVO> List<Long> findIDs(Class<VO> voClass, RFWMO mo, RFWOrderBy orderBy) throws RFWException {
+      return findIDs(voClass, mo, orderBy, null, null);
+    }
+
+    @Override
+    public <VO extends RFWVO> List<Long> findIDs(Class<VO> voClass, RFWMO mo, RFWOrderBy orderBy, Integer offset, Integer limit) throws RFWException {
+      final ArrayList<Long> ids = new ArrayList<>();
+      for (ItemVO vo : query(mo)) {
+        ids.add(vo.getId());
+      }
+      return ids;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <VO extends RFWVO> List<VO> findList(Class<VO> voClass, RFWMO mo, RFWOrderBy orderBy, String[] attributes, Integer offset, Integer limit) throws RFWException {
+      if (offset == null) return (List<VO>) query(mo);
+      // Consulta paginada na ordem dos IDs
+      this.offsets.add(offset);
+      final int start = Math.min(offset, this.rows.size());
+      final int end = limit == null ? this.rows.size() : Math.min(this.rows.size(), start + limit);
+      return new ArrayList<>((List<VO>) this.rows.subList(start, end));
+    }
+
+    @Override
+    public <VO extends RFWVO> RFWVO findByID(Class<? extends RFWVO> voClass, Long id, String[] attributes) throws RFWException {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <VO extends RFWVO> RFWVO findUniqueMatch(Class<? extends RFWVO> voClass, RFWMO mo, String[] attributes) throws RFWException {
+      throw new UnsupportedOperationException();
+    }
+  }
+
+  /**
+   * IDs de 1 até o tamanho passado em ordem decrescente, com IDs nulos e repetidos e um ID inexistente no final.
+   */
+  private static List<Long> ids(int size) {
+    final ArrayList<Long> ids = new ArrayList<>();
+    for (long id = size; id >= 1; id--) {
+      ids.add(id);
+      if (id % 100 == 0) {
+        ids.add(null);
+        ids.add(id);
+      }
+    }
+    ids.add(99999L);
+    return ids;
+  }
+
+  @Test
+  public void t00_findByIDs() throws RFWException {
+    final MemoryDBProvider provider = new MemoryDBProvider(1200);
+
+    // 1100 IDs mais o inexistente cruzam o limite de cada consulta
+    final Map<Long, ItemVO> map = provider.findByIDs(ItemVO.class, ids(1100), null);
+    assertEquals(Arrays.asList(RFWDBProvider.INCHUNKSIZE, RFWDBProvider.INCHUNKSIZE, 101), provider.inSizes);
+    assertEquals(1100, map.size());
+    assertFalse(map.containsKey(99999L));
+    assertFalse(map.containsKey(null));
+    // O Map mantém a ordem dos IDs recebidos
+    long expected = 1100;
+    for (Map.Entry<Long, ItemVO> entry : map.entrySet()) {
+      assertEquals(Long.valueOf(expected), entry.getKey());
+      assertEquals("C" + expected, entry.getValue().getCode());
+      expected--;
+    }
+
+    // Exatamente o tamanho do bloco é feito em uma única consulta
+    provider.inSizes.clear();
+    final ArrayList<Long> exact = new ArrayList<>();
+    for (long id = 1; id <= RFWDBProvider.INCHUNKSIZE; id++) {
+      exact.add(id);
+    }
+    assertEquals(RFWDBProvider.INCHUNKSIZE, provider.findByIDs(ItemVO.class, exact, null).size());
+    assertEquals(Arrays.asList(RFWDBProvider.INCHUNKSIZE), provider.inSizes);
+
+    // Lista vazia, ou só com nulos, não consulta o banco
+    provider.inSizes.clear();
+    assertTrue(provider.findByIDs(ItemVO.class, new ArrayList<Long>(), null).isEmpty());
+    assertTrue(provider.findByIDs(ItemVO.class, Arrays.asList((Long) null), null).isEmpty());
+    assertTrue(provider.inSizes.isEmpty());
+  }
+
+  @Test
+  public void t01_existsIDs() throws RFWException {
+    final MemoryDBProvider provider = new MemoryDBProvider(1000);
+
+    // IDs de 1 a 1100, dos quais apenas até 1000 existem
+    final Set<Long> found = provider.existsIDs(ItemVO.class, ids(1100));
+    assertEquals(Arrays.asList(RFWDBProvider.INCHUNKSIZE, RFWDBProvider.INCHUNKSIZE, 101), provider.inSizes);
+    assertEquals(1000, found.size());
+    assertTrue(found.contains(1L));
+    assertTrue(found.contains(500L));
+    assertTrue(found.contains(501L));
+    assertTrue(found.contains(1000L));
+    assertFalse(found.contains(1001L));
+    assertFalse(found.contains(99999L));
+
+    provider.inSizes.clear();
+    assertTrue(provider.existsIDs(ItemVO.class, new ArrayList<Long>()).isEmpty());
+    assertTrue(provider.inSizes.isEmpty());
+  }
+
+  @Test
+  public void t02_count() throws RFWException {
+    final MemoryDBProvider provider = new MemoryDBProvider(1200);
+    assertEquals(1200, provider.count(ItemVO.class, null));
+    assertEquals(700, provider.count(ItemVO.class, new RFWMO().greaterThan("id", 500L)));
+    assertEquals(0, provider.count(ItemVO.class, new RFWMO().equal("code", "X")));
+  }
+
+  @Test
+  public void t03_findListCursor() throws RFWException {
+    // Última página incompleta: 10 páginas cheias e uma com 50 objetos
+    final MemoryDBProvider provider = new MemoryDBProvider(1050);
+    RFWDBCursor<ItemVO> cursor = provider.findListCursor(ItemVO.class, null, null, null, 100);
+    long expected = 1;
+    while (cursor.hasNext()) {
+      assertEquals(Long.valueOf(expected++), cursor.next().getId());
+    }
+    assertEquals(1051, expected);
+    assertEquals(11, provider.offsets.size());
+    assertEquals(Integer.valueOf(1000), provider.offsets.get(10));
+    // Depois da página incompleta o cursor não consulta mais o banco
+    assertFalse(cursor.hasNext());
+    assertEquals(11, provider.offsets.size());
+    final RFWDBCursor<ItemVO> finished = cursor;
+    assertThrows(RFWCriticalException.class, () -> finished.next());
+
+    // Com a quantidade múltipla do tamanho da página, o fim é identificado pela página vazia
+    provider.offsets.clear();
+    cursor = provider.findListCursor(ItemVO.class, null, null, null, 150);
+    int count = 0;
+    while (cursor.hasNext()) {
+      cursor.next();
+      count++;
+    }
+    assertEquals(1050, count);
+    assertEquals(8, provider.offsets.size());
+
+    // Sem resultados
+    final MemoryDBProvider empty = new MemoryDBProvider(0);
+    assertFalse(empty.findListCursor(ItemVO.class, null, null, null, 10).hasNext());
+    assertEquals(1, empty.offsets.size());
+
+    assertThrows(RFWCriticalException.class, () -> provider.findListCursor(ItemVO.class, null, null, null, 0));
+  }
+}
@@ -0,0 +1,441 @@
+package br.eng.rodrigogml.rfw.kernel.preprocess;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWCriticalException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWValidationException;
+import br.eng.rodrigogml.rfw.kernel.preprocess.PreProcess.PreProcessOption;
+import br.eng.rodrigogml.rfw.kernel.rfwmeta.RFWMetaBigDecimalField;
+import br.eng.rodrigogml.rfw.kernel.rfwmeta.RFWMetaRelationshipField;
+import br.eng.rodrigogml.rfw.kernel.rfwmeta.RFWMetaRelationshipField.RelationshipTypes;
+import br.eng.rodrigogml.rfw.kernel.rfwmeta.RFWMetaStringField;
+import br.eng.rodrigogml.rfw.kernel.utils.RUString;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWField;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWVO;
+
+/**
+ * Description: Testes da classe {@link PreProcess}.<br>
+ *
+ * @author Rodrigo GML
+ * @since 1.0.0 (17 de out. de 2026)
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class PreProcessTest {
+
+  public static class ItemVO extends RFWVO {
+    private static final long serialVersionUID = 1L;
+
+    private String code;
+
+    private Integer quantity;
+
+    private BigDecimal price;
+
+    public ItemVO() {
+    }
+
+    public ItemVO(String code, Integer quantity, String price) {
+      this.code = code;
+      this.quantity = quantity;
+      this.price = price == null ? null : new BigDecimal(price);
+    }
+
+    public String getCode() {
+      return code;
+    }
+
+    public void setCode(String code) {
+      this.code = code;
+    }
+
+    public Integer getQuantity() {
+      return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+      this.quantity = quantity;
+    }
+
+    public BigDecimal getPrice() {
+      return price;
+    }
+
+    public void setPrice(BigDecimal price) {
+      this.price = price;
+    }
+  }
+
+  public static class LineVO extends RFWVO {
+    private static final long serialVersionUID = 1L;
+
+    @RFWMetaStringField(caption = "Descrição", required = false, maxLength = 10, preProcess = { PreProcessOption.STRING_SPACESCLEAN_TO_NULL, PreProcessOption.STRING_UPPERCASE, PreProcessOption.STRING_TRUNCATE })
+    private String description;
+
+    @RFWMetaBigDecimalField(caption = "Preço", required = false)
+    private BigDecimal price;
+
+    public LineVO() {
+    }
+
+    public LineVO(String description, String price) {
+      this.description = description;
+      this.price = price == null ? null : new BigDecimal(price);
+    }
+
+    public String getDescription() {
+      return description;
+    }
+
+    public void setDescription(String description) {
+      this.description = description;
+    }
+
+    public BigDecimal getPrice() {
+      return price;
+    }
+
+    public void setPrice(BigDecimal price) {
+      this.price = price;
+    }
+  }
+
+  public static class DocumentVO extends RFWVO {
+    private static final long serialVersionUID = 1L;
+
+    @RFWMetaStringField(caption = "Código", required = false, maxLength = 10, preProcess = PreProcessOption.STRING_UPPERCASE)
+    private String code;
+
+    @RFWMetaStringField(caption = "Observação", required = false, maxLength = 100, preProcess = PreProcessOption.STRING_SPACESCLEAN_TO_NULL)
+    private String note;
+
+    @RFWMetaBigDecimalField(caption = "Total", required = false)
+    private BigDecimal total;
+
+    @RFWMetaRelationshipField(caption = "Linha Principal", required = false, relationship = RelationshipTypes.COMPOSITION)
+    private LineVO mainLine;
+
+    @RFWMetaRelationshipField(caption = "Linhas", required = false, relationship = RelationshipTypes.COMPOSITION)
+    private List<LineVO> lines = new ArrayList<>();
+
+    public String getCode() {
+      return code;
+    }
+
+    public void setCode(String code) {
+      this.code = code;
+    }
+
+    public String getNote() {
+      return note;
+    }
+
+    public void setNote(String note) {
+      this.note = note;
+    }
+
+    public BigDecimal getTotal() {
+      return total;
+    }
+
+    public void setTotal(BigDecimal total) {
+      this.total = total;
+    }
+
+    public LineVO getMainLine() {
+      return mainLine;
+    }
+
+    public void setMainLine(LineVO mainLine) {
+      this.mainLine = mainLine;
+    }
+
+    public List<LineVO> getLines() {
+      return lines;
+    }
+
+    public void setLines(List<LineVO> lines) {
+      this.lines = lines;
+    }
+  }
+
+  public static class TagVO extends RFWVO {
+    private static final long serialVersionUID = 1L;
+
+    @RFWMetaStringField(caption = "Etiqueta", required = false, maxLength = 10, preProcess = PreProcessOption.STRING_UPPERCASE)
+    private Object tag;
+
+    public TagVO() {
+    }
+
+    public TagVO(Object tag) {
+      this.tag = tag;
+    }
+
+    public Object getTag() {
+      return tag;
+    }
+
+    public void setTag(Object tag) {
+      this.tag = tag;
+    }
+  }
+
+  public static class CounterVO extends RFWVO {
+    private static final long serialVersionUID = 1L;
+
+    private Long total;
+
+    public CounterVO() {
+    }
+
+    public CounterVO(Long total) {
+      this.total = total;
+    }
+
+    public Long getTotal() {
+      return total;
+    }
+
+    public void setTotal(Long total) {
+      this.total = total;
+    }
+  }
+
+  public static class TagListVO extends RFWVO {
+    private static final long serialVersionUID = 1L;
+
+    @RFWMetaRelationshipField(caption = "Etiquetas", required = false, relationship = RelationshipTypes.COMPOSITION)
+    private List<TagVO> tags = new ArrayList<>();
+
+    public List<TagVO> getTags() {
+      return tags;
+    }
+
+    public void setTags(List<TagVO> tags) {
+      this.tags = tags;
+    }
+  }
+
+  @Test
+  public void t00_aggregate() throws RFWException {
+    final ArrayList<ItemVO> list = new ArrayList<>();
+    list.add(new ItemVO("B", 2, "10.50"));
+    list.add(null);
+    list.add(new ItemVO("A", 3, "1.25"));
+    list.add(new ItemVO(null, null, null));
+    list.add(new ItemVO("C", 5, "2.00"));
+
+    final RFWAggregation agg = PreProcess.aggregate(list, RFWField.sum("quantity"), RFWField.maximum("price"), RFWField.minimum("code"), RFWField.count(), RFWField.sum(RFWField.multiply(RFWField.field("quantity"), RFWField.field("price"))));
+    assertEquals(4L, agg.getRowCount());
+
+    final RFWAggregation.Column quantity = agg.getColumn(0);
+    assertEquals(3L, quantity.getCount());
+    assertEquals(10L, quantity.getSum());
+    assertEquals(3L, quantity.getAvg());
+    assertEquals(2L, quantity.getMin());
+    assertEquals(5L, quantity.getMax());
+    assertEquals(10L, agg.getValue(0));
+
+    final RFWAggregation.Column price = agg.getColumn(1);
+    assertEquals(new BigDecimal("13.75"), price.getSum());
+    assertEquals(PreProcess.avg(new BigDecimal("10.50"), new BigDecimal("1.25"), new BigDecimal("2.00")), price.getAvg());
+    assertEquals(new BigDecimal("10.50"), agg.getValue(1));
+
+    assertEquals("A", agg.getValue(2));
+    assertNull(agg.getColumn(2).getSum());
+    assertEquals(4L, agg.getValue(3));
+    assertEquals(new BigDecimal("34.75"), agg.getValue(4));
+
+    // Colunas sem valores
+    final RFWAggregation empty = PreProcess.aggregate(new ArrayList<ItemVO>(), "price");
+    assertEquals(0L, empty.getRowCount());
+    assertNull(empty.getColumn(0).getSum());
+    assertNull(empty.getColumn(0).getAvg());
+
+    assertThrows(RFWCriticalException.class, () -> PreProcess.aggregate(list, RFWField.year("code")));
+  }
+
+  @Test
+  public void t01_aggregateParallel() throws RFWException {
+    final ArrayList<ItemVO> list = new ArrayList<>();
+    for (int i = 0; i < 10000; i++) {
+      list.add(new ItemVO("C" + i, i % 7, i % 3 == 0 ? null : (i % 100) + ".01"));
+    }
+    final RFWAggregation sequential = PreProcess.aggregate(list, "quantity", "price", "code");
+    final ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      final RFWAggregation parallel = PreProcess.aggregate(list, 100, executor, RFWField.field("quantity"), RFWField.field("price"), RFWField.field("code"));
+      assertEquals(sequential.getRowCount(), parallel.getRowCount());
+      for (int i = 0; i < 3; i++) {
+        assertEquals(sequential.getColumn(i).getCount(), parallel.getColumn(i).getCount());
+        assertEquals(sequential.getColumn(i).getSum(), parallel.getColumn(i).getSum());
+        assertEquals(sequential.getColumn(i).getAvg(), parallel.getColumn(i).getAvg());
+        assertEquals(sequential.getColumn(i).getMin(), parallel.getColumn(i).getMin());
+        assertEquals(sequential.getColumn(i).getMax(), parallel.getColumn(i).getMax());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void t02_requiredMatch() throws RFWException {
+    PreProcess.requiredMatch(null, "\\d+");
+    PreProcess.requiredMatch("123", "\\d+");
+    PreProcess.requiredNonNullMatch("123", "\\d+");
+    assertThrows(RFWValidationException.class, () -> PreProcess.requiredMatch("12a", "\\d+"));
+    assertThrows(RFWValidationException.class, () -> PreProcess.requiredNonNullMatch("12a", "\\d+"));
+    assertThrows(RFWValidationException.class, () -> PreProcess.requiredNonNullMatch(null, "\\d+"));
+    assertThrows(RFWValidationException.class, () -> PreProcess.requiredMatch("123", "(\\d+"));
+  }
+
+  @Test
+  public void t03_processVOPlan() throws RFWException {
+    PreProcess.clearCache();
+    final DocumentVO vo = new DocumentVO();
+    vo.setCode("abc1");
+    vo.setNote("   ");
+    vo.setTotal(new BigDecimal("10.50"));
+    vo.setMainLine(new LineVO("  caneta   azul  ", "1.99"));
+    vo.getLines().add(new LineVO("lápis de cor aquarelável", "3.50"));
+    vo.getLines().add(new LineVO("", null));
+    final BigDecimal total = vo.getTotal();
+    final BigDecimal price = vo.getMainLine().getPrice();
+
+    PreProcess.processVO(vo);
+
+    // Atributos de String com pré-processamento têm o resultado escrito de volta no objeto
+    assertEquals("ABC1", vo.getCode());
+    assertNull(vo.getNote());
+    // Os BigDecimals não têm pré-processamento, ficam fora do plano e não são reescritos
+    assertSame(total, vo.getTotal());
+    assertSame(price, vo.getMainLine().getPrice());
+    // Objetos de composição são processados recursivamente
+    assertEquals("CANETA AZU", vo.getMainLine().getDescription());
+    assertEquals("LÁPIS DE C", vo.getLines().get(0).getDescription());
+    assertEquals(new BigDecimal("3.50"), vo.getLines().get(0).getPrice());
+    assertNull(vo.getLines().get(1).getDescription());
+
+    // O plano da classe tem apenas os atributos com pré-processamento ou composição, e é reaproveitado pelos próximos objetos
+    final PreProcess.PreProcessField[] plan = PreProcess.getPlan(DocumentVO.class);
+    assertEquals(4, plan.length);
+    assertEquals("code", plan[0].field.getName());
+    assertEquals("note", plan[1].field.getName());
+    assertEquals("mainLine", plan[2].field.getName());
+    assertEquals("lines", plan[3].field.getName());
+    assertEquals(1, PreProcess.getPlan(LineVO.class).length);
+
+    final DocumentVO other = new DocumentVO();
+    other.setCode("xyz");
+    other.setNote(" nota  final ");
+    PreProcess.processVO(other);
+    assertEquals("XYZ", other.getCode());
+    assertEquals("nota final", other.getNote());
+    assertSame(plan, PreProcess.getPlan(DocumentVO.class));
+
+    // Depois de limpar o cache o plano é montado novamente
+    PreProcess.clearCache();
+    assertNotSame(plan, PreProcess.getPlan(DocumentVO.class));
+  }
+
+  @Test
+  public void t04_processVOParallel() throws RFWException {
+    final DocumentVO vo = new DocumentVO();
+    vo.setCode("doc");
+    for (int i = 0; i < 5000; i++) {
+      vo.getLines().add(new LineVO(" item  " + i + " ", i % 2 == 0 ? "1.00" : null));
+    }
+    // A mesma instância repetida na coleção é processada uma única vez
+    final LineVO repeated = new LineVO(" repetido ", null);
+    vo.getLines().add(repeated);
+    vo.getLines().add(repeated);
+
+    final ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      PreProcess.processVO(vo, 100, executor);
+    } finally {
+      executor.shutdown();
+    }
+    assertEquals("DOC", vo.getCode());
+    for (int i = 0; i < 5000; i++) {
+      assertEquals(RUString.truncate("ITEM " + i, 10), vo.getLines().get(i).getDescription());
+    }
+    assertEquals("REPETIDO", repeated.getDescription());
+
+    // Com o executor padrão e abaixo do limite mínimo o resultado é o mesmo
+    final DocumentVO small = new DocumentVO();
+    small.getLines().add(new LineVO(" a ", null));
+    PreProcess.processVO(small, 100, null);
+    assertEquals("A", small.getLines().get(0).getDescription());
+
+    assertThrows(RFWCriticalException.class, () -> PreProcess.processVO(small, 0, null));
+  }
+
+  @Test
+  public void t05_processVOParallelFailure() throws RFWException {
+    final TagListVO vo = new TagListVO();
+    for (int i = 0; i < 1000; i++) {
+      // O preProcess de String não é válido para os valores que não são String
+      vo.getTags().add(new TagVO(i == 733 || i == 901 ? (Object) Integer.valueOf(i) : "t" + i));
+    }
+
+    final RFWException e = assertThrows(RFWCriticalException.class, () -> PreProcess.processVO(vo, 10, null));
+    // O erro do primeiro item que falhou é lançado sem alteração, como no processamento sequencial
+    assertTrue(e.getExceptionCode().startsWith("O preProcess"));
+    assertArrayEquals(new String[] { "STRING_UPPERCASE", "tag", TagVO.class.getCanonicalName() }, e.getParams());
+    // Os demais itens foram processados normalmente
+    assertEquals("T0", vo.getTags().get(0).getTag());
+    assertEquals("T999", vo.getTags().get(999).getTag());
+  }
+
+  @Test
+  public void t06_aggregateLongOverflow() throws RFWException {
+    final ArrayList<CounterVO> list = new ArrayList<>();
+    list.add(new CounterVO(Long.MAX_VALUE));
+    list.add(new CounterVO(-5L));
+    list.add(new CounterVO(10L));
+
+    // A soma que não cabe em um long passa a ser calculada em BigDecimal, mantendo o mínimo e o máximo
+    final RFWAggregation.Column column = PreProcess.aggregate(list, "total").getColumn(0);
+    assertEquals(BigDecimal.valueOf(Long.MAX_VALUE).add(BigDecimal.valueOf(5)), column.getSum());
+    assertEquals(BigDecimal.valueOf(-5), column.getMin());
+    assertEquals(BigDecimal.valueOf(Long.MAX_VALUE), column.getMax());
+    assertEquals(3L, column.getCount());
+
+    // Cada parte cabe em um long, mas a junção dos resultados parciais não
+    list.clear();
+    BigDecimal expected = BigDecimal.ZERO;
+    for (int i = 0; i < 1000; i++) {
+      final long value = Long.MAX_VALUE / 200 + i;
+      list.add(new CounterVO(value));
+      expected = expected.add(BigDecimal.valueOf(value));
+    }
+    final ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      final RFWAggregation.Column parallel = PreProcess.aggregate(list, 10, executor, RFWField.field("total")).getColumn(0);
+      assertEquals(expected, parallel.getSum());
+      assertEquals(BigDecimal.valueOf(Long.MAX_VALUE / 200), parallel.getMin());
+      assertEquals(BigDecimal.valueOf(Long.MAX_VALUE / 200 + 999), parallel.getMax());
+      assertEquals(expected, PreProcess.aggregate(list, "total").getColumn(0).getSum());
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
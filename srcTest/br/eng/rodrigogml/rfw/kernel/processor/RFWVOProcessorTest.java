@@ -0,0 +1,176 @@
+package br.eng.rodrigogml.rfw.kernel.processor;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWCriticalException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWVO;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWVOAccessor;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWVOFieldMeta;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWVOMeta;
+
+/**
+ * Description: Testes da classe {@link RFWVOProcessor}, compilando VOs de exemplo com o processador e verificando as classes geradas.<br>
+ *
+ * @author Rodrigo GML
+ * @since 1.0.0 (17 de out. de 2026)
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class RFWVOProcessorTest {
+
+  private static final String ORDERVO = "package rfwtest;\n\n" //
+      + "import java.util.List;\n\n" //
+      + "import br.eng.rodrigogml.rfw.kernel.rfwmeta.RFWMetaRelationshipField;\n" //
+      + "import br.eng.rodrigogml.rfw.kernel.rfwmeta.RFWMetaRelationshipField.RelationshipTypes;\n" //
+      + "import br.eng.rodrigogml.rfw.kernel.rfwmeta.RFWMetaStringField;\n" //
+      + "import br.eng.rodrigogml.rfw.kernel.vo.RFWVO;\n\n" //
+      + "public class OrderVO extends RFWVO {\n" //
+      + "  private static final long serialVersionUID = 1L;\n" //
+      + "  @RFWMetaStringField(caption = \"Código \\\"Interno\\\"\", required = true, maxLength = 10)\n" //
+      + "  private String code;\n" //
+      + "  private int quantity;\n" //
+      + "  private boolean active;\n" //
+      + "  @RFWMetaRelationshipField(caption = \"Itens\", required = false, relationship = RelationshipTypes.COMPOSITION)\n" //
+      + "  private List<OrderItemVO> items;\n" //
+      + "  private String readOnly = \"R\";\n" //
+      + "  public String getCode() { return code; }\n" //
+      + "  public void setCode(String code) { this.code = code; }\n" //
+      + "  public int getQuantity() { return quantity; }\n" //
+      + "  public void setQuantity(int quantity) { this.quantity = quantity; }\n" //
+      + "  public boolean isActive() { return active; }\n" //
+      + "  public void setActive(boolean active) { this.active = active; }\n" //
+      + "  public List<OrderItemVO> getItems() { return items; }\n" //
+      + "  public void setItems(List<OrderItemVO> items) { this.items = items; }\n" //
+      + "  public String getReadOnly() { return readOnly; }\n" //
+      + "}\n";
+
+  private static final String ORDERITEMVO = "package rfwtest;\n\n" //
+      + "import br.eng.rodrigogml.rfw.kernel.vo.RFWVO;\n\n" //
+      + "public class OrderItemVO extends RFWVO {\n" //
+      + "  private static final long serialVersionUID = 1L;\n" //
+      + "  private String description;\n" //
+      + "  public String getDescription() { return description; }\n" //
+      + "  public void setDescription(String description) { this.description = description; }\n" //
+      + "}\n";
+
+  @Test
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  public void t00_generatedClasses() throws Exception {
+    final Path dir = Files.createTempDirectory("rfwvoprocessor");
+    try {
+      final Path src = dir.resolve("src/rfwtest");
+      final Path out = dir.resolve("classes");
+      Files.createDirectories(src);
+      Files.createDirectories(out);
+      Files.write(src.resolve("OrderVO.java"), ORDERVO.getBytes(StandardCharsets.UTF_8));
+      Files.write(src.resolve("OrderItemVO.java"), ORDERITEMVO.getBytes(StandardCharsets.UTF_8));
+
+      final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+      assertNotNull("O teste precisa ser executado em um JDK", compiler);
+      final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+      final String classpath = new File(RFWVO.class.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath();
+      try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+        final Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjects(src.resolve("OrderVO.java").toFile(), src.resolve("OrderItemVO.java").toFile());
+        final List<String> options = Arrays.asList("-classpath", classpath, "-d", out.toString(), "-s", out.toString(), "-encoding", "UTF-8", "-processor", RFWVOProcessor.class.getName());
+        final boolean success = compiler.getTask(null, fileManager, diagnostics, options, null, units).call();
+        assertTrue(diagnostics.getDiagnostics().toString(), success);
+      }
+
+      // Classe de acesso e Meta Object gerados para os dois VOs
+      assertTrue(Files.exists(out.resolve("rfwtest/OrderVO" + RFWVOAccessor.SUFFIX + ".java")));
+      assertTrue(Files.exists(out.resolve("rfwtest/OrderVO_.java")));
+      assertTrue(Files.exists(out.resolve("rfwtest/OrderItemVO" + RFWVOAccessor.SUFFIX + ".java")));
+      assertTrue(Files.exists(out.resolve("rfwtest/OrderItemVO_.java")));
+
+      try (URLClassLoader loader = new URLClassLoader(new URL[] { out.toUri().toURL() }, getClass().getClassLoader())) {
+        final Class<?> orderClass = Class.forName("rfwtest.OrderVO", true, loader);
+        final Class<?> accessorClass = Class.forName("rfwtest.OrderVO" + RFWVOAccessor.SUFFIX, true, loader);
+        final RFWVOAccessor accessor = (RFWVOAccessor) accessorClass.newInstance();
+
+        // Tabela de atributos com os dados da RFWMeta
+        assertSame(orderClass, accessor.getVOClass());
+        // Os atributos do RFWVO não entram na tabela, apenas os declarados nos VOs do projeto
+        assertArrayEquals(new String[] { "code", "quantity", "active", "items", "readOnly" }, accessor.getFieldNames());
+        assertArrayEquals(new Class<?>[] { String.class, int.class, boolean.class, List.class, String.class }, accessor.getFieldTypes());
+        assertEquals("Código \"Interno\"", accessor.getFieldCaptions()[0]);
+        assertEquals(Boolean.TRUE, accessor.getFieldRequired()[0]);
+        assertNull(accessor.getFieldCaptions()[1]);
+        assertNull(accessor.getFieldRequired()[1]);
+        assertEquals("Itens", accessor.getFieldCaptions()[3]);
+        assertEquals(Boolean.FALSE, accessor.getFieldRequired()[3]);
+        assertEquals(2, accessor.getFieldIndex("active"));
+        assertEquals(-1, accessor.getFieldIndex("unknown"));
+
+        // Get e set pelos ordinais chamando os métodos do VO
+        final RFWVO vo = (RFWVO) orderClass.newInstance();
+        accessor.set(vo, 0, "A1");
+        accessor.set(vo, 1, 7);
+        accessor.set(vo, 2, Boolean.TRUE);
+        assertEquals("A1", orderClass.getMethod("getCode").invoke(vo));
+        assertEquals(7, accessor.get(vo, 1));
+        assertEquals(Boolean.TRUE, accessor.get(vo, 2));
+        assertEquals("R", accessor.get(vo, 4));
+        // Atributo sem método set não é atendido pela classe gerada
+        assertThrows(IndexOutOfBoundsException.class, () -> accessor.set(vo, 4, "X"));
+
+        // O RFWVOMeta passa a utilizar a classe de acesso gerada
+        final RFWVOMeta meta = RFWVOMeta.getInstance(orderClass);
+        assertSame(accessorClass, meta.getAccessor().getClass());
+        final RFWVOFieldMeta codeField = meta.getField("code");
+        codeField.setValue(vo, "B2");
+        assertEquals("B2", codeField.getValue(vo));
+        // Sem método set, a falha é reportada pela reflexão como em VOs sem classe de acesso
+        final RFWException e = assertThrows(RFWCriticalException.class, () -> meta.getField("readOnly").setValue(vo, "X"));
+        assertEquals("RFW_ERR_000066", e.getExceptionCode());
+        assertEquals("R", meta.getField("readOnly").getValue(vo));
+
+        // Meta Object com navegação para o Meta Object do VO associado
+        final Class<?> metaClass = Class.forName("rfwtest.OrderVO_", true, loader);
+        final Object root = metaClass.getField("_this").get(null);
+        assertEquals("code", metaClass.getMethod("code").invoke(root));
+        final Object items = metaClass.getMethod("items").invoke(root);
+        assertEquals("rfwtest.OrderItemVO_", items.getClass().getName());
+        assertEquals("items.description", items.getClass().getMethod("description").invoke(items));
+        assertFalse(Arrays.stream(metaClass.getDeclaredMethods()).anyMatch(m -> m.getName().equals("id")));
+      }
+    } finally {
+      try (Stream<Path> files = Files.walk(dir)) {
+        files.sorted(Comparator.reverseOrder()).forEach(path -> {
+          try {
+            Files.delete(path);
+          } catch (IOException e) {
+          }
+        });
+      }
+    }
+  }
+}
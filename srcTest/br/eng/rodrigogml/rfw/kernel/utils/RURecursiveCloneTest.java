@@ -0,0 +1,154 @@
+package br.eng.rodrigogml.rfw.kernel.utils;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWCloneContext;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWRecursiveClonable;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWVO;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class RURecursiveCloneTest {
+
+  public static class NodeVO extends RFWVO {
+    private static final long serialVersionUID = 1L;
+    private String name;
+    private int level;
+    private byte[] data;
+    private NodeVO parent;
+    private List<NodeVO> children = new ArrayList<>();
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    public int getLevel() {
+      return level;
+    }
+
+    public void setLevel(int level) {
+      this.level = level;
+    }
+
+    public byte[] getData() {
+      return data;
+    }
+
+    public void setData(byte[] data) {
+      this.data = data;
+    }
+
+    public NodeVO getParent() {
+      return parent;
+    }
+
+    public void setParent(NodeVO parent) {
+      this.parent = parent;
+    }
+
+    public List<NodeVO> getChildren() {
+      return children;
+    }
+
+    public void setChildren(List<NodeVO> children) {
+      this.children = children;
+    }
+  }
+
+  private static NodeVO create(String name, NodeVO parent) {
+    final NodeVO node = new NodeVO();
+    node.setName(name);
+    node.setData(new byte[] { 1, 2 });
+    if (parent != null) {
+      node.setLevel(parent.getLevel() + 1);
+      node.setParent(parent);
+      parent.getChildren().add(node);
+    }
+    return node;
+  }
+
+  @Test
+  public void t00_cloneRecursive() throws RFWException {
+    final NodeVO root = create("root", null);
+    for (int i = 0; i < 1000; i++) {
+      create("child" + i, create("node" + i, root)); // Todos sem ID, com o mesmo hashCode
+    }
+
+    final NodeVO clone = (NodeVO) root.cloneRecursive();
+    assertNotSame(root, clone);
+    assertEquals("root", clone.getName());
+    assertNotSame(root.getData(), clone.getData());
+    assertArrayEquals(root.getData(), clone.getData());
+    assertEquals(1000, clone.getChildren().size());
+
+    final NodeVO node = clone.getChildren().get(500);
+    assertNotSame(root.getChildren().get(500), node);
+    assertEquals("node500", node.getName());
+    assertEquals(1, node.getLevel());
+    // Referências circulares apontam para os objetos clonados
+    assertSame(clone, node.getParent());
+    assertSame(node, node.getChildren().get(0).getParent());
+  }
+
+  @Test
+  public void t01_cloneRecursiveFiltered() throws RFWException {
+    final NodeVO root = create("root", null);
+    final NodeVO child = create("child", root);
+    create("grandchild", child);
+
+    // Apenas a profundidade 1 é clonada
+    NodeVO clone = RURecursiveClone.cloneRecursive(root, null, 1);
+    NodeVO clonedChild = clone.getChildren().get(0);
+    assertEquals("child", clonedChild.getName());
+    assertSame(clone, clonedChild.getParent());
+    assertEquals(0, clonedChild.getChildren().size());
+
+    // Apenas os atributos do caminho informado
+    clone = RURecursiveClone.cloneRecursive(child, new String[] { "children" }, -1);
+    assertEquals("child", clone.getName());
+    assertNull(clone.getParent());
+    assertEquals("grandchild", clone.getChildren().get(0).getName());
+    assertNotNull(clone.getChildren().get(0).getData());
+    assertSame(clone, clone.getChildren().get(0).getParent()); // Fora do filtro, mas já clonado
+  }
+
+  @Test
+  public void t02_cloneRecursiveHashMap() throws RFWException {
+    final NodeVO root = create("root", null);
+    final NodeVO child = create("child", root);
+    create("grandchild", child);
+
+    // A hash recebida continua sendo utilizada por todo o grafo, sem filtro
+    final HashMap<RFWRecursiveClonable, RFWRecursiveClonable> clonedObjects = new HashMap<>();
+    final NodeVO clone = (NodeVO) RURecursiveClone.cloneRecursive(root, clonedObjects);
+    final NodeVO clonedChild = clone.getChildren().get(0);
+    assertSame(clone, clonedChild.getParent());
+    assertEquals("grandchild", clonedChild.getChildren().get(0).getName());
+    assertSame(clone, clonedObjects.get(root));
+    assertFalse(clonedObjects.isEmpty());
+
+    // O contexto registra cada objeto do grafo pela referência, mesmo todos sem ID
+    final RFWCloneContext context = new RFWCloneContext();
+    assertNotSame(root, root.cloneRecursive(context));
+    assertEquals(3, context.size());
+    assertNotNull(context.get(child));
+  }
+}
@@ -0,0 +1,286 @@
+package br.eng.rodrigogml.rfw.kernel.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWCriticalException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWAttributePath;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWCompiledPath;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWVO;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWVOChange;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWVOChange.ChangeType;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class RUReflexTest {
+
+  public static class TestBean {
+    private String name;
+    private boolean active;
+    private TestBean child;
+    private List<TestBean> list = new ArrayList<>();
+    private Map<String, TestBean> hash = new HashMap<>();
+    private Map<Long, TestBean> longHash = new HashMap<>();
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    public boolean isActive() {
+      return active;
+    }
+
+    public void setActive(boolean active) {
+      this.active = active;
+    }
+
+    public TestBean getChild() {
+      return child;
+    }
+
+    public void setChild(TestBean child) {
+      this.child = child;
+    }
+
+    public List<TestBean> getList() {
+      return list;
+    }
+
+    public void setList(List<TestBean> list) {
+      this.list = list;
+    }
+
+    public Map<String, TestBean> getHash() {
+      return hash;
+    }
+
+    public void setHash(Map<String, TestBean> hash) {
+      this.hash = hash;
+    }
+
+    public Map<Long, TestBean> getLongHash() {
+      return longHash;
+    }
+
+    public void setLongHash(Map<Long, TestBean> longHash) {
+      this.longHash = longHash;
+    }
+  }
+
+  public static class TestVO extends RFWVO {
+    private static final long serialVersionUID = 1L;
+    private String name;
+    private List<TestVO> items = new ArrayList<>();
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    public List<TestVO> getItems() {
+      return items;
+    }
+
+    public void setItems(List<TestVO> items) {
+      this.items = items;
+    }
+  }
+
+  private static TestVO createVO(Long id, String name) {
+    final TestVO vo = new TestVO();
+    vo.setId(id);
+    vo.setName(name);
+    return vo;
+  }
+
+  private static TestBean create(String name) {
+    final TestBean bean = new TestBean();
+    bean.setName(name);
+    return bean;
+  }
+
+  @Test
+  public void t00_getPropertyValue() throws RFWException {
+    final TestBean root = create("root");
+    root.setActive(true);
+    root.setChild(create("child"));
+    root.getChild().setChild(create("grandchild"));
+    root.getList().add(create("l0"));
+    root.getList().add(create("l1"));
+    root.getHash().put("k", create("h"));
+    root.getLongHash().put(5L, create("lh"));
+
+    assertEquals("root", RUReflex.getPropertyValue(root, "name"));
+    assertEquals(Boolean.TRUE, RUReflex.getPropertyValue(root, "active"));
+    assertEquals("grandchild", RUReflex.getPropertyValue(root, "child.child.name"));
+    assertEquals("l1", RUReflex.getPropertyValue(root, "list[1].name"));
+    assertEquals("h", RUReflex.getPropertyValue(root, "hash[k{String}].name"));
+    assertEquals("lh", RUReflex.getPropertyValue(root, "longHash[5{Long}].name"));
+
+    // Objetos nulos no caminho resultam em null
+    assertNull(RUReflex.getPropertyValue(root, "child.child.child.name"));
+    assertNull(RUReflex.getPropertyValue(root, "hash[x{String}].name"));
+  }
+
+  @Test
+  public void t01_getPropertyValueErrors() throws RFWException {
+    final TestBean root = create("root");
+    root.getList().add(create("l0"));
+
+    for (String path : new String[] { "list[3].name", "list[a].name", "inexistent", "child.inexistent" }) {
+      try {
+        root.setChild(create("c"));
+        RUReflex.getPropertyValue(root, path);
+        fail("Deveria lançar exception para o caminho: " + path);
+      } catch (RFWCriticalException e) {
+        assertEquals("RFW_000032", e.getExceptionCode());
+      }
+    }
+  }
+
+  @Test
+  public void t02_setPropertyValue() throws RFWException {
+    final TestBean root = create("root");
+
+    RUReflex.setPropertyValue(root, "name", "newName", false);
+    assertEquals("newName", root.getName());
+
+    RUReflex.setPropertyValue(root, "active", true, false);
+    assertEquals(true, root.isActive());
+
+    // Instancia o objeto nulo no meio do caminho
+    RUReflex.setPropertyValue(root, "child.child.name", "deep", true);
+    assertEquals("deep", root.getChild().getChild().getName());
+
+    // Em listas o valor é adicionado, em hash é colocado com a chave
+    final TestBean item = create("item");
+    RUReflex.setPropertyValue(root, "list[0]", item, false);
+    assertSame(item, root.getList().get(0));
+    RUReflex.setPropertyValue(root, "hash[key{String}]", item, false);
+    assertSame(item, root.getHash().get("key"));
+
+    try {
+      RUReflex.setPropertyValue(create("x"), "child.name", "fail", false);
+      fail("Deveria lançar exception ao encontrar objeto nulo sem instanciar.");
+    } catch (RFWCriticalException e) {
+      assertEquals("RFW_ERR_000066", e.getExceptionCode());
+    }
+  }
+
+  @Test
+  public void t03_compilePath() throws RFWException {
+    final RFWCompiledPath path = RUReflex.compilePath(TestBean.class, "child.name");
+    assertNotNull(path);
+    assertSame(path, RUReflex.compilePath(TestBean.class, "child.name"));
+
+    final TestBean root = create("root");
+    path.setValue(root, "compiled", true);
+    assertEquals("compiled", path.getValue(root));
+    assertEquals("compiled", root.getChild().getName());
+  }
+
+  @Test
+  public void t04_compareRecursively() throws RFWException {
+    final TestVO vo1 = createVO(1L, "doc");
+    vo1.getItems().add(createVO(10L, "a"));
+    vo1.getItems().add(createVO(11L, "b"));
+    vo1.getItems().add(createVO(12L, "c"));
+
+    final TestVO vo2 = createVO(1L, "doc");
+    vo2.getItems().add(createVO(11L, "b"));
+    vo2.getItems().add(createVO(12L, "changed"));
+    vo2.getItems().add(createVO(null, "new"));
+
+    // Por posição, todos os itens são diferentes
+    assertEquals(Arrays.asList("items.[0].id", "items.[0].name", "items.[1].id", "items.[1].name", "items.[2].id", "items.[2].name"), sort(RUReflex.compareRecursively(vo1, vo2)));
+
+    // Por ID, apenas as alterações reais
+    final List<RFWVOChange> changes = RUReflex.compareRecursively(vo1, vo2, true);
+    assertEquals(3, changes.size());
+    for (RFWVOChange change : changes) {
+      if (change.getType() == ChangeType.REMOVED) {
+        assertEquals("items.[0]", change.getPath());
+        assertSame(vo1.getItems().get(0), change.getOldValue());
+        assertNull(change.getNewValue());
+      } else if (change.getType() == ChangeType.ADDED) {
+        assertEquals("items.[2]", change.getPath());
+        assertNull(change.getOldValue());
+        assertSame(vo2.getItems().get(2), change.getNewValue());
+      } else {
+        assertEquals("items.[1].name", change.getPath());
+        assertEquals("c", change.getOldValue());
+        assertEquals("changed", change.getNewValue());
+      }
+    }
+
+    // Valores iguais em atributos diferentes continuam sendo comparados
+    vo2.setName("other");
+    vo1.getItems().clear();
+    vo2.getItems().clear();
+    assertEquals(Arrays.asList("name"), RUReflex.compareRecursively(vo1, vo2));
+
+    // Diferença na raiz é reportada com o caminho vazio
+    assertEquals(Arrays.asList(""), RUReflex.compareRecursively("a", "b"));
+    assertEquals(Arrays.asList(""), RUReflex.compareRecursively(null, "b"));
+    assertEquals(0, RUReflex.compareRecursively("a", "a").size());
+  }
+
+  @Test
+  public void t05_attributePath() throws RFWException {
+    assertEquals("itemcodelist.itemvo", RUReflex.getCleanPath("itemcodelist[0].itemvo"));
+    assertEquals("itemcodehash.itemvo", RUReflex.getCleanPath("itemcodehash{key}.itemvo"));
+    assertEquals("a.hash.c", RUReflex.getCleanPath("a.hash[key{String}].c"));
+    assertEquals("a[b.c", RUReflex.getCleanPath("a[b.c"));
+
+    final RFWAttributePath items = RFWAttributePath.ROOT.child("doc").child("items");
+    assertSame(items, RFWAttributePath.ROOT.child("doc").child("items"));
+    final RFWAttributePath name = items.child("list", 3).child("hash", "k.1", String.class).child("name");
+    assertEquals("doc.items.list[3].hash[k.1{String}].name", name.toString());
+    assertEquals("doc.items.list.hash.name", name.getCleanPath());
+    assertEquals(RUReflex.getCleanPath(name.toString()), name.getCleanPath());
+    assertEquals("hash[k.1{String}]", name.getParent().getLastPath());
+    assertEquals(RUReflex.getParentPath("doc.items.list[3]"), items.child("list", 3).getParent().toString());
+
+    final RFWAttributePath parsed = RFWAttributePath.parse(name.toString());
+    assertEquals(name, parsed);
+    assertEquals(name.getCleanPath(), parsed.getCleanPath());
+    assertSame(items, RFWAttributePath.parse("doc.items"));
+    assertSame(RFWAttributePath.ROOT, RFWAttributePath.parse(""));
+
+    // Os filhos internalizados em cada caminho são limitados, os nomes além do limite são criados a cada chamada
+    final RFWAttributePath dynamic = RFWAttributePath.ROOT.child("dynamic");
+    for (int i = 0; i < 2000; i++) {
+      assertEquals("dynamic.f" + i, dynamic.child("f" + i).toString());
+    }
+    assertSame(dynamic.child("f0"), dynamic.child("f0"));
+    assertNotSame(dynamic.child("f1999"), dynamic.child("f1999"));
+    assertEquals(dynamic.child("f1999"), RFWAttributePath.parse("dynamic.f1999"));
+  }
+
+  private static List<String> sort(List<String> list) {
+    Collections.sort(list);
+    return list;
+  }
+}
@@ -0,0 +1,51 @@
+package br.eng.rodrigogml.rfw.kernel.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.regex.Pattern;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Description: Testes da classe {@link RURegex}.<br>
+ *
+ * @author Rodrigo GML
+ * @since 1.0.0 (17 de out. de 2026)
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class RURegexTest {
+
+  @Test
+  public void t00_matches() {
+    assertTrue(RURegex.matches("123", "\\d+"));
+    assertFalse(RURegex.matches("12a", "\\d+"));
+    assertEquals("a-b-c", RURegex.replaceAll("a  b c", "\\s+", "-"));
+  }
+
+  @Test
+  public void t01_cacheEviction() {
+    RURegex.clearCache();
+    final Pattern hot = RURegex.getPattern("[A-Z]+");
+    assertSame(hot, RURegex.getPattern("[A-Z]+"));
+
+    // Expressões montadas dinamicamente além do limite descartam as usadas há mais tempo, sem que o cache cresça
+    final Pattern cold = RURegex.getPattern("cold");
+    for (int i = 0; i < RURegex.MAXCACHEDPATTERNS * 2; i++) {
+      RURegex.getPattern("dyn" + i);
+      // A expressão usada com frequência continua em cache
+      if (i % 100 == 0) assertSame(hot, RURegex.getPattern("[A-Z]+"));
+    }
+    assertEquals(RURegex.MAXCACHEDPATTERNS, RURegex.getCacheSize());
+    assertSame(hot, RURegex.getPattern("[A-Z]+"));
+    assertNotSame(cold, RURegex.getPattern("cold"));
+
+    RURegex.clearCache();
+    assertEquals(0, RURegex.getCacheSize());
+  }
+}
@@ -18,6 +18,7 @@ import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import org.junit.FixMethodOrder;
@@ -306,4 +307,18 @@ public class RUStringTest {
     assertEquals(null, extractServiceNumericCode("Texto sem código de serviço.", 1));
   }
 
+  @Test
+  public void t02_normalize() {
+    final String[] values = { "", " ", "abc", "  Abc  Def ", "a\t\tb\u00a0\u00a0 c", "\u00a0x\t", " a \n b ", "straße", "ção é", "ǆ ok", "  long   text here  " };
+    for (String value : values) {
+      final String clean = RUString.replaceDoubleSpaces(RUString.replaceTabsByUniqueSpace(RUString.replaceFakeSpacesByUniqueSpace(value))).trim();
+      assertEquals(clean, RUString.normalize(value, true, true, false, -1));
+      assertEquals(RUString.replaceDoubleSpaces(value).trim(), RUString.normalize(value, true, false, false, -1));
+      assertEquals(value.toUpperCase(), RUString.normalize(value, false, false, true, -1));
+      assertEquals(RUString.truncate(clean.toUpperCase(), 5), RUString.normalize(value, true, true, true, 5));
+    }
+    // Sem alterações retorna a mesma instância
+    final String value = "ABC DEF";
+    assertTrue(value == RUString.normalize(value, true, true, true, 10));
+  }
 }
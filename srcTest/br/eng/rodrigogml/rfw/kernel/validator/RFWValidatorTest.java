@@ -0,0 +1,545 @@
+package br.eng.rodrigogml.rfw.kernel.validator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWCriticalException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWValidationException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWValidationGroupException;
+import br.eng.rodrigogml.rfw.kernel.interfaces.RFWCachedDBProvider;
+import br.eng.rodrigogml.rfw.kernel.interfaces.RFWDBProvider;
+import br.eng.rodrigogml.rfw.kernel.rfwmeta.RFWMetaBigDecimalField;
+import br.eng.rodrigogml.rfw.kernel.rfwmeta.RFWMetaRelationshipField;
+import br.eng.rodrigogml.rfw.kernel.rfwmeta.RFWMetaRelationshipField.RelationshipTypes;
+import br.eng.rodrigogml.rfw.kernel.rfwmeta.RFWMetaStringField;
+import br.eng.rodrigogml.rfw.kernel.rfwmeta.RFWMetaUniqueConstraint;
+import br.eng.rodrigogml.rfw.kernel.utils.RUReflex;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWMO;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWMO.Operator;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWMO.RFWMOData;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWOrderBy;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWVO;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class RFWValidatorTest {
+
+  public static class ProductVO extends RFWVO {
+    private static final long serialVersionUID = 1L;
+
+    @RFWMetaStringField(caption = "Código", required = true, maxLength = 10, pattern = "[A-Z]+[0-9]*")
+    private String code;
+
+    @RFWMetaBigDecimalField(caption = "Preço", required = false, minValue = "0", maxValue = "1000", scale = 2)
+    private BigDecimal price;
+
+    public String getCode() {
+      return code;
+    }
+
+    public void setCode(String code) {
+      this.code = code;
+    }
+
+    public BigDecimal getPrice() {
+      return price;
+    }
+
+    public void setPrice(BigDecimal price) {
+      this.price = price;
+    }
+  }
+
+  public static class OrderVO extends RFWVO {
+    private static final long serialVersionUID = 1L;
+
+    @RFWMetaRelationshipField(caption = "Produto Principal", required = true, relationship = RelationshipTypes.ASSOCIATION)
+    private ProductVO mainProduct;
+
+    @RFWMetaRelationshipField(caption = "Produtos", required = false, relationship = RelationshipTypes.ASSOCIATION)
+    private List<ProductVO> products = new ArrayList<>();
+
+    public ProductVO getMainProduct() {
+      return mainProduct;
+    }
+
+    public void setMainProduct(ProductVO mainProduct) {
+      this.mainProduct = mainProduct;
+    }
+
+    public List<ProductVO> getProducts() {
+      return products;
+    }
+
+    public void setProducts(List<ProductVO> products) {
+      this.products = products;
+    }
+  }
+
+  public static class CatalogVO extends RFWVO {
+    private static final long serialVersionUID = 1L;
+
+    @RFWMetaRelationshipField(caption = "Itens", required = false, relationship = RelationshipTypes.COMPOSITION)
+    private List<ProductVO> items = new ArrayList<>();
+
+    public List<ProductVO> getItems() {
+      return items;
+    }
+
+    public void setItems(List<ProductVO> items) {
+      this.items = items;
+    }
+  }
+
+  @RFWMetaUniqueConstraint(fields = { "name", "city" })
+  public static class CustomerVO extends RFWVO {
+    private static final long serialVersionUID = 1L;
+
+    @RFWMetaStringField(caption = "Código", required = true, unique = true, maxLength = 10)
+    private String code;
+
+    @RFWMetaStringField(caption = "Nome", required = true, maxLength = 50)
+    private String name;
+
+    @RFWMetaStringField(caption = "Cidade", required = true, maxLength = 50)
+    private String city;
+
+    public CustomerVO() {
+    }
+
+    public CustomerVO(Long id, String code, String name, String city) {
+      setId(id);
+      this.code = code;
+      this.name = name;
+      this.city = city;
+    }
+
+    public String getCode() {
+      return code;
+    }
+
+    public void setCode(String code) {
+      this.code = code;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    public String getCity() {
+      return city;
+    }
+
+    public void setCity(String city) {
+      this.city = city;
+    }
+  }
+
+  /**
+   * DBProvider com uma lista de objetos em memória, que atende apenas as consultas com condições IN.
+   */
+  public static class InMemoryDBProvider extends CountingDBProvider {
+    final List<CustomerVO> customers = new ArrayList<>();
+    int findListCount = 0;
+    int findUniqueMatchCount = 0;
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <VO extends RFWVO> List<VO> findList(Class<VO> voClass, RFWMO mo, RFWOrderBy orderBy, String[] attributes, Integer offset, Integer limit) throws RFWException {
+      this.findListCount++;
+      final ArrayList<VO> list = new ArrayList<>();
+      for (CustomerVO vo : this.customers) {
+        boolean match = true;
+        for (RFWMOData data : mo.getIn()) {
+          if (!((Collection<?>) data.getValue()).contains(RUReflex.getPropertyValue(vo, data.getFieldname()))) match = false;
+        }
+        if (match) list.add((VO) vo);
+      }
+      return list;
+    }
+
+    @Override
+    public <VO extends RFWVO> RFWVO findUniqueMatch(Class<? extends RFWVO> voClass, RFWMO mo, String[] attributes) throws RFWException {
+      this.findUniqueMatchCount++;
+      return null;
+    }
+  }
+
+  /**
+   * DBProvider em memória que simula uma collation que não diferencia maiúsculas e minúsculas, tanto nas condições IN quanto no findUniqueMatch.
+   */
+  public static class CaseInsensitiveDBProvider extends InMemoryDBProvider {
+
+    private static boolean matches(Object dbValue, Object value) {
+      if (dbValue instanceof String && value instanceof String) return ((String) dbValue).equalsIgnoreCase((String) value);
+      return dbValue == null ? value == null : dbValue.equals(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <VO extends RFWVO> List<VO> findList(Class<VO> voClass, RFWMO mo, RFWOrderBy orderBy, String[] attributes, Integer offset, Integer limit) throws RFWException {
+      this.findListCount++;
+      final ArrayList<VO> list = new ArrayList<>();
+      for (CustomerVO vo : this.customers) {
+        boolean match = true;
+        for (RFWMOData data : mo.getConditions(Operator.IN)) {
+          final Object dbValue = RUReflex.getPropertyValue(vo, data.getFieldname());
+          if (!((Collection<?>) data.getValue()).stream().anyMatch(value -> matches(dbValue, value))) match = false;
+        }
+        if (match) list.add((VO) vo);
+      }
+      return list;
+    }
+
+    @Override
+    public <VO extends RFWVO> RFWVO findUniqueMatch(Class<? extends RFWVO> voClass, RFWMO mo, String[] attributes) throws RFWException {
+      this.findUniqueMatchCount++;
+      for (CustomerVO vo : this.customers) {
+        boolean match = true;
+        for (RFWMOData data : mo.getConditions(Operator.EQUAL)) {
+          if (!matches(RUReflex.getPropertyValue(vo, data.getFieldname()), data.getValue())) match = false;
+        }
+        for (RFWMOData data : mo.getConditions(Operator.NOT_EQUAL)) {
+          if (matches(RUReflex.getPropertyValue(vo, data.getFieldname()), data.getValue())) match = false;
+        }
+        if (match) return vo;
+      }
+      return null;
+    }
+  }
+
+  /**
+   * DBProvider que considera existentes os IDs de 1 a 1000 e conta as consultas realizadas.
+   */
+  public static class CountingDBProvider implements RFWDBProvider {
+    int findIDsCount = 0;
+    int findByIDCount = 0;
+
+    @Override
+    public <VO extends RFWVO> List<Long> findIDs(Class<VO> voClass, RFWMO mo, RFWOrderBy orderBy) throws RFWException {
+      this.findIDsCount++;
+      final ArrayList<Long> list = new ArrayList<>();
+      for (Object id : (Collection<?>) mo.getIn().get(0).getValue()) {
+        if ((Long) id <= 1000) list.add((Long) id);
+      }
+      return list;
+    }
+
+    @Override
+    public <VO extends RFWVO> List<Long> findIDs(Class<VO> voClass, RFWMO mo, RFWOrderBy orderBy, Integer offset, Integer limit) throws RFWException {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <VO extends RFWVO> List<VO> findList(Class<VO> voClass, RFWMO mo, RFWOrderBy orderBy, String[] attributes, Integer offset, Integer limit) throws RFWException {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <VO extends RFWVO> RFWVO findByID(Class<? extends RFWVO> voClass, Long id, String[] attributes) throws RFWException {
+      this.findByIDCount++;
+      return null;
+    }
+
+    @Override
+    public <VO extends RFWVO> RFWVO findUniqueMatch(Class<? extends RFWVO> voClass, RFWMO mo, String[] attributes) throws RFWException {
+      throw new UnsupportedOperationException();
+    }
+  }
+
+  private static ProductVO createVO(Long id) {
+    final ProductVO vo = createVO("ABC", null);
+    vo.setId(id);
+    return vo;
+  }
+
+  private static ProductVO createVO(String code, String price) {
+    final ProductVO vo = new ProductVO();
+    vo.setCode(code);
+    if (price != null) vo.setPrice(new BigDecimal(price));
+    return vo;
+  }
+
+  private static String[] validate(ProductVO vo) throws RFWException {
+    try {
+      new RFWValidator().validatePersist(ProductVO.class, vo);
+      return new String[0];
+    } catch (RFWValidationGroupException e) {
+      final String[] paths = new String[e.getValidationlist().size()];
+      for (int i = 0; i < paths.length; i++) {
+        paths[i] = e.getValidationlist().get(i).getFieldPath();
+      }
+      return paths;
+    }
+  }
+
+  @Test
+  public void t00_validatePersist() throws RFWException {
+    // Executa duas vezes para passar pelo plano em cache
+    for (int i = 0; i < 2; i++) {
+      assertEquals(0, validate(createVO("ABC12", "10.50")).length);
+      assertEquals(0, validate(createVO("ABC", null)).length);
+      assertEquals("code", validate(createVO(null, "10.50"))[0]);
+      assertEquals("code", validate(createVO("abc", "10.50"))[0]);
+      assertEquals("price", validate(createVO("ABC", "1000.01"))[0]);
+      assertEquals("price", validate(createVO("ABC", "-1.00"))[0]);
+      assertEquals("price", validate(createVO("ABC", "1.5"))[0]);
+
+      final String[] paths = validate(createVO("ABCDEFGHIJK", "2000.00"));
+      assertEquals(2, paths.length);
+      assertEquals("code", paths[0]);
+      assertEquals("price", paths[1]);
+    }
+  }
+
+  @Test
+  public void t01_validatePersistAfterClearCache() throws RFWException {
+    RFWValidator.clearCache();
+    try {
+      new RFWValidator().validatePersist(ProductVO.class, createVO(null, null));
+      fail("Deveria ter falhado a obrigatoriedade do código.");
+    } catch (RFWValidationException e) {
+      assertEquals(RFWValidationGroupException.class, e.getClass());
+    }
+  }
+
+  @Test
+  public void t02_validatePersistAll() throws RFWException {
+    final ArrayList<ProductVO> list = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      list.add(createVO(i % 7 == 0 ? "invalid" : "ABC" + i, "1.00"));
+    }
+    final RFWValidationBatchResult result = new RFWValidator().validatePersistAll(ProductVO.class, list);
+    assertEquals(1000, result.size());
+    assertFalse(result.isValid());
+    for (int i = 0; i < 1000; i++) {
+      assertSame(list.get(i), result.getVO(i));
+      assertEquals(i % 7 != 0, result.isValid(i));
+    }
+    assertEquals(143, result.getInvalidIndexes().size());
+    assertEquals("code", ((RFWValidationGroupException) result.getException(7)).getValidationlist().get(0).getFieldPath());
+
+    // Executor de uma única thread
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      assertTrue(new RFWValidator().validatePersistAll(ProductVO.class, list.subList(1, 7), null, executor).isValid());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void t03_validateAssociationsInBatch() throws RFWException {
+    final OrderVO order = new OrderVO();
+    order.setMainProduct(createVO(1L));
+    for (long i = 1; i <= 600; i++) {
+      order.getProducts().add(createVO(i));
+    }
+    final CountingDBProvider provider = new CountingDBProvider();
+    new RFWValidator(provider).validatePersist(OrderVO.class, order);
+    assertEquals(0, provider.findByIDCount);
+    assertEquals(2, provider.findIDsCount); // 600 IDs em blocos de 500
+
+    // Reporta o primeiro objeto não encontrado, com o caminho do atributo
+    order.getProducts().add(createVO(2000L));
+    order.getProducts().add(createVO(3000L));
+    try {
+      new RFWValidator(provider).validatePersist(OrderVO.class, order);
+      fail("Deveria ter falhado a associação inexistente.");
+    } catch (RFWCriticalException e) {
+      assertEquals("2000", e.getParams()[1]);
+      assertEquals("products", e.getParams()[2]);
+    }
+  }
+
+  @Test
+  public void t04_validatePersistAllUnique() throws RFWException {
+    final ArrayList<CustomerVO> list = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      list.add(new CustomerVO(null, "C" + i, "Nome " + i, "Cidade"));
+    }
+    list.get(50).setCode("C10"); // Duplicado dentro do lote
+    list.get(60).setCode("DB2"); // Duplicado com o banco
+    list.set(70, new CustomerVO(999L, "DB1", "Nome DB", "Cidade DB")); // O próprio objeto do banco
+    list.get(80).setName("Nome 20"); // Constraint duplicada dentro do lote
+
+    final InMemoryDBProvider provider = new InMemoryDBProvider();
+    provider.customers.add(new CustomerVO(998L, "DB2", "Nome DB2", "Cidade DB"));
+    provider.customers.add(new CustomerVO(999L, "DB1", "Nome DB", "Cidade DB"));
+    final RFWValidationBatchResult result = new RFWValidator(provider).validatePersistAll(CustomerVO.class, list);
+    assertEquals(Arrays.asList(50, 60, 80), result.getInvalidIndexes());
+    assertEquals("code", ((RFWValidationGroupException) result.getException(50)).getValidationlist().get(0).getFieldPath());
+    assertEquals("name", ((RFWValidationGroupException) result.getException(80)).getValidationlist().get(0).getFieldPath());
+    assertEquals(2, provider.findListCount); // Uma consulta por grupo de verificação
+    assertEquals(0, provider.findUniqueMatchCount);
+  }
+
+  @Test
+  public void t05_validatePersistWithCache() throws RFWException {
+    final OrderVO order = new OrderVO();
+    order.setMainProduct(createVO(1L));
+    for (long i = 1; i <= 600; i++) {
+      order.getProducts().add(createVO(i));
+    }
+
+    // Cache da validação: cada chamada consulta o banco novamente
+    CountingDBProvider provider = new CountingDBProvider();
+    RFWValidator validator = new RFWValidator(provider);
+    validator.enableCache(RFWCachedDBProvider.Scope.VALIDATION, 1000, 0);
+    validator.validatePersist(OrderVO.class, order);
+    validator.validatePersist(OrderVO.class, order);
+    assertEquals(4, provider.findIDsCount);
+    assertEquals(1200, validator.getCacheMissCount());
+
+    // Cache compartilhado: a segunda validação é atendida pelo cache
+    provider = new CountingDBProvider();
+    validator = new RFWValidator(provider);
+    validator.enableCache(RFWCachedDBProvider.Scope.SHARED, 1000, 0);
+    validator.validatePersist(OrderVO.class, order);
+    validator.validatePersist(OrderVO.class, order);
+    assertEquals(2, provider.findIDsCount);
+    assertEquals(600, validator.getCacheHitCount());
+    assertEquals(600, validator.getCacheMissCount());
+
+    // Limite por classe: os objetos menos utilizados são descartados
+    provider = new CountingDBProvider();
+    final RFWCachedDBProvider cache = new RFWCachedDBProvider(provider, 100, 0);
+    assertEquals(600, cache.existsIDs(ProductVO.class, Arrays.asList(order.getProducts().stream().map(RFWVO::getId).toArray(Long[]::new))).size());
+    assertEquals(100, cache.size());
+    assertEquals(1, cache.existsIDs(ProductVO.class, Arrays.asList(600L)).size());
+    assertEquals(600, cache.getMissCount());
+    assertEquals(1, cache.getHitCount());
+    cache.invalidate(ProductVO.class, 600L);
+    assertEquals(1, cache.existsIDs(ProductVO.class, Arrays.asList(600L)).size());
+    assertEquals(601, cache.getMissCount());
+  }
+
+  @Test
+  public void t06_checkPersist() throws RFWException {
+    final RFWValidator validator = new RFWValidator();
+    assertTrue(validator.checkPersist(ProductVO.class, createVO("ABC12", "10.50")).isValid());
+
+    final RFWValidationResult result = validator.checkPersist(ProductVO.class, createVO("ABCDEFGHIJK", "2000.00"));
+    assertFalse(result.isValid());
+    assertEquals(2, result.size());
+    assertEquals("code", result.getFailures().get(0).getFieldPath());
+    assertEquals("price", result.getFailures().get(1).getFieldPath());
+    assertEquals("1000", result.getFailures().get(1).getParams()[0]);
+
+    // O validatePersist lança as mesmas falhas, com a pilha de execução
+    try {
+      validator.validatePersist(ProductVO.class, createVO("ABCDEFGHIJK", "2000.00"));
+      fail("Deveria ter falhado a validação.");
+    } catch (RFWValidationGroupException e) {
+      assertEquals(2, e.size());
+      assertEquals(result.getFailures().get(0).getExceptionCode(), e.getValidationlist().get(0).getExceptionCode());
+      assertTrue(e.getValidationlist().get(0).getStackTrace().length > 0);
+      assertTrue(e.getStackTrace().length > 0);
+    }
+
+    // Na validação em lote as exceções de cada objeto são criadas sem a pilha de execução
+    final RFWValidationGroupException e = (RFWValidationGroupException) validator.validatePersistAll(ProductVO.class, Arrays.asList(createVO("ABCDEFGHIJK", "2000.00"))).getException(0);
+    assertEquals(0, e.getStackTrace().length);
+    assertEquals(0, e.getValidationlist().get(0).getStackTrace().length);
+  }
+
+  @Test
+  public void t07_incrementalValidation() throws RFWException {
+    final CustomerVO vo = new CustomerVO(10L, "C1", "Nome", "Cidade");
+    vo.startChangeTracking();
+    assertEquals(0, vo.listDirtyFields().size());
+
+    final InMemoryDBProvider provider = new InMemoryDBProvider();
+    final RFWValidator validator = new RFWValidator(provider);
+    validator.setIncrementalValidation(true);
+
+    // Nenhum atributo alterado: nem a unicidade do código nem a constraint são consultadas
+    validator.validatePersist(CustomerVO.class, vo);
+    assertEquals(0, provider.findUniqueMatchCount);
+
+    // Alterar o nome valida apenas a constraint (name, city)
+    vo.setName("Outro Nome");
+    assertEquals(Arrays.asList("name"), vo.listDirtyFields());
+    validator.validatePersist(CustomerVO.class, vo);
+    assertEquals(1, provider.findUniqueMatchCount);
+
+    // Marcação explícita do atributo
+    vo.setName("Nome");
+    vo.markFieldDirty("code");
+    assertEquals(Arrays.asList("code"), vo.listDirtyFields());
+    validator.validatePersist(CustomerVO.class, vo);
+    assertEquals(2, provider.findUniqueMatchCount);
+
+    // Sem a validação incremental todos os atributos são validados
+    validator.setIncrementalValidation(false);
+    validator.validatePersist(CustomerVO.class, vo);
+    assertEquals(4, provider.findUniqueMatchCount);
+
+    vo.stopChangeTracking();
+    assertEquals(null, vo.listDirtyFields());
+    assertTrue(vo.isFieldDirty("city"));
+  }
+
+  @Test
+  public void t08_forceRequiredFields() throws RFWException {
+    final CatalogVO vo = new CatalogVO();
+    vo.getItems().add(createVO("ABC", null));
+    vo.getItems().add(createVO("DEF", null));
+    vo.getItems().add(createVO("GHI", "1.00"));
+    final RFWValidator validator = new RFWValidator();
+    assertTrue(validator.checkPersist(CatalogVO.class, vo).isValid());
+
+    // Caminho genérico, aplicado a todos os itens da coleção (a validação da coleção é interrompida no primeiro item inválido)
+    RFWValidationResult result = validator.checkPersist(CatalogVO.class, vo, new String[] { "items.price" });
+    assertEquals(1, result.size());
+    assertEquals("items[0].price", result.getFailures().get(0).getFieldPath());
+
+    // Caminho completo, aplicado apenas ao item do índice
+    result = validator.checkPersist(CatalogVO.class, vo, new String[] { "items[1].price", "items[2].code", "items.code.unknown" });
+    assertEquals(1, result.size());
+    assertEquals("items[1].price", result.getFailures().get(0).getFieldPath());
+  }
+
+  @Test
+  public void t09_validatePersistAllUniqueCaseInsensitive() throws RFWException {
+    final ArrayList<CustomerVO> list = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      list.add(new CustomerVO(null, "C" + i, "Nome " + i, "Cidade"));
+    }
+    list.get(3).setCode("db2"); // Igual ao "DB2" do banco pela collation
+    list.get(5).setCode("c1 "); // Igual ao "C1" do próprio lote sem diferenciar caixa e espaços à direita
+    list.get(6).setName("NOME 2"); // Constraint igual a do item 2 sem diferenciar caixa
+    list.set(7, new CustomerVO(999L, "db1", "Nome DB", "Cidade DB")); // O próprio objeto do banco, com o código alterado para minúsculas
+    list.get(8).setCode("Ção");
+
+    final CaseInsensitiveDBProvider provider = new CaseInsensitiveDBProvider();
+    provider.customers.add(new CustomerVO(998L, "DB2", "Nome DB2", "Cidade DB"));
+    provider.customers.add(new CustomerVO(999L, "DB1", "Nome DB", "Cidade DB"));
+    final RFWValidationBatchResult result = new RFWValidator(provider).validatePersistAll(CustomerVO.class, list);
+    assertEquals(Arrays.asList(3, 5, 6), result.getInvalidIndexes());
+    assertEquals("code", ((RFWValidationGroupException) result.getException(3)).getValidationlist().get(0).getFieldPath());
+    assertEquals("code", ((RFWValidationGroupException) result.getException(5)).getValidationlist().get(0).getFieldPath());
+    assertEquals("name", ((RFWValidationGroupException) result.getException(6)).getValidationlist().get(0).getFieldPath());
+    // As verificações do bloco em que o banco retornou objetos sem os mesmos valores foram refeitas uma a uma
+    assertTrue(provider.findUniqueMatchCount > 0);
+  }
+}
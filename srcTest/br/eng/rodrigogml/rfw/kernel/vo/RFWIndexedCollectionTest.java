@@ -0,0 +1,227 @@
+package br.eng.rodrigogml.rfw.kernel.vo;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWCriticalException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWRunTimeException;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWMO.AppendMethod;
+
+/**
+ * Description: Testes da classe {@link RFWIndexedCollection}.<br>
+ *
+ * @author Rodrigo GML
+ * @since 1.0.0 (17 de out. de 2026)
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class RFWIndexedCollectionTest {
+
+  public static enum Status {
+    ACTIVE, INACTIVE
+  }
+
+  public static class ItemVO extends RFWVO {
+    private static final long serialVersionUID = 1L;
+
+    private String code;
+
+    private BigDecimal price;
+
+    private Status status;
+
+    private Object tag;
+
+    /**
+     * Simula uma falha na leitura do atributo code.
+     */
+    private transient boolean failRead = false;
+
+    public ItemVO() {
+    }
+
+    public ItemVO(long id, String code, String price, Status status, Object tag) {
+      setId(id);
+      this.code = code;
+      this.price = price == null ? null : new BigDecimal(price);
+      this.status = status;
+      this.tag = tag;
+    }
+
+    public String getCode() {
+      if (this.failRead) throw new IllegalStateException("Falha de leitura");
+      return code;
+    }
+
+    public void setCode(String code) {
+      this.code = code;
+    }
+
+    public BigDecimal getPrice() {
+      return price;
+    }
+
+    public void setPrice(BigDecimal price) {
+      this.price = price;
+    }
+
+    public Status getStatus() {
+      return status;
+    }
+
+    public void setStatus(Status status) {
+      this.status = status;
+    }
+
+    public Object getTag() {
+      return tag;
+    }
+
+    public void setTag(Object tag) {
+      this.tag = tag;
+    }
+  }
+
+  private static List<ItemVO> items(int size) {
+    final ArrayList<ItemVO> list = new ArrayList<>();
+    for (long i = 0; i < size; i++) {
+      list.add(new ItemVO(i, i % 10 == 0 ? null : "C" + (i % 20), i % 7 == 0 ? null : (i % 100) + ".5", i % 3 == 0 ? Status.INACTIVE : Status.ACTIVE, "T" + (i % 5)));
+    }
+    return list;
+  }
+
+  private static List<Long> ids(List<? extends RFWVO> list) {
+    final ArrayList<Long> ids = new ArrayList<>();
+    for (RFWVO vo : list) {
+      ids.add(vo.getId());
+    }
+    return ids;
+  }
+
+  /**
+   * Verifica que a consulta pelos índices tem o mesmo resultado da avaliação de todos os objetos.
+   */
+  private static void assertQuery(RFWIndexedCollection<ItemVO> indexed, RFWMO mo) throws RFWException {
+    assertEquals(ids(RFWMOEvaluator.filter(new ArrayList<>(indexed), mo)), ids(indexed.query(mo)));
+  }
+
+  @Test
+  public void t00_hashIndex() throws RFWException {
+    final List<ItemVO> list = items(500);
+    final RFWIndexedCollection<ItemVO> indexed = new RFWIndexedCollection<>(list).addHashIndex("code").addHashIndex("status");
+    assertEquals(500, indexed.size());
+
+    assertEquals(25, indexed.query(new RFWMO().equal("code", "C7")).size());
+    assertQuery(indexed, new RFWMO().equal("code", "C7"));
+    assertQuery(indexed, new RFWMO().in("code", Arrays.asList("C1", "C2", "X")));
+    assertQuery(indexed, new RFWMO().isNull("code"));
+    assertQuery(indexed, new RFWMO().equal("code", "C3").equal("status", Status.INACTIVE));
+    // Enums também são encontrados pelo nome
+    assertEquals(ids(indexed.query(new RFWMO().equal("status", Status.INACTIVE))), ids(indexed.query(new RFWMO().equal("status", "INACTIVE"))));
+    assertQuery(indexed, new RFWMO(AppendMethod.OR).equal("code", "C3").isNull("price"));
+
+    // Inclusão e remoção
+    final ItemVO vo = list.get(7);
+    assertTrue(indexed.contains(vo));
+    assertTrue(indexed.remove(vo));
+    assertFalse(indexed.remove(vo));
+    assertFalse(indexed.query(new RFWMO().equal("code", "C7")).contains(vo));
+    assertTrue(indexed.add(vo));
+    assertFalse(indexed.add(vo));
+    final List<ItemVO> found = indexed.query(new RFWMO().equal("code", "C7"));
+    assertEquals(vo, found.get(found.size() - 1)); // Volta para o fim da ordem de inclusão
+
+    // Reindexação mantendo a posição do objeto
+    vo.setCode("NEW");
+    assertTrue(indexed.query(new RFWMO().equal("code", "NEW")).isEmpty());
+    assertTrue(indexed.reindex(vo));
+    assertEquals(Arrays.asList(7L), ids(indexed.query(new RFWMO().equal("code", "NEW"))));
+    assertFalse(indexed.query(new RFWMO().equal("code", "C7")).contains(vo));
+    assertFalse(indexed.reindex(new ItemVO()));
+
+    // Remoção pelo iterador
+    final Iterator<ItemVO> it = indexed.iterator();
+    while (it.hasNext()) {
+      if ("NEW".equals(it.next().getCode())) it.remove();
+    }
+    assertTrue(indexed.query(new RFWMO().equal("code", "NEW")).isEmpty());
+    assertEquals(499, indexed.size());
+
+    indexed.clear();
+    assertEquals(0, indexed.size());
+    assertTrue(indexed.query(new RFWMO().equal("code", "C1")).isEmpty());
+  }
+
+  @Test
+  public void t01_treeIndex() throws RFWException {
+    final List<ItemVO> list = items(500);
+    final RFWIndexedCollection<ItemVO> indexed = new RFWIndexedCollection<>(list).addTreeIndex("price").addTreeIndex("code");
+
+    assertQuery(indexed, new RFWMO().equal("price", 10.5));
+    assertQuery(indexed, new RFWMO().greaterThan("price", 90));
+    assertQuery(indexed, new RFWMO().greaterThanOrEqualTo("price", new BigDecimal("90.5")));
+    assertQuery(indexed, new RFWMO().lessThan("price", 3L));
+    assertQuery(indexed, new RFWMO().lessThanOrEqualTo("price", new BigDecimal("2.50")).isNotNull("code"));
+    assertQuery(indexed, new RFWMO().greaterThan("price", 10).lessThan("price", 12));
+    assertQuery(indexed, new RFWMO().isNull("price"));
+    assertQuery(indexed, new RFWMO().greaterThanOrEqualTo("code", "C5").lessThan("code", "C7"));
+    // Condições não resolvidas pelo índice de ordem são avaliadas em todos os objetos
+    assertQuery(indexed, new RFWMO().in("price", Arrays.asList(1.5, 2.5)));
+
+    final ItemVO vo = list.get(1);
+    vo.setPrice(new BigDecimal("1000"));
+    indexed.reindex(vo);
+    assertEquals(Arrays.asList(1L), ids(indexed.query(new RFWMO().greaterThan("price", 500))));
+    assertTrue(indexed.remove(vo));
+    assertTrue(indexed.query(new RFWMO().greaterThan("price", 500)).isEmpty());
+
+    // Valores que não podem ser ordenados com os demais
+    assertThrows(RFWCriticalException.class, () -> new RFWIndexedCollection<>(Arrays.asList(new ItemVO(1, "A", null, null, "X"), new ItemVO(2, "B", null, null, 1))).addTreeIndex("tag"));
+  }
+
+  @Test
+  public void t02_failures() throws RFWException {
+    final List<ItemVO> list = items(50);
+    final RFWIndexedCollection<ItemVO> indexed = new RFWIndexedCollection<>(list).addHashIndex("code").addTreeIndex("tag");
+    final ItemVO vo = list.get(3);
+
+    // Falha ao registrar o valor no índice de ordem: o objeto continua com as chaves anteriores em todos os índices
+    vo.setCode("C99");
+    vo.setTag(Integer.valueOf(1));
+    assertThrows(RFWRunTimeException.class, () -> indexed.reindex(vo));
+    vo.setCode("C3");
+    vo.setTag("T3");
+    assertTrue(indexed.query(new RFWMO().equal("code", "C3")).contains(vo));
+    assertTrue(indexed.query(new RFWMO().equal("tag", "T3")).contains(vo));
+    assertTrue(indexed.query(new RFWMO().equal("code", "C99")).isEmpty());
+
+    // Falha na leitura do atributo: nenhum índice é alterado
+    vo.setTag("T4");
+    vo.failRead = true;
+    assertThrows(RFWRunTimeException.class, () -> indexed.reindex(vo));
+    vo.failRead = false;
+    vo.setTag("T3");
+    assertTrue(indexed.query(new RFWMO().equal("code", "C3")).contains(vo));
+    assertTrue(indexed.query(new RFWMO().equal("tag", "T3")).contains(vo));
+    assertFalse(indexed.query(new RFWMO().equal("tag", "T4")).contains(vo));
+
+    // Falha na inclusão: o objeto não é incluído em nenhum índice
+    final ItemVO invalid = new ItemVO(100, "INVALID", null, null, Integer.valueOf(2));
+    assertThrows(RFWRunTimeException.class, () -> indexed.add(invalid));
+    assertFalse(indexed.contains(invalid));
+    assertTrue(indexed.query(new RFWMO().equal("code", "INVALID")).isEmpty());
+    assertEquals(50, indexed.size());
+  }
+}
@@ -0,0 +1,131 @@
+package br.eng.rodrigogml.rfw.kernel.vo;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.kernel.validator.RFWValidatorTest.OrderVO;
+import br.eng.rodrigogml.rfw.kernel.validator.RFWValidatorTest.ProductVO;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWMO.AppendMethod;
+
+/**
+ * Description: Testes da classe {@link RFWMOEvaluator}.<br>
+ *
+ * @author Rodrigo GML
+ * @since 1.0.0 (17 de out. de 2026)
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class RFWMOEvaluatorTest {
+
+  private static ProductVO product(Long id, String code, String price) {
+    final ProductVO vo = new ProductVO();
+    vo.setId(id);
+    vo.setCode(code);
+    if (price != null) vo.setPrice(new BigDecimal(price));
+    return vo;
+  }
+
+  private static List<ProductVO> products() {
+    return Arrays.asList(product(1L, "ABC", "10.00"), product(2L, "ABD", "20.5"), product(3L, "XYZ", null), product(4L, null, "5"));
+  }
+
+  private static List<Long> ids(List<? extends RFWVO> list) {
+    final ArrayList<Long> ids = new ArrayList<>();
+    for (RFWVO vo : list) {
+      ids.add(vo.getId());
+    }
+    return ids;
+  }
+
+  @Test
+  public void t00_conditions() throws RFWException {
+    final List<ProductVO> list = products();
+    assertEquals(Arrays.asList(1L), ids(RFWMOEvaluator.filter(list, new RFWMO().equal("price", 10))));
+    assertEquals(Arrays.asList(2L, 4L), ids(RFWMOEvaluator.filter(list, new RFWMO().notEqual("price", new BigDecimal("10")))));
+    assertEquals(Arrays.asList(1L, 2L), ids(RFWMOEvaluator.filter(list, new RFWMO().greaterThanOrEqualTo("price", 10L))));
+    assertEquals(Arrays.asList(4L), ids(RFWMOEvaluator.filter(list, new RFWMO().lessThan("price", 10))));
+    assertEquals(Arrays.asList(3L), ids(RFWMOEvaluator.filter(list, new RFWMO().isNull("price"))));
+    assertEquals(Arrays.asList(1L, 2L), ids(RFWMOEvaluator.filter(list, new RFWMO().like("code", "AB_"))));
+    assertEquals(Arrays.asList(2L, 3L), ids(RFWMOEvaluator.filter(list, new RFWMO().in("id", Arrays.asList(2, 3, 99)))));
+    assertEquals(Arrays.asList(1L, 3L), ids(RFWMOEvaluator.filter(list, new RFWMO().notIn("code", Arrays.asList("ABD")))));
+    assertEquals(4, RFWMOEvaluator.filter(list, new RFWMO()).size());
+
+    // (code like 'A%' AND (price is null OR price > 15)) OR id = 3
+    final RFWMO mo = new RFWMO(AppendMethod.OR).equal("id", 3L);
+    final RFWMO and = new RFWMO().like("code", "A%");
+    and.getSubmo().add(new RFWMO(AppendMethod.OR).isNull("price").greaterThan("price", 15));
+    mo.getSubmo().add(and);
+    assertEquals(Arrays.asList(2L, 3L), ids(RFWMOEvaluator.filter(list, mo)));
+  }
+
+  @Test
+  public void t01_pathThroughCollections() throws RFWException {
+    final OrderVO order1 = new OrderVO();
+    order1.setId(1L);
+    order1.setMainProduct(product(10L, "ABC", "1"));
+    order1.getProducts().add(product(11L, "XYZ", "2"));
+    final OrderVO order2 = new OrderVO();
+    order2.setId(2L);
+    final List<OrderVO> orders = Arrays.asList(order1, order2);
+
+    assertEquals(Arrays.asList(1L), ids(RFWMOEvaluator.filter(orders, new RFWMO().equal("mainProduct.code", "ABC"))));
+    assertEquals(Arrays.asList(2L), ids(RFWMOEvaluator.filter(orders, new RFWMO().isNull("mainProduct.code"))));
+    assertEquals(Arrays.asList(1L), ids(RFWMOEvaluator.filter(orders, new RFWMO().equal("products.code", "XYZ"))));
+    assertEquals(Arrays.asList(2L), ids(RFWMOEvaluator.filter(orders, new RFWMO().isNull("products.code"))));
+
+    final RFWMOEvaluator<OrderVO> evaluator = RFWMOEvaluator.compile(new RFWMO().greaterThan("products.price", 1));
+    assertTrue(evaluator.test(order1));
+    assertFalse(evaluator.test(order2));
+  }
+
+  @Test
+  public void t02_parallelFilter() throws RFWException {
+    final ArrayList<ProductVO> list = new ArrayList<>();
+    for (long i = 0; i < 5000; i++) {
+      list.add(product(i, i % 2 == 0 ? "A" + i : "B" + i, "" + (i % 100)));
+    }
+    final RFWMO mo = new RFWMO().like("code", "A%").lessThan("price", 50);
+    final List<ProductVO> sequential = RFWMOEvaluator.filter(list, mo);
+    final List<ProductVO> parallel = RFWMOEvaluator.filter(list, mo, 100, null);
+    assertEquals(1250, sequential.size());
+    assertEquals(ids(sequential), ids(parallel));
+  }
+
+  @Test
+  public void t03_indexedCollection() throws RFWException {
+    final ArrayList<ProductVO> list = new ArrayList<>();
+    for (long i = 0; i < 2000; i++) {
+      list.add(product(i, i % 10 == 0 ? null : "C" + (i % 50), i % 7 == 0 ? null : "" + (i % 300) + ".5"));
+    }
+    final RFWIndexedCollection<ProductVO> indexed = new RFWIndexedCollection<>(list);
+    indexed.addHashIndex("code").addTreeIndex("price");
+
+    final RFWMO[] mos = new RFWMO[] { new RFWMO().equal("code", "C7"), new RFWMO().in("code", Arrays.asList("C1", "C2")).lessThan("price", 100), new RFWMO().greaterThanOrEqualTo("price", new BigDecimal("290.5")).isNotNull("code"), new RFWMO().isNull("price"),
+        new RFWMO(AppendMethod.OR).equal("code", "C3").lessThan("price", 2), new RFWMO().notEqual("code", "C4") };
+    for (RFWMO mo : mos) {
+      assertEquals(ids(RFWMOEvaluator.filter(list, mo)), ids(RFWMOEvaluator.filter(indexed, mo)));
+    }
+
+    // Alterações incrementais
+    final ProductVO vo = list.get(7);
+    assertTrue(indexed.remove(vo));
+    assertFalse(indexed.remove(vo));
+    assertFalse(indexed.query(new RFWMO().equal("code", "C7")).contains(vo));
+    indexed.add(vo);
+    assertEquals(vo, indexed.query(new RFWMO().equal("code", "C7")).get(indexed.query(new RFWMO().equal("code", "C7")).size() - 1));
+    vo.setCode("NEW");
+    indexed.reindex(vo);
+    assertEquals(Arrays.asList(7L), ids(indexed.query(new RFWMO().equal("code", "NEW"))));
+    assertEquals(2000, indexed.size());
+  }
+}
@@ -0,0 +1,123 @@
+package br.eng.rodrigogml.rfw.kernel.vo;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.Base64;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWMO.AppendMethod;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWMO.Operator;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWMO.RFWMOData;
+
+/**
+ * Description: Testes da classe {@link RFWMO}.<br>
+ *
+ * @author Rodrigo GML
+ * @since 1.0.0 (17 de out. de 2026)
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class RFWMOTest {
+
+  @Test
+  public void t00_conditions() {
+    final RFWMO mo = new RFWMO().in("id", Arrays.asList(1L, 2L)).equal("code", "A").notIn("id", Arrays.asList(3L)).equal("name", "B").isNull("price");
+    assertEquals(5, mo.size());
+    assertEquals(Arrays.asList("code", "name", "price", "id", "id"), mo.getAttributes());
+    assertEquals("code=A AND name=B AND price is null AND id in ([1, 2]) AND id not in ([3])", mo.printConditions());
+    assertEquals(2, mo.getConditions(Operator.EQUAL).size());
+    assertTrue(mo.getConditions(Operator.LIKE).isEmpty());
+    assertArrayEquals(new Object[] { Arrays.asList(3L) }, mo.findNotIn("id"));
+    assertArrayEquals(new Object[] { "A" }, mo.findEqual("code"));
+
+    // As listas de compatibilidade continuam alterando o MO
+    mo.getEqual().removeFirst();
+    mo.getEqual().add(new RFWMOData("code", "C"));
+    mo.equal("code", "D");
+    assertArrayEquals(new Object[] { "C", "D" }, mo.findEqual("code"));
+    assertEquals(3, mo.getConditions(Operator.EQUAL).size());
+    assertEquals(1, mo.getIsNull().size());
+    assertEquals(6, mo.size());
+  }
+
+  @Test
+  public void t01_cloneRecursive() throws RFWException {
+    final RFWMO mo = new RFWMO(AppendMethod.OR).equal("code", "A").greaterThan("price", 10);
+    mo.getLike().add(new RFWMOData("name", "%B%"));
+    mo.getSubmo().add(new RFWMO().isNull("price"));
+
+    final RFWMO clone = mo.cloneRecursive();
+    assertEquals(mo.printConditions(), clone.printConditions());
+    assertEquals(AppendMethod.OR, clone.getAppendmethod());
+    assertNotSame(mo.getSubmo().get(0), clone.getSubmo().get(0));
+
+    clone.equal("code", "B").like("name", "C");
+    clone.getSubmo().get(0).isNotNull("code");
+    assertEquals(4, mo.size());
+    assertEquals(7, clone.size());
+  }
+
+  @Test
+  public void t02_clone() throws CloneNotSupportedException {
+    final RFWMO mo = new RFWMO().equal("code", "A").isNull("price");
+    mo.getEqual(); // Cria a lista de compatibilidade apenas do equal
+    final RFWMO clone = (RFWMO) mo.clone();
+    clone.equal("code", "B").isNull("name");
+    assertEquals(2, mo.size());
+    assertEquals(4, clone.size());
+    mo.equal("code", "C").isNull("id");
+    assertEquals("code=A AND code=B AND price is null AND name is null", clone.printConditions());
+  }
+
+  /**
+   * MO serializado pela versão anterior da classe (com uma LinkedList por tipo de condição): code = 'A' AND id in (1, 2) AND price is null AND (price > 10 OR name like '%B%').
+   */
+  private static final String OLDSERIALIZEDMO = "rO0ABXNyACVici5lbmcucm9kcmlnb2dtbC5yZncua2VybmVsLnZvLlJGV01PTXT8CLuXlBwCAA1MAAxhcHBlbmRtZXRob2R0ADRMYnIvZW5nL3JvZHJpZ29nbWwvcmZ3L2tlcm5lbC92by9SRldNTyRBcHBlbmRNZXRob2Q7TAAFZXF1YWx0ABZMamF2YS91dGlsL0xp" //
+      + "bmtlZExpc3Q7TAALZ3JlYXRlclRoYW5xAH4AAkwAFGdyZWF0ZXJUaGFuT3JFcXVhbFRvcQB+AAJMAAJpbnEAfgACTAAJaXNOb3ROdWxscQB+AAJMAAZpc051bGxxAH4AAkwACGxlc3NUaGFucQB+AAJMABFsZXNzVGhhbk9yRXF1YWxUb3EAfgACTAAEbGlrZXEAfgAC" //
+      + "TAAIbm90RXF1YWxxAH4AAkwABW5vdElucQB+AAJMAAVzdWJtb3QAEExqYXZhL3V0aWwvTGlzdDt4cH5yADJici5lbmcucm9kcmlnb2dtbC5yZncua2VybmVsLnZvLlJGV01PJEFwcGVuZE1ldGhvZAAAAAAAAAAAEgAAeHIADmphdmEubGFuZy5FbnVtAAAAAAAAAAAS" //
+      + "AAB4cHQAA0FORHNyABRqYXZhLnV0aWwuTGlua2VkTGlzdAwpU11KYIgiAwAAeHB3BAAAAAFzcgAvYnIuZW5nLnJvZHJpZ29nbWwucmZ3Lmtlcm5lbC52by5SRldNTyRSRldNT0RhdGGC6k1ZGKkRTQIAAkwACWZpZWxkbmFtZXQAEkxqYXZhL2xhbmcvU3RyaW5nO0wA" //
+      + "BXZhbHVldAASTGphdmEvbGFuZy9PYmplY3Q7eHB0AARjb2RldAABQXhzcQB+AAl3BAAAAAB4c3EAfgAJdwQAAAAAeHNxAH4ACXcEAAAAAXNxAH4AC3QAAmlkc3IAGmphdmEudXRpbC5BcnJheXMkQXJyYXlMaXN02aQ8vs2IBtICAAFbAAFhdAATW0xqYXZhL2xhbmcv" //
+      + "T2JqZWN0O3hwdXIAEVtMamF2YS5sYW5nLkxvbmc7feEKsru8YysCAAB4cAAAAAJzcgAOamF2YS5sYW5nLkxvbmc7i+SQzI8j3wIAAUoABXZhbHVleHIAEGphdmEubGFuZy5OdW1iZXKGrJUdC5TgiwIAAHhwAAAAAAAAAAFzcQB+ABsAAAAAAAAAAnhzcQB+AAl3BAAA" //
+      + "AAB4c3EAfgAJdwQAAAABc3EAfgALdAAFcHJpY2VweHNxAH4ACXcEAAAAAHhzcQB+AAl3BAAAAAB4c3EAfgAJdwQAAAAAeHNxAH4ACXcEAAAAAHhzcQB+AAl3BAAAAAB4c3EAfgAJdwQAAAABc3EAfgAAfnEAfgAFdAACT1JzcQB+AAl3BAAAAAB4c3EAfgAJdwQAAAAB" //
+      + "c3EAfgALcQB+ACJzcQB+ABsAAAAAAAAACnhzcQB+AAl3BAAAAAB4c3EAfgAJdwQAAAAAeHNxAH4ACXcEAAAAAHhzcQB+AAl3BAAAAAB4c3EAfgAJdwQAAAAAeHNxAH4ACXcEAAAAAHhzcQB+AAl3BAAAAAFzcQB+AAt0AARuYW1ldAADJUIleHNxAH4ACXcEAAAAAHhz" //
+      + "cQB+AAl3BAAAAAB4cHg=";
+
+  @Test
+  public void t03_serialization() throws Exception {
+    final RFWMO mo = new RFWMO().equal("code", "A").in("id", Arrays.asList(1L, 2L)).isNull("price");
+    mo.getSubmo().add(new RFWMO(AppendMethod.OR).greaterThan("price", 10L).like("name", "%B%"));
+    mo.getIsNull(); // Condições nos dois formatos internos
+
+    final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(buffer)) {
+      out.writeObject(mo);
+    }
+    final RFWMO read = deserialize(buffer.toByteArray());
+    assertEquals(mo.printConditions(), read.printConditions());
+    assertEquals(5, read.size());
+    read.equal("name", "C");
+    assertEquals(6, read.size());
+
+    // Objetos serializados pela versão anterior mantém as condições
+    final RFWMO old = deserialize(Base64.getDecoder().decode(OLDSERIALIZEDMO));
+    assertEquals(mo.printConditions(), old.printConditions());
+    assertEquals(AppendMethod.OR, old.getSubmo().get(0).getAppendmethod());
+  }
+
+  private static RFWMO deserialize(byte[] bytes) throws Exception {
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+      return (RFWMO) in.readObject();
+    }
+  }
+}
@@ -0,0 +1,92 @@
+package br.eng.rodrigogml.rfw.kernel.vo;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.math.BigDecimal;
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWCriticalException;
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.kernel.validator.RFWValidatorTest.ProductVO;
+
+/**
+ * Description: Testes da classe {@link RFWOrderByComparator}.<br>
+ *
+ * @author Rodrigo GML
+ * @since 1.0.0 (17 de out. de 2026)
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class RFWOrderByComparatorTest {
+
+  private static ProductVO product(Long id, String code, String price) {
+    final ProductVO vo = new ProductVO();
+    vo.setId(id);
+    vo.setCode(code);
+    if (price != null) vo.setPrice(new BigDecimal(price));
+    return vo;
+  }
+
+  private static List<Long> ids(List<? extends RFWVO> list) {
+    final ArrayList<Long> ids = new ArrayList<>();
+    for (RFWVO vo : list) {
+      ids.add(vo == null ? null : vo.getId());
+    }
+    return ids;
+  }
+
+  @Test
+  public void t00_sort() throws RFWException {
+    final List<ProductVO> list = new ArrayList<>(Arrays.asList(product(1L, "b", "10.0"), product(2L, "Á", "2"), null, product(3L, "a", null), product(4L, "c", "10"), product(5L, null, "1.5")));
+
+    RFWOrderByComparator.sort(list, RFWOrderBy.createInstance("price", false).addOrderbyItem("id", false));
+    assertEquals(Arrays.asList(4L, 1L, 2L, 5L, 3L, null), ids(list));
+
+    // Sem Collator as Strings seguem a ordem natural e os nulos ficam no início
+    RFWOrderByComparator.sort(list, RFWOrderBy.createInstance("code"));
+    assertEquals(Arrays.asList(5L, 3L, 1L, 4L, 2L, null), ids(list));
+
+    final Collator collator = Collator.getInstance(new Locale("pt", "BR"));
+    collator.setStrength(Collator.PRIMARY);
+    final RFWOrderByComparator<ProductVO> comparator = RFWOrderByComparator.compile(RFWOrderBy.createInstance("code").addOrderbyItem("id", false), collator);
+    comparator.sort(list);
+    assertEquals(Arrays.asList(5L, 3L, 2L, 1L, 4L, null), ids(list));
+    Collections.shuffle(list, new Random(1));
+    list.sort(comparator);
+    assertEquals(Arrays.asList(5L, 3L, 2L, 1L, 4L, null), ids(list));
+
+    RFWOrderByComparator.sort(list, RFWOrderBy.createInstance(RFWField.coalesce(RFWField.field("price"), RFWField.constantNumber(new BigDecimal("3")))));
+    assertEquals(Arrays.asList(5L, 2L, 3L, 1L, 4L, null), ids(list));
+
+    assertThrows(RFWCriticalException.class, () -> RFWOrderByComparator.compile(RFWOrderBy.createInstance(RFWField.year("code"))));
+  }
+
+  @Test
+  public void t01_parallelSort() throws RFWException {
+    final ArrayList<ProductVO> list = new ArrayList<>();
+    final Random random = new Random(7);
+    for (long i = 0; i < 20000; i++) {
+      list.add(product(i, "C" + random.nextInt(500), random.nextInt(10) == 0 ? null : "" + random.nextInt(1000)));
+    }
+    final RFWOrderBy orderBy = RFWOrderBy.createInstance("price", false).addOrderbyItem("code");
+    final ArrayList<ProductVO> sequential = new ArrayList<>(list);
+    RFWOrderByComparator.sort(sequential, orderBy);
+    final ArrayList<ProductVO> parallel = new ArrayList<>(list);
+    RFWOrderByComparator.sort(parallel, orderBy, 1000);
+    assertEquals(ids(sequential), ids(parallel));
+
+    // O mesmo resultado da comparação direta, que lê os atributos a cada chamada
+    list.sort(RFWOrderByComparator.compile(orderBy));
+    assertEquals(ids(sequential), ids(list));
+  }
+}
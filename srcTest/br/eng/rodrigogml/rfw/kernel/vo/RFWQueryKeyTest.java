@@ -0,0 +1,142 @@
+package br.eng.rodrigogml.rfw.kernel.vo;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.kernel.interfaces.RFWCachedDBProvider;
+import br.eng.rodrigogml.rfw.kernel.interfaces.RFWDBProvider;
+import br.eng.rodrigogml.rfw.kernel.validator.RFWValidatorTest.OrderVO;
+import br.eng.rodrigogml.rfw.kernel.validator.RFWValidatorTest.ProductVO;
+import br.eng.rodrigogml.rfw.kernel.vo.RFWMO.AppendMethod;
+
+/**
+ * Description: Testes da classe {@link RFWQueryKey}.<br>
+ *
+ * @author Rodrigo GML
+ * @since 1.0.0 (17 de out. de 2026)
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class RFWQueryKeyTest {
+
+  /**
+   * DBProvider que conta as consultas realizadas e retorna uma nova lista a cada chamada.
+   */
+  private static class CountingDBProvider implements RFWDBProvider {
+    int findIDsCount = 0;
+    int findListCount = 0;
+
+    @Override
+    public <VO extends RFWVO> List<Long> findIDs(Class<VO> voClass, RFWMO mo, RFWOrderBy orderBy) throws RFWException {
+      return findIDs(voClass, mo, orderBy, null, null);
+    }
+
+    @Override
+    public <VO extends RFWVO> List<Long> findIDs(Class<VO> voClass, RFWMO mo, RFWOrderBy orderBy, Integer offset, Integer limit) throws RFWException {
+      this.findIDsCount++;
+      return new ArrayList<>(Arrays.asList(1L, 2L));
+    }
+
+    @Override
+    public <VO extends RFWVO> List<VO> findList(Class<VO> voClass, RFWMO mo, RFWOrderBy orderBy, String[] attributes, Integer offset, Integer limit) throws RFWException {
+      this.findListCount++;
+      return new ArrayList<>();
+    }
+
+    @Override
+    public <VO extends RFWVO> RFWVO findByID(Class<? extends RFWVO> voClass, Long id, String[] attributes) throws RFWException {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <VO extends RFWVO> RFWVO findUniqueMatch(Class<? extends RFWVO> voClass, RFWMO mo, String[] attributes) throws RFWException {
+      throw new UnsupportedOperationException();
+    }
+  }
+
+  private static RFWQueryKey key(RFWMO mo) {
+    return RFWQueryKey.create(ProductVO.class, mo, null, null, null, null);
+  }
+
+  @Test
+  public void t00_canonical() {
+    // Mesmas condições em ordens diferentes, com valores de tipos diferentes
+    final RFWMO mo1 = new RFWMO().equal("code", "A").greaterThan("price", 10).in("id", Arrays.asList(3L, 1, 2L, 1L));
+    mo1.getSubmo().add(new RFWMO(AppendMethod.OR).isNull("price").lessThan("price", new BigDecimal("5.50")));
+    final RFWMO mo2 = new RFWMO();
+    mo2.getSubmo().add(new RFWMO(AppendMethod.OR).lessThan("price", 5.5).isNull("price"));
+    mo2.in("id", Arrays.asList(2, 3, 1)).greaterThan("price", new BigDecimal("10.00")).equal("code", "A");
+    assertEquals(key(mo1), key(mo2));
+    assertEquals(key(mo1).hashCode(), key(mo2).hashCode());
+
+    // O AppendMethod só é considerado com mais de uma condição
+    assertEquals(key(new RFWMO().equal("code", "A")), key(new RFWMO(AppendMethod.OR).equal("code", "A")));
+    assertNotEquals(key(new RFWMO().equal("code", "A").equal("id", 1)), key(new RFWMO(AppendMethod.OR).equal("code", "A").equal("id", 1)));
+
+    // Valores que poderiam ser confundidos com os separadores
+    assertNotEquals(key(new RFWMO().equal("code", "A,B")), key(new RFWMO().in("code", Arrays.asList("A", "B"))));
+    assertNotEquals(key(new RFWMO().equal("code", "1")), key(new RFWMO().equal("code", 1)));
+    assertNotEquals(key(new RFWMO().equal("code", LocalDate.of(2026, 1, 1))), key(new RFWMO().equal("code", LocalDate.of(2026, 1, 1).atStartOfDay())));
+
+    // Ordenação, atributos, offset e limit
+    final RFWOrderBy orderBy = RFWOrderBy.createInstance("code").addOrderbyItem("price", false);
+    assertEquals(RFWQueryKey.create(ProductVO.class, mo1, orderBy, new String[] { "price", "code" }, 0, 10), RFWQueryKey.create(ProductVO.class, mo2, RFWOrderBy.createInstance("code").addOrderbyItem("price", false), new String[] { "code", "price", "code" }, 0, 10));
+    assertNotEquals(RFWQueryKey.create(ProductVO.class, mo1, orderBy, null, 0, 10), RFWQueryKey.create(ProductVO.class, mo1, RFWOrderBy.createInstance("price", false).addOrderbyItem("code"), null, 0, 10));
+    assertNotEquals(RFWQueryKey.create(ProductVO.class, mo1, orderBy, null, 0, 10), RFWQueryKey.create(ProductVO.class, mo1, orderBy, null, 10, 10));
+    assertNotEquals(RFWQueryKey.create(ProductVO.class, mo1, orderBy, null, 0, 10), RFWQueryKey.create(OrderVO.class, mo1, orderBy, null, 0, 10));
+
+    // Valores que não podem ser representados na chave
+    assertNull(key(new RFWMO().equal("mainProduct", new ProductVO())));
+
+    // A chave é montada sem criar a lista de SubMOs do MO
+    final RFWMO simple = new RFWMO().equal("code", "A");
+    key(simple);
+    assertSame(Collections.emptyList(), simple.getSubmoConditions());
+  }
+
+  @Test
+  public void t01_queryCache() throws RFWException {
+    final CountingDBProvider provider = new CountingDBProvider();
+    final RFWCachedDBProvider cache = new RFWCachedDBProvider(provider, 2, 0, true);
+
+    cache.findIDs(ProductVO.class, new RFWMO().equal("code", "A").equal("id", 1), null).clear();
+    assertEquals(Arrays.asList(1L, 2L), cache.findIDs(ProductVO.class, new RFWMO().equal("id", 1L).equal("code", "A"), null));
+    assertEquals(1, provider.findIDsCount);
+    cache.findList(ProductVO.class, new RFWMO().equal("code", "A"), null, null, null, null);
+    cache.findList(ProductVO.class, new RFWMO().equal("code", "A"), null, new String[0], null, null);
+    assertEquals(1, provider.findListCount);
+    assertEquals(2, cache.size());
+
+    // Consultas de outras classes não são afetadas pela invalidação
+    cache.findIDs(OrderVO.class, new RFWMO(), null);
+    cache.invalidateQueries(ProductVO.class);
+    cache.findIDs(ProductVO.class, new RFWMO().equal("code", "A").equal("id", 1), null);
+    cache.findIDs(OrderVO.class, new RFWMO(), null);
+    assertEquals(3, provider.findIDsCount);
+
+    // Limite de consultas por classe
+    cache.findIDs(ProductVO.class, new RFWMO().equal("id", 2), null);
+    cache.findIDs(ProductVO.class, new RFWMO().equal("id", 3), null);
+    cache.findIDs(ProductVO.class, new RFWMO().equal("code", "A").equal("id", 1), null);
+    assertEquals(6, provider.findIDsCount);
+
+    // Sem o cache de consultas, todas são repassadas ao DBProvider
+    final RFWCachedDBProvider noQueries = new RFWCachedDBProvider(provider, 2, 0);
+    noQueries.findIDs(ProductVO.class, new RFWMO(), null);
+    noQueries.findIDs(ProductVO.class, new RFWMO(), null);
+    assertEquals(8, provider.findIDsCount);
+  }
+}
@@ -0,0 +1,225 @@
+package br.eng.rodrigogml.rfw.kernel.vo;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.kernel.rfwmeta.RFWMetaStringField;
+
+/**
+ * Description: Testes da classe {@link RFWVOMeta}.<br>
+ *
+ * @author Rodrigo GML
+ * @since 1.0.0 (17 de out. de 2026)
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class RFWVOMetaTest {
+
+  public static class BaseVO extends RFWVO {
+    private static final long serialVersionUID = 1L;
+
+    public static final String CONSTANT = "C";
+
+    private String description;
+
+    private Boolean active;
+
+    private Boolean enabled;
+
+    private int count;
+
+    private transient String cache;
+
+    @SuppressWarnings("unused")
+    private String noGetter;
+
+    public String getDescription() {
+      return description;
+    }
+
+    public void setDescription(String description) {
+      this.description = description;
+    }
+
+    public Boolean isActive() {
+      return active;
+    }
+
+    public void setActive(Boolean active) {
+      this.active = active;
+    }
+
+    public Boolean areEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(Boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public int getCount() {
+      return count;
+    }
+
+    public void setCount(String count) {
+      this.count = Integer.parseInt(count);
+    }
+
+    public void setCount(int count) {
+      this.count = count;
+    }
+
+    public String getCache() {
+      return cache;
+    }
+
+    public void setCache(String cache) {
+      this.cache = cache;
+    }
+  }
+
+  public static class ChildVO extends BaseVO {
+    private static final long serialVersionUID = 1L;
+
+    @RFWMetaStringField(caption = "Descrição", required = true, maxLength = 10)
+    private String description;
+
+    private String other;
+
+    @Override
+    public String getDescription() {
+      return description;
+    }
+
+    @Override
+    public void setDescription(String description) {
+      this.description = description;
+    }
+
+    public String getOther() {
+      return other;
+    }
+
+    public void setOther(Integer other) {
+      this.other = other == null ? null : other.toString();
+    }
+  }
+
+  private static List<Field> fields(Class<?>... classes) {
+    final ArrayList<Field> list = new ArrayList<>();
+    for (Class<?> clazz : classes) {
+      list.addAll(Arrays.asList(clazz.getDeclaredFields()));
+    }
+    return list;
+  }
+
+  private static List<Field> fields(List<RFWVOFieldMeta> metas) {
+    final ArrayList<Field> list = new ArrayList<>();
+    for (RFWVOFieldMeta meta : metas) {
+      list.add(meta.getField());
+    }
+    return list;
+  }
+
+  @Test
+  public void t00_fieldOrder() {
+    final RFWVOMeta meta = RFWVOMeta.getInstance(ChildVO.class);
+    assertSame(ChildVO.class, meta.getVOClass());
+    assertNull(meta.getAccessor());
+
+    // Os fields da própria classe, seguidos pelos das classes pai subindo a hierarquia
+    assertEquals(fields(ChildVO.class), fields(meta.getDeclaredFields()));
+    assertEquals(fields(ChildVO.class, BaseVO.class, RFWVO.class), fields(meta.getFieldsRecursively()));
+    final Field[] array = meta.getDeclaredFieldsRecursively();
+    assertArrayEquals(fields(meta.getFieldsRecursively()).toArray(), array);
+    // Cada chamada devolve uma cópia que pode ser alterada
+    array[0] = null;
+    assertNotSame(array, meta.getDeclaredFieldsRecursively());
+    assertEquals(fields(meta.getFieldsRecursively()).get(0), meta.getDeclaredFieldsRecursively()[0]);
+
+    // A instância é mantida em cache até a limpeza do cache
+    assertSame(meta, RFWVOMeta.getInstance(ChildVO.class));
+    RFWVOMeta.clearCache();
+    assertNotSame(meta, RFWVOMeta.getInstance(ChildVO.class));
+  }
+
+  @Test
+  public void t01_shadowedField() throws RFWException {
+    final RFWVOMeta meta = RFWVOMeta.getInstance(ChildVO.class);
+
+    // O atributo declarado novamente na classe filha prevalece sobre o da classe pai
+    final RFWVOFieldMeta description = meta.getField("description");
+    assertSame(ChildVO.class, description.getField().getDeclaringClass());
+    assertEquals("Descrição", description.getCaption());
+    assertEquals(Boolean.TRUE, description.getRequired());
+    assertSame(BaseVO.class, RFWVOMeta.getInstance(BaseVO.class).getField("description").getField().getDeclaringClass());
+    assertNull(RFWVOMeta.getInstance(BaseVO.class).getField("description").getCaption());
+
+    // Atributos das classes pai também são encontrados
+    assertSame(RFWVO.class, meta.getField("id").getField().getDeclaringClass());
+    assertNull(meta.getField("unknown"));
+
+    final ChildVO vo = new ChildVO();
+    description.setValue(vo, "D1");
+    assertEquals("D1", vo.getDescription());
+    assertEquals("D1", description.getValue(vo));
+  }
+
+  @Test
+  public void t02_getterAndSetter() throws RFWException {
+    final RFWVOMeta meta = RFWVOMeta.getInstance(ChildVO.class);
+
+    // Métodos get, is e are
+    assertEquals("getDescription", meta.getField("description").getGetter().getName());
+    assertEquals("isActive", meta.getField("active").getGetter().getName());
+    assertEquals("areEnabled", meta.getField("enabled").getGetter().getName());
+    assertEquals("setEnabled", meta.getField("enabled").getSetter().getName());
+
+    // O método set é procurado pelo tipo de retorno do método get
+    assertArrayEquals(new Class<?>[] { int.class }, meta.getField("count").getSetter().getParameterTypes());
+    assertNull(meta.getField("other").getSetter());
+    assertNull(meta.getField("noGetter").getGetter());
+    assertNull(meta.getField("noGetter").getSetter());
+
+    final ChildVO vo = new ChildVO();
+    meta.getField("count").setValue(vo, 7);
+    assertEquals(7, meta.getField("count").getValue(vo));
+    meta.getField("enabled").setValue(vo, Boolean.TRUE);
+    assertEquals(Boolean.TRUE, vo.areEnabled());
+  }
+
+  @Test
+  public void t03_trackedFields() {
+    final RFWVOMeta meta = RFWVOMeta.getInstance(ChildVO.class);
+
+    // Apenas atributos com método get, não estáticos e não transientes. Do RFWVO apenas o ID, e os atributos repetidos na hierarquia uma única vez
+    final HashSet<String> names = new HashSet<>();
+    for (int i = 0; i < meta.getTrackedFieldCount(); i++) {
+      final RFWVOFieldMeta field = meta.getTrackedField(i);
+      assertEquals(i, meta.getTrackedFieldIndex(field.getName()));
+      names.add(field.getName());
+    }
+    assertEquals(new HashSet<>(Arrays.asList("description", "other", "active", "enabled", "count", "id")), names);
+    assertEquals(names.size(), meta.getTrackedFieldCount());
+    assertSame(ChildVO.class, meta.getTrackedField(meta.getTrackedFieldIndex("description")).getField().getDeclaringClass());
+
+    assertEquals(-1, meta.getTrackedFieldIndex("cache"));
+    assertEquals(-1, meta.getTrackedFieldIndex("noGetter"));
+    assertEquals(-1, meta.getTrackedFieldIndex("CONSTANT"));
+    assertEquals(-1, meta.getTrackedFieldIndex("_fullLoaded"));
+    assertEquals(-1, meta.getTrackedFieldIndex("unknown"));
+  }
+}
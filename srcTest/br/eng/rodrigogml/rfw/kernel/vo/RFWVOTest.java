@@ -0,0 +1,55 @@
+package br.eng.rodrigogml.rfw.kernel.vo;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import br.eng.rodrigogml.rfw.kernel.exceptions.RFWException;
+import br.eng.rodrigogml.rfw.kernel.validator.RFWValidatorTest.CustomerVO;
+
+/**
+ * Description: Testes da classe {@link RFWVO}.<br>
+ *
+ * @author Rodrigo GML
+ * @since 1.0.0 (17 de out. de 2026)
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class RFWVOTest {
+
+  @Test
+  public void t00_cloneWithoutChangeTracking() throws RFWException, CloneNotSupportedException {
+    final CustomerVO vo = new CustomerVO(1L, "C1", "Nome", "Cidade");
+    vo.startChangeTracking();
+
+    final CustomerVO clone = (CustomerVO) vo.clone();
+    assertFalse(clone.hasChangeTracking());
+    assertNull(clone.listDirtyFields());
+
+    // Alterações e marcações na cópia não afetam o controle do original
+    clone.setName("Outro");
+    clone.markFieldDirty("code");
+    assertTrue(vo.hasChangeTracking());
+    assertEquals(Arrays.asList(), vo.listDirtyFields());
+    assertFalse(vo.isFieldDirty("code"));
+
+    // A cópia pode ter o seu próprio controle
+    clone.startChangeTracking();
+    clone.setCity("Outra");
+    assertEquals(Arrays.asList("city"), clone.listDirtyFields());
+    assertEquals(Arrays.asList(), vo.listDirtyFields());
+
+    vo.setCode("C2");
+    assertEquals(Arrays.asList("code"), vo.listDirtyFields());
+    assertEquals(Arrays.asList("city"), clone.listDirtyFields());
+
+    // Clone recursivo também não leva o controle
+    assertFalse(vo.cloneRecursive().hasChangeTracking());
+  }
+}